@@ -15,6 +15,9 @@ public class GitServiceConfig {
     @Value("gitInitializeRepo/GitConnect-Initialize-Repo-Template")
     private String readmeTemplatePath;
 
+    @Value("${appsmith.git.repository.pool-size:64}")
+    private int repositoryPoolSize;
+
     public Boolean isGitInMemory() {
         if (!StringUtils.hasText(gitRootPath)) {
             return Boolean.FALSE;
@@ -18,6 +18,7 @@ import com.appsmith.external.models.ArtifactGitReference;
 import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.git.helpers.DSLTransformerHelper;
+import com.appsmith.git.helpers.GitResourceManifest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.tracing.Span;
 import lombok.Getter;
@@ -48,6 +49,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -261,29 +263,16 @@ public class FileUtilsCEImpl implements FileInterface {
                 .resetToLastCommit(baseRepoSuffix, branchName, keepWorkingDirChanges)
                 .flatMap(isSwitched -> {
                     Path baseRepo = Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix);
-                    Mono<GitResourceMap> gitResourceMapFromFSMono = constructGitResourceMapFromGitRepo(
-                                    baseRepoSuffix, branchName)
-                            .name("constructGitResourceMapFromGitRepo");
-
-                    return gitResourceMapFromFSMono
-                            .flatMap(gitResourceMapFromFS -> {
-                                try {
-                                    updateEntitiesInRepo(gitResourceMapFromDB, baseRepo, gitResourceMapFromFS);
-                                } catch (IOException e) {
-                                    return Mono.error(e);
-                                }
-                                return Mono.just(baseRepo);
+
+                    return Mono.fromCallable(() -> {
+                                updateEntitiesInRepo(gitResourceMapFromDB, baseRepo, branchName);
+                                return baseRepo;
                             })
                             .onErrorResume(error -> {
-                                return Mono.defer(() -> {
-                                    return Mono.just(baseRepo).flatMap(baseRepo1 -> {
-                                        try {
-                                            updateEntitiesInRepoFallback(gitResourceMapFromDB, baseRepo);
-                                            return Mono.just(baseRepo1);
-                                        } catch (IOException e) {
-                                            return Mono.error(e);
-                                        }
-                                    });
+                                log.error("Error while saving resources against the manifest, writing all", error);
+                                return Mono.fromCallable(() -> {
+                                    updateEntitiesInRepoFallback(gitResourceMapFromDB, baseRepo);
+                                    return baseRepo;
                                 });
                             });
                 })
@@ -344,29 +333,34 @@ public class FileUtilsCEImpl implements FileInterface {
         }
     }
 
-    protected Set<String> updateEntitiesInRepo(
-            GitResourceMap gitResourceMapFromDB, Path baseRepo, GitResourceMap gitResourceMapFromFS)
+    /**
+     * Writes only the resources whose serialized content changed since the branch was last saved, going by the
+     * per-branch manifest of content hashes. Files the manifest vouches for are not read at all, and the others are
+     * compared with the resource before being rewritten.
+     *
+     * @param gitResourceMapFromDB resources of the artifact as serialized from the DB
+     * @param baseRepo             path to the local repo
+     * @param branchName           branch that is checked out in the local repo
+     * @return paths of the files that were written or deleted
+     */
+    protected Set<String> updateEntitiesInRepo(GitResourceMap gitResourceMapFromDB, Path baseRepo, String branchName)
             throws IOException {
         Map<GitResourceIdentity, Object> resourceMapFromDB = gitResourceMapFromDB.getGitResourceMap();
+        GitResourceManifest manifest = GitResourceManifest.load(baseRepo, branchName, objectMapper);
 
-        Set<String> filesPathsFromDB = resourceMapFromDB.keySet().parallelStream()
-                .map(gitResourceIdentity -> gitResourceIdentity.getFilePath())
+        Set<String> filePathsFromDB = resourceMapFromDB.keySet().parallelStream()
+                .map(GitResourceIdentity::getFilePath)
                 .collect(Collectors.toSet());
 
-        Map<String, Object> filePathToObjectsFromFS =
-                gitResourceMapFromFS.getGitResourceMap().entrySet().parallelStream()
-                        .collect(Collectors.toMap(entry -> entry.getKey().getFilePath(), entry -> entry.getValue()));
-
-        Set<String> filePathsFromFS = new HashSet<>(filePathToObjectsFromFS.keySet());
-
-        // Readme files shouldn't be modified/deleted/or updated.
-        filePathsFromFS.remove(README_FILE_NAME);
-        filePathsFromFS.removeAll(filesPathsFromDB);
+        // Only the names of the files are listed here, none of them is read
+        Set<String> filesToBeDeleted = getExistingFilesInRepo(baseRepo);
+        filesToBeDeleted.removeAll(filePathsFromDB);
+        filesToBeDeleted.remove(README_FILE_NAME);
 
         // Delete all the files because they are no longer needed
         // This covers both older structures of storing files and,
         // legitimate changes in the artifact that might cause deletions
-        filePathsFromFS.stream().parallel().forEach(filePath -> {
+        filesToBeDeleted.stream().parallel().forEach(filePath -> {
             try {
                 Files.deleteIfExists(baseRepo.resolve(filePath));
             } catch (IOException e) {
@@ -376,38 +370,79 @@ public class FileUtilsCEImpl implements FileInterface {
             }
         });
 
-        // Now go through the resource map and based on resource type, check if the resource is modified before
-        // serialization
         Set<String> newAndUpdatedFilePaths = resourceMapFromDB.entrySet().parallelStream()
                 .map(entry -> {
-                    GitResourceIdentity key = entry.getKey();
-                    boolean resourceUpdated = true;
-                    try {
-                        resourceUpdated = fileOperations.hasFileChanged(
-                                entry.getValue(), filePathToObjectsFromFS.get(key.getFilePath()));
-                    } catch (IOException e) {
-                        log.error("Error while checking if file has changed", e);
-                    }
-
-                    if (resourceUpdated) {
-                        log.info("Resource updated: {}", key.getFilePath());
-                        String filePath = key.getFilePath();
-                        saveResourceCommon(entry.getValue(), baseRepo.resolve(filePath));
-
+                    String filePath = entry.getKey().getFilePath();
+                    Path path = baseRepo.resolve(filePath);
+                    if (saveResourceIfChanged(entry.getValue(), path, filePath, manifest)) {
+                        log.info("Resource updated: {}", filePath);
                         return filePath;
                     }
-
                     return null;
                 })
                 .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
 
+        manifest.retainAll(filePathsFromDB);
+        manifest.save();
+
         Set<String> allFileChanges = new HashSet<>();
         allFileChanges.addAll(newAndUpdatedFilePaths);
-        allFileChanges.addAll(filePathsFromFS);
+        allFileChanges.addAll(filesToBeDeleted);
         return allFileChanges;
     }
 
+    /**
+     * Writes the resource to the path unless the file already holds it, and records the file in the manifest.
+     *
+     * @return true if the file was written
+     */
+    protected boolean saveResourceIfChanged(
+            Object sourceEntity, Path path, String filePath, GitResourceManifest manifest) {
+        byte[] content;
+        try {
+            content = fileOperations.serializeResource(sourceEntity);
+        } catch (IOException e) {
+            log.error("Error while serializing resource for file {}, writing it as is", filePath, e);
+            manifest.remove(filePath);
+            saveResourceCommon(sourceEntity, path);
+            return true;
+        }
+
+        String hash = GitResourceManifest.hash(content);
+        if (manifest.isUnchanged(filePath, hash, path)) {
+            return false;
+        }
+
+        boolean resourceUpdated = true;
+        try {
+            if (Files.isRegularFile(path)) {
+                // Files written by other versions may be formatted differently, those are left alone when they
+                // hold the same resource
+                resourceUpdated = !Arrays.equals(content, Files.readAllBytes(path))
+                        && fileOperations.hasFileChanged(sourceEntity, readResource(sourceEntity, path));
+            }
+
+            if (resourceUpdated) {
+                Files.createDirectories(path.getParent());
+                Files.write(path, content);
+            }
+            manifest.put(filePath, hash, path);
+        } catch (IOException e) {
+            log.error("Error while writing resource to file {} with {}", path, e.getMessage());
+            manifest.remove(filePath);
+        }
+
+        return resourceUpdated;
+    }
+
+    private Object readResource(Object sourceEntity, Path path) {
+        if (sourceEntity instanceof String) {
+            return fileOperations.readFileAsString(path);
+        }
+        return fileOperations.readFile(path);
+    }
+
     protected Set<String> updateEntitiesInRepoFallback(GitResourceMap gitResourceMap, Path baseRepo)
             throws IOException {
         ModifiedResources modifiedResources = gitResourceMap.getModifiedResources();
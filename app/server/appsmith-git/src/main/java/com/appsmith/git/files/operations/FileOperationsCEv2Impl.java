@@ -135,6 +135,24 @@ public class FileOperationsCEv2Impl implements FileOperationsCE {
         return hasChanged;
     }
 
+    /**
+     * Serializes the resource to the exact bytes that are written to its file, so that the content can be hashed or
+     * compared with the file before writing it.
+     *
+     * @param sourceEntity resource extracted from DB to be stored in file
+     * @return UTF-8 file content for the resource
+     */
+    @Override
+    public byte[] serializeResource(Object sourceEntity) throws IOException {
+        if (sourceEntity instanceof String s) {
+            return s.getBytes(StandardCharsets.UTF_8);
+        }
+        if (sourceEntity instanceof JSONObject json) {
+            return objectWriter.writeValueAsBytes(objectMapper.readTree(json.toString()));
+        }
+        return objectWriter.writeValueAsBytes(sourceEntity);
+    }
+
     /**
      * This method will be used to read and dehydrate the json file present from the local git repo
      *
@@ -5,6 +5,7 @@ import com.appsmith.external.git.handler.FSGitHandler;
 import com.appsmith.external.helpers.ObservationHelper;
 import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.handler.ce.FSGitHandlerCEImpl;
+import com.appsmith.git.helpers.GitRepositoryPool;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
@@ -19,7 +20,8 @@ public class FSGitHandlerImpl extends FSGitHandlerCEImpl implements FSGitHandler
             GitServiceConfig gitServiceConfig,
             GitConfig gitConfig,
             ObservationRegistry observationRegistry,
-            ObservationHelper observationHelper) {
-        super(gitServiceConfig, gitConfig, observationRegistry, observationHelper);
+            ObservationHelper observationHelper,
+            GitRepositoryPool gitRepositoryPool) {
+        super(gitServiceConfig, gitConfig, observationRegistry, observationHelper, gitRepositoryPool);
     }
 }
@@ -18,6 +18,7 @@ import com.appsmith.git.constants.AppsmithBotAsset;
 import com.appsmith.git.constants.CommonConstants;
 import com.appsmith.git.constants.Constraint;
 import com.appsmith.git.constants.GitDirectories;
+import com.appsmith.git.helpers.GitRepositoryPool;
 import com.appsmith.git.helpers.RepositoryHelper;
 import com.appsmith.git.helpers.SshTransportConfigCallback;
 import com.appsmith.git.helpers.StopwatchHelpers;
@@ -113,6 +114,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
     private static final String SUCCESS_MERGE_STATUS = "This branch has no conflicts with the base branch.";
     private final ObservationHelper observationHelper;
 
+    private final GitRepositoryPool gitRepositoryPool;
+
     private final BashService bashService = new BashService();
 
     /**
@@ -140,8 +143,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                 StringUtils.isEmptyOrNull(authorEmail) ? AppsmithBotAsset.APPSMITH_BOT_EMAIL : authorEmail;
         final Path repoPath = TRUE.equals(isSuffixedPath) ? createRepoPath(path) : path;
 
-        return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+        return gitRepositoryPool.withGit(
+                        repoPath,
                         git -> Mono.fromCallable(() -> {
                                     Span jgitAddSpan = observationHelper.createSpan(GitSpan.JGIT_ADD);
                                     log.debug("Trying to commit to local repo path, {}", path);
@@ -172,10 +175,9 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                     processStopwatch.stopAndLogTimeInMillis();
                                     return "Committed successfully!";
                                 })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_COMMIT)
-                                .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                                .tap(Micrometer.observation(observationRegistry)))
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .subscribeOn(scheduler);
     }
 
@@ -188,6 +190,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
     public boolean createNewRepository(Path repoPath) throws GitAPIException {
         // create new repo to the mentioned path
         log.debug("Trying to create new repository: {}", repoPath);
+        gitRepositoryPool.invalidate(repoPath);
         try (Git ignored = Git.init().setDirectory(repoPath.toFile()).call()) {
             return true;
         }
@@ -195,33 +198,30 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
 
     protected Mono<List<GitLogDTO>> getCommitHistory(Path repoSuffix, Integer commitDepth) {
         Path repoPath = createRepoPath(repoSuffix);
-        return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+        return gitRepositoryPool.withGit(
+                        repoPath,
                         git -> Mono.fromCallable(() -> {
-                                    log.info(
-                                            "{} : get commit history for {}",
-                                            Thread.currentThread().getName(),
-                                            repoSuffix);
-                                    List<GitLogDTO> commitLogs = new ArrayList<>();
-                                    Iterable<RevCommit> gitLogs =
-                                            git.log().setMaxCount(commitDepth).call();
-
-                                    gitLogs.forEach(revCommit -> {
-                                        PersonIdent author = revCommit.getAuthorIdent();
-                                        GitLogDTO gitLog = new GitLogDTO(
-                                                revCommit.getName(),
-                                                author.getName(),
-                                                author.getEmailAddress(),
-                                                revCommit.getFullMessage(),
-                                                ISO_FORMATTER.format(
-                                                        new Date(revCommit.getCommitTime() * 1000L).toInstant()));
-                                        commitLogs.add(gitLog);
-                                    });
-
-                                    return commitLogs;
-                                })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS)),
-                        Git::close)
+                            log.info(
+                                    "{} : get commit history for {}",
+                                    Thread.currentThread().getName(),
+                                    repoSuffix);
+                            List<GitLogDTO> commitLogs = new ArrayList<>();
+                            Iterable<RevCommit> gitLogs = git.log().setMaxCount(commitDepth).call();
+
+                            gitLogs.forEach(revCommit -> {
+                                PersonIdent author = revCommit.getAuthorIdent();
+                                GitLogDTO gitLog = new GitLogDTO(
+                                        revCommit.getName(),
+                                        author.getName(),
+                                        author.getEmailAddress(),
+                                        revCommit.getFullMessage(),
+                                        ISO_FORMATTER.format(new Date(revCommit.getCommitTime() * 1000L).toInstant()));
+                                commitLogs.add(gitLog);
+                            });
+
+                            return commitLogs;
+                        }))
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .subscribeOn(scheduler);
     }
 
@@ -261,8 +261,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
         Path baseRepoPath = createRepoPath(repoSuffix);
 
         return gitConfig.getIsAtomicPushAllowed().flatMap(isAtomicPushAllowed -> {
-            return Mono.using(
-                            () -> Git.open(baseRepoPath.toFile()),
+            return gitRepositoryPool.withGit(
+                            baseRepoPath,
                             git -> Mono.fromCallable(() -> {
                                         Span jgitPushSpan = observationHelper.createSpan(GitSpan.JGIT_PUSH);
                                         log.debug(Thread.currentThread().getName() + ": pushing changes to remote "
@@ -298,10 +298,9 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                         jgitPushSpan.end();
                                         return result.substring(0, result.length() - 1);
                                     })
-                                    .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                     .name(GitSpan.FS_PUSH)
-                                    .tap(Micrometer.observation(observationRegistry)),
-                            Git::close)
+                                    .tap(Micrometer.observation(observationRegistry)))
+                    .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                     // this subscribeOn on is required because Mono.using
                     // is not deferring the execution of push and for that reason it runs on the
                     // lettuce-nioEventLoop thread instead of boundedElastic
@@ -321,8 +320,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
 
         Path baseRepoPath = createRepoPath(repoSuffix);
         return gitConfig.getIsAtomicPushAllowed().flatMap(isAtomicPushAllowed -> {
-            return Mono.using(
-                            () -> Git.open(baseRepoPath.toFile()),
+            return gitRepositoryPool.withGit(
+                            baseRepoPath,
                             git -> Mono.fromCallable(() -> {
                                         log.info(
                                                 "{}: pushing changes to remote {}",
@@ -352,10 +351,9 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                                         }));
                                         return result.substring(0, result.length() - 1);
                                     })
-                                    .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                     .name(GitSpan.FS_PUSH)
-                                    .tap(Micrometer.observation(observationRegistry)),
-                            Git::close)
+                                    .tap(Micrometer.observation(observationRegistry)))
+                    .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                     // this subscribeOn on is required because Mono.using
                     // is not deferring the execution of push and for that reason it runs on the
                     // lettuce-nioEventLoop thread instead of boundedElastic
@@ -385,6 +383,7 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                     File file = Paths.get(gitServiceConfig.getGitRootPath())
                             .resolve(repoSuffix)
                             .toFile();
+                    gitRepositoryPool.invalidate(file.toPath());
                     while (file.exists()) {
                         FileSystemUtils.deleteRecursively(file);
                     }
@@ -414,8 +413,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
         // open the repo
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_CREATE_BRANCH.getEventName());
-        return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+        return gitRepositoryPool.withGit(
+                        createRepoPath(repoSuffix),
                         git -> Mono.fromCallable(() -> {
                                     Span jgitCreateBranchSpan =
                                             observationHelper.createSpan(GitSpan.JGIT_CREATE_BRANCH);
@@ -436,10 +435,9 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
 
                                     return branch;
                                 })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_CREATE_BRANCH)
-                                .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                                .tap(Micrometer.observation(observationRegistry)))
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .subscribeOn(scheduler);
     }
 
@@ -472,8 +470,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
         RefType refType = gitRefDTO.getRefType();
         String refName = gitRefDTO.getRefName();
 
-        return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+        return gitRepositoryPool.withGit(
+                        createRepoPath(repoSuffix),
                         git -> Mono.fromCallable(() -> {
                                     Span jgitCreateBranchSpan =
                                             observationHelper.createSpan(GitSpan.JGIT_CREATE_BRANCH);
@@ -491,10 +489,9 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                     jgitCreateBranchSpan.end();
                                     return branch;
                                 })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_CREATE_BRANCH)
-                                .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                                .tap(Micrometer.observation(observationRegistry)))
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .subscribeOn(scheduler);
     }
 
@@ -504,8 +501,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
         // open the repo
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_DELETE_BRANCH.getEventName());
-        return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+        return gitRepositoryPool.withGit(
+                        createRepoPath(repoSuffix),
                         git -> Mono.fromCallable(() -> {
                                     Span jgitDeleteBranchSpan =
                                             observationHelper.createSpan(GitSpan.JGIT_DELETE_BRANCH);
@@ -525,10 +522,9 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
 
                                     return TRUE;
                                 })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_DELETE_BRANCH)
-                                .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                                .tap(Micrometer.observation(observationRegistry)))
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .subscribeOn(scheduler);
     }
 
@@ -537,8 +533,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
 
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_CHECKOUT.getEventName());
-        return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+        return gitRepositoryPool.withGit(
+                        createRepoPath(repoSuffix),
                         git -> Mono.fromCallable(() -> {
                                     Span jgitCheckoutBranchSpan =
                                             observationHelper.createSpan(GitSpan.JGIT_CHECKOUT_BRANCH);
@@ -564,11 +560,10 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                     jgitCheckoutBranchSpan.end();
                                     return StringUtils.equalsIgnoreCase(checkedOutBranch, "refs/heads/" + branchName);
                                 })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .tag(CHECKOUT_REMOTE, FALSE.toString())
                                 .name(GitSpan.FS_CHECKOUT_BRANCH)
-                                .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                                .tap(Micrometer.observation(observationRegistry)))
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .subscribeOn(scheduler);
     }
 
@@ -583,8 +578,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
             throws IOException {
 
         TransportConfigCallback transportConfigCallback = new SshTransportConfigCallback(privateKey, publicKey);
-        return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+        return gitRepositoryPool.withGit(
+                        createRepoPath(repoSuffix),
                         git -> Mono.fromCallable(() -> {
                                     Span jgitPullSpan = observationHelper.createSpan(GitSpan.JGIT_PULL);
                                     log.info(
@@ -644,10 +639,9 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
 
                                     return resetToLastCommit(git).flatMap(ignore -> Mono.error(error));
                                 })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_PULL)
-                                .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                                .tap(Micrometer.observation(observationRegistry)))
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .subscribeOn(scheduler);
     }
 
@@ -660,8 +654,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_PULL.getEventName());
         TransportConfigCallback transportConfigCallback = new SshTransportConfigCallback(privateKey, publicKey);
 
-        return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+        return gitRepositoryPool.withGit(
+                        createRepoPath(repoSuffix),
                         git -> Mono.fromCallable(() -> {
                                     Span jgitPullSpan = observationHelper.createSpan(GitSpan.JGIT_PULL);
                                     log.debug(Thread.currentThread().getName() + ": Pull changes from remote  "
@@ -719,10 +713,9 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                     }
                                 })
                                 .onErrorResume(error -> Mono.error(error))
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_PULL)
-                                .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                                .tap(Micrometer.observation(observationRegistry)))
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .subscribeOn(scheduler);
     }
 
@@ -730,39 +723,38 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
     public Mono<List<GitRefDTO>> listBranches(Path repoSuffix) {
         Path baseRepoPath = createRepoPath(repoSuffix);
 
-        return Mono.using(
-                        () -> Git.open(baseRepoPath.toFile()),
+        return gitRepositoryPool.withGit(
+                        baseRepoPath,
                         git -> Mono.fromCallable(() -> {
-                                    log.info(
-                                            "{}: Get branches for the artifact {}",
-                                            Thread.currentThread().getName(),
-                                            repoSuffix);
-                                    List<Ref> refList = git.branchList()
-                                            .setListMode(ListBranchCommand.ListMode.ALL)
-                                            .call();
-
-                                    List<GitRefDTO> branchList = new ArrayList<>();
-                                    if (refList.isEmpty()) {
-                                        GitRefDTO gitRefDTO = new GitRefDTO();
-                                        gitRefDTO.setRefType(RefType.tag);
-                                        gitRefDTO.setRefName(git.getRepository().getBranch());
-                                        branchList.add(gitRefDTO);
-                                        return branchList;
-                                    }
+                            log.info(
+                                    "{}: Get branches for the artifact {}",
+                                    Thread.currentThread().getName(),
+                                    repoSuffix);
+                            List<Ref> refList = git.branchList()
+                                    .setListMode(ListBranchCommand.ListMode.ALL)
+                                    .call();
+
+                            List<GitRefDTO> branchList = new ArrayList<>();
+                            if (refList.isEmpty()) {
+                                GitRefDTO gitRefDTO = new GitRefDTO();
+                                gitRefDTO.setRefType(RefType.tag);
+                                gitRefDTO.setRefName(git.getRepository().getBranch());
+                                branchList.add(gitRefDTO);
+                                return branchList;
+                            }
 
-                                    for (Ref ref : refList) {
-                                        GitRefDTO gitRefDTO = new GitRefDTO();
-                                        gitRefDTO.setRefName(ref.getName()
-                                                .replace("refs/", "")
-                                                .replace("heads/", "")
-                                                .replace("remotes/", ""));
-                                        branchList.add(gitRefDTO);
-                                    }
+                            for (Ref ref : refList) {
+                                GitRefDTO gitRefDTO = new GitRefDTO();
+                                gitRefDTO.setRefName(ref.getName()
+                                        .replace("refs/", "")
+                                        .replace("heads/", "")
+                                        .replace("remotes/", ""));
+                                branchList.add(gitRefDTO);
+                            }
 
-                                    return branchList;
-                                })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS)),
-                        Git::close)
+                            return branchList;
+                        }))
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .subscribeOn(scheduler);
     }
 
@@ -804,53 +796,51 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
     public Mono<List<GitRefDTO>> listTags(Path repoSuffix) {
         Path baseRepoPath = createRepoPath(repoSuffix);
 
-        return Mono.using(
-                        () -> Git.open(baseRepoPath.toFile()),
+        return gitRepositoryPool.withGit(
+                        baseRepoPath,
                         git -> Mono.fromCallable(() -> {
-                                    log.info(
-                                            "{} : Get references for the artifact {} ",
-                                            Thread.currentThread().getName(),
-                                            repoSuffix);
+                            log.info(
+                                    "{} : Get references for the artifact {} ",
+                                    Thread.currentThread().getName(),
+                                    repoSuffix);
 
-                                    ListTagCommand listTagCommand = git.tagList();
-                                    List<Ref> tags = listTagCommand.call();
+                            ListTagCommand listTagCommand = git.tagList();
+                            List<Ref> tags = listTagCommand.call();
 
-                                    List<GitRefDTO> gitRefDTOs = new ArrayList<>();
+                            List<GitRefDTO> gitRefDTOs = new ArrayList<>();
 
-                                    for (Ref ref : tags) {
-                                        GitRefDTO gitRefDTO = new GitRefDTO();
-                                        gitRefDTO.setSha(ref.getObjectId().getName());
-                                        gitRefDTO.setRefName(ref.getName().replace(TAG_REF, ""));
-                                        gitRefDTOs.add(gitRefDTO);
-                                    }
+                            for (Ref ref : tags) {
+                                GitRefDTO gitRefDTO = new GitRefDTO();
+                                gitRefDTO.setSha(ref.getObjectId().getName());
+                                gitRefDTO.setRefName(ref.getName().replace(TAG_REF, ""));
+                                gitRefDTOs.add(gitRefDTO);
+                            }
 
-                                    return gitRefDTOs;
-                                })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS)),
-                        Git::close)
+                            return gitRefDTOs;
+                        }))
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .subscribeOn(scheduler);
     }
 
     @Override
     public Mono<String> getRemoteDefaultBranch(Path repoSuffix, String remoteUrl, String privateKey, String publicKey) {
         Path baseRepoPath = createRepoPath(repoSuffix);
-        return Mono.using(
-                        () -> Git.open(baseRepoPath.toFile()),
+        return gitRepositoryPool.withGit(
+                        baseRepoPath,
                         git -> Mono.fromCallable(() -> {
-                                    TransportConfigCallback transportConfigCallback =
-                                            new SshTransportConfigCallback(privateKey, publicKey);
-
-                                    return git.lsRemote()
-                                            .setRemote(remoteUrl)
-                                            .setTransportConfigCallback(transportConfigCallback)
-                                            .callAsMap()
-                                            .get("HEAD")
-                                            .getTarget()
-                                            .getName()
-                                            .replace("refs/heads/", "");
-                                })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS)),
-                        Git::close)
+                            TransportConfigCallback transportConfigCallback =
+                                    new SshTransportConfigCallback(privateKey, publicKey);
+
+                            return git.lsRemote()
+                                    .setRemote(remoteUrl)
+                                    .setTransportConfigCallback(transportConfigCallback)
+                                    .callAsMap()
+                                    .get("HEAD")
+                                    .getTarget()
+                                    .getName()
+                                    .replace("refs/heads/", "");
+                        }))
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .subscribeOn(scheduler);
     }
 
@@ -865,8 +855,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
     public Mono<GitStatusDTO> getStatus(Path repoPath, String branchName, boolean keepWorkingDirChanges) {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoPath, AnalyticsEvents.GIT_STATUS.getEventName());
-        return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+        return gitRepositoryPool.withGit(
+                        repoPath,
                         git -> Mono.fromCallable(() -> {
                                     Span jgitStatusSpan = observationHelper.createSpan(GitSpan.JGIT_STATUS);
                                     log.info(
@@ -930,11 +920,10 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                     jgitStatusSpan.end();
                                     return Mono.just(response);
                                 })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .flatMap(response -> response)
                                 .name(GitSpan.FS_STATUS)
-                                .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                                .tap(Micrometer.observation(observationRegistry)))
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .subscribeOn(scheduler);
     }
 
@@ -1121,8 +1110,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
     @Override
     public Mono<String> mergeBranch(
             Path repoSuffix, String sourceBranch, String destinationBranch, boolean keepWorkingDirChanges) {
-        return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+        return gitRepositoryPool.withGit(
+                        createRepoPath(repoSuffix),
                         git -> Mono.fromCallable(() -> {
                                     Span jgitMergeSpan = observationHelper.createSpan(GitSpan.JGIT_MERGE);
                                     Stopwatch processStopwatch = StopwatchHelpers.startStopwatch(
@@ -1164,10 +1153,9 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                         return Mono.error(e);
                                     }
                                 })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_MERGE)
-                                .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                                .tap(Micrometer.observation(observationRegistry)))
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .subscribeOn(scheduler);
     }
 
@@ -1182,8 +1170,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_FETCH.getEventName());
         Path repoPath = TRUE.equals(isRepoPath) ? repoSuffix : createRepoPath(repoSuffix);
-        return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+        return gitRepositoryPool.withGit(
+                        repoPath,
                         git -> Mono.fromCallable(() -> {
                                     Span jgitFetchRemoteSpan = observationHelper.createSpan(GitSpan.JGIT_FETCH_REMOTE);
                                     TransportConfigCallback config =
@@ -1213,10 +1201,9 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                     log.error(error.getMessage());
                                     return Mono.error(error);
                                 })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_FETCH_REMOTE)
-                                .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                                .tap(Micrometer.observation(observationRegistry)))
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .subscribeOn(scheduler);
     }
 
@@ -1224,8 +1211,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
     public Mono<String> fetchRemote(
             Path repoSuffix, boolean isRepoPath, FetchRemoteDTO fetchRemoteDTO, String publicKey, String privateKey) {
         Path repoPath = TRUE.equals(isRepoPath) ? repoSuffix : createRepoPath(repoSuffix);
-        return Mono.using(
-                        () -> Git.open(repoPath.toFile()),
+        return gitRepositoryPool.withGit(
+                        repoPath,
                         git -> Mono.fromCallable(() -> {
                                     Span jgitFetchRemoteSpan = observationHelper.createSpan(GitSpan.JGIT_FETCH_REMOTE);
                                     TransportConfigCallback config =
@@ -1287,10 +1274,9 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                     log.error(error.getMessage());
                                     return Mono.error(error);
                                 })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_FETCH_REMOTE)
-                                .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                                .tap(Micrometer.observation(observationRegistry)))
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .subscribeOn(scheduler);
     }
 
@@ -1299,8 +1285,8 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
             Path repoSuffix, String sourceBranch, String destinationBranch, boolean keepWorkingDirChanges) {
         Stopwatch processStopwatch =
                 StopwatchHelpers.startStopwatch(repoSuffix, AnalyticsEvents.GIT_MERGE_CHECK.getEventName());
-        return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+        return gitRepositoryPool.withGit(
+                        createRepoPath(repoSuffix),
                         git -> Mono.fromCallable(() -> {
                                     log.info(
                                             "{}: Check merge-ability for repo {} with source: {}, destination: {}",
@@ -1380,17 +1366,16 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                         log.error("Error while hard resetting to latest commit", e);
                                         return Mono.error(e);
                                     }
-                                })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS)),
-                        Git::close)
+                                }))
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .subscribeOn(scheduler);
     }
 
     public Mono<String> checkoutRemoteBranch(Path repoSuffix, String branchName) {
         // We can safely assume that repo has been already initialised either in commit or clone flow and can directly
         // open the repo
-        return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+        return gitRepositoryPool.withGit(
+                        createRepoPath(repoSuffix),
                         git -> Mono.fromCallable(() -> {
                                     Span jgitCheckoutBranchSpan =
                                             observationHelper.createSpan(GitSpan.JGIT_CHECKOUT_BRANCH);
@@ -1414,18 +1399,17 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                     jgitCheckoutBranchSpan.end();
                                     return branch;
                                 })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .tag(CHECKOUT_REMOTE, TRUE.toString())
                                 .name(GitSpan.FS_CHECKOUT_BRANCH)
-                                .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                                .tap(Micrometer.observation(observationRegistry)))
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .subscribeOn(scheduler);
     }
 
     @Override
     public Mono<String> checkoutTag(Path repoSuffix, String tagName) {
-        return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+        return gitRepositoryPool.withGit(
+                        createRepoPath(repoSuffix),
                         git -> Mono.fromCallable(() -> {
                                     log.info(
                                             "{}: Checking out tag {} for the repo {}",
@@ -1438,11 +1422,10 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
 
                                     return tagName;
                                 })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .tag(CHECKOUT_REMOTE, TRUE.toString())
                                 .name(GitSpan.FS_CHECKOUT_BRANCH)
-                                .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                                .tap(Micrometer.observation(observationRegistry)))
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .subscribeOn(scheduler);
     }
 
@@ -1491,15 +1474,14 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
      * @return a boolean whether the operation was successful or not
      */
     public Mono<Boolean> resetToLastCommit(Path repoSuffix) {
-        return Mono.using(
-                () -> Git.open(createRepoPath(repoSuffix).toFile()),
-                git -> this.resetToLastCommit(git).thenReturn(true).onErrorReturn(false),
-                Git::close);
+        return gitRepositoryPool.withGit(
+                createRepoPath(repoSuffix),
+                git -> this.resetToLastCommit(git).thenReturn(true).onErrorReturn(false));
     }
 
     public Mono<Boolean> resetToLastCommit(Path repoSuffix, String branchName, boolean keepWorkingDirChanges) {
-        return Mono.using(
-                () -> Git.open(createRepoPath(repoSuffix).toFile()),
+        return gitRepositoryPool.withGit(
+                createRepoPath(repoSuffix),
                 git -> this.resetToLastCommit(git)
                         .flatMap(ref -> checkoutToBranch(repoSuffix, branchName).flatMap(aBoolean -> {
                             if (keepWorkingDirChanges) {
@@ -1507,39 +1489,38 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                             }
 
                             return resetToLastCommit(git).thenReturn(true);
-                        })),
-                Git::close);
+                        })));
     }
 
     public Mono<Boolean> resetHard(Path repoSuffix, String branchName) {
         return this.checkoutToBranch(repoSuffix, branchName)
-                .flatMap(aBoolean -> Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
-                        git -> Mono.fromCallable(() -> {
-                                    Span jgitResetHardSpan = observationHelper.createSpan(GitSpan.JGIT_RESET_HARD);
-                                    git.reset()
-                                            .setMode(ResetCommand.ResetType.HARD)
-                                            .setRef("HEAD~1")
-                                            .call();
-                                    jgitResetHardSpan.end();
-                                    return true;
-                                })
-                                .onErrorResume(e -> {
-                                    log.error("Error while resetting the commit, {}", e.getMessage());
-                                    return Mono.just(false);
-                                })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
-                                .tag(HARD_RESET, TRUE.toString())
-                                .name(GitSpan.FS_RESET)
-                                .tap(Micrometer.observation(observationRegistry)),
-                        Git::close))
+                .flatMap(aBoolean -> gitRepositoryPool.withGit(
+                                createRepoPath(repoSuffix),
+                                git -> Mono.fromCallable(() -> {
+                                            Span jgitResetHardSpan =
+                                                    observationHelper.createSpan(GitSpan.JGIT_RESET_HARD);
+                                            git.reset()
+                                                    .setMode(ResetCommand.ResetType.HARD)
+                                                    .setRef("HEAD~1")
+                                                    .call();
+                                            jgitResetHardSpan.end();
+                                            return true;
+                                        })
+                                        .onErrorResume(e -> {
+                                            log.error("Error while resetting the commit, {}", e.getMessage());
+                                            return Mono.just(false);
+                                        })
+                                        .tag(HARD_RESET, TRUE.toString())
+                                        .name(GitSpan.FS_RESET)
+                                        .tap(Micrometer.observation(observationRegistry)))
+                        .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS)))
                 .subscribeOn(scheduler);
     }
 
     public Mono<Boolean> rebaseBranch(Path repoSuffix, String branchName, boolean keepWorkingDirChanges) {
         return this.resetToLastCommit(repoSuffix, branchName, keepWorkingDirChanges)
-                .flatMap(isCheckedOut -> Mono.using(
-                                () -> Git.open(createRepoPath(repoSuffix).toFile()),
+                .flatMap(isCheckedOut -> gitRepositoryPool.withGit(
+                                createRepoPath(repoSuffix),
                                 git -> Mono.fromCallable(() -> {
                                             Span jgitRebaseSpan = observationHelper.createSpan(GitSpan.JGIT_REBASE);
                                             RebaseResult result = git.rebase()
@@ -1566,17 +1547,16 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                             log.error("Error while rebasing the branch, {}", e.getMessage());
                                             return e;
                                         })
-                                        .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                         .name(GitSpan.FS_REBASE)
-                                        .tap(Micrometer.observation(observationRegistry)),
-                                Git::close)
+                                        .tap(Micrometer.observation(observationRegistry)))
+                        .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                         .subscribeOn(scheduler));
     }
 
     @Override
     public Mono<BranchTrackingStatus> getBranchTrackingStatus(Path repoSuffix, String branchName) {
-        return Mono.using(
-                        () -> Git.open(createRepoPath(repoSuffix).toFile()),
+        return gitRepositoryPool.withGit(
+                        createRepoPath(repoSuffix),
                         git -> Mono.fromCallable(() -> {
                                     Span jgitBranchTrackingSpan =
                                             observationHelper.createSpan(GitSpan.JGIT_BRANCH_TRACK);
@@ -1585,10 +1565,9 @@ public class FSGitHandlerCEImpl implements FSGitHandler {
                                     jgitBranchTrackingSpan.end();
                                     return branchTrackingStatus;
                                 })
-                                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                                 .name(GitSpan.FS_BRANCH_TRACK)
-                                .tap(Micrometer.observation(observationRegistry)),
-                        Git::close)
+                                .tap(Micrometer.observation(observationRegistry)))
+                .timeout(Duration.ofMillis(Constraint.TIMEOUT_MILLIS))
                 .subscribeOn(scheduler);
     }
 }
@@ -0,0 +1,289 @@
+package com.appsmith.git.helpers;
+
+import com.appsmith.git.configurations.GitServiceConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.Repository;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * GitRepositoryPool keeps the JGit repositories of the most recently used local repos open between git operations, so
+ * that every operation does not open its repo again, reading its config, refs and pack indexes from disk.
+ * <p>
+ * It also runs the operations on the same local repo one after the other, in the order they were subscribed to, so
+ * that concurrent requests on this instance wait for their turn here instead of running into each other on the repo
+ * files. An operation that runs another operation on the same repo as part of itself already holds the repo, and the
+ * inner operation runs right away. The turn on a repo is only given to the next operation once the JGit calls of the
+ * operation before it have returned, even when it was cancelled.
+ * <p>
+ * The following metrics are published:
+ * appsmith.git.repository.pool.size : Repositories kept open
+ * appsmith.git.repository.queue.depth : Operations waiting for their turn on a repo
+ * appsmith.git.repository.queue.wait : Time operations waited for their turn
+ */
+@Slf4j
+@Component
+public class GitRepositoryPool {
+
+    private static final String HELD_TURNS = GitRepositoryPool.class.getName() + ".heldTurns";
+
+    private final int maxSize;
+
+    // Access ordered, guarded by this
+    private final LinkedHashMap<Path, PooledRepository> repositories;
+
+    // Completes when the last operation that was queued for the repo is done
+    private final Map<Path, Mono<Void>> queueTails = new ConcurrentHashMap<>();
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    private final Timer queueWait;
+
+    // Queued operations start on it, whichever thread the operation before them completed on
+    private final Scheduler scheduler = Schedulers.boundedElastic();
+
+    private record PooledRepository(Repository repository, Object gitDirIdentity) {}
+
+    // Ends when the operation that got the turn, and the operations it ran on the same repo, are all done
+    private static class Turn {
+
+        private final AtomicInteger operations = new AtomicInteger(1);
+
+        private final Runnable onEnd;
+
+        private Turn(Runnable onEnd) {
+            this.onEnd = onEnd;
+        }
+
+        private void join() {
+            operations.incrementAndGet();
+        }
+
+        private void leave() {
+            if (operations.decrementAndGet() == 0) {
+                onEnd.run();
+            }
+        }
+    }
+
+    public GitRepositoryPool(GitServiceConfig gitServiceConfig, MeterRegistry meterRegistry) {
+        this.maxSize = Math.max(gitServiceConfig.getRepositoryPoolSize(), 1);
+        this.repositories = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, PooledRepository> eldest) {
+                if (size() > maxSize) {
+                    log.debug("Closing least recently used repository {}", eldest.getKey());
+                    eldest.getValue().repository().close();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        Gauge.builder("appsmith.git.repository.pool.size", this, GitRepositoryPool::size)
+                .description("Git repositories kept open")
+                .register(meterRegistry);
+        Gauge.builder("appsmith.git.repository.queue.depth", queueDepth, AtomicInteger::get)
+                .description("Git operations waiting for their turn on a repository")
+                .register(meterRegistry);
+        this.queueWait = Timer.builder("appsmith.git.repository.queue.wait")
+                .description("Time git operations waited for their turn on a repository")
+                .register(meterRegistry);
+    }
+
+    /**
+     * This method is used to run a git operation on the repo at the given path, once the operations that were
+     * subscribed to before it on the same repo are done. The Git given to the operation must not be closed by it.
+     * <p>
+     * The operation is run to its end even when it is cancelled, like on a timeout, as a JGit call that is cancelled
+     * keeps running on its thread. The next operation on the repo waits for it to return.
+     *
+     * @param repoPath  : Path to the local repo, or to its .git directory, which is taken as the same repo
+     * @param operation : Operation to run on the repo
+     */
+    public <T> Mono<T> withGit(Path repoPath, Function<Git, Mono<T>> operation) {
+        Path key = getKey(repoPath);
+        return Mono.deferContextual(contextView -> {
+            Map<Path, Turn> heldTurns = contextView.getOrDefault(HELD_TURNS, Map.of());
+            Mono<T> operationMono = Mono.using(
+                    () -> lease(key),
+                    pooledRepository -> operation.apply(Git.wrap(pooledRepository.repository())),
+                    pooledRepository -> pooledRepository.repository().close());
+            Turn heldTurn = heldTurns.get(key);
+            if (heldTurn != null) {
+                heldTurn.join();
+                return runToEnd(operationMono, heldTurn);
+            }
+
+            return inTurn(key, turn -> {
+                Map<Path, Turn> nowHeldTurns = new HashMap<>(heldTurns);
+                nowHeldTurns.put(key, turn);
+                return runToEnd(operationMono.contextWrite(context -> context.put(HELD_TURNS, nowHeldTurns)), turn);
+            });
+        });
+    }
+
+    /**
+     * This method is used to close the repositories at or under the given path, before it is deleted or replaced.
+     */
+    public void invalidate(Path path) {
+        Path prefix = getKey(path);
+        List<PooledRepository> invalidated = new ArrayList<>();
+        synchronized (this) {
+            Iterator<Map.Entry<Path, PooledRepository>> iterator =
+                    repositories.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Path, PooledRepository> entry = iterator.next();
+                if (entry.getKey().startsWith(prefix)) {
+                    invalidated.add(entry.getValue());
+                    iterator.remove();
+                }
+            }
+        }
+        invalidated.forEach(pooledRepository -> pooledRepository.repository().close());
+    }
+
+    /**
+     * Repos are keyed by their working tree, so that a repo given by its .git directory shares its pooled repository
+     * and its queue of operations.
+     */
+    private static Path getKey(Path path) {
+        Path key = path.toAbsolutePath().normalize();
+        Path fileName = key.getFileName();
+        if (fileName != null && Constants.DOT_GIT.equals(fileName.toString()) && key.getParent() != null) {
+            return key.getParent();
+        }
+        return key;
+    }
+
+    public synchronized int size() {
+        return repositories.size();
+    }
+
+    private <T> Mono<T> inTurn(Path key, Function<Turn, Mono<T>> operation) {
+        return Mono.defer(() -> {
+            Sinks.Empty<Void> turnSink = Sinks.empty();
+            Mono<Void> turnDone = turnSink.asMono();
+            Turn turn = new Turn(() -> endTurn(key, turnDone, turnSink));
+            Mono<Void> previousTurnDone = queueTails.put(key, turnDone);
+            if (previousTurnDone == null) {
+                queueWait.record(0, TimeUnit.NANOSECONDS);
+                return operation.apply(turn);
+            }
+
+            queueDepth.incrementAndGet();
+            long queuedAt = System.nanoTime();
+            AtomicBoolean left = new AtomicBoolean();
+            return previousTurnDone
+                    .publishOn(scheduler)
+                    .then(Mono.defer(() -> {
+                        if (!left.compareAndSet(false, true)) {
+                            return Mono.<T>empty();
+                        }
+                        queueDepth.decrementAndGet();
+                        queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                        return operation.apply(turn);
+                    }))
+                    .doFinally(signalType -> {
+                        if (left.compareAndSet(false, true)) {
+                            // Cancelled while waiting, the next operation still has to wait for the one before
+                            queueDepth.decrementAndGet();
+                            previousTurnDone.subscribe(null, null, turn::leave);
+                        }
+                    });
+        });
+    }
+
+    // The subscriber of the returned mono may cancel it, the operation itself is not cancelled and leaves the turn
+    // when it is done
+    private static <T> Mono<T> runToEnd(Mono<T> operation, Turn turn) {
+        return Mono.deferContextual(contextView -> {
+            Sinks.One<T> result = Sinks.one();
+            operation
+                    .doFinally(signalType -> turn.leave())
+                    .subscribe(result::tryEmitValue, result::tryEmitError, result::tryEmitEmpty, Context.of(contextView));
+            return result.asMono();
+        });
+    }
+
+    private void endTurn(Path key, Mono<Void> turnDone, Sinks.Empty<Void> turnSink) {
+        queueTails.remove(key, turnDone);
+        turnSink.tryEmitEmpty();
+    }
+
+    private PooledRepository lease(Path key) throws IOException {
+        synchronized (this) {
+            PooledRepository pooledRepository = repositories.get(key);
+            if (pooledRepository != null) {
+                if (isCurrent(pooledRepository)) {
+                    pooledRepository.repository().incrementOpen();
+                    return pooledRepository;
+                }
+                // The repo was deleted, or replaced by another one at the same path
+                repositories.remove(key);
+                pooledRepository.repository().close();
+            }
+        }
+
+        Repository repository = Git.open(key.toFile()).getRepository();
+        PooledRepository openedRepository = new PooledRepository(repository, getIdentity(repository.getDirectory()));
+        synchronized (this) {
+            PooledRepository pooledRepository = repositories.putIfAbsent(key, openedRepository);
+            if (pooledRepository != null) {
+                // Opened by another operation meanwhile
+                repository.close();
+                pooledRepository.repository().incrementOpen();
+                return pooledRepository;
+            }
+            repository.incrementOpen();
+            return openedRepository;
+        }
+    }
+
+    private static boolean isCurrent(PooledRepository pooledRepository) {
+        return pooledRepository.gitDirIdentity() != null
+                && pooledRepository
+                        .gitDirIdentity()
+                        .equals(getIdentity(pooledRepository.repository().getDirectory()));
+    }
+
+    // The config is written again whenever the repo is created at the path, with a new file
+    private static Object getIdentity(File gitDir) {
+        try {
+            BasicFileAttributes gitDirAttributes = Files.readAttributes(gitDir.toPath(), BasicFileAttributes.class);
+            BasicFileAttributes configAttributes =
+                    Files.readAttributes(gitDir.toPath().resolve(Constants.CONFIG), BasicFileAttributes.class);
+            return Arrays.asList(
+                    gitDirAttributes.fileKey(), configAttributes.fileKey(), configAttributes.lastModifiedTime());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
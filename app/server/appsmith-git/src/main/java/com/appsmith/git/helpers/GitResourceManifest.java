@@ -0,0 +1,165 @@
+package com.appsmith.git.helpers;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GitResourceManifest remembers, for every resource file of a branch in a local repo, the hash of the serialized
+ * resource the file was last found to hold, along with the size and last modified time the file had then.
+ * <p>
+ * When the resource serialized from the DB hashes the same as the manifest entry and the file still has the recorded
+ * size and modified time, the file is known to be up-to-date without reading it. Anything that touches the file, like
+ * a reset, checkout or merge, changes its modified time, and the file is compared again.
+ * <p>
+ * Like the git index, files modified within {@link #RACY_WINDOW_MILLIS} of the manifest being saved could have been
+ * changed again within the same timestamp, so those entries are not trusted and the file is compared again.
+ * <p>
+ * The manifest is kept inside the .git directory of the repo, so that it is never committed and goes away with the
+ * repo.
+ */
+@Slf4j
+public class GitResourceManifest {
+
+    private static final String MANIFEST_DIRECTORY = "appsmith/manifests";
+
+    private static final long RACY_WINDOW_MILLIS = 2000;
+
+    private static final TypeReference<Map<String, Entry>> ENTRIES_TYPE = new TypeReference<>() {};
+
+    private final Path manifestPath;
+
+    private final ObjectMapper objectMapper;
+
+    private final long savedAt;
+
+    private final Map<String, Entry> entries;
+
+    public record Entry(String hash, long size, long modified) {}
+
+    private GitResourceManifest(
+            Path manifestPath, ObjectMapper objectMapper, long savedAt, Map<String, Entry> entries) {
+        this.manifestPath = manifestPath;
+        this.objectMapper = objectMapper;
+        this.savedAt = savedAt;
+        this.entries = entries;
+    }
+
+    /**
+     * Loads the manifest of the branch in the repo. An empty manifest is returned when there is none yet, or it can't
+     * be read. When the repo has no .git directory, the manifest is not persisted at all.
+     */
+    public static GitResourceManifest load(Path baseRepo, String branchName, ObjectMapper objectMapper) {
+        Path gitDirectory = baseRepo.resolve(".git");
+        if (!Files.isDirectory(gitDirectory)) {
+            return new GitResourceManifest(null, objectMapper, 0, new ConcurrentHashMap<>());
+        }
+
+        Path manifestPath = gitDirectory.resolve(MANIFEST_DIRECTORY).resolve(getManifestFileName(branchName));
+        Map<String, Entry> entries = new ConcurrentHashMap<>();
+        long savedAt = 0;
+        try {
+            savedAt = Files.getLastModifiedTime(manifestPath).toMillis();
+            entries.putAll(objectMapper.readValue(manifestPath.toFile(), ENTRIES_TYPE));
+        } catch (NoSuchFileException e) {
+            log.debug("No resource manifest found at {}", manifestPath);
+        } catch (IOException e) {
+            log.error("Unable to read resource manifest at {}, ignoring it", manifestPath, e);
+            entries.clear();
+        }
+
+        return new GitResourceManifest(manifestPath, objectMapper, savedAt, entries);
+    }
+
+    /**
+     * Returns true if the file at the path is known to hold a resource that serializes to the given hash.
+     */
+    public boolean isUnchanged(String filePath, String hash, Path path) {
+        Entry entry = entries.get(filePath);
+        if (entry == null || !entry.hash().equals(hash) || entry.modified() >= savedAt - RACY_WINDOW_MILLIS) {
+            return false;
+        }
+
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return attributes.isRegularFile()
+                    && attributes.size() == entry.size()
+                    && attributes.lastModifiedTime().toMillis() == entry.modified();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Records that the file at the path, as it is now, holds a resource that serializes to the given hash.
+     */
+    public void put(String filePath, String hash, Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            entries.put(
+                    filePath,
+                    new Entry(
+                            hash,
+                            attributes.size(),
+                            attributes.lastModifiedTime().toMillis()));
+        } catch (IOException e) {
+            entries.remove(filePath);
+        }
+    }
+
+    public void remove(String filePath) {
+        entries.remove(filePath);
+    }
+
+    public void retainAll(Set<String> filePaths) {
+        entries.keySet().retainAll(filePaths);
+    }
+
+    public void save() {
+        if (manifestPath == null) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(manifestPath.getParent());
+            // Written next to the manifest and moved over it, so that an interrupted save leaves the old one intact
+            Path temporaryPath = Files.createTempFile(manifestPath.getParent(), "manifest", ".tmp");
+            try {
+                objectMapper.writeValue(temporaryPath.toFile(), entries);
+                Files.move(temporaryPath, manifestPath, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temporaryPath);
+            }
+        } catch (IOException e) {
+            log.error("Unable to save resource manifest at {}", manifestPath, e);
+        }
+    }
+
+    public static String hash(byte[] content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to hash resource content", e);
+        }
+    }
+
+    private static String getManifestFileName(String branchName) {
+        // Branch names can have slashes and other characters that are not safe in a file name
+        return hash(String.valueOf(branchName).getBytes(StandardCharsets.UTF_8)) + ".json";
+    }
+}
@@ -0,0 +1,182 @@
+package com.appsmith.git.helpers;
+
+import com.appsmith.git.configurations.GitServiceConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.FileSystemUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GitRepositoryPoolTest {
+
+    @TempDir
+    Path tempDir;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private GitRepositoryPool gitRepositoryPool;
+
+    @BeforeEach
+    public void setUp() {
+        GitServiceConfig gitServiceConfig = new GitServiceConfig();
+        gitServiceConfig.setRepositoryPoolSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        gitRepositoryPool = new GitRepositoryPool(gitServiceConfig, meterRegistry);
+    }
+
+    private Path createRepository(String name) throws GitAPIException {
+        Path repoPath = tempDir.resolve(name);
+        Git.init().setDirectory(repoPath.toFile()).call().close();
+        return repoPath;
+    }
+
+    @Test
+    public void withGit_SameRepository_ReusesOpenRepository() throws GitAPIException {
+        Path repoPath = createRepository("repo");
+
+        Repository first = gitRepositoryPool
+                .withGit(repoPath, git -> Mono.just(git.getRepository()))
+                .block();
+        Repository second = gitRepositoryPool
+                .withGit(repoPath, git -> Mono.just(git.getRepository()))
+                .block();
+
+        assertThat(second).isSameAs(first);
+        assertThat(gitRepositoryPool.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void withGit_GitDirectoryOfRepository_ReusesOpenRepository() throws GitAPIException {
+        Path repoPath = createRepository("repo");
+
+        Repository first = gitRepositoryPool
+                .withGit(repoPath, git -> Mono.just(git.getRepository()))
+                .block();
+        Repository second = gitRepositoryPool
+                .withGit(repoPath.resolve(".git"), git -> Mono.just(git.getRepository()))
+                .block();
+
+        assertThat(second).isSameAs(first);
+        assertThat(gitRepositoryPool.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void withGit_MoreRepositoriesThanPoolSize_KeepsMostRecentlyUsed() throws GitAPIException {
+        for (String name : List.of("repo1", "repo2", "repo3")) {
+            Path repoPath = createRepository(name);
+            gitRepositoryPool.withGit(repoPath, git -> Mono.just(name)).block();
+        }
+
+        assertThat(gitRepositoryPool.size()).isEqualTo(2);
+        assertThat(meterRegistry
+                        .get("appsmith.git.repository.pool.size")
+                        .gauge()
+                        .value())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void withGit_ConcurrentOperationsOnSameRepository_RunOneAfterTheOther() throws GitAPIException {
+        Path repoPath = createRepository("repo");
+        List<String> events = new CopyOnWriteArrayList<>();
+
+        Mono<String> first = gitRepositoryPool.withGit(repoPath, git -> Mono.fromRunnable(() -> events.add("start1"))
+                .then(Mono.delay(Duration.ofMillis(200)))
+                .then(Mono.fromCallable(() -> {
+                    events.add("end1");
+                    return "first";
+                })));
+        Mono<String> second = gitRepositoryPool.withGit(
+                repoPath,
+                git -> Mono.fromCallable(() -> {
+                    events.add("start2");
+                    return "second";
+                }));
+
+        first.subscribe();
+        String result = second.block(Duration.ofSeconds(5));
+
+        assertThat(result).isEqualTo("second");
+        assertThat(events).containsExactly("start1", "end1", "start2");
+        assertThat(meterRegistry
+                        .get("appsmith.git.repository.queue.wait")
+                        .timer()
+                        .count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void withGit_OperationTimedOut_NextOperationWaitsForItToReturn() throws GitAPIException {
+        Path repoPath = createRepository("repo");
+        List<String> events = new CopyOnWriteArrayList<>();
+
+        Mono<String> first = gitRepositoryPool
+                .withGit(
+                        repoPath,
+                        git -> Mono.fromCallable(() -> {
+                                    events.add("start1");
+                                    Thread.sleep(300);
+                                    events.add("end1");
+                                    return "first";
+                                })
+                                .subscribeOn(Schedulers.boundedElastic()))
+                .timeout(Duration.ofMillis(50))
+                .onErrorResume(TimeoutException.class, error -> {
+                    events.add("timeout1");
+                    return Mono.empty();
+                });
+        Mono<String> second = gitRepositoryPool.withGit(
+                repoPath,
+                git -> Mono.fromCallable(() -> {
+                    events.add("start2");
+                    return "second";
+                }));
+
+        first.block(Duration.ofSeconds(5));
+        String result = second.block(Duration.ofSeconds(5));
+
+        assertThat(result).isEqualTo("second");
+        assertThat(events).containsExactly("start1", "timeout1", "end1", "start2");
+    }
+
+    @Test
+    public void withGit_NestedOperationOnSameRepository_DoesNotWaitForOuterOperation() throws GitAPIException {
+        Path repoPath = createRepository("repo");
+
+        String result = gitRepositoryPool
+                .withGit(repoPath, outerGit -> gitRepositoryPool.withGit(repoPath, innerGit -> Mono.just("nested")))
+                .block(Duration.ofSeconds(5));
+
+        assertThat(result).isEqualTo("nested");
+    }
+
+    @Test
+    public void withGit_RepositoryReplaced_OpensNewRepository() throws GitAPIException, IOException {
+        Path repoPath = createRepository("repo");
+        Repository first = gitRepositoryPool
+                .withGit(repoPath, git -> Mono.just(git.getRepository()))
+                .block();
+
+        FileSystemUtils.deleteRecursively(repoPath);
+        createRepository("repo");
+        Repository second = gitRepositoryPool
+                .withGit(repoPath, git -> Mono.just(git.getRepository()))
+                .block();
+
+        assertThat(second).isNotSameAs(first);
+    }
+}
@@ -0,0 +1,106 @@
+package com.appsmith.git.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GitResourceManifestTest {
+
+    @TempDir
+    Path repoPath;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Files.createDirectories(repoPath.resolve(".git"));
+    }
+
+    private Path writeResource(String filePath, String content) throws IOException {
+        Path path = repoPath.resolve(filePath);
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content);
+        // Keep the file out of the racy window of the manifest saved right after
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minusSeconds(60)));
+        return path;
+    }
+
+    private static String hash(String content) {
+        return GitResourceManifest.hash(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void isUnchanged_SavedEntryWithSameHashAndFile_ReturnsTrue() throws IOException {
+        Path path = writeResource("pages/Page1/Page1.json", "{\"a\":1}");
+
+        GitResourceManifest manifest = GitResourceManifest.load(repoPath, "main", objectMapper);
+        manifest.put("pages/Page1/Page1.json", hash("{\"a\":1}"), path);
+        manifest.save();
+
+        GitResourceManifest reloaded = GitResourceManifest.load(repoPath, "main", objectMapper);
+        assertThat(reloaded.isUnchanged("pages/Page1/Page1.json", hash("{\"a\":1}"), path))
+                .isTrue();
+        assertThat(reloaded.isUnchanged("pages/Page1/Page1.json", hash("{\"a\":2}"), path))
+                .isFalse();
+    }
+
+    @Test
+    public void isUnchanged_FileTouchedAfterSave_ReturnsFalse() throws IOException {
+        Path path = writeResource("application.json", "{\"a\":1}");
+
+        GitResourceManifest manifest = GitResourceManifest.load(repoPath, "main", objectMapper);
+        manifest.put("application.json", hash("{\"a\":1}"), path);
+        manifest.save();
+
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minusSeconds(30)));
+
+        GitResourceManifest reloaded = GitResourceManifest.load(repoPath, "main", objectMapper);
+        assertThat(reloaded.isUnchanged("application.json", hash("{\"a\":1}"), path))
+                .isFalse();
+    }
+
+    @Test
+    public void isUnchanged_FileModifiedJustBeforeSave_ReturnsFalse() throws IOException {
+        Path path = repoPath.resolve("metadata.json");
+        Files.writeString(path, "{\"a\":1}");
+
+        GitResourceManifest manifest = GitResourceManifest.load(repoPath, "main", objectMapper);
+        manifest.put("metadata.json", hash("{\"a\":1}"), path);
+        manifest.save();
+
+        GitResourceManifest reloaded = GitResourceManifest.load(repoPath, "main", objectMapper);
+        assertThat(reloaded.isUnchanged("metadata.json", hash("{\"a\":1}"), path))
+                .isFalse();
+    }
+
+    @Test
+    public void load_DifferentBranchOrRemovedEntry_IsNotTrusted() throws IOException {
+        Path path = writeResource("theme.json", "{}");
+        Path otherPath = writeResource("metadata.json", "{}");
+
+        GitResourceManifest manifest = GitResourceManifest.load(repoPath, "feature/one", objectMapper);
+        manifest.put("theme.json", hash("{}"), path);
+        manifest.put("metadata.json", hash("{}"), otherPath);
+        manifest.retainAll(Set.of("theme.json"));
+        manifest.save();
+
+        GitResourceManifest sameBranch = GitResourceManifest.load(repoPath, "feature/one", objectMapper);
+        assertThat(sameBranch.isUnchanged("theme.json", hash("{}"), path)).isTrue();
+        assertThat(sameBranch.isUnchanged("metadata.json", hash("{}"), otherPath))
+                .isFalse();
+
+        GitResourceManifest otherBranch = GitResourceManifest.load(repoPath, "main", objectMapper);
+        assertThat(otherBranch.isUnchanged("theme.json", hash("{}"), path)).isFalse();
+    }
+}
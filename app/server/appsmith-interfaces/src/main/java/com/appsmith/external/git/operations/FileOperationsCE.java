@@ -20,6 +20,8 @@ public interface FileOperationsCE {
 
     boolean hasFileChanged(Object sourceEntity, Object fsSourceEntity) throws IOException;
 
+    byte[] serializeResource(Object sourceEntity) throws IOException;
+
     void scanAndDeleteFileForDeletedResources(Set<String> validResources, Path resourceDirectory);
 
     void scanAndDeleteDirectoryForDeletedResources(Set<String> validResources, Path resourceDirectory);
@@ -0,0 +1,220 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.BsonBinary;
+import org.bson.BsonDbPointer;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonReader;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonTimestamp;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.types.Decimal128;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * BsonJsonNodeReader reads BSON straight into Jackson nodes, without writing it as Extended JSON text and parsing that
+ * text again.
+ * <p>
+ * The nodes are the same as the ones from writing the BSON as relaxed Extended JSON, and then simplifying it for
+ * display: ObjectIds become their hex string, dates become their ISO-8601 instant, and 64-bit integers and decimals
+ * become plain numbers. Doubles and decimals without a fraction, like 5.0, become integers, as trailing zeros were
+ * dropped from their text. Other BSON types keep their relaxed Extended JSON form, like
+ * {"$binary": {"base64": ..., "subType": ...}}.
+ */
+public final class BsonJsonNodeReader {
+
+    private static final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+    private static final HexFormat hexFormat = HexFormat.of();
+
+    private BsonJsonNodeReader() {}
+
+    public static ObjectNode read(RawBsonDocument document) {
+        try (BsonReader reader = document.asBsonReader()) {
+            return readDocument(reader);
+        }
+    }
+
+    public static ObjectNode read(BsonDocument document) {
+        try (BsonReader reader = new BsonDocumentReader(document)) {
+            return readDocument(reader);
+        }
+    }
+
+    /**
+     * Reads the document that the reader is positioned at, or the top level document of a new reader.
+     */
+    public static ObjectNode readDocument(BsonReader reader) {
+        ObjectNode node = nodeFactory.objectNode();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            node.set(name, readValue(reader));
+        }
+        reader.readEndDocument();
+        return node;
+    }
+
+    public static ArrayNode readArray(BsonReader reader) {
+        ArrayNode node = nodeFactory.arrayNode();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            node.add(readValue(reader));
+        }
+        reader.readEndArray();
+        return node;
+    }
+
+    /**
+     * Reads the value of the current BSON type of the reader.
+     */
+    public static JsonNode readValue(BsonReader reader) {
+        switch (reader.getCurrentBsonType()) {
+            case DOCUMENT:
+                return readDocument(reader);
+            case ARRAY:
+                return readArray(reader);
+            case DOUBLE:
+                return readDouble(reader.readDouble());
+            case STRING:
+                return nodeFactory.textNode(reader.readString());
+            case BINARY:
+                return readBinary(reader.readBinaryData());
+            case UNDEFINED:
+                reader.readUndefined();
+                return wrap("$undefined", nodeFactory.booleanNode(true));
+            case OBJECT_ID:
+                return nodeFactory.textNode(reader.readObjectId().toHexString());
+            case BOOLEAN:
+                return nodeFactory.booleanNode(reader.readBoolean());
+            case DATE_TIME:
+                return nodeFactory.textNode(
+                        DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(reader.readDateTime())));
+            case NULL:
+                reader.readNull();
+                return nodeFactory.nullNode();
+            case REGULAR_EXPRESSION:
+                return readRegularExpression(reader.readRegularExpression());
+            case DB_POINTER:
+                return readDbPointer(reader.readDBPointer());
+            case JAVASCRIPT:
+                return wrap("$code", nodeFactory.textNode(reader.readJavaScript()));
+            case SYMBOL:
+                return wrap("$symbol", nodeFactory.textNode(reader.readSymbol()));
+            case JAVASCRIPT_WITH_SCOPE:
+                ObjectNode code = wrap("$code", nodeFactory.textNode(reader.readJavaScriptWithScope()));
+                code.set("$scope", readDocument(reader));
+                return code;
+            case INT32:
+                return nodeFactory.numberNode(reader.readInt32());
+            case TIMESTAMP:
+                return readTimestamp(reader.readTimestamp());
+            case INT64:
+                return readInteger(reader.readInt64());
+            case DECIMAL128:
+                return readDecimal(reader.readDecimal128());
+            case MIN_KEY:
+                reader.readMinKey();
+                return wrap("$minKey", nodeFactory.numberNode(1));
+            case MAX_KEY:
+                reader.readMaxKey();
+                return wrap("$maxKey", nodeFactory.numberNode(1));
+            default:
+                throw new IllegalStateException("Unsupported BSON type " + reader.getCurrentBsonType());
+        }
+    }
+
+    /**
+     * Returns the smallest integer node that holds the value, as parsing the value's text would.
+     */
+    public static JsonNode readInteger(long value) {
+        return value == (int) value ? nodeFactory.numberNode((int) value) : nodeFactory.numberNode(value);
+    }
+
+    private static JsonNode readInteger(BigInteger value) {
+        return value.bitLength() < Long.SIZE ? readInteger(value.longValue()) : nodeFactory.numberNode(value);
+    }
+
+    private static JsonNode readDouble(double value) {
+        if (Double.isNaN(value)) {
+            return wrap("$numberDouble", nodeFactory.textNode("NaN"));
+        }
+        if (Double.isInfinite(value)) {
+            return wrap("$numberDouble", nodeFactory.textNode(value > 0 ? "Infinity" : "-Infinity"));
+        }
+        return readNumber(Double.toString(value));
+    }
+
+    private static JsonNode readDecimal(Decimal128 value) {
+        if (value.isNaN() || value.isInfinite()) {
+            return wrap("$numberDecimal", nodeFactory.textNode(value.toString()));
+        }
+        // Not bigDecimalValue(), which fails for negative zero
+        return readNumber(new BigDecimal(value.toString()).toString());
+    }
+
+    /**
+     * Returns the node that the number's text was displayed as. Trailing zeros of the fraction were dropped, so a number
+     * with nothing left of its fraction, and no exponent, became an integer.
+     */
+    private static JsonNode readNumber(String text) {
+        boolean hasExponent = text.indexOf('e') >= 0 || text.indexOf('E') >= 0;
+        if (!hasExponent && text.indexOf('.') >= 0) {
+            int end = text.length();
+            while (text.charAt(end - 1) == '0') {
+                end--;
+            }
+            if (text.charAt(end - 1) == '.') {
+                return readInteger(new BigInteger(text.substring(0, end - 1)));
+            }
+        } else if (!hasExponent) {
+            return readInteger(new BigInteger(text));
+        }
+        return nodeFactory.numberNode(Double.parseDouble(text));
+    }
+
+    private static JsonNode readBinary(BsonBinary binary) {
+        ObjectNode node = nodeFactory.objectNode();
+        node.put("base64", Base64.getEncoder().encodeToString(binary.getData()));
+        node.put("subType", hexFormat.toHexDigits(binary.getType()));
+        return wrap("$binary", node);
+    }
+
+    private static JsonNode readRegularExpression(BsonRegularExpression regularExpression) {
+        ObjectNode node = nodeFactory.objectNode();
+        node.put("pattern", regularExpression.getPattern());
+        node.put("options", regularExpression.getOptions());
+        return wrap("$regularExpression", node);
+    }
+
+    private static JsonNode readDbPointer(BsonDbPointer dbPointer) {
+        ObjectNode node = nodeFactory.objectNode();
+        node.put("$ref", dbPointer.getNamespace());
+        node.put("$id", dbPointer.getId().toHexString());
+        return wrap("$dbPointer", node);
+    }
+
+    private static JsonNode readTimestamp(BsonTimestamp timestamp) {
+        ObjectNode node = nodeFactory.objectNode();
+        node.set("t", readInteger(Integer.toUnsignedLong(timestamp.getTime())));
+        node.set("i", readInteger(Integer.toUnsignedLong(timestamp.getInc())));
+        return wrap("$timestamp", node);
+    }
+
+    private static ObjectNode wrap(String name, JsonNode value) {
+        ObjectNode node = nodeFactory.objectNode();
+        node.set(name, value);
+        return node;
+    }
+}
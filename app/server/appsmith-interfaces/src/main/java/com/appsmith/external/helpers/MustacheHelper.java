@@ -6,15 +6,11 @@ import com.appsmith.external.models.EntityReferenceType;
 import com.appsmith.external.models.MustacheBindingToken;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.text.StringEscapeUtils;
-import org.springframework.beans.BeanWrapper;
-import org.springframework.beans.BeansException;
-import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 
-import java.beans.PropertyDescriptor;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -273,12 +269,15 @@ public class MustacheHelper {
 
     /**
      * - If object is null, then return object.
-     * - If object is an Appsmith domain object then iterate over all fields of the object and render field values
-     * for each of them.
+     * - If object is an Appsmith domain object then render field values for each of its fields that can hold a
+     * binding, in place. See MustacheRenderPlan.
      * - If object is list type then iterate over each item in the list and render field value for them.
      * - If object is map type, then iterate over each value in the map and render field value for them.
      * - If the object is string type (base case), then do the binding substitution if applicable.
      * - If the object falls under none of the above conditions then return the object without doing anything.
+     * Lists, maps and strings are returned as they are when rendering does not change them, and copied otherwise. So
+     * only the lists and maps along the paths to a binding are copied, and the rest of the object is shared with the
+     * result. Callers that change the lists or maps they get back must copy them first.
      */
     public static <T> T renderFieldValues(T object, Map<String, String> context) {
         if (object == null) {
@@ -286,39 +285,36 @@ public class MustacheHelper {
         }
 
         if (isDomainModel(object.getClass())) {
-            try {
-                final BeanWrapper sourceBeanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(object);
-                for (PropertyDescriptor propertyDescriptor : sourceBeanWrapper.getPropertyDescriptors()) {
-                    // For properties like `class` that don't have a set method, just ignore them.
-                    if (propertyDescriptor.getWriteMethod() == null) {
-                        continue;
-                    }
-
-                    String name = propertyDescriptor.getName();
-                    Object value = sourceBeanWrapper.getPropertyValue(name);
-                    sourceBeanWrapper.setPropertyValue(name, renderFieldValues(value, context));
-                }
-            } catch (BeansException e) {
-                log.error("Exception caught while substituting values in mustache template.", e);
-            }
+            MustacheRenderPlan.forClass(object.getClass()).render(object, context);
         } else if (object instanceof List) {
-            List renderedList = new ArrayList<>();
-            for (Object childValue : (List) object) {
-                renderedList.add(renderFieldValues(childValue, context));
+            List<Object> renderedList = null;
+            int index = 0;
+            for (Object childValue : (List<?>) object) {
+                Object renderedValue = renderFieldValues(childValue, context);
+                if (renderedList == null && renderedValue != childValue) {
+                    renderedList = new ArrayList<>(((List<?>) object).subList(0, index));
+                }
+                if (renderedList != null) {
+                    renderedList.add(renderedValue);
+                }
+                index++;
             }
 
-            return (T) renderedList;
+            return renderedList == null ? object : (T) renderedList;
 
         } else if (object instanceof Map) {
-            Map renderedMap = new HashMap<>();
-            for (Object entry : ((Map) object).entrySet()) {
-                renderedMap.put(
-                        ((Map.Entry) entry).getKey(), // key
-                        renderFieldValues(((Map.Entry) entry).getValue(), context) // value
-                        );
+            Map<Object, Object> renderedMap = null;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                Object renderedValue = renderFieldValues(entry.getValue(), context);
+                if (renderedValue != entry.getValue()) {
+                    if (renderedMap == null) {
+                        renderedMap = new HashMap<>((Map<?, ?>) object);
+                    }
+                    renderedMap.put(entry.getKey(), renderedValue);
+                }
             }
 
-            return (T) renderedMap;
+            return renderedMap == null ? object : (T) renderedMap;
 
         } else if (object instanceof String) {
             return (T) render((String) object, context);
@@ -333,6 +329,11 @@ public class MustacheHelper {
      * @return It finally returns the string in which all the keys in template have been replaced with values.
      */
     public static String render(String template, Map<String, String> keyValueMap) {
+        if (template != null && !template.contains("{{") && template.indexOf('&') < 0) {
+            // Nothing to substitute and nothing to unescape
+            return template;
+        }
+
         final StringBuilder rendered = new StringBuilder();
 
         for (MustacheBindingToken token : tokenize(template)) {
@@ -0,0 +1,128 @@
+package com.appsmith.external.helpers;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.appsmith.external.helpers.AppsmithBeanUtils.isDomainModel;
+
+/**
+ * MustacheRenderPlan is the list of properties of a domain model class that MustacheHelper.renderFieldValues visits,
+ * with a getter and a setter for each of them compiled into method handles.
+ *
+ * Plans are built once per class, on first use. Only properties that have both a getter and a setter and whose type
+ * can hold a binding are part of a plan: a String, a List, a Map or another domain model, or a type such as Object that
+ * may hold any of these. Properties of primitive, enum or other final types are left out, as renderFieldValues never
+ * changes them.
+ */
+@Slf4j
+final class MustacheRenderPlan {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<MustacheRenderPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected MustacheRenderPlan computeValue(Class<?> type) {
+            return new MustacheRenderPlan(type);
+        }
+    };
+
+    private record BindableProperty(String name, MethodHandle getter, MethodHandle setter) {}
+
+    private final BindableProperty[] properties;
+
+    private MustacheRenderPlan(Class<?> type) {
+        List<BindableProperty> bindableProperties = new ArrayList<>();
+        for (PropertyDescriptor propertyDescriptor : BeanUtils.getPropertyDescriptors(type)) {
+            Method readMethod = propertyDescriptor.getReadMethod();
+            Method writeMethod = propertyDescriptor.getWriteMethod();
+            // For properties like `class` that don't have a set method, just ignore them.
+            if (readMethod == null || writeMethod == null || !canHoldBindings(propertyDescriptor.getPropertyType())) {
+                continue;
+            }
+
+            try {
+                readMethod.trySetAccessible();
+                writeMethod.trySetAccessible();
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                bindableProperties.add(new BindableProperty(
+                        propertyDescriptor.getName(),
+                        lookup.unreflect(readMethod).asType(GETTER_TYPE),
+                        lookup.unreflect(writeMethod).asType(SETTER_TYPE)));
+            } catch (IllegalAccessException e) {
+                log.warn(
+                        "Property {} of {} is not accessible, bindings in it will not be rendered.",
+                        propertyDescriptor.getName(),
+                        type.getName());
+            }
+        }
+        this.properties = bindableProperties.toArray(new BindableProperty[0]);
+    }
+
+    static MustacheRenderPlan forClass(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * This method is used to render the bindings in the properties of a domain model, in place. A property is only set
+     * again when its rendered value is a different object.
+     */
+    void render(Object object, Map<String, String> context) {
+        String name = null;
+        try {
+            for (BindableProperty property : properties) {
+                name = property.name();
+                Object value = property.getter().invokeExact(object);
+                if (value == null) {
+                    continue;
+                }
+
+                Object renderedValue = MustacheHelper.renderFieldValues(value, context);
+                if (renderedValue != value) {
+                    property.setter().invokeExact(object, renderedValue);
+                }
+            }
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            log.error(
+                    "Exception caught while substituting values in mustache template, in property {} of {}.",
+                    name,
+                    object.getClass().getName(),
+                    e);
+        }
+    }
+
+    int size() {
+        return properties.length;
+    }
+
+    /**
+     * Returns false for types whose values renderFieldValues leaves untouched: primitives, enums, and final types that
+     * are neither a String, a List, a Map nor a domain model, such as boxed numbers, dates and arrays. Sets are also
+     * left out, as renderFieldValues does not go into them.
+     */
+    private static boolean canHoldBindings(Class<?> type) {
+        if (type == null || type.isPrimitive() || type.isEnum() || Set.class.isAssignableFrom(type)) {
+            return false;
+        }
+        if (type == String.class || isDomainModel(type)) {
+            return true;
+        }
+        return !Modifier.isFinal(type.getModifiers())
+                || List.class.isAssignableFrom(type)
+                || Map.class.isAssignableFrom(type);
+    }
+}
@@ -0,0 +1,207 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BinaryNode;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * ResponseSizeEstimator keeps a running estimate of the size of a response, in bytes, as its values are added one by
+ * one. It replaces Sizeof, which serializes everything read so far every time the size is checked.
+ *
+ * The estimate is the size the values take once serialized to JSON, from the type of every value: strings count their
+ * length and quotes, numbers the most digits their type can have, dates the length of their ISO format, binary values
+ * their base64 length, and JSON nodes, arrays, collections and maps the sum of their elements with separators. Strings
+ * count one byte per character. Values of other types are given a fixed size.
+ */
+public class ResponseSizeEstimator {
+
+    static final long NULL_SIZE = 4;
+
+    static final long TRUE_SIZE = 4;
+
+    static final long FALSE_SIZE = 5;
+
+    static final long INTEGER_SIZE = 11;
+
+    static final long LONG_SIZE = 20;
+
+    static final long DECIMAL_SIZE = 24;
+
+    static final long DATE_SIZE = 12;
+
+    static final long DATE_TIME_SIZE = 37;
+
+    static final long OBJECT_SIZE = 32;
+
+    private long size;
+
+    /**
+     * This method is used to add a value to the response, and returns its estimated size.
+     */
+    public long add(Object value) {
+        long valueSize = estimate(value);
+        size += valueSize;
+        return valueSize;
+    }
+
+    /**
+     * This method is used to add a known number of bytes to the response, like the field names of a row.
+     */
+    public void addBytes(long bytes) {
+        size += bytes;
+    }
+
+    /**
+     * Returns the estimated size of everything added so far, in bytes.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Returns true when the estimated size is over the given limit, a negative limit meaning there is none.
+     */
+    public boolean isOver(long limit) {
+        return limit >= 0 && size > limit;
+    }
+
+    /**
+     * This method is used to estimate the size of the JSON object holding the given field names, without the values.
+     */
+    public static long estimateObjectOverhead(Collection<String> fieldNames) {
+        // Braces, and a comma before every field but the first
+        long overhead = 2 + Math.max(fieldNames.size() - 1, 0);
+        for (String fieldName : fieldNames) {
+            // Quotes and colon
+            overhead += fieldName.length() + 3;
+        }
+        return overhead;
+    }
+
+    /**
+     * This method is used to estimate the size of a single value once serialized to JSON, in bytes.
+     */
+    public static long estimate(Object value) {
+        if (value == null) {
+            return NULL_SIZE;
+        }
+        if (value instanceof CharSequence text) {
+            return text.length() + 2;
+        }
+        if (value instanceof Number number) {
+            return estimateNumber(number);
+        }
+        if (value instanceof Boolean bool) {
+            return estimateBoolean(bool);
+        }
+        if (value instanceof LocalDate) {
+            return DATE_SIZE;
+        }
+        if (value instanceof TemporalAccessor || value instanceof Date) {
+            return DATE_TIME_SIZE;
+        }
+        if (value instanceof JsonNode node) {
+            return estimateJsonNode(node);
+        }
+        if (value instanceof byte[] bytes) {
+            return estimateBinary(bytes.length);
+        }
+        if (value instanceof Object[] array) {
+            long arraySize = 2 + Math.max(array.length - 1, 0);
+            for (Object element : array) {
+                arraySize += estimate(element);
+            }
+            return arraySize;
+        }
+        if (value.getClass().isArray()) {
+            // Arrays of primitives, all elements having the size of their type
+            int length = Array.getLength(value);
+            if (length == 0) {
+                return 2;
+            }
+            return 2 + (length - 1) + length * estimate(Array.get(value, 0));
+        }
+        if (value instanceof Collection<?> collection) {
+            long collectionSize = 2 + Math.max(collection.size() - 1, 0);
+            for (Object element : collection) {
+                collectionSize += estimate(element);
+            }
+            return collectionSize;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long mapSize = 2 + Math.max(map.size() - 1, 0);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                mapSize += String.valueOf(entry.getKey()).length() + 3 + estimate(entry.getValue());
+            }
+            return mapSize;
+        }
+        return OBJECT_SIZE;
+    }
+
+    private static long estimateNumber(Number number) {
+        if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return INTEGER_SIZE;
+        }
+        if (number instanceof Long) {
+            return LONG_SIZE;
+        }
+        if (number instanceof BigDecimal decimal) {
+            // Digits, sign and decimal point
+            return decimal.precision() + 2;
+        }
+        if (number instanceof BigInteger integer) {
+            // A little more than log10(2) digits per bit, and the sign
+            return integer.bitLength() / 3 + 2;
+        }
+        return DECIMAL_SIZE;
+    }
+
+    private static long estimateJsonNode(JsonNode node) {
+        switch (node.getNodeType()) {
+            case STRING:
+                return node.textValue().length() + 2;
+            case NUMBER:
+                return estimateNumber(node.numberValue());
+            case BOOLEAN:
+                return estimateBoolean(node.booleanValue());
+            case BINARY:
+                return node instanceof BinaryNode binary ? estimateBinary(binary.binaryValue().length) : OBJECT_SIZE;
+            case ARRAY:
+                long arraySize = 2 + Math.max(node.size() - 1, 0);
+                for (JsonNode element : node) {
+                    arraySize += estimateJsonNode(element);
+                }
+                return arraySize;
+            case OBJECT:
+                long objectSize = 2 + Math.max(node.size() - 1, 0);
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    objectSize += field.getKey().length() + 3 + estimateJsonNode(field.getValue());
+                }
+                return objectSize;
+            case POJO:
+                return OBJECT_SIZE;
+            default:
+                return NULL_SIZE;
+        }
+    }
+
+    private static long estimateBoolean(boolean value) {
+        return value ? TRUE_SIZE : FALSE_SIZE;
+    }
+
+    private static long estimateBinary(long length) {
+        // Base64 and quotes
+        return 4 * ((length + 2) / 3) + 2;
+    }
+}
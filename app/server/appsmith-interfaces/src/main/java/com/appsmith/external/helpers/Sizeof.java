@@ -4,6 +4,11 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 
+/**
+ * @deprecated Serializes the whole object every time it is called, which makes repeated size checks on a growing
+ * response quadratic. Use ResponseSizeEstimator to keep the size of a response as its values are added.
+ */
+@Deprecated
 public class Sizeof {
 
     public static int sizeof(Object obj) throws IOException {
@@ -0,0 +1,101 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.external.models.StructureDiscoveryOptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static org.springframework.util.CollectionUtils.isEmpty;
+
+public final class StructureDiscoveryUtils {
+
+    private StructureDiscoveryUtils() {}
+
+    /**
+     * This method is used to discover the tables of a datasource one by one, with the discovery function of a table.
+     * Only the tables included by the options are discovered, as many at the same time as the concurrency of the
+     * options. The tables keep the order of their names.
+     * <p>
+     * When the time budget of the options runs out, the discovery of the remaining tables is cancelled, and the tables
+     * discovered until then are returned as a partial structure.
+     */
+    public static Mono<DatasourceStructure> discoverTables(
+            Flux<String> tableNames,
+            Function<String, Mono<DatasourceStructure.Table>> discoverTable,
+            StructureDiscoveryOptions options) {
+        AtomicBoolean isPartial = new AtomicBoolean();
+        return tableNames
+                .filter(options::includesTable)
+                .index()
+                .flatMap(
+                        indexedName -> discoverTable
+                                .apply(indexedName.getT2())
+                                .map(table -> Tuples.of(indexedName.getT1(), table)),
+                        Math.max(1, options.getConcurrency()))
+                .takeUntilOther(Mono.delay(options.getTimeBudget()).doOnNext(tick -> isPartial.set(true)))
+                .sort(Comparator.comparing(Tuple2::getT1))
+                .map(Tuple2::getT2)
+                .collectList()
+                .map(tables -> {
+                    DatasourceStructure structure = new DatasourceStructure(tables);
+                    if (isPartial.get()) {
+                        structure.setIsPartial(true);
+                    }
+                    return structure;
+                });
+    }
+
+    /**
+     * This method is used to replace the tables of a structure with the ones that were discovered again. The tables
+     * that were to be discovered, and that were not found, are removed. Unless the discovery was partial, as the tables
+     * could have been left out for the time budget. When the keys of the tables could not be discovered for the time
+     * budget, the tables that were discovered again keep the keys they were discovered with before.
+     *
+     * @param structure  : Structure that was discovered before
+     * @param discovered : Structure of the tables that were discovered again
+     * @param options    : Options the tables were discovered again with
+     */
+    public static DatasourceStructure mergeTables(
+            DatasourceStructure structure, DatasourceStructure discovered, StructureDiscoveryOptions options) {
+        List<DatasourceStructure.Table> discoveredTables =
+                discovered.getTables() == null ? List.of() : discovered.getTables();
+        boolean isKeysPartial = Boolean.TRUE.equals(discovered.getIsKeysPartial());
+        Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
+        Map<String, List<DatasourceStructure.Key>> cachedKeysByName = new HashMap<>();
+        if (structure != null && structure.getTables() != null) {
+            for (DatasourceStructure.Table table : structure.getTables()) {
+                if (isKeysPartial) {
+                    cachedKeysByName.put(table.getName(), table.getKeys());
+                }
+                boolean isRemoved = !Boolean.TRUE.equals(discovered.getIsPartial())
+                        && options.includesSchema(table.getSchema())
+                        && options.includesTable(table.getName());
+                if (!isRemoved) {
+                    tablesByName.put(table.getName(), table);
+                }
+            }
+        }
+        for (DatasourceStructure.Table table : discoveredTables) {
+            if (isEmpty(table.getKeys()) && cachedKeysByName.containsKey(table.getName())) {
+                table.setKeys(cachedKeysByName.get(table.getName()));
+            }
+            tablesByName.put(table.getName(), table);
+        }
+
+        DatasourceStructure merged = new DatasourceStructure(new ArrayList<>(tablesByName.values()));
+        merged.setIsPartial(discovered.getIsPartial());
+        merged.setIsKeysPartial(discovered.getIsKeysPartial());
+        return merged;
+    }
+}
@@ -0,0 +1,183 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.helpers.SSLHelper;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * HttpClientRegistry hands out HttpClients for REST API and GraphQL actions, so that repeated executions against the
+ * same API reuse keep-alive connections instead of opening new ones every time.
+ *
+ * Clients are kept per pool key, which is made of the origin of the datasource URL, its SSL settings and the HTTP
+ * protocol. Every key has its own bounded ConnectionProvider, with metrics enabled. The client itself is kept as well
+ * and not only the provider, as Reactor Netty pools connections by client configuration, and an SSL context built
+ * again for every execution would never match an existing pool.
+ * At most maxPools keys are kept, the least recently used one is dropped beyond that and its provider disposed once
+ * its connections have reached their maximum lifetime.
+ */
+@Slf4j
+public class HttpClientRegistry {
+
+    private static final String PROVIDER_NAME_PREFIX = "rest-api-provider-";
+
+    /**
+     * Settings of the connection pools.
+     * @param maxPools Maximum number of pool keys kept at the same time.
+     * @param maxConnections Maximum number of connections per remote address in a pool.
+     * @param pendingAcquireMaxCount Maximum number of requests waiting for a connection, per remote address.
+     * @param pendingAcquireTimeout How long a request waits for a connection before failing.
+     * @param maxIdleTime How long an unused connection is kept, idle connections are also evicted in the background.
+     * @param maxLifeTime How long a connection is kept at most.
+     */
+    public record Settings(
+            int maxPools,
+            int maxConnections,
+            int pendingAcquireMaxCount,
+            Duration pendingAcquireTimeout,
+            Duration maxIdleTime,
+            Duration maxLifeTime) {
+
+        public static final Settings DEFAULT =
+                new Settings(500, 100, 1000, Duration.ofSeconds(45), Duration.ofSeconds(30), Duration.ofSeconds(600));
+    }
+
+    private record PoolKey(String origin, String ssl, HttpProtocol protocol) {}
+
+    private record Pool(ConnectionProvider provider, HttpClient httpClient) {}
+
+    private final Settings settings;
+
+    private final Map<PoolKey, Pool> pools;
+
+    public HttpClientRegistry(Settings settings) {
+        this.settings = settings;
+        this.pools = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PoolKey, Pool> eldest) {
+                if (size() <= settings.maxPools()) {
+                    return false;
+                }
+                disposeLater(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * This method is used to get the HttpClient for a datasource, creating it and its connection pool on first use.
+     * @param datasourceConfiguration The configuration of the datasource, for its URL and SSL settings.
+     * @param httpProtocol The HTTP protocol of the action, HTTP/1.1 if null.
+     * @return HttpClient sharing its connections with every other execution for the same pool key.
+     */
+    public HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
+        HttpProtocol protocol = httpProtocol == null ? HttpProtocol.HTTP11 : httpProtocol;
+        PoolKey key = new PoolKey(getOrigin(datasourceConfiguration), getSslKey(datasourceConfiguration), protocol);
+        synchronized (pools) {
+            return pools.computeIfAbsent(key, k -> createPool(k, datasourceConfiguration))
+                    .httpClient();
+        }
+    }
+
+    /**
+     * Returns the number of pool keys currently kept.
+     */
+    public int size() {
+        synchronized (pools) {
+            return pools.size();
+        }
+    }
+
+    private Pool createPool(PoolKey key, DatasourceConfiguration datasourceConfiguration) {
+        log.debug("Creating HTTP connection pool for {} with protocol {}", key.origin(), key.protocol());
+        ConnectionProvider provider = ConnectionProvider.builder(PROVIDER_NAME_PREFIX + key.origin())
+                .maxConnections(settings.maxConnections())
+                .pendingAcquireMaxCount(settings.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(settings.pendingAcquireTimeout())
+                .maxIdleTime(settings.maxIdleTime())
+                .maxLifeTime(settings.maxLifeTime())
+                .evictInBackground(settings.maxIdleTime())
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .protocol(key.protocol())
+                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
+                .compress(true);
+
+        return new Pool(provider, httpClient);
+    }
+
+    /**
+     * Disposes the provider of a dropped pool key once all its connections have reached their maximum lifetime, so
+     * that requests still running on it are not cut off.
+     */
+    private void disposeLater(PoolKey key, Pool pool) {
+        log.debug("Dropping HTTP connection pool for {} with protocol {}", key.origin(), key.protocol());
+        pool.provider()
+                .disposeLater()
+                .delaySubscription(settings.maxLifeTime())
+                .subscribe(
+                        null,
+                        error -> log.error("Error while disposing HTTP connection pool for {}", key.origin(), error));
+    }
+
+    /**
+     * Returns scheme://host:port of the datasource URL, or an empty string when it is missing or not a valid URL, in
+     * which case all such datasources share a pool. Connections are still kept per remote address within a pool.
+     */
+    private static String getOrigin(DatasourceConfiguration datasourceConfiguration) {
+        String url = datasourceConfiguration.getUrl();
+        if (url == null || url.isBlank()) {
+            return "";
+        }
+        try {
+            URI uri = URI.create(url.trim());
+            if (uri.getHost() == null) {
+                return "";
+            }
+            String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+            return scheme + "://" + uri.getHost().toLowerCase(Locale.ROOT) + ":" + uri.getPort();
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Returns the part of the SSL settings that changes the SSL context, which is a self-signed certificate if any.
+     * The certificate is hashed so that its content is not kept in the key.
+     */
+    private static String getSslKey(DatasourceConfiguration datasourceConfiguration) {
+        if (datasourceConfiguration.getConnection() == null
+                || datasourceConfiguration.getConnection().getSsl() == null) {
+            return "";
+        }
+        SSLDetails ssl = datasourceConfiguration.getConnection().getSsl();
+        if (ssl.getAuthType() != SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE) {
+            return "";
+        }
+        String certificate = ssl.getCertificateFile() == null
+                ? ""
+                : String.valueOf(ssl.getCertificateFile().getBase64Content());
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(certificate.getBytes(StandardCharsets.UTF_8));
+            return "self-signed:" + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * ResponseBodyReader reads the body of an API response as its DataBuffers arrive, instead of joining them into one
+ * buffer and copying that into a byte array first.
+ * Every DataBuffer is copied once into a single array, presized from the Content-Length header when there is one, and
+ * released right away. The size limit applies to the raw bytes of the body, whether or not they are base64 encoded,
+ * and is checked as bytes arrive, so an oversized response fails as soon as it goes over the limit, or before reading
+ * anything when its Content-Length is already over it. Without a limit, the Content-Length header is not trusted to
+ * presize the array beyond MAX_UNLIMITED_PRESIZE.
+ * Binary bodies are base64 encoded chunk by chunk, so that the raw bytes are never kept as a whole.
+ */
+public class ResponseBodyReader {
+
+    /**
+     * Same default as the in-memory limit of Spring codecs.
+     */
+    public static final int DEFAULT_MAX_IN_MEMORY_SIZE = 256 * 1024;
+
+    /**
+     * Largest array allocated upfront from the Content-Length header when there is no limit, the array grows past it
+     * only as bytes actually arrive.
+     */
+    static final int MAX_UNLIMITED_PRESIZE = 1024 * 1024;
+
+    private final int maxInMemorySize;
+
+    /**
+     * @param maxInMemorySize Maximum number of bytes read from a response body, -1 for no limit.
+     */
+    public ResponseBodyReader(int maxInMemorySize) {
+        this.maxInMemorySize = maxInMemorySize;
+    }
+
+    /**
+     * The bytes read from a response body. The array may be larger than the body, only its first length bytes are
+     * part of it.
+     */
+    public record Body(byte[] bytes, int length) {
+
+        public String asString(Charset charset) {
+            return new String(bytes, 0, length, charset);
+        }
+    }
+
+    /**
+     * This method is used to read a response body as bytes.
+     * @param body The DataBuffers of the body.
+     * @param contentLength The Content-Length of the response, -1 if unknown.
+     * @return The body, or an empty Mono when the response has no body.
+     */
+    public Mono<Body> readBytes(Flux<DataBuffer> body, long contentLength) {
+        return read(
+                body, contentLength, contentLength, sink -> sink, sink -> new Body(sink.buffer(), sink.size()));
+    }
+
+    /**
+     * This method is used to read a response body as a base64 string, encoding every DataBuffer as it arrives.
+     * @param body The DataBuffers of the body.
+     * @param contentLength The Content-Length of the response, -1 if unknown.
+     * @return The encoded body, or an empty Mono when the response has no body.
+     */
+    public Mono<String> readBase64(Flux<DataBuffer> body, long contentLength) {
+        return read(
+                body,
+                contentLength,
+                // Every 3 bytes are encoded as 4 characters
+                contentLength < 0 ? contentLength : 4 * ((contentLength + 2) / 3),
+                sink -> Base64.getEncoder().wrap(sink),
+                sink -> sink.toString(StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * @param contentLength The Content-Length of the response, -1 if unknown, checked against the limit.
+     * @param outputSize The expected size of the output, -1 if unknown, used to presize the array.
+     */
+    private <T> Mono<T> read(
+            Flux<DataBuffer> body,
+            long contentLength,
+            long outputSize,
+            Function<ByteSink, OutputStream> outputFactory,
+            Function<ByteSink, T> resultMapper) {
+        if (maxInMemorySize >= 0 && contentLength > maxInMemorySize) {
+            // Cancels the body instead of reading it, which also closes the connection
+            return body.doOnNext(DataBufferUtils::release).next().then(Mono.error(limitExceeded()));
+        }
+
+        return Mono.defer(() -> {
+            // With a limit, the content length was checked against it above and bounds the output size
+            ByteSink sink =
+                    new ByteSink(maxInMemorySize >= 0 ? outputSize : Math.min(outputSize, MAX_UNLIMITED_PRESIZE));
+            OutputStream output = outputFactory.apply(sink);
+            long[] received = {0};
+            boolean[] hasBody = {false};
+
+            return body.doOnNext(buffer -> {
+                        try {
+                            int readable = buffer.readableByteCount();
+                            received[0] += readable;
+                            hasBody[0] = true;
+                            if (maxInMemorySize >= 0 && received[0] > maxInMemorySize) {
+                                throw limitExceeded();
+                            }
+                            write(buffer, output, readable);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .then(Mono.fromSupplier(() -> {
+                        if (!hasBody[0]) {
+                            return null;
+                        }
+                        try {
+                            // Writes the padding of the last base64 group
+                            output.close();
+                        } catch (IOException e) {
+                            throw Exceptions.propagate(e);
+                        }
+                        return resultMapper.apply(sink);
+                    }));
+        });
+    }
+
+    private static void write(DataBuffer buffer, OutputStream output, int readable) {
+        try {
+            if (output instanceof ByteSink sink) {
+                // Read straight into the sink, without going through a chunk array
+                sink.write(buffer, readable);
+            } else {
+                byte[] chunk = new byte[readable];
+                buffer.read(chunk);
+                output.write(chunk);
+            }
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private DataBufferLimitException limitExceeded() {
+        return new DataBufferLimitException("Exceeded limit on max bytes to buffer : " + maxInMemorySize);
+    }
+
+    /**
+     * A growable byte array whose buffer can be read without copying it.
+     */
+    private static class ByteSink extends OutputStream {
+
+        private static final int DEFAULT_CAPACITY = 8 * 1024;
+
+        private byte[] buffer;
+        private int size;
+
+        ByteSink(long expectedSize) {
+            int capacity =
+                    expectedSize >= 0 && expectedSize < Integer.MAX_VALUE - 8 ? (int) expectedSize : DEFAULT_CAPACITY;
+            this.buffer = new byte[capacity];
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            ensureCapacity(length);
+            System.arraycopy(bytes, offset, buffer, size, length);
+            size += length;
+        }
+
+        void write(DataBuffer dataBuffer, int length) {
+            ensureCapacity(length);
+            dataBuffer.read(buffer, size, length);
+            size += length;
+        }
+
+        byte[] buffer() {
+            return buffer;
+        }
+
+        int size() {
+            return size;
+        }
+
+        String toString(Charset charset) {
+            return new String(buffer, 0, size, charset);
+        }
+
+        private void ensureCapacity(int length) {
+            if (buffer.length - size >= length) {
+                return;
+            }
+            long required = (long) size + length;
+            if (required > Integer.MAX_VALUE - 8) {
+                throw new OutOfMemoryError("Response body is too large to be kept in memory");
+            }
+            int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(required, (long) buffer.length * 2));
+            buffer = Arrays.copyOf(buffer, capacity);
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.appsmith.external.helpers.restApiUtils.helpers;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
-import com.appsmith.external.helpers.SSLHelper;
 import com.appsmith.external.helpers.restApiUtils.connections.APIConnection;
 import com.appsmith.external.helpers.restApiUtils.constants.ResponseDataType;
 import com.appsmith.external.models.ActionConfiguration;
@@ -18,7 +17,8 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import io.micrometer.observation.ObservationRegistry;
-import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
@@ -29,20 +29,17 @@ import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.Exceptions;
 import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
-import reactor.netty.resources.ConnectionProvider;
 
 import javax.crypto.SecretKey;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.time.Instant;
-import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
@@ -51,7 +48,7 @@ import static com.appsmith.external.constants.spans.ce.ActionSpanCE.ACTUAL_API_C
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
-@NoArgsConstructor
+@Slf4j
 public class RestAPIActivateUtils {
 
     public static final String SIGNATURE_HEADER_NAME = "X-APPSMITH-SIGNATURE";
@@ -68,6 +65,19 @@ public class RestAPIActivateUtils {
             "application/vnd.openxmlformats-officedocument.presentationml.presentation");
     public static HeaderUtils headerUtils = new HeaderUtils();
 
+    private final HttpClientRegistry httpClientRegistry;
+
+    private final ResponseBodyReader responseBodyReader;
+
+    public RestAPIActivateUtils() {
+        this(HttpClientRegistry.Settings.DEFAULT, ResponseBodyReader.DEFAULT_MAX_IN_MEMORY_SIZE);
+    }
+
+    public RestAPIActivateUtils(HttpClientRegistry.Settings connectionPoolSettings, int maxResponseBodySize) {
+        this.httpClientRegistry = new HttpClientRegistry(connectionPoolSettings);
+        this.responseBodyReader = new ResponseBodyReader(maxResponseBodySize);
+    }
+
     public Mono<ActionExecutionResult> triggerApiCall(
             WebClient client,
             HttpMethod httpMethod,
@@ -85,9 +95,8 @@ public class RestAPIActivateUtils {
                 .tag("plugin", className)
                 .name(ACTUAL_API_CALL)
                 .tap(Micrometer.observation(observationRegistry))
-                .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
-                .map(stringResponseEntity -> {
-                    HttpHeaders headers = stringResponseEntity.getHeaders();
+                .flatMap(clientResponse -> {
+                    HttpHeaders headers = clientResponse.headers().asHttpHeaders();
                     /*
                        Find the media type of the response to parse the body as required. In case the content-type
                        header is not present in the response then set it to our default i.e. "text/plain" although
@@ -98,8 +107,7 @@ public class RestAPIActivateUtils {
                     if (contentType == null) {
                         contentType = MediaType.TEXT_PLAIN;
                     }
-                    byte[] body = stringResponseEntity.getBody();
-                    HttpStatusCode statusCode = stringResponseEntity.getStatusCode();
+                    HttpStatusCode statusCode = clientResponse.statusCode();
 
                     ActionExecutionResult result = new ActionExecutionResult();
 
@@ -121,72 +129,103 @@ public class RestAPIActivateUtils {
                     try {
                         headerInJsonString = objectMapper.writeValueAsString(headers);
                     } catch (JsonProcessingException e) {
-                        throw Exceptions.propagate(e);
+                        return clientResponse.releaseBody().then(Mono.error(e));
                     }
 
                     // Set headers in the result now
                     try {
                         result.setHeaders(objectMapper.readTree(headerInJsonString));
                     } catch (IOException e) {
-                        throw Exceptions.propagate(new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR, headerInJsonString, e.getMessage()));
+                        return clientResponse
+                                .releaseBody()
+                                .then(Mono.error(new AppsmithPluginException(
+                                        AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR,
+                                        headerInJsonString,
+                                        e.getMessage())));
                     }
 
-                    if (body != null) {
-
-                        ResponseDataType responseDataType = ResponseDataType.UNDEFINED;
-
-                        /**TODO
-                         * Handle XML response. Currently we only handle JSON & Image responses. The other kind of responses
-                         * are kept as is and returned as a string.
-                         */
-                        if (contentType.includes(MediaType.APPLICATION_JSON)) {
-                            try {
-                                String jsonBody = new String(body, StandardCharsets.UTF_8);
-                                result.setBody(objectMapper.readTree(jsonBody));
-                                responseDataType = ResponseDataType.JSON;
-                            } catch (IOException e) {
-                                System.out.println("Unable to parse response JSON. Setting response body as string.");
-                                String bodyString = new String(body, StandardCharsets.UTF_8);
-                                result.setBody(bodyString.trim());
-
-                                // Warn user that the API response is not a valid JSON.
-                                hintMessages.add("The response returned by this API is not a valid JSON. Please "
-                                        + "be careful when using the API response anywhere a valid JSON is required"
-                                        + ". You may resolve this issue either by modifying the 'Content-Type' "
-                                        + "Header to indicate a non-JSON response or by modifying the API response "
-                                        + "to return a valid JSON.");
-                            }
-                        } else if (MediaType.IMAGE_GIF.equals(contentType)
-                                || MediaType.IMAGE_JPEG.equals(contentType)
-                                || MediaType.IMAGE_PNG.equals(contentType)) {
-                            String encode = Base64.getEncoder().encodeToString(body);
-                            result.setBody(encode);
-                            responseDataType = ResponseDataType.IMAGE;
-
-                        } else if (BINARY_DATA_TYPES.contains(contentType.toString())) {
-                            String encode = Base64.getEncoder().encodeToString(body);
-                            result.setBody(encode);
-                            responseDataType = ResponseDataType.BINARY;
-                        } else {
-                            // If the body is not of JSON type, just set it as is.
-                            String bodyString = new String(body, StandardCharsets.UTF_8);
-                            result.setBody(bodyString.trim());
-                            responseDataType = ResponseDataType.TEXT;
-                        }
-
-                        // Now add a new header which specifies the data type of the response as per Appsmith
-                        JsonNode headersJsonNode = result.getHeaders();
-                        ObjectNode headersObjectNode = (ObjectNode) headersJsonNode;
-                        headersObjectNode.putArray(RESPONSE_DATA_TYPE).add(String.valueOf(responseDataType));
-                        result.setHeaders(headersObjectNode);
+                    /*
+                     * The body is read as it arrives, see ResponseBodyReader. Binary bodies are base64 encoded while
+                     * being read, everything else is read as bytes and converted once.
+                     */
+                    Flux<DataBuffer> body = clientResponse.bodyToFlux(DataBuffer.class);
+                    long contentLength = headers.getContentLength();
+                    Mono<ResponseDataType> bodyMono;
+                    if (MediaType.IMAGE_GIF.equals(contentType)
+                            || MediaType.IMAGE_JPEG.equals(contentType)
+                            || MediaType.IMAGE_PNG.equals(contentType)) {
+                        bodyMono = responseBodyReader
+                                .readBase64(body, contentLength)
+                                .map(encode -> {
+                                    result.setBody(encode);
+                                    return ResponseDataType.IMAGE;
+                                });
+                    } else if (BINARY_DATA_TYPES.contains(contentType.toString())) {
+                        bodyMono = responseBodyReader
+                                .readBase64(body, contentLength)
+                                .map(encode -> {
+                                    result.setBody(encode);
+                                    return ResponseDataType.BINARY;
+                                });
+                    } else {
+                        boolean isJson = contentType.includes(MediaType.APPLICATION_JSON);
+                        bodyMono = responseBodyReader
+                                .readBytes(body, contentLength)
+                                .map(bytes -> setBody(result, bytes, isJson, objectMapper, hintMessages));
                     }
 
-                    result.setMessages(hintMessages);
-                    return result;
+                    return bodyMono.doOnNext(responseDataType -> {
+                                // Now add a new header which specifies the data type of the response as per Appsmith
+                                JsonNode headersJsonNode = result.getHeaders();
+                                ObjectNode headersObjectNode = (ObjectNode) headersJsonNode;
+                                headersObjectNode.putArray(RESPONSE_DATA_TYPE).add(String.valueOf(responseDataType));
+                                result.setHeaders(headersObjectNode);
+                            })
+                            .then(Mono.fromSupplier(() -> {
+                                result.setMessages(hintMessages);
+                                return result;
+                            }));
                 });
     }
 
+    /**
+     * This method is used to set a body that was read as bytes on the result.
+     * @return The data type of the body.
+     */
+    private ResponseDataType setBody(
+            ActionExecutionResult result,
+            ResponseBodyReader.Body body,
+            boolean isJson,
+            ObjectMapper objectMapper,
+            Set<String> hintMessages) {
+        /**TODO
+         * Handle XML response. Currently we only handle JSON & Image responses. The other kind of responses
+         * are kept as is and returned as a string.
+         */
+        if (isJson) {
+            try {
+                // Parsed from the bytes directly, without decoding them into a String first
+                result.setBody(objectMapper.readTree(body.bytes(), 0, body.length()));
+                return ResponseDataType.JSON;
+            } catch (IOException e) {
+                log.debug("Unable to parse response JSON. Setting response body as string.", e);
+                result.setBody(body.asString(StandardCharsets.UTF_8).trim());
+
+                // Warn user that the API response is not a valid JSON.
+                hintMessages.add("The response returned by this API is not a valid JSON. Please "
+                        + "be careful when using the API response anywhere a valid JSON is required"
+                        + ". You may resolve this issue either by modifying the 'Content-Type' "
+                        + "Header to indicate a non-JSON response or by modifying the API response "
+                        + "to return a valid JSON.");
+                return ResponseDataType.UNDEFINED;
+            }
+        }
+
+        // If the body is not of JSON type, just set it as is.
+        result.setBody(body.asString(StandardCharsets.UTF_8).trim());
+        return ResponseDataType.TEXT;
+    }
+
     protected Mono<ClientResponse> httpCall(
             WebClient webClient, HttpMethod httpMethod, URI uri, Object requestBody, int iteration) {
         if (iteration == MAX_REDIRECTS) {
@@ -313,20 +352,7 @@ public class RestAPIActivateUtils {
     }
 
     protected HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
-        if (httpProtocol == null) {
-            httpProtocol = HttpProtocol.HTTP11;
-        }
-        // Initializing webClient to be used for http call
-        final ConnectionProvider provider = ConnectionProvider.builder("rest-api-provider")
-                .maxIdleTime(Duration.ofSeconds(600))
-                .maxLifeTime(Duration.ofSeconds(600))
-                .build();
-
-        HttpClient httpClient = HttpClient.create(provider)
-                .protocol(httpProtocol)
-                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
-                .compress(true);
-
-        return httpClient;
+        // Clients and their connection pools are shared by all executions against the same API
+        return httpClientRegistry.getHttpClient(datasourceConfiguration, httpProtocol);
     }
 }
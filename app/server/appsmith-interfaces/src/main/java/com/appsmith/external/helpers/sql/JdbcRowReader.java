@@ -0,0 +1,121 @@
+package com.appsmith.external.helpers.sql;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JdbcRowReader reads the rows of a JDBC ResultSet into SqlRows, for the plugins of JDBC databases.
+ *
+ * The plugin gives a ColumnReaderFactory, which is asked once per result set and column for the ColumnReader to use,
+ * based on the column metadata. Rows are then read without looking at the metadata again. When a size limit is given,
+ * reading stops as soon as the estimated size of the rows read so far goes over it, and the rows are marked with
+ * SqlRows.isSizeLimitExceeded, for the plugin to fail the execution.
+ */
+@Slf4j
+public class JdbcRowReader {
+
+    /**
+     * Number of rows fetched from the database per round trip, for the drivers that honour it.
+     */
+    public static final int DEFAULT_FETCH_SIZE = 500;
+
+    /**
+     * Reads the value of a column of the current row.
+     */
+    @FunctionalInterface
+    public interface ColumnReader {
+        Object read(ResultSet resultSet, int column) throws SQLException;
+    }
+
+    /**
+     * Returns the ColumnReader of a column, from its metadata.
+     */
+    @FunctionalInterface
+    public interface ColumnReaderFactory {
+        ColumnReader getColumnReader(ResultSetMetaData metaData, int column) throws SQLException;
+    }
+
+    public static final ColumnReader GET_OBJECT = ResultSet::getObject;
+
+    public static final ColumnReaderFactory GET_OBJECT_FACTORY = (metaData, column) -> GET_OBJECT;
+
+    private final ColumnReaderFactory columnReaderFactory;
+
+    private final long maxResponseSize;
+
+    /**
+     * @param columnReaderFactory Gives the ColumnReader of every column.
+     * @param maxResponseSize Maximum estimated size of the rows in bytes, -1 for no limit.
+     */
+    public JdbcRowReader(ColumnReaderFactory columnReaderFactory, long maxResponseSize) {
+        this.columnReaderFactory = columnReaderFactory;
+        this.maxResponseSize = maxResponseSize;
+    }
+
+    public JdbcRowReader(ColumnReaderFactory columnReaderFactory) {
+        this(columnReaderFactory, -1);
+    }
+
+    /**
+     * This method is used to wrap a ColumnReader so that it only gets called for non-null values, null being returned
+     * for the others.
+     */
+    public static ColumnReader nonNull(ColumnReader columnReader) {
+        return (resultSet, column) -> resultSet.getObject(column) == null ? null : columnReader.read(resultSet, column);
+    }
+
+    /**
+     * This method is used to set the fetch size of a statement before executing it, so that rows are fetched in batches
+     * as they are read instead of all at once, where the driver supports it.
+     */
+    public static void setFetchSize(Statement statement) {
+        try {
+            statement.setFetchSize(DEFAULT_FETCH_SIZE);
+        } catch (SQLException e) {
+            log.debug("Unable to set fetch size on statement, rows will be fetched as the driver chooses.", e);
+        }
+    }
+
+    /**
+     * This method is used to read all the rows of a result set, or as many as fit in the size limit.
+     */
+    public SqlRows read(ResultSet resultSet) throws SQLException {
+        SqlRows rows = new SqlRows();
+        readInto(rows, resultSet);
+        return rows;
+    }
+
+    /**
+     * This method is used to read the rows of a result set after the rows already read into the given SqlRows, with the
+     * size limit applying to all of them.
+     */
+    public void readInto(SqlRows rows, ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        List<String> columnNames = new ArrayList<>(columnCount);
+        ColumnReader[] columnReaders = new ColumnReader[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnNames.add(metaData.getColumnName(i + 1));
+            columnReaders[i] = columnReaderFactory.getColumnReader(metaData, i + 1);
+        }
+        rows.startResultSet(columnNames);
+
+        while (!rows.isSizeLimitExceeded() && resultSet.next()) {
+            Object[] values = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                values[i] = columnReaders[i].read(resultSet, i + 1);
+            }
+            rows.addRow(values);
+
+            if (rows.isEstimatedSizeOver(maxResponseSize)) {
+                rows.setSizeLimitExceeded(true);
+            }
+        }
+    }
+}
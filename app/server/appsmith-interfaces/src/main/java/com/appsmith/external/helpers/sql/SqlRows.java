@@ -0,0 +1,149 @@
+package com.appsmith.external.helpers.sql;
+
+import com.appsmith.external.helpers.ResponseSizeEstimator;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SqlRows holds the rows of a query result as arrays of values, with the column names kept once per result set instead
+ * of once per row in a map.
+ *
+ * It is a List of maps for the code that reads it as one, every row being turned into a LinkedHashMap when it is read.
+ * It serializes straight from the arrays though, so that objectMapper.valueToTree(rows) gives the same JSON as a list of
+ * LinkedHashMaps without building them: an array of objects, with the columns in result set order. As in a map, a column
+ * name that appears more than once keeps the position of its first column and the value of its last one.
+ */
+public class SqlRows extends AbstractList<Map<String, Object>> implements JsonSerializable {
+
+    private record Columns(String[] names, int[] valueIndexes, int firstRow, long rowOverhead) {}
+
+    private final List<Columns> columnsList = new ArrayList<>(1);
+
+    private final List<Object[]> rows = new ArrayList<>();
+
+    private final ResponseSizeEstimator sizeEstimator = new ResponseSizeEstimator();
+
+    private boolean sizeLimitExceeded;
+
+    /**
+     * This method is used to start a new result set, whose rows are added next with addRow.
+     * @param columnNames The names of the columns, in result set order.
+     */
+    public void startResultSet(List<String> columnNames) {
+        Map<String, Integer> lastIndexByName = new LinkedHashMap<>();
+        for (int i = 0; i < columnNames.size(); i++) {
+            // Like Map.put, keeps the position of the first column and the value of the last one
+            lastIndexByName.put(columnNames.get(i), i);
+        }
+
+        String[] names = lastIndexByName.keySet().toArray(new String[0]);
+        int[] valueIndexes =
+                lastIndexByName.values().stream().mapToInt(Integer::intValue).toArray();
+        // The field names and separators of every row, and the comma between rows
+        long rowOverhead = ResponseSizeEstimator.estimateObjectOverhead(lastIndexByName.keySet()) + 1;
+        columnsList.add(new Columns(names, valueIndexes, rows.size(), rowOverhead));
+    }
+
+    /**
+     * This method is used to add a row to the current result set, its size being added to the estimated size of the
+     * rows as it is.
+     * @param values The values of the row, one per column given to startResultSet.
+     */
+    public void addRow(Object[] values) {
+        if (columnsList.isEmpty()) {
+            throw new IllegalStateException("startResultSet must be called before adding rows");
+        }
+        Columns columns = columnsList.get(columnsList.size() - 1);
+        sizeEstimator.addBytes(columns.rowOverhead());
+        for (int valueIndex : columns.valueIndexes()) {
+            sizeEstimator.add(values[valueIndex]);
+        }
+        rows.add(values);
+    }
+
+    /**
+     * Returns the estimated size of the rows added so far once serialized to JSON, in bytes.
+     */
+    public long getEstimatedSize() {
+        return sizeEstimator.getSize();
+    }
+
+    /**
+     * Returns true when the estimated size of the rows is over the given limit, a negative limit meaning there is none.
+     */
+    public boolean isEstimatedSizeOver(long limit) {
+        return sizeEstimator.isOver(limit);
+    }
+
+    /**
+     * Returns true when rows stopped being read because they went over the size limit, in which case the rows are not
+     * the complete result.
+     */
+    public boolean isSizeLimitExceeded() {
+        return sizeLimitExceeded;
+    }
+
+    void setSizeLimitExceeded(boolean sizeLimitExceeded) {
+        this.sizeLimitExceeded = sizeLimitExceeded;
+    }
+
+    @Override
+    public Map<String, Object> get(int index) {
+        Object[] values = rows.get(index);
+        Columns columns = getColumns(index);
+        Map<String, Object> row = new LinkedHashMap<>(columns.names().length);
+        for (int i = 0; i < columns.names().length; i++) {
+            row.put(columns.names()[i], values[columns.valueIndexes()[i]]);
+        }
+        return row;
+    }
+
+    @Override
+    public int size() {
+        return rows.size();
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartArray(this, rows.size());
+        for (int c = 0; c < columnsList.size(); c++) {
+            Columns columns = columnsList.get(c);
+            int lastRow = c + 1 < columnsList.size() ? columnsList.get(c + 1).firstRow() : rows.size();
+            for (int r = columns.firstRow(); r < lastRow; r++) {
+                Object[] values = rows.get(r);
+                gen.writeStartObject();
+                for (int i = 0; i < columns.names().length; i++) {
+                    gen.writeFieldName(columns.names()[i]);
+                    serializers.defaultSerializeValue(values[columns.valueIndexes()[i]], gen);
+                }
+                gen.writeEndObject();
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        serialize(gen, serializers);
+    }
+
+    private Columns getColumns(int rowIndex) {
+        // Result sets are few, usually only one
+        for (int c = columnsList.size() - 1; c > 0; c--) {
+            if (columnsList.get(c).firstRow() <= rowIndex) {
+                return columnsList.get(c);
+            }
+        }
+        return columnsList.get(0);
+    }
+}
@@ -9,6 +9,8 @@ import lombok.Setter;
 import lombok.experimental.FieldNameConstants;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,4 +26,21 @@ public class DatasourceStorageStructure extends BaseDomain {
 
     @JsonView(Views.Internal.class)
     private DatasourceStructure structure;
+
+    // Hash of the structure, so that a structure that was discovered again without changes is not written again
+    @JsonView(Views.Internal.class)
+    private String structureHash;
+
+    // When the structure was last discovered, whether it changed or not
+    @JsonView(Views.Public.class)
+    private Instant refreshedAt;
+
+    // When the structure was last tried to be discovered, whether that worked or not. Structures are refreshed in the
+    // background in the order of this time, so that the ones that can't be discovered don't keep being picked first
+    @JsonView(Views.Internal.class)
+    private Instant refreshAttemptedAt;
+
+    // When the structure was last asked for, roughly. Only structures used recently are refreshed in the background
+    @JsonView(Views.Internal.class)
+    private Instant usedAt;
 }
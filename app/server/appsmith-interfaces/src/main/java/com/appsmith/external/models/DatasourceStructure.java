@@ -6,8 +6,10 @@ import com.google.gson.InstanceCreator;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Transient;
 
 import java.lang.reflect.Type;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 
@@ -175,6 +177,16 @@ public class DatasourceStructure {
 
     ErrorDTO error;
 
+    // Whether only some of the tables could be discovered, within the time budget of the discovery
+    Boolean isPartial;
+
+    // Whether the keys of the tables could not be discovered within the time budget, so the tables are without keys
+    Boolean isKeysPartial;
+
+    // When the structure was last discovered. Set when the stored structure is served, as it can be some time old
+    @Transient
+    Instant refreshedAt;
+
     public void setErrorInfo(Throwable error) {
         this.error = new ErrorDTO();
         this.error.setMessage(error.getMessage());
@@ -0,0 +1,58 @@
+package com.appsmith.external.models;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.util.CollectionUtils;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Options for discovering the structure of a datasource. Plugins that discover the tables of a datasource one by one
+ * use them through StructureDiscoveryUtils, others apply what their catalog queries allow.
+ */
+@Builder(toBuilder = true)
+@Getter
+@ToString
+public class StructureDiscoveryOptions {
+
+    public static final StructureDiscoveryOptions DEFAULT =
+            StructureDiscoveryOptions.builder().build();
+
+    /**
+     * Tables discovered at the same time.
+     */
+    @Builder.Default
+    int concurrency = 4;
+
+    /**
+     * Rows or documents sampled from a table, by plugins that infer its columns from its data.
+     */
+    @Builder.Default
+    int sampleSize = 10;
+
+    /**
+     * Time after which the discovery stops, and returns the tables discovered until then as a partial structure.
+     */
+    @Builder.Default
+    Duration timeBudget = Duration.ofSeconds(10);
+
+    /**
+     * Schemas to discover the tables of, all of them if empty.
+     */
+    Set<String> schemas;
+
+    /**
+     * Tables to discover, by the name they have in the structure, all of them if empty.
+     */
+    Set<String> tables;
+
+    public boolean includesSchema(String schema) {
+        return CollectionUtils.isEmpty(schemas) || schemas.contains(schema);
+    }
+
+    public boolean includesTable(String table) {
+        return CollectionUtils.isEmpty(tables) || tables.contains(table);
+    }
+}
@@ -50,7 +50,8 @@ public class BaseRestApiPluginExecutor implements PluginExecutor<APIConnection>,
         this.dataUtils = new DataUtils();
         this.smartSubstitutionUtils = new SmartSubstitutionUtils();
         this.uriUtils = new URIUtils();
-        this.restAPIActivateUtils = new RestAPIActivateUtils();
+        this.restAPIActivateUtils =
+                new RestAPIActivateUtils(sharedConfig.getHttpConnectionPoolSettings(), sharedConfig.getCodecSize());
         this.initUtils = new InitUtils();
         this.headerUtils = new HeaderUtils();
         this.datasourceUtils = new DatasourceUtils();
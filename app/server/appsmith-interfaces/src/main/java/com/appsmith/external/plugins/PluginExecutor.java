@@ -12,6 +12,7 @@ import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceStructure.Template;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Param;
+import com.appsmith.external.models.StructureDiscoveryOptions;
 import com.appsmith.external.models.TriggerRequestDTO;
 import com.appsmith.external.models.TriggerResultDTO;
 import io.micrometer.observation.ObservationRegistry;
@@ -219,6 +220,25 @@ public interface PluginExecutor<C> extends ExtensionPoint, CrudTemplateService {
         return this.getStructure(connection, datasourceConfiguration);
     }
 
+    /**
+     * This function fetches the structure of the tables/collections in the datasource, as allowed by the discovery
+     * options: only the schemas and tables they include, within their time budget. Plugins that can't apply the options
+     * fetch the whole structure instead, and the server treats it as such.
+     *
+     * @param connection
+     * @param datasourceConfiguration
+     * @param isMock
+     * @param options                 : Options for discovering the structure
+     * @return
+     */
+    default Mono<DatasourceStructure> getStructure(
+            C connection,
+            DatasourceConfiguration datasourceConfiguration,
+            Boolean isMock,
+            StructureDiscoveryOptions options) {
+        return this.getStructure(connection, datasourceConfiguration, isMock);
+    }
+
     /**
      * Appsmith Server calls this function for execution of the action.
      * Default implementation which takes the variables that need to be substituted and then calls the plugin execute function
@@ -0,0 +1,611 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.SortType;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.FloatNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * InMemoryFilterEngine applies UQI filter conditions, sorting and pagination to the rows of an ArrayNode, the same way
+ * as the in-memory database did, but without copying the rows into a table first.
+ *
+ * Every column the conditions or the sort refer to is converted once into a typed column, following the schema and the
+ * rules that were used to insert the rows into the database: a column of INTEGER type holds Integers, one of DATE type
+ * holds LocalDates, empty and incompatible values are nulls, and so on. Conditions are compiled into predicates over
+ * row numbers, with SQL semantics for nulls, and rows are sorted with nulls first in ascending order.
+ * The remaining columns are only converted for the rows that are returned.
+ */
+class InMemoryFilterEngine {
+
+    private static final Set<ConditionalOperator> IS_NULL_OPERATORS = Set.of(
+            ConditionalOperator.EQ,
+            ConditionalOperator.IN,
+            ConditionalOperator.CONTAINS,
+            ConditionalOperator.LTE,
+            ConditionalOperator.LT);
+
+    private static final Set<ConditionalOperator> IS_NOT_NULL_OPERATORS = Set.of(
+            ConditionalOperator.NOT_IN, ConditionalOperator.NOT_EQ, ConditionalOperator.GTE, ConditionalOperator.GT);
+
+    private static final Set<ConditionalOperator> COMPARISON_OPERATORS = Set.of(
+            ConditionalOperator.LT,
+            ConditionalOperator.LTE,
+            ConditionalOperator.EQ,
+            ConditionalOperator.NOT_EQ,
+            ConditionalOperator.GT,
+            ConditionalOperator.GTE);
+
+    /**
+     * Data types whose columns the database stored as typed values. Columns of any other data type hold strings.
+     */
+    private static final Set<DataType> TYPED_COLUMN_DATA_TYPES = Set.of(
+            DataType.INTEGER,
+            DataType.LONG,
+            DataType.FLOAT,
+            DataType.DOUBLE,
+            DataType.BOOLEAN,
+            DataType.DATE,
+            DataType.TIMESTAMP);
+
+    private static final Pattern DATE_PATTERN = Pattern.compile(
+            "\\s*(-?\\d{1,9})-(\\d{1,2})-(\\d{1,2})(?:[ T](\\d{1,2}):(\\d{1,2})(?::(\\d{1,2})(?:\\.(\\d{1,9}))?)?"
+                    + "(?:Z|[+-]\\d{1,2}(?::?\\d{2})?)?)?\\s*");
+
+    private final ArrayNode items;
+    private final Map<String, DataType> schema;
+    private final Map<DataType, DataType> dataTypeConversionMap;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Object[]> columns = new HashMap<>();
+
+    @FunctionalInterface
+    private interface RowPredicate {
+        boolean test(int row);
+    }
+
+    InMemoryFilterEngine(
+            ArrayNode items,
+            Map<String, DataType> schema,
+            Map<DataType, DataType> dataTypeConversionMap,
+            ObjectMapper objectMapper) {
+        this.items = items;
+        this.schema = schema;
+        this.dataTypeConversionMap = dataTypeConversionMap;
+        this.objectMapper = objectMapper;
+    }
+
+    ArrayNode filter(UQIDataFilterParams uqiDataFilterParams) {
+        List<String> outputColumns = getOutputColumns(uqiDataFilterParams.getProjectionColumns());
+
+        int[] rows = where(uqiDataFilterParams.getCondition());
+        rows = orderBy(rows, uqiDataFilterParams.getSortBy());
+        rows = limit(rows, uqiDataFilterParams.getPaginateBy());
+
+        ArrayNode result = objectMapper.createArrayNode();
+        for (int row : rows) {
+            ObjectNode rowNode = result.addObject();
+            for (String columnName : outputColumns) {
+                rowNode.set(columnName, toJsonNode(getValue(columnName, row)));
+            }
+        }
+        return result;
+    }
+
+    private List<String> getOutputColumns(List<String> projectionColumns) {
+        if (CollectionUtils.isEmpty(projectionColumns)) {
+            return new ArrayList<>(schema.keySet());
+        }
+        projectionColumns.forEach(this::checkColumn);
+        return projectionColumns;
+    }
+
+    private int[] where(Condition condition) {
+        RowPredicate predicate = null;
+        if (Condition.isValid(condition)) {
+            predicate = condition.getValue() instanceof List<?> conditions
+                    ? compileConditions((List<Condition>) conditions, condition.getOperator())
+                    : compileConditions(List.of(condition), ConditionalOperator.AND);
+        }
+
+        int size = items.size();
+        int[] rows = new int[size];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            if (predicate == null || predicate.test(row)) {
+                rows[count++] = row;
+            }
+        }
+        return count == size ? rows : Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Compiles a list of conditions joined by logicOp, skipping conditions without a column and groups without any
+     * condition, as the database query did.
+     * @return The predicate, or null when there is no condition left.
+     */
+    private RowPredicate compileConditions(List<Condition> conditions, ConditionalOperator logicOp) {
+        List<RowPredicate> predicates = new ArrayList<>();
+        for (Condition condition : conditions) {
+            ConditionalOperator operator = condition.getOperator();
+            RowPredicate predicate;
+            if (operator == ConditionalOperator.AND || operator == ConditionalOperator.OR) {
+                predicate = compileConditions((List<Condition>) condition.getValue(), operator);
+            } else if (StringUtils.isNotEmpty(condition.getPath())) {
+                predicate = compileCondition(condition.getPath(), operator, (String) condition.getValue());
+            } else {
+                predicate = null;
+            }
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+
+        if (predicates.isEmpty()) {
+            return null;
+        }
+        if (predicates.size() == 1) {
+            return predicates.get(0);
+        }
+        RowPredicate[] array = predicates.toArray(new RowPredicate[0]);
+        if (logicOp == ConditionalOperator.OR) {
+            return row -> {
+                for (RowPredicate predicate : array) {
+                    if (predicate.test(row)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+        return row -> {
+            for (RowPredicate predicate : array) {
+                if (!predicate.test(row)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Compiles a single condition. Comparisons with a null on either side are never true, which is the same as SQL
+     * as long as no condition is negated as a whole.
+     */
+    private RowPredicate compileCondition(String path, ConditionalOperator operator, String value) {
+        Object[] column = getColumn(path);
+        DataType dataType = schema.get(path);
+
+        if (StringUtils.isEmpty(value)) {
+            if (IS_NULL_OPERATORS.contains(operator)) {
+                return row -> column[row] == null;
+            }
+            if (IS_NOT_NULL_OPERATORS.contains(operator)) {
+                return row -> column[row] != null;
+            }
+            throw unsupportedOperator(operator);
+        }
+
+        if (operator == ConditionalOperator.CONTAINS) {
+            // The pattern is bound with the data type of the column, which fails for numbers and booleans
+            String pattern = "%" + value + "%";
+            Object boundPattern = FilterDataServiceCE.bindValue(
+                    pattern, FilterDataServiceCE.getValueDataType(pattern, dataType, null));
+            if (!(boundPattern instanceof String)) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                        "Filtering failure seen : Values of types \"" + dataType + "\" and \"STRING\" are not "
+                                + "comparable");
+            }
+            return row -> column[row] != null && toDatabaseString(column[row]).contains(value);
+        }
+
+        if (operator == ConditionalOperator.IN || operator == ConditionalOperator.NOT_IN) {
+            List<Object> arrayValues;
+            try {
+                arrayValues = objectMapper.readValue(value, List.class);
+            } catch (IOException e) {
+                arrayValues = null;
+            }
+            if (arrayValues == null) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        value + " could not be parsed into an array");
+            }
+            Operand[] candidates = arrayValues.stream()
+                    .map(arrayValue -> bindConditionValue(String.valueOf(arrayValue), dataType))
+                    .toArray(Operand[]::new);
+
+            if (operator == ConditionalOperator.IN) {
+                return row -> Boolean.TRUE.equals(in(column[row], candidates));
+            }
+            return row -> Boolean.FALSE.equals(in(column[row], candidates));
+        }
+
+        if (!COMPARISON_OPERATORS.contains(operator)) {
+            throw unsupportedOperator(operator);
+        }
+
+        Operand operand = bindConditionValue(value, dataType);
+        if (operand.isNull()) {
+            return row -> false;
+        }
+        return switch (operator) {
+            case LT -> row -> column[row] != null && compare(column[row], operand.get()) < 0;
+            case LTE -> row -> column[row] != null && compare(column[row], operand.get()) <= 0;
+            case EQ -> row -> column[row] != null && compare(column[row], operand.get()) == 0;
+            case NOT_EQ -> row -> column[row] != null && compare(column[row], operand.get()) != 0;
+            case GT -> row -> column[row] != null && compare(column[row], operand.get()) > 0;
+            default -> row -> column[row] != null && compare(column[row], operand.get()) >= 0;
+        };
+    }
+
+    /**
+     * Evaluates value IN (candidates) with SQL semantics, comparing the candidates in order.
+     * @return TRUE or FALSE, or null when there is no match and a candidate or the value is null.
+     */
+    private static Boolean in(Object value, Operand[] candidates) {
+        if (candidates.length == 0) {
+            return Boolean.FALSE;
+        }
+        if (value == null) {
+            return null;
+        }
+        boolean hasNull = false;
+        for (Operand candidate : candidates) {
+            if (candidate.isNull()) {
+                hasNull = true;
+            } else if (compare(value, candidate.get()) == 0) {
+                return Boolean.TRUE;
+            }
+        }
+        return hasNull ? null : Boolean.FALSE;
+    }
+
+    private static AppsmithPluginException unsupportedOperator(ConditionalOperator operator) {
+        return new AppsmithPluginException(
+                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                operator + " is not supported currently for filtering.");
+    }
+
+    /**
+     * A condition value converted to the type of its column. The database only converted a value when comparing it
+     * with a row, so a value that cannot be converted only fails the filter once it is compared.
+     */
+    private static class Operand {
+
+        private final Object boundValue;
+        private final DataType columnDataType;
+        private Object value;
+        private boolean converted;
+
+        Operand(Object boundValue, DataType columnDataType) {
+            this.boundValue = boundValue;
+            this.columnDataType = columnDataType;
+        }
+
+        boolean isNull() {
+            return boundValue == null;
+        }
+
+        Object get() {
+            if (!converted) {
+                value = toColumnType(boundValue, columnDataType, "Filtering failure seen : ");
+                converted = true;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Binds a condition value the way it was bound to the database query, that is with the data type of its column and
+     * without the dataTypeConversionMap. Values that cannot be bound fail right away.
+     */
+    private Operand bindConditionValue(String value, DataType columnDataType) {
+        DataType dataType = FilterDataServiceCE.getValueDataType(value, columnDataType, null);
+        return new Operand(FilterDataServiceCE.bindValue(value, dataType), columnDataType);
+    }
+
+    private int[] orderBy(int[] rows, List<Map<String, String>> sortBy) {
+        if (CollectionUtils.isEmpty(sortBy)) {
+            return rows;
+        }
+
+        Comparator<Integer> comparator = null;
+        for (Map<String, String> sortCondition : sortBy) {
+            String columnName = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
+            if (isBlank(columnName)) {
+                continue;
+            }
+            SortType sortType;
+            try {
+                sortType = SortType.valueOf(sortCondition.get(SORT_BY_TYPE_KEY).toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_ERROR,
+                        "Appsmith server failed "
+                                + "to parse the type of sort condition. Please reach out to Appsmith customer support "
+                                + "to resolve this.");
+            }
+
+            Object[] column = getColumn(columnName);
+            // Nulls are the smallest values, as in the database
+            Comparator<Integer> columnComparator = (a, b) -> {
+                Object first = column[a];
+                Object second = column[b];
+                if (first == null || second == null) {
+                    return first == second ? 0 : first == null ? -1 : 1;
+                }
+                return compare(first, second);
+            };
+            if (sortType == SortType.DESCENDING) {
+                columnComparator = columnComparator.reversed();
+            }
+            comparator = comparator == null ? columnComparator : comparator.thenComparing(columnComparator);
+        }
+
+        if (comparator == null) {
+            return rows;
+        }
+        Integer[] boxedRows = Arrays.stream(rows).boxed().toArray(Integer[]::new);
+        // Stable, so rows that compare equal keep their original order
+        Arrays.sort(boxedRows, comparator);
+        return Arrays.stream(boxedRows).mapToInt(Integer::intValue).toArray();
+    }
+
+    private int[] limit(int[] rows, Map<String, String> paginateBy) {
+        if (CollectionUtils.isEmpty(paginateBy)) {
+            return rows;
+        }
+
+        String limit = paginateBy.get(PAGINATE_LIMIT_KEY);
+        if (isBlank(limit)) {
+            limit = "20";
+        }
+        String offset = paginateBy.get(PAGINATE_OFFSET_KEY);
+        if (isBlank(offset)) {
+            offset = "0";
+        }
+
+        int limitValue = toPaginationValue(limit, "FETCH");
+        int offsetValue = toPaginationValue(offset, "OFFSET");
+        if (offsetValue >= rows.length) {
+            return new int[0];
+        }
+        return Arrays.copyOfRange(rows, offsetValue, (int) Math.min(rows.length, (long) offsetValue + limitValue));
+    }
+
+    private static int toPaginationValue(String value, String parameter) {
+        Integer paginationValue = (Integer) FilterDataServiceCE.bindValue(
+                value, FilterDataServiceCE.getValueDataType(value, DataType.INTEGER, null));
+        if (paginationValue == null || paginationValue < 0) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Filtering failure seen : Invalid value \"" + (paginationValue == null ? "NULL" : paginationValue)
+                            + "\" for parameter \"result " + parameter + "\"");
+        }
+        return paginationValue;
+    }
+
+    private void checkColumn(String columnName) {
+        if (!schema.containsKey(columnName)) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Filtering failure seen : Column \"" + columnName + "\" not found");
+        }
+    }
+
+    /**
+     * Returns the typed values of a column for all rows, converting them on first use.
+     */
+    private Object[] getColumn(String columnName) {
+        checkColumn(columnName);
+        return columns.computeIfAbsent(columnName, name -> {
+            Object[] column = new Object[items.size()];
+            for (int row = 0; row < column.length; row++) {
+                column[row] = readValue(name, row);
+            }
+            return column;
+        });
+    }
+
+    private Object getValue(String columnName, int row) {
+        Object[] column = columns.get(columnName);
+        return column != null ? column[row] : readValue(columnName, row);
+    }
+
+    /**
+     * Converts the value of a row the way it was inserted into the database, that is bound with the data type of its
+     * column after the dataTypeConversionMap, and then stored with the data type of the column.
+     */
+    private Object readValue(String columnName, int row) {
+        JsonNode fieldNode = items.get(row).get(columnName);
+        String value = fieldNode == null ? "" : fieldNode.asText();
+        DataType columnDataType = schema.get(columnName);
+
+        DataType dataType = FilterDataServiceCE.getValueDataType(value, columnDataType, dataTypeConversionMap);
+        Object boundValue = FilterDataServiceCE.bindValue(value, dataType);
+        return boundValue == null ? null : toColumnType(boundValue, columnDataType, "Error in ingesting the data : ");
+    }
+
+    private static boolean isStringColumn(DataType dataType) {
+        return !TYPED_COLUMN_DATA_TYPES.contains(dataType);
+    }
+
+    /**
+     * Converts a bound value to the type the database stores for a column of the given data type.
+     */
+    private static Object toColumnType(Object value, DataType columnDataType, String errorPrefix) {
+        try {
+            DataType storedType = isStringColumn(columnDataType) ? DataType.STRING : columnDataType;
+            return switch (storedType) {
+                case INTEGER -> value instanceof Integer
+                        ? value
+                        : Integer.valueOf(toBigDecimal(value)
+                                .setScale(0, RoundingMode.HALF_UP)
+                                .intValueExact());
+                case LONG -> value instanceof Long
+                        ? value
+                        : Long.valueOf(toBigDecimal(value)
+                                .setScale(0, RoundingMode.HALF_UP)
+                                .longValueExact());
+                case FLOAT -> value instanceof Float
+                        ? value
+                        : Float.valueOf(toBigDecimal(value).floatValue());
+                case DOUBLE -> value instanceof Double
+                        ? value
+                        : Double.valueOf(toBigDecimal(value).doubleValue());
+                case BOOLEAN -> value instanceof Boolean ? value : toBoolean(value);
+                case DATE -> parseDateTime(value).toLocalDate();
+                case TIMESTAMP -> parseDateTime(value);
+                default -> value instanceof BigDecimal bigDecimal
+                        ? bigDecimal.toPlainString()
+                        : value instanceof Boolean bool ? (bool ? "TRUE" : "FALSE") : value.toString();
+            };
+        } catch (ArithmeticException | IllegalArgumentException | DateTimeException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    errorPrefix + "Data conversion error converting \"" + value + "\" to " + columnDataType);
+        }
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value instanceof BigDecimal bigDecimal) {
+            return bigDecimal;
+        }
+        if (value instanceof Boolean bool) {
+            return bool ? BigDecimal.ONE : BigDecimal.ZERO;
+        }
+        return new BigDecimal(value.toString().trim());
+    }
+
+    private static Boolean toBoolean(Object value) {
+        if (value instanceof BigDecimal bigDecimal) {
+            return bigDecimal.signum() != 0;
+        }
+        String string = value.toString().trim().toLowerCase();
+        return switch (string) {
+            case "true", "t", "yes", "y", "1" -> Boolean.TRUE;
+            case "false", "f", "no", "n", "0" -> Boolean.FALSE;
+            default -> throw new IllegalArgumentException(string);
+        };
+    }
+
+    /**
+     * Parses a date or a timestamp as leniently as the database did, e.g. "2021-9-1" or "2021-09-01T10:15:30.5Z".
+     * The zone of a timestamp is ignored.
+     */
+    private static LocalDateTime parseDateTime(Object value) {
+        if (!(value instanceof String)) {
+            throw new IllegalArgumentException(String.valueOf(value));
+        }
+        Matcher matcher = DATE_PATTERN.matcher((String) value);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException((String) value);
+        }
+        LocalDate date = LocalDate.of(
+                Integer.parseInt(matcher.group(1)),
+                Integer.parseInt(matcher.group(2)),
+                Integer.parseInt(matcher.group(3)));
+        if (matcher.group(4) == null) {
+            return date.atStartOfDay();
+        }
+        String fraction = matcher.group(7) == null ? "" : matcher.group(7);
+        LocalTime time = LocalTime.of(
+                Integer.parseInt(matcher.group(4)),
+                Integer.parseInt(matcher.group(5)),
+                matcher.group(6) == null ? 0 : Integer.parseInt(matcher.group(6)),
+                fraction.isEmpty() ? 0 : Integer.parseInt(StringUtils.rightPad(fraction, 9, '0')));
+        return date.atTime(time);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object first, Object second) {
+        return ((Comparable) first).compareTo(second);
+    }
+
+    /**
+     * Returns the text of a value as the database casts it to a string, which is what CONTAINS matches against.
+     */
+    private static String toDatabaseString(Object value) {
+        if (value instanceof LocalDateTime dateTime) {
+            String text = dateTime.toLocalDate() + " "
+                    + String.format("%02d:%02d:%02d", dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond());
+            if (dateTime.getNano() == 0) {
+                return text;
+            }
+            return text + "." + StringUtils.stripEnd(String.format("%09d", dateTime.getNano()), "0");
+        }
+        return value.toString();
+    }
+
+    /**
+     * Returns the JSON node of a value, the same as the database result was serialized: nulls are empty strings and
+     * dates and timestamps are epoch milliseconds in the default time zone.
+     */
+    private static JsonNode toJsonNode(Object value) {
+        if (value == null) {
+            return TextNode.valueOf("");
+        }
+        if (value instanceof String string) {
+            return TextNode.valueOf(string);
+        }
+        if (value instanceof Integer integer) {
+            return IntNode.valueOf(integer);
+        }
+        if (value instanceof Long longValue) {
+            return LongNode.valueOf(longValue);
+        }
+        if (value instanceof Float floatValue) {
+            return FloatNode.valueOf(floatValue);
+        }
+        if (value instanceof Double doubleValue) {
+            return DoubleNode.valueOf(doubleValue);
+        }
+        if (value instanceof Boolean bool) {
+            return BooleanNode.valueOf(bool);
+        }
+        if (value instanceof LocalDate date) {
+            return LongNode.valueOf(java.sql.Date.valueOf(date).getTime());
+        }
+        return LongNode.valueOf(Timestamp.valueOf((LocalDateTime) value).getTime());
+    }
+}
@@ -1,5 +1,7 @@
 package com.appsmith.external.services.ce;
 
+import com.appsmith.external.helpers.restApiUtils.helpers.HttpClientRegistry;
+
 public interface SharedConfigCE {
 
     int getCodecSize();
@@ -11,4 +13,8 @@ public interface SharedConfigCE {
     default String getAIProxyBasePathUrl() {
         return "";
     }
+
+    default HttpClientRegistry.Settings getHttpConnectionPoolSettings() {
+        return HttpClientRegistry.Settings.DEFAULT;
+    }
 }
@@ -0,0 +1,125 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonJavaScriptWithScope;
+import org.bson.BsonMaxKey;
+import org.bson.BsonMinKey;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonTimestamp;
+import org.bson.BsonUndefined;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BsonJsonNodeReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static ObjectNode read(Document document) {
+        return BsonJsonNodeReader.read(RawBsonDocument.parse(document.toJson()));
+    }
+
+    @Test
+    public void read_SimplifiedTypes_ReadAsDisplayed() throws Exception {
+        ObjectId objectId = new ObjectId("5f7b1c1e8e4b0c1a2b3c4d5e");
+        Document document = new Document()
+                .append("_id", objectId)
+                .append("name", "Alden Cantrell")
+                .append("age", 30)
+                .append("views", 5_000_000_000L)
+                .append("small", 7L)
+                .append("score", 4.5)
+                .append("whole", 5.0)
+                .append("large", 1.0e10)
+                .append("netWorth", new Decimal128(new BigDecimal("123456.789012")))
+                .append("price", new Decimal128(new BigDecimal("150.00")))
+                .append("dob", new Date(1546214400000L))
+                .append("beforeEpoch", new Date(-86400000L))
+                .append("active", true)
+                .append("nothing", null)
+                .append("tags", List.of("a", new Document("ref", objectId)));
+
+        ObjectNode node = BsonJsonNodeReader.read(new RawBsonDocument(document, new DocumentCodec()));
+
+        assertThat(node)
+                .isEqualTo(objectMapper.readTree(
+                        """
+                        {
+                          "_id": "5f7b1c1e8e4b0c1a2b3c4d5e",
+                          "name": "Alden Cantrell",
+                          "age": 30,
+                          "views": 5000000000,
+                          "small": 7,
+                          "score": 4.5,
+                          "whole": 5,
+                          "large": 1.0E10,
+                          "netWorth": 123456.789012,
+                          "price": 150,
+                          "dob": "2018-12-31T00:00:00Z",
+                          "beforeEpoch": "1969-12-31T00:00:00Z",
+                          "active": true,
+                          "nothing": null,
+                          "tags": ["a", {"ref": "5f7b1c1e8e4b0c1a2b3c4d5e"}]
+                        }
+                        """));
+        assertThat(node.get("netWorth").toString()).isEqualTo("123456.789012");
+    }
+
+    @Test
+    public void read_OtherTypes_KeepRelaxedExtendedJson() throws Exception {
+        BsonDocument document = new BsonDocument()
+                .append("binary", new BsonBinary(new byte[] {1, 2, 3}))
+                .append("regex", new BsonRegularExpression("^a", "i"))
+                .append("timestamp", new BsonTimestamp(1700000000, 1))
+                .append("undefined", new BsonUndefined())
+                .append("code", new BsonJavaScriptWithScope("x + y", BsonDocument.parse("{\"x\": 1}")))
+                .append("notANumber", new BsonDouble(Double.NaN))
+                .append("min", new BsonMinKey())
+                .append("max", new BsonMaxKey());
+
+        JsonNode node = BsonJsonNodeReader.read(document);
+
+        assertThat(node)
+                .isEqualTo(objectMapper.readTree(
+                        """
+                        {
+                          "binary": {"$binary": {"base64": "AQID", "subType": "00"}},
+                          "regex": {"$regularExpression": {"pattern": "^a", "options": "i"}},
+                          "timestamp": {"$timestamp": {"t": 1700000000, "i": 1}},
+                          "undefined": {"$undefined": true},
+                          "code": {"$code": "x + y", "$scope": {"x": 1}},
+                          "notANumber": {"$numberDouble": "NaN"},
+                          "min": {"$minKey": 1},
+                          "max": {"$maxKey": 1}
+                        }
+                        """));
+    }
+
+    @Test
+    public void read_CommandOutput_KeepsFieldOrder() {
+        Document output = new Document()
+                .append("cursor", new Document("firstBatch", List.of(new Document("b", 1).append("a", 2))))
+                .append("ok", 1.0);
+
+        ObjectNode node = read(output);
+
+        assertThat(node.get("cursor").get("firstBatch").get(0).fieldNames())
+                .toIterable()
+                .containsExactly("b", "a");
+        assertThat(node.get("ok").bigIntegerValue()).isEqualTo(1);
+    }
+}
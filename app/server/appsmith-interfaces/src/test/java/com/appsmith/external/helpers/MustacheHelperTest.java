@@ -522,6 +522,60 @@ public class MustacheHelperTest {
         assertThat(configuration.getBody()).isEqualTo("outside {\"more\": \"json\"} outside");
     }
 
+    @Test
+    public void renderFieldValues_RendersNestedListsAndMaps() {
+        ActionConfiguration configuration = new ActionConfiguration();
+        configuration.setBody("{\"id\": {{ Table1.selectedRow.id }}}");
+        configuration.setPath("/users?name=a &amp; b");
+        configuration.setTimeoutInMillisecond("1000");
+        Property header = new Property("Authorization", "Bearer {{ token }}");
+        List<Property> headers = List.of(header, new Property("Accept", "application/json"));
+        configuration.setHeaders(headers);
+        Map<String, Object> formData = new HashMap<>();
+        formData.put("command", Map.of("data", "LIST"));
+        formData.put("where", Map.of("data", List.of("plain", "{{ Input1.text }}")));
+        formData.put("limit", 10);
+        configuration.setFormData(formData);
+
+        renderFieldValues(
+                configuration,
+                Map.of(
+                        "Table1.selectedRow.id", "42",
+                        "token", "secret",
+                        "Input1.text", "typed"));
+
+        assertThat(configuration.getBody()).isEqualTo("{\"id\": 42}");
+        // Strings without bindings are still unescaped, as before
+        assertThat(configuration.getPath()).isEqualTo("/users?name=a & b");
+        assertThat(configuration.getTimeoutInMillisecond()).isEqualTo(1000);
+        // Models in lists are rendered in place, so the list itself does not change
+        assertThat(configuration.getHeaders()).isSameAs(headers);
+        assertThat(header.getValue()).isEqualTo("Bearer secret");
+        assertThat(configuration.getFormData())
+                .isEqualTo(Map.of(
+                        "command", Map.of("data", "LIST"),
+                        "where", Map.of("data", List.of("plain", "typed")),
+                        "limit", 10));
+    }
+
+    @Test
+    public void renderFieldValues_WithoutBindings_ReturnsSameValues() {
+        List<Object> list = List.of("plain", Map.of("key", "value"), 1);
+        assertThat(renderFieldValues(list, Map.of("key", "rendered"))).isSameAs(list);
+
+        Map<String, Object> map = Map.of("list", list, "text", "no {bindings} here");
+        assertThat(renderFieldValues(map, Map.of("key", "rendered"))).isSameAs(map);
+
+        // Only the map holding a binding is copied, the list without any is shared with the result
+        Map<String, Object> boundMap = Map.of("list", list, "text", "{{key}}");
+        Map<String, Object> renderedMap = renderFieldValues(boundMap, Map.of("key", "rendered"));
+        assertThat(renderedMap).isNotSameAs(boundMap).containsEntry("text", "rendered");
+        assertThat(renderedMap.get("list")).isSameAs(list);
+
+        String text = "no bindings";
+        assertThat(render(text, Map.of())).isSameAs(text);
+    }
+
     @Test
     public void renderSingleKey() {
         final String rendered = render("{{key1}}", Map.of("key1", "value1"));
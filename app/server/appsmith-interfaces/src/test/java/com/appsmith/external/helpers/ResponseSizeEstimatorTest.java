@@ -0,0 +1,79 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.helpers.sql.SqlRows;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResponseSizeEstimatorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private long jsonLength(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value).length();
+    }
+
+    @Test
+    public void testExactSizeOfTextBinaryAndJsonValues() throws Exception {
+        JsonNode node = objectMapper.readTree(
+                "{\"name\": \"Ana\", \"tags\": [\"a\", \"b\"], \"address\": {\"city\": \"Paris\"}, \"active\": true, \"manager\": null}");
+        List<Object> values = List.of(
+                "", "hello world", new byte[] {1, 2, 3, 4, 5}, node, new Object[] {"a", "bc"}, Map.of("key", "value"));
+
+        for (Object value : values) {
+            assertEquals(jsonLength(value), ResponseSizeEstimator.estimate(value), String.valueOf(value));
+        }
+        assertEquals(jsonLength(null), ResponseSizeEstimator.estimate(null));
+        assertEquals(jsonLength(true), ResponseSizeEstimator.estimate(true));
+        assertEquals(jsonLength(false), ResponseSizeEstimator.estimate(false));
+    }
+
+    @Test
+    public void testNumbersAndDatesAreNotUnderestimated() throws Exception {
+        List<Object> values = List.of(
+                Integer.MIN_VALUE,
+                Long.MIN_VALUE,
+                -Double.MAX_VALUE,
+                new BigDecimal("-12345.678"),
+                new int[] {Integer.MIN_VALUE, 1},
+                objectMapper.readTree("[-2147483648, 1.5e300]"));
+
+        for (Object value : values) {
+            assertTrue(ResponseSizeEstimator.estimate(value) >= jsonLength(value), String.valueOf(value));
+        }
+        assertTrue(ResponseSizeEstimator.estimate(LocalDate.of(2024, 1, 31)) >= "\"2024-01-31\"".length());
+    }
+
+    @Test
+    public void testRunningSize() {
+        ResponseSizeEstimator estimator = new ResponseSizeEstimator();
+        assertFalse(estimator.isOver(-1));
+
+        assertEquals(5, estimator.add("abc"));
+        estimator.addBytes(10);
+        assertEquals(15, estimator.getSize());
+        assertFalse(estimator.isOver(15));
+        assertTrue(estimator.isOver(14));
+        assertFalse(estimator.isOver(-1));
+    }
+
+    @Test
+    public void testSqlRowsSizeMatchesSerializedSize() throws Exception {
+        SqlRows rows = new SqlRows();
+        rows.startResultSet(List.of("id", "name", "notes"));
+        rows.addRow(new Object[] {"1", "Ana", null});
+        rows.addRow(new Object[] {"2", "Bob", "left early"});
+
+        // The brackets of the array are not counted, a comma after every row is
+        assertEquals(jsonLength(rows), rows.getEstimatedSize() + 1);
+    }
+}
@@ -0,0 +1,149 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.external.models.StructureDiscoveryOptions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StructureDiscoveryUtilsTest {
+
+    private static DatasourceStructure.Table table(String name) {
+        return new DatasourceStructure.Table(
+                DatasourceStructure.TableType.TABLE,
+                "public",
+                name,
+                new ArrayList<>(),
+                new ArrayList<>(),
+                new ArrayList<>());
+    }
+
+    private static List<String> tableNames(DatasourceStructure structure) {
+        return structure.getTables().stream()
+                .map(DatasourceStructure.Table::getName)
+                .toList();
+    }
+
+    @Test
+    public void discoverTables_WithConcurrency_DiscoversAtMostThatManyAtOnceInOrder() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        StructureDiscoveryOptions options =
+                StructureDiscoveryOptions.builder().concurrency(2).build();
+
+        Mono<DatasourceStructure> structureMono = StructureDiscoveryUtils.discoverTables(
+                Flux.just("a", "b", "c", "d", "e"),
+                name -> Mono.fromCallable(() -> {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            return table(name);
+                        })
+                        // Tables that come first take longer, so that they are discovered last
+                        .delayElement(Duration.ofMillis(("e".charAt(0) - name.charAt(0)) * 20L))
+                        .doOnNext(table -> running.decrementAndGet()),
+                options);
+
+        StepVerifier.create(structureMono)
+                .assertNext(structure -> {
+                    assertThat(tableNames(structure)).containsExactly("a", "b", "c", "d", "e");
+                    assertThat(structure.getIsPartial()).isNull();
+                    assertThat(maxRunning.get()).isEqualTo(2);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void discoverTables_WithTablesOption_DiscoversOnlyThoseTables() {
+        List<String> discovered = new ArrayList<>();
+        StructureDiscoveryOptions options =
+                StructureDiscoveryOptions.builder().tables(Set.of("b", "d")).build();
+
+        Mono<DatasourceStructure> structureMono = StructureDiscoveryUtils.discoverTables(
+                Flux.just("a", "b", "c", "d"),
+                name -> Mono.fromCallable(() -> {
+                    discovered.add(name);
+                    return table(name);
+                }),
+                options);
+
+        StepVerifier.create(structureMono)
+                .assertNext(structure -> assertThat(tableNames(structure)).containsExactly("b", "d"))
+                .verifyComplete();
+        assertThat(discovered).containsExactlyInAnyOrder("b", "d");
+    }
+
+    @Test
+    public void discoverTables_WhenTimeBudgetRunsOut_ReturnsPartialStructure() {
+        StructureDiscoveryOptions options = StructureDiscoveryOptions.builder()
+                .concurrency(1)
+                .timeBudget(Duration.ofMillis(300))
+                .build();
+
+        Mono<DatasourceStructure> structureMono = StructureDiscoveryUtils.discoverTables(
+                Flux.just("a", "b", "c"),
+                name -> "c".equals(name) ? Mono.never() : Mono.just(table(name)),
+                options);
+
+        StepVerifier.create(structureMono)
+                .assertNext(structure -> {
+                    assertThat(tableNames(structure)).containsExactly("a", "b");
+                    assertThat(structure.getIsPartial()).isTrue();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void mergeTables_WithTablesOption_ReplacesAndRemovesOnlyThoseTables() {
+        DatasourceStructure structure = new DatasourceStructure(List.of(table("a"), table("b"), table("c")));
+        DatasourceStructure.Table newB = table("b");
+        newB.getColumns().add(new DatasourceStructure.Column("id", "int4", null, false));
+        DatasourceStructure discovered = new DatasourceStructure(List.of(newB));
+        StructureDiscoveryOptions options =
+                StructureDiscoveryOptions.builder().tables(Set.of("b", "c")).build();
+
+        DatasourceStructure merged = StructureDiscoveryUtils.mergeTables(structure, discovered, options);
+
+        assertThat(tableNames(merged)).containsExactly("a", "b");
+        assertThat(merged.getTables().get(1)).isSameAs(newB);
+    }
+
+    @Test
+    public void mergeTables_WithPartialDiscovery_KeepsTablesLeftOut() {
+        DatasourceStructure structure = new DatasourceStructure(List.of(table("a"), table("b"), table("c")));
+        DatasourceStructure discovered = new DatasourceStructure(List.of(table("a"), table("d")));
+        discovered.setIsPartial(true);
+
+        DatasourceStructure merged =
+                StructureDiscoveryUtils.mergeTables(structure, discovered, StructureDiscoveryOptions.DEFAULT);
+
+        assertThat(tableNames(merged)).containsExactly("a", "b", "c", "d");
+        assertThat(merged.getIsPartial()).isTrue();
+    }
+
+    @Test
+    public void mergeTables_WithKeysLeftOut_KeepsCachedKeys() {
+        DatasourceStructure.Table cachedA = table("a");
+        cachedA.getKeys().add(new DatasourceStructure.PrimaryKey("a_pkey", List.of("id")));
+        DatasourceStructure structure = new DatasourceStructure(List.of(cachedA, table("b")));
+        DatasourceStructure.Table newA = table("a");
+        newA.getColumns().add(new DatasourceStructure.Column("id", "int4", null, false));
+        DatasourceStructure discovered = new DatasourceStructure(List.of(newA, table("b")));
+        discovered.setIsKeysPartial(true);
+
+        DatasourceStructure merged =
+                StructureDiscoveryUtils.mergeTables(structure, discovered, StructureDiscoveryOptions.DEFAULT);
+
+        assertThat(tableNames(merged)).containsExactly("a", "b");
+        assertThat(merged.getTables().get(0).getColumns()).hasSize(1);
+        assertThat(merged.getTables().get(0).getKeys()).isEqualTo(cachedA.getKeys());
+        assertThat(merged.getIsKeysPartial()).isTrue();
+    }
+}
@@ -0,0 +1,65 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.models.DatasourceConfiguration;
+import org.junit.jupiter.api.Test;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class HttpClientRegistryTest {
+
+    private static DatasourceConfiguration datasource(String url) {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl(url);
+        return datasourceConfiguration;
+    }
+
+    @Test
+    public void testSameOriginSharesClient() {
+        HttpClientRegistry registry = new HttpClientRegistry(HttpClientRegistry.Settings.DEFAULT);
+
+        HttpClient client = registry.getHttpClient(datasource("https://api.example.com/v1/users"), null);
+        assertSame(client, registry.getHttpClient(datasource("https://API.example.com/v2/orders"), null));
+        assertSame(client, registry.getHttpClient(datasource("https://api.example.com"), HttpProtocol.HTTP11));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    public void testPoolKeyParts() {
+        HttpClientRegistry registry = new HttpClientRegistry(HttpClientRegistry.Settings.DEFAULT);
+
+        HttpClient client = registry.getHttpClient(datasource("https://api.example.com"), null);
+        assertNotSame(client, registry.getHttpClient(datasource("https://other.example.com"), null));
+        assertNotSame(client, registry.getHttpClient(datasource("http://api.example.com"), null));
+        assertNotSame(client, registry.getHttpClient(datasource("https://api.example.com:8443"), null));
+        assertNotSame(client, registry.getHttpClient(datasource("https://api.example.com"), HttpProtocol.H2));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedPoolIsDropped() {
+        HttpClientRegistry registry = new HttpClientRegistry(new HttpClientRegistry.Settings(
+                2, 10, 10, Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(1)));
+
+        HttpClient first = registry.getHttpClient(datasource("https://one.example.com"), null);
+        registry.getHttpClient(datasource("https://two.example.com"), null);
+        // Using the first one again makes the second one the least recently used
+        registry.getHttpClient(datasource("https://one.example.com"), null);
+        registry.getHttpClient(datasource("https://three.example.com"), null);
+
+        assertEquals(2, registry.size());
+        assertSame(first, registry.getHttpClient(datasource("https://one.example.com"), null));
+    }
+
+    @Test
+    public void testInvalidUrlSharesFallbackPool() {
+        HttpClientRegistry registry = new HttpClientRegistry(HttpClientRegistry.Settings.DEFAULT);
+
+        HttpClient client = registry.getHttpClient(datasource("{{ Api1.url }}"), null);
+        assertSame(client, registry.getHttpClient(datasource(null), null));
+    }
+}
@@ -0,0 +1,150 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResponseBodyReaderTest {
+
+    private static Flux<DataBuffer> chunks(byte[] bytes, int chunkSize) {
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                    Arrays.copyOfRange(bytes, i, Math.min(bytes.length, i + chunkSize))));
+        }
+        return Flux.fromIterable(buffers);
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 31 + 7);
+        }
+        return bytes;
+    }
+
+    @Test
+    public void testReadBytesWithAndWithoutContentLength() {
+        ResponseBodyReader reader = new ResponseBodyReader(-1);
+        byte[] json = "{\"users\":[{\"id\":1,\"name\":\"Ünïcödé\"},{\"id\":2}]}".getBytes(StandardCharsets.UTF_8);
+
+        for (long contentLength : new long[] {json.length, -1}) {
+            StepVerifier.create(reader.readBytes(chunks(json, 5), contentLength))
+                    .assertNext(body -> {
+                        assertEquals(json.length, body.length());
+                        assertArrayEquals(json, Arrays.copyOf(body.bytes(), body.length()));
+                    })
+                    .verifyComplete();
+        }
+    }
+
+    @Test
+    public void testReadBytesGrowsPastDefaultCapacity() {
+        ResponseBodyReader reader = new ResponseBodyReader(-1);
+        byte[] bytes = randomBytes(100_000);
+
+        StepVerifier.create(reader.readBytes(chunks(bytes, 4096), -1))
+                .assertNext(body -> assertArrayEquals(bytes, Arrays.copyOf(body.bytes(), body.length())))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testReadBase64AcrossChunkBoundaries() {
+        ResponseBodyReader reader = new ResponseBodyReader(-1);
+
+        // Chunk sizes that are not multiples of 3 leave partial base64 groups between chunks
+        for (int length : new int[] {1, 2, 3, 10, 1000, 1001, 1002}) {
+            byte[] bytes = randomBytes(length);
+            for (int chunkSize : new int[] {1, 2, 4, 7, 1024}) {
+                StepVerifier.create(reader.readBase64(chunks(bytes, chunkSize), length))
+                        .expectNext(Base64.getEncoder().encodeToString(bytes))
+                        .verifyComplete();
+            }
+        }
+    }
+
+    @Test
+    public void testEmptyBody() {
+        ResponseBodyReader reader = new ResponseBodyReader(10);
+
+        StepVerifier.create(reader.readBytes(Flux.empty(), -1)).verifyComplete();
+        StepVerifier.create(reader.readBase64(Flux.empty(), 0)).verifyComplete();
+    }
+
+    @Test
+    public void testLimitExceededWhileReading() {
+        ResponseBodyReader reader = new ResponseBodyReader(10);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AtomicBoolean allRead = new AtomicBoolean();
+
+        Flux<DataBuffer> body = chunks(randomBytes(100), 4)
+                .doOnCancel(() -> cancelled.set(true))
+                .doOnComplete(() -> allRead.set(true));
+
+        StepVerifier.create(reader.readBytes(body, -1))
+                .expectError(DataBufferLimitException.class)
+                .verify();
+        assertTrue(cancelled.get());
+        assertFalse(allRead.get());
+    }
+
+    @Test
+    public void testLimitExceededByContentLength() {
+        ResponseBodyReader reader = new ResponseBodyReader(10);
+        AtomicBoolean allRead = new AtomicBoolean();
+
+        Flux<DataBuffer> body = chunks(randomBytes(100), 4).doOnComplete(() -> allRead.set(true));
+
+        StepVerifier.create(reader.readBase64(body, 100))
+                .expectError(DataBufferLimitException.class)
+                .verify();
+        assertFalse(allRead.get());
+    }
+
+    @Test
+    public void testReadBase64JustUnderLimit() {
+        ResponseBodyReader reader = new ResponseBodyReader(100);
+
+        // The limit is on the raw bytes, the encoded body is a third larger than the limit
+        for (int length : new int[] {99, 100}) {
+            byte[] bytes = randomBytes(length);
+            for (long contentLength : new long[] {length, -1}) {
+                StepVerifier.create(reader.readBase64(chunks(bytes, 7), contentLength))
+                        .expectNext(Base64.getEncoder().encodeToString(bytes))
+                        .verifyComplete();
+            }
+        }
+
+        StepVerifier.create(reader.readBase64(chunks(randomBytes(101), 7), -1))
+                .expectError(DataBufferLimitException.class)
+                .verify();
+    }
+
+    @Test
+    public void testContentLengthNotTrustedWithoutLimit() {
+        ResponseBodyReader reader = new ResponseBodyReader(-1);
+        byte[] bytes = randomBytes(10);
+
+        StepVerifier.create(reader.readBytes(chunks(bytes, 4), Integer.MAX_VALUE - 16L))
+                .assertNext(body -> {
+                    assertTrue(body.bytes().length <= ResponseBodyReader.MAX_UNLIMITED_PRESIZE);
+                    assertArrayEquals(bytes, Arrays.copyOf(body.bytes(), body.length()));
+                })
+                .verifyComplete();
+    }
+}
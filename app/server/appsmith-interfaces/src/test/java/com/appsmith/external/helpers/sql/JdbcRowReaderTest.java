@@ -0,0 +1,135 @@
+package com.appsmith.external.helpers.sql;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JdbcRowReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Connection connection;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:jdbcRowReaderTest");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE users (id INT, name VARCHAR(50), dob DATE)");
+            statement.execute("INSERT INTO users VALUES (1, 'Ana', DATE '1990-01-02'), (2, NULL, NULL), "
+                    + "(3, 'Bob', DATE '2000-12-31')");
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    private static List<Map<String, Object>> readAsMaps(ResultSet resultSet) throws SQLException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        int columnCount = resultSet.getMetaData().getColumnCount();
+        while (resultSet.next()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 1; i <= columnCount; i++) {
+                row.put(resultSet.getMetaData().getColumnName(i), resultSet.getObject(i));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Test
+    public void testColumnReadersResolvedOncePerColumn() throws Exception {
+        AtomicInteger resolved = new AtomicInteger();
+        JdbcRowReader reader = new JdbcRowReader((metaData, column) -> {
+            resolved.incrementAndGet();
+            if ("DATE".equalsIgnoreCase(metaData.getColumnTypeName(column))) {
+                return JdbcRowReader.nonNull(
+                        (resultSet, i) -> resultSet.getDate(i).toLocalDate().toString());
+            }
+            return JdbcRowReader.GET_OBJECT;
+        });
+
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT * FROM users ORDER BY id")) {
+            SqlRows rows = reader.read(resultSet);
+
+            assertEquals(3, resolved.get());
+            assertEquals(3, rows.size());
+            assertEquals("1990-01-02", rows.get(0).get("DOB"));
+            assertNull(rows.get(1).get("NAME"));
+            assertNull(rows.get(1).get("DOB"));
+            assertFalse(rows.isSizeLimitExceeded());
+        }
+    }
+
+    @Test
+    public void testSerializesLikeListOfMaps() throws Exception {
+        // Duplicate column names keep the position of the first column and the value of the last one, like a map
+        String query = "SELECT id, name, dob, id * 10 AS id FROM users ORDER BY id";
+        JdbcRowReader reader = new JdbcRowReader(JdbcRowReader.GET_OBJECT_FACTORY);
+
+        JsonNode expected;
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(query)) {
+            expected = objectMapper.valueToTree(readAsMaps(resultSet));
+        }
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(query)) {
+            SqlRows rows = reader.read(resultSet);
+            assertEquals(expected, objectMapper.valueToTree(rows));
+            assertEquals(expected, objectMapper.valueToTree(new ArrayList<>(rows)));
+        }
+    }
+
+    @Test
+    public void testStopsReadingOverSizeLimit() throws Exception {
+        JdbcRowReader reader = new JdbcRowReader(JdbcRowReader.GET_OBJECT_FACTORY, 1);
+
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT * FROM users ORDER BY id")) {
+            SqlRows rows = reader.read(resultSet);
+
+            assertTrue(rows.isSizeLimitExceeded());
+            assertEquals(1, rows.size());
+        }
+    }
+
+    @Test
+    public void testMultipleResultSets() throws Exception {
+        JdbcRowReader reader = new JdbcRowReader(JdbcRowReader.GET_OBJECT_FACTORY);
+        SqlRows rows = new SqlRows();
+
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery("SELECT id FROM users WHERE id < 3 ORDER BY id")) {
+                reader.readInto(rows, resultSet);
+            }
+            try (ResultSet resultSet = statement.executeQuery("SELECT name FROM users WHERE id = 3")) {
+                reader.readInto(rows, resultSet);
+            }
+        }
+
+        assertEquals(List.of(Map.of("ID", 1), Map.of("ID", 2), Map.of("NAME", "Bob")), rows);
+        assertEquals(
+                objectMapper.readTree("[{\"ID\": 1}, {\"ID\": 2}, {\"NAME\": \"Bob\"}]"),
+                objectMapper.valueToTree(rows));
+    }
+}
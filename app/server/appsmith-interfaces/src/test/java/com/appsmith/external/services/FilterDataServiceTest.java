@@ -5,8 +5,10 @@ import com.appsmith.external.constants.DataType;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.Condition;
 import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.ce.InMemoryDatabaseFilter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
@@ -15,6 +17,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -34,6 +37,7 @@ public class FilterDataServiceTest {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final FilterDataService filterDataService = FilterDataService.getInstance();
+    private final InMemoryDatabaseFilter inMemoryDatabaseFilter = new InMemoryDatabaseFilter();
 
     @Test
     public void testGenerateTable() {
@@ -42,7 +46,7 @@ public class FilterDataServiceTest {
                 "name", DataType.STRING,
                 "status", DataType.BOOLEAN);
 
-        String table = filterDataService.generateTable(schema);
+        String table = inMemoryDatabaseFilter.generateTable(schema);
 
         assertThat(table).isNotNull();
     }
@@ -131,7 +135,7 @@ public class FilterDataServiceTest {
             List<Condition> conditions = (List<Condition>) condition.getValue();
 
             String expression =
-                    filterDataService.generateLogicalExpression(conditions, new ArrayList<>(), schema, operator);
+                    inMemoryDatabaseFilter.generateLogicalExpression(conditions, new ArrayList<>(), schema, operator);
             assertThat(expression)
                     .isEqualTo(
                             " ( \"i\" >= ? )  and (  ( \"d\" <= ? )  and (  ( \"a\" <= ? )  )  )  and (  ( \"u\" <= ? )  ) ");
@@ -1336,4 +1340,190 @@ public class FilterDataServiceTest {
             fail(e.getMessage());
         }
     }
+
+    private ArrayNode generateParityItems(Random random, boolean asStrings) {
+        String[] names = {"Michael", "michael", "Lindsay", "Tobias", "", "null", "Tuna_Salad", "50% off", "Zoë"};
+        String[] amounts = {"4.99", "9.99", "19.99", "0.1", "1000", "", "4.5"};
+        String[] flags = {"true", "false", "TRUE", ""};
+        String[] dates = {"2021-09-01", "2021-09-02", "2021-9-3", "2020-12-31", ""};
+        String[] timestamps = {"2021-09-01 00:01:00", "2021-09-02 10:30:00", "2021-09-02T10:30:00", ""};
+        String[] times = {"10:15:30", "09:00:00", ""};
+
+        ArrayNode items = objectMapper.createArrayNode();
+        for (int i = 0; i < 200; i++) {
+            ObjectNode item = items.addObject();
+            if (asStrings) {
+                item.put("id", String.valueOf(i));
+            } else {
+                item.put("id", i);
+            }
+            item.put("name", i == 0 ? "Michael" : names[random.nextInt(names.length)]);
+            String amount = i == 0 ? "4.99" : amounts[random.nextInt(amounts.length)];
+            if (asStrings || amount.isEmpty()) {
+                item.put("amount", amount);
+            } else {
+                item.put("amount", Double.parseDouble(amount));
+            }
+            item.put("big", i == 0 ? "3000000000" : random.nextInt(4) == 0 ? "" : String.valueOf(3000000000L + i % 7));
+            item.put("flag", i == 0 ? "true" : flags[random.nextInt(flags.length)]);
+            item.put("date", i == 0 ? "2021-09-01" : dates[random.nextInt(dates.length)]);
+            item.put("timestamp", i == 0 ? "2021-09-01 00:01:00" : timestamps[random.nextInt(timestamps.length)]);
+            item.put("time", i == 0 ? "10:15:30" : times[random.nextInt(times.length)]);
+            item.put("empty", "");
+        }
+        return items;
+    }
+
+    private Condition generateParityCondition(Random random, int depth) {
+        String[] paths = {"id", "name", "amount", "big", "flag", "date", "timestamp", "time", "empty"};
+        String[] values = {
+            "",
+            "1",
+            "50",
+            "4.99",
+            "9.99",
+            "0.1",
+            "Michael",
+            "michael",
+            "ich",
+            "%",
+            "_",
+            "null",
+            "true",
+            "false",
+            "2021-09-02",
+            "2021-09-02 10:30:00",
+            "10:15:30",
+            "3000000003",
+            "[1, 2, 3]",
+            "[\"Michael\", \"Tobias\"]",
+            "[\"2021-09-01\", \"2020-12-31\"]",
+            "[4.99, 1000]",
+            "[]",
+            "[1, null]",
+            "not a number"
+        };
+        ConditionalOperator[] operators = {
+            ConditionalOperator.LT,
+            ConditionalOperator.LTE,
+            ConditionalOperator.EQ,
+            ConditionalOperator.NOT_EQ,
+            ConditionalOperator.GT,
+            ConditionalOperator.GTE,
+            ConditionalOperator.IN,
+            ConditionalOperator.NOT_IN,
+            ConditionalOperator.CONTAINS
+        };
+
+        List<Condition> children = new ArrayList<>();
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            // The database query only supports groups after the first condition of a list
+            if (i > 0 && depth < 2 && random.nextInt(3) == 0) {
+                children.add(generateParityCondition(random, depth + 1));
+            } else {
+                children.add(new Condition(
+                        paths[random.nextInt(paths.length)],
+                        operators[random.nextInt(operators.length)],
+                        values[random.nextInt(values.length)],
+                        null));
+            }
+        }
+        return new Condition(
+                null, random.nextBoolean() ? ConditionalOperator.AND : ConditionalOperator.OR, children, null);
+    }
+
+    private UQIDataFilterParams generateParityParams(Random random) {
+        String[] paths = {"name", "amount", "big", "flag", "date", "timestamp", "time"};
+
+        List<String> projection = null;
+        if (random.nextInt(4) == 0) {
+            projection = List.of("id", paths[random.nextInt(paths.length)]);
+        }
+
+        List<Map<String, String>> sortBy = null;
+        if (random.nextBoolean()) {
+            sortBy = new ArrayList<>();
+            sortBy.add(Map.of(
+                    SORT_BY_COLUMN_NAME_KEY,
+                    paths[random.nextInt(paths.length)],
+                    SORT_BY_TYPE_KEY,
+                    random.nextBoolean() ? "Ascending" : VALUE_DESCENDING));
+            // Ties are not ordered the same way by the database once a limit is set
+            sortBy.add(Map.of(SORT_BY_COLUMN_NAME_KEY, "id", SORT_BY_TYPE_KEY, "Ascending"));
+        }
+
+        Map<String, String> paginateBy = null;
+        if (random.nextInt(3) == 0) {
+            paginateBy = Map.of(
+                    PAGINATE_LIMIT_KEY,
+                    String.valueOf(random.nextInt(30)),
+                    PAGINATE_OFFSET_KEY,
+                    String.valueOf(random.nextInt(50)));
+        }
+
+        return new UQIDataFilterParams(generateParityCondition(random, 0), projection, sortBy, paginateBy);
+    }
+
+    private static boolean isConditionValueConversionError(Exception error) {
+        return error != null
+                && error.getMessage().startsWith("Filtering failure seen : ")
+                && (error.getMessage().contains("Cannot parse")
+                        || error.getMessage().contains("Data conversion error"));
+    }
+
+    private void assertSameResults(ArrayNode items, Map<DataType, DataType> dataTypeConversionMap, long seed) {
+        Random random = new Random(seed);
+        for (int i = 0; i < 300; i++) {
+            UQIDataFilterParams params = generateParityParams(random);
+
+            ArrayNode expected = null;
+            ArrayNode actual = null;
+            Exception expectedError = null;
+            Exception actualError = null;
+            try {
+                expected = inMemoryDatabaseFilter.filterData(items, params, dataTypeConversionMap);
+            } catch (RuntimeException e) {
+                // The database path fails with a NullPointerException on IN "null", the engine with a plugin error
+                expectedError = e;
+            }
+            try {
+                actual = filterDataService.filterDataNew(items, params, dataTypeConversionMap);
+            } catch (AppsmithPluginException e) {
+                actualError = e;
+            }
+
+            String description = "Query " + i + " : " + params + ", database error : " + expectedError
+                    + ", engine error : " + actualError;
+            if (expectedError != null
+                    && actualError == null
+                    && expectedError.getMessage().startsWith("Error in ingesting the data")) {
+                // The engine only converts the cells of the rows it returns, so bad cells elsewhere do not fail it
+                continue;
+            }
+            if (isConditionValueConversionError(expectedError) || isConditionValueConversionError(actualError)) {
+                // A condition value that does not fit its column only fails once it is compared with a row, which
+                // depends on the order the database chooses to evaluate the conditions in
+                continue;
+            }
+            assertEquals(expectedError == null, actualError == null, description);
+            assertEquals(expected, actual, description);
+        }
+    }
+
+    @Test
+    public void testInMemoryFilterEngineMatchesDatabase() {
+        Random random = new Random(42);
+        assertSameResults(generateParityItems(random, false), null, 42);
+    }
+
+    @Test
+    public void testInMemoryFilterEngineMatchesDatabaseWithConversionMap() {
+        Random random = new Random(7);
+        Map<DataType, DataType> dataTypeConversionMap = Map.of(
+                DataType.INTEGER, DataType.DOUBLE,
+                DataType.LONG, DataType.DOUBLE,
+                DataType.FLOAT, DataType.DOUBLE);
+        assertSameResults(generateParityItems(random, true), dataTypeConversionMap, 7);
+    }
 }
@@ -8,11 +8,13 @@ import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.BsonJsonNodeReader;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.DataTypeStringUtils;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.helpers.PluginUtils;
 import com.appsmith.external.helpers.Stopwatch;
+import com.appsmith.external.helpers.StructureDiscoveryUtils;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -24,10 +26,13 @@ import com.appsmith.external.models.DatasourceStructure.Template;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.MustacheBindingToken;
+import com.appsmith.external.models.PaginationField;
+import com.appsmith.external.models.PaginationType;
 import com.appsmith.external.models.Param;
 import com.appsmith.external.models.ParsedDataType;
 import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
+import com.appsmith.external.models.StructureDiscoveryOptions;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
@@ -35,18 +40,18 @@ import com.external.plugins.constants.MongoSpecialDataTypes;
 import com.external.plugins.datatypes.MongoSpecificDataTypes;
 import com.external.plugins.exceptions.MongoPluginError;
 import com.external.plugins.exceptions.MongoPluginErrorMessages;
+import com.external.plugins.utils.MongoCursorReader;
+import com.external.plugins.utils.MongoCursorReader.CursorResult;
 import com.external.plugins.utils.MongoErrorUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mongodb.ConnectionString;
-import com.mongodb.DBRefCodecProvider;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoSocketWriteException;
 import com.mongodb.MongoTimeoutException;
-import com.mongodb.client.gridfs.codecs.GridFSFileCodecProvider;
-import com.mongodb.client.model.geojson.codecs.GeoJsonCodecProvider;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
@@ -54,18 +59,7 @@ import com.mongodb.reactivestreams.client.MongoDatabase;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
-import org.bson.codecs.BsonTypeClassMap;
-import org.bson.codecs.BsonValueCodecProvider;
-import org.bson.codecs.DocumentCodec;
-import org.bson.codecs.DocumentCodecProvider;
-import org.bson.codecs.IterableCodecProvider;
-import org.bson.codecs.MapCodecProvider;
-import org.bson.codecs.ValueCodecProvider;
-import org.bson.codecs.configuration.CodecRegistries;
-import org.bson.codecs.configuration.CodecRegistry;
-import org.bson.conversions.Bson;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import org.bson.RawBsonDocument;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.reactivestreams.Publisher;
@@ -77,14 +71,10 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -134,6 +124,9 @@ import static com.external.plugins.utils.DatasourceUtils.hasNonEmptyURI;
 import static com.external.plugins.utils.DatasourceUtils.isAuthenticated;
 import static com.external.plugins.utils.DatasourceUtils.isHostStringConnectionURI;
 import static com.external.plugins.utils.DatasourceUtils.isUsingURI;
+import static com.external.plugins.utils.MongoCursorReader.CURSOR;
+import static com.external.plugins.utils.MongoCursorReader.FIRST_BATCH;
+import static com.external.plugins.utils.MongoCursorReader.isCursorCommand;
 import static com.external.plugins.utils.MongoPluginUtils.convertMongoFormInputToRawCommand;
 import static com.external.plugins.utils.MongoPluginUtils.generateTemplatesAndStructureForACollection;
 import static com.external.plugins.utils.MongoPluginUtils.getDatabaseName;
@@ -160,6 +153,8 @@ public class MongoPlugin extends BasePlugin {
 
     private static final String VALUES = "values";
 
+    private static final String NEXT_CURSOR = "nextCursor";
+
     private static final int TEST_DATASOURCE_TIMEOUT_SECONDS = 15;
 
     private static final String MOCK_DB_MOVIES_COLLECTION_NAME = "movies";
@@ -208,18 +203,6 @@ public class MongoPlugin extends BasePlugin {
 
     private static final MongoErrorUtils mongoErrorUtils = MongoErrorUtils.getInstance();
 
-    private static final CodecRegistry DEFAULT_REGISTRY = CodecRegistries.fromProviders(Arrays.asList(
-            new ValueCodecProvider(),
-            new IterableCodecProvider(),
-            new BsonValueCodecProvider(),
-            new DocumentCodecProvider(),
-            new MapCodecProvider(),
-            new DBRefCodecProvider(),
-            new GeoJsonCodecProvider(),
-            new GridFSFileCodecProvider()));
-
-    private static final BsonTypeClassMap DEFAULT_BSON_TYPE_CLASS_MAP = new org.bson.codecs.BsonTypeClassMap();
-
     public MongoPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -235,6 +218,8 @@ public class MongoPlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final MongoCursorReader cursorReader = new MongoCursorReader();
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * also update the datasource and action configuration for pagination and some minor cleanup of the configuration before execution
@@ -296,7 +281,12 @@ public class MongoPlugin extends BasePlugin {
 
             actionConfiguration.setFormData(formData);
 
-            return this.executeCommon(mongoClient, datasourceConfiguration, actionConfiguration, parameters)
+            return this.executeCommon(
+                            mongoClient,
+                            datasourceConfiguration,
+                            actionConfiguration,
+                            parameters,
+                            executeActionDTO.getPaginationField())
                     .tag("plugin", this.getClass().getName())
                     .name(PLUGIN_EXECUTE_COMMON)
                     .tap(Micrometer.observation(observationRegistry));
@@ -317,13 +307,29 @@ public class MongoPlugin extends BasePlugin {
                 DatasourceConfiguration datasourceConfiguration,
                 ActionConfiguration actionConfiguration,
                 List<Map.Entry<String, String>> parameters) {
+            return executeCommon(mongoClient, datasourceConfiguration, actionConfiguration, parameters, null);
+        }
+
+        /**
+         * The documents of find and aggregate commands are read from their cursor, which is followed past the first
+         * batch. With cursor pagination, a page is read for every run, and the token of the next page is returned in
+         * the headers, for the action's next field. Refer to MongoCursorReader for the details.
+         *
+         * @param paginationField : Page the query is run for, with cursor pagination
+         */
+        public Mono<ActionExecutionResult> executeCommon(
+                MongoClient mongoClient,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration,
+                List<Map.Entry<String, String>> parameters,
+                PaginationField paginationField) {
 
             log.debug(Thread.currentThread().getName() + ": executeCommon() called for Mongo plugin.");
             if (mongoClient == null) {
                 log.debug("Encountered null connection in MongoDB plugin. Reporting back.");
                 throw new StaleConnectionException(MONGO_CLIENT_NULL_ERROR_MSG);
             }
-            Mono<Document> mongoOutputMono;
+            Mono<CursorResult> mongoOutputMono;
             ActionExecutionResult result = new ActionExecutionResult();
             String query;
             List<RequestParamDTO> requestParams;
@@ -334,9 +340,21 @@ public class MongoPlugin extends BasePlugin {
                 final Map<String, Object> formData = actionConfiguration.getFormData();
 
                 query = PluginUtils.getDataValueSafelyFromFormData(formData, BODY, STRING_TYPE);
-                Bson command = Document.parse(query);
-
-                mongoOutputMono = Mono.from(database.runCommand(command));
+                Document command = Document.parse(query);
+
+                if (!isCursorCommand(command)) {
+                    mongoOutputMono = Mono.from(database.runCommand(command, RawBsonDocument.class))
+                            .map(mongoOutput -> new CursorResult(readOutput(mongoOutput), false, null));
+                } else if (!PaginationType.CURSOR.equals(actionConfiguration.getPaginationType())) {
+                    mongoOutputMono = cursorReader.read(mongoClient, database, command);
+                } else if (PaginationField.PREV.equals(paginationField)) {
+                    mongoOutputMono = Mono.error(new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            MongoPluginErrorMessages.PREVIOUS_PAGE_NOT_SUPPORTED_ERROR_MSG));
+                } else {
+                    String token = PaginationField.NEXT.equals(paginationField) ? actionConfiguration.getNext() : null;
+                    mongoOutputMono = cursorReader.readPage(mongoClient, database, command, query, token);
+                }
                 requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null, null, null));
             } catch (Exception error) {
                 return Mono.error(new AppsmithPluginException(
@@ -369,137 +387,93 @@ public class MongoPlugin extends BasePlugin {
                     // database drops the connection which makes the client throw the following exception.
                     .onErrorMap(
                             MongoSocketWriteException.class, error -> new StaleConnectionException(error.getMessage()))
-                    .flatMap(mongoOutput -> {
-                        try {
-                            /*
-                             * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
-                             * processing of DbRef Object.
-                             * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
-                             */
-                            DocumentCodec documentCodec =
-                                    new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP);
-
-                            JSONObject outputJson = new JSONObject(mongoOutput.toJson(documentCodec));
-
-                            // The output json contains the key "ok". This is the status of the command
-                            BigInteger status = outputJson.getBigInteger("ok");
-                            JSONArray headerArray = new JSONArray();
-
-                            if (BigInteger.ONE.equals(status)) {
-                                result.setIsExecutionSuccess(true);
-                                result.setDataTypes(List.of(
-                                        new ParsedDataType(DisplayDataType.JSON),
-                                        new ParsedDataType(DisplayDataType.RAW)));
-
-                                /*
-                                 For the `findAndModify` command, we don't get the count of modifications made. Instead,
-                                 we either get the modified new value or the pre-modified old value (depending on the
-                                 `new` field in the command. Let's return that value to the user.
-                                */
-                                if (outputJson.has(VALUE)) {
-                                    log.debug(Thread.currentThread().getName()
-                                            + ": objectMapper.readTree.VALUE from Mongo plugin.");
-                                    Stopwatch processStopwatch =
-                                            new Stopwatch("Mongo Plugin objectMapper readTree.VALUE");
-                                    result.setBody(objectMapper.readTree(
-                                            cleanUp(new JSONObject().put(VALUE, outputJson.get(VALUE)))
-                                                    .toString()));
-                                    processStopwatch.stopAndLogTimeInMillis();
-                                }
+                    .map(cursorResult -> {
+                        ObjectNode outputJson = cursorResult.output();
 
-                                /*
-                                 The json contains key "cursor" when find command was issued and there are 1 or more
-                                 results. In case there are no results for find, this key is not present in the result json.
-                                */
-                                if (outputJson.has("cursor")) {
-                                    log.debug(Thread.currentThread().getName()
-                                            + ": objectMapper.readTree.CURSOR from Mongo plugin.");
-                                    Stopwatch processStopwatch =
-                                            new Stopwatch("Mongo Plugin objectMapper readTree.CURSOR");
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
-                                    result.setBody(objectMapper.readTree(outputResult.toString()));
-                                    processStopwatch.stopAndLogTimeInMillis();
-                                }
+                        // The output json contains the key "ok". This is the status of the command
+                        BigInteger status = getBigInteger(outputJson, "ok");
+                        ArrayNode headerArray = objectMapper.createArrayNode();
 
-                                /*
-                                 The json contains key "n" when insert/update command is issued. "n" for update
-                                 signifies the no of documents selected for update. "n" in case of insert signifies the
-                                 number of documents inserted.
-                                */
-                                if (outputJson.has("n")) {
-                                    log.debug(Thread.currentThread().getName()
-                                            + ": objectMapper.readTree.N from Mongo plugin.");
-                                    Stopwatch processStopwatch = new Stopwatch("Mongo Plugin objectMapper readTree.N");
-                                    JSONObject body = new JSONObject().put("n", outputJson.getBigInteger("n"));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    processStopwatch.stopAndLogTimeInMillis();
-                                    headerArray.put(body);
-                                }
+                        if (BigInteger.ONE.equals(status)) {
+                            result.setIsExecutionSuccess(true);
+                            result.setDataTypes(List.of(
+                                    new ParsedDataType(DisplayDataType.JSON), new ParsedDataType(DisplayDataType.RAW)));
 
-                                /*
-                                 The json key contains key "nModified" in case of update command. This signifies the no of
-                                 documents updated.
-                                */
-                                if (outputJson.has(N_MODIFIED)) {
-                                    log.debug(Thread.currentThread().getName()
-                                            + ": objectMapper.readTree.N_MODIFIED from Mongo plugin.");
-                                    Stopwatch processStopwatch =
-                                            new Stopwatch("Mongo Plugin objectMapper readTree.N_MODIFIED");
-                                    JSONObject body =
-                                            new JSONObject().put(N_MODIFIED, outputJson.getBigInteger(N_MODIFIED));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    processStopwatch.stopAndLogTimeInMillis();
-                                    headerArray.put(body);
-                                }
+                            /*
+                             For the `findAndModify` command, we don't get the count of modifications made. Instead,
+                             we either get the modified new value or the pre-modified old value (depending on the
+                             `new` field in the command. Let's return that value to the user.
+                            */
+                            if (outputJson.has(VALUE)) {
+                                ObjectNode body = objectMapper.createObjectNode();
+                                body.set(VALUE, outputJson.get(VALUE));
+                                result.setBody(body);
+                            }
 
-                                /*
-                                 The json contains key "values" when distinct command is used.
-                                */
-                                if (outputJson.has(VALUES)) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(outputJson.getJSONArray(VALUES));
-
-                                    log.debug(Thread.currentThread().getName()
-                                            + ": objectMapper.createObjectNode from Mongo plugin.");
-                                    Stopwatch processStopwatch =
-                                            new Stopwatch("Mongo Plugin objectMapper createObjectNode");
-                                    ObjectNode resultNode = objectMapper.createObjectNode();
-                                    processStopwatch.stopAndLogTimeInMillis();
-
-                                    // Create a JSON structure with the results stored with a key to abide by the
-                                    // Server-Client contract of only sending array of objects in result.
-                                    Stopwatch processStopwatch1 =
-                                            new Stopwatch("Mongo Plugin objectMapper readTree outputResult");
-                                    resultNode.putArray(VALUES).addAll((ArrayNode)
-                                            objectMapper.readTree(outputResult.toString()));
-                                    processStopwatch1.stopAndLogTimeInMillis();
-
-                                    Stopwatch processStopwatch2 =
-                                            new Stopwatch("Mongo Plugin objectMapper readTree resultNode");
-                                    result.setBody(objectMapper.readTree(resultNode.toString()));
-                                    processStopwatch2.stopAndLogTimeInMillis();
+                            /*
+                             The json contains key "cursor" when find command was issued and there are 1 or more
+                             results. In case there are no results for find, this key is not present in the result json.
+                            */
+                            if (outputJson.has(CURSOR)) {
+                                result.setBody(outputJson.get(CURSOR).get(FIRST_BATCH));
+                                if (cursorResult.truncated()) {
+                                    result.setMessages(Set.of(String.format(
+                                            MongoPluginErrorMessages.CURSOR_TRUNCATED_HINT_MSG,
+                                            outputJson.get(CURSOR).get(FIRST_BATCH).size())));
                                 }
+                            }
 
-                                /*
-                                TODO Go through all the possible fields that are returned in the output JSON and add all the fields
-                                 that are important to the headerArray.
-                                 */
+                            /*
+                             The json contains key "n" when insert/update command is issued. "n" for update
+                             signifies the no of documents selected for update. "n" in case of insert signifies the
+                             number of documents inserted.
+                            */
+                            if (outputJson.has("n")) {
+                                ObjectNode body = objectMapper.createObjectNode();
+                                body.set("n", getIntegerNode(getBigInteger(outputJson, "n")));
+                                result.setBody(body);
+                                headerArray.add(body);
                             }
 
-                            JSONObject statusJson = new JSONObject().put("ok", status);
-                            headerArray.put(statusJson);
-                            log.debug(Thread.currentThread().getName() + ": objectMapper readTree for Mongo plugin.");
-                            Stopwatch processStopwatch = new Stopwatch("Mongo Plugin objectMapper readTree");
-                            result.setHeaders(objectMapper.readTree(headerArray.toString()));
-                            processStopwatch.stopAndLogTimeInMillis();
-                        } catch (JsonProcessingException e) {
-                            return Mono.error(new AppsmithPluginException(
-                                    MongoPluginError.QUERY_EXECUTION_FAILED,
-                                    MongoPluginErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                                    e.getMessage()));
+                            /*
+                             The json key contains key "nModified" in case of update command. This signifies the no of
+                             documents updated.
+                            */
+                            if (outputJson.has(N_MODIFIED)) {
+                                ObjectNode body = objectMapper.createObjectNode();
+                                body.set(N_MODIFIED, getIntegerNode(getBigInteger(outputJson, N_MODIFIED)));
+                                result.setBody(body);
+                                headerArray.add(body);
+                            }
+
+                            /*
+                             The json contains key "values" when distinct command is used.
+                            */
+                            if (outputJson.has(VALUES)) {
+                                // Create a JSON structure with the results stored with a key to abide by the
+                                // Server-Client contract of only sending array of objects in result.
+                                ObjectNode resultNode = objectMapper.createObjectNode();
+                                resultNode.set(VALUES, outputJson.get(VALUES));
+                                result.setBody(resultNode);
+                            }
+
+                            /*
+                            TODO Go through all the possible fields that are returned in the output JSON and add all the fields
+                             that are important to the headerArray.
+                             */
+                        }
+
+                        ObjectNode statusJson = objectMapper.createObjectNode();
+                        statusJson.set("ok", getIntegerNode(status));
+                        headerArray.add(statusJson);
+
+                        // Token of the next page with cursor pagination, to be sent back in the action's next field
+                        if (cursorResult.nextToken() != null) {
+                            headerArray.add(objectMapper.createObjectNode().put(NEXT_CURSOR, cursorResult.nextToken()));
                         }
+                        result.setHeaders(headerArray);
 
-                        return Mono.just(result);
+                        return result;
                     })
                     .onErrorResume(error -> {
                         if (error instanceof StaleConnectionException) {
@@ -964,53 +938,40 @@ public class MongoPlugin extends BasePlugin {
         @Override
         public Mono<DatasourceStructure> getStructure(
                 MongoClient mongoClient, DatasourceConfiguration datasourceConfiguration, Boolean isMock) {
-            log.debug(Thread.currentThread().getName() + ": getStructure() called for Mongo plugin.");
-            final DatasourceStructure structure = new DatasourceStructure();
-            List<DatasourceStructure.Table> tables = new ArrayList<>();
-            structure.setTables(tables);
+            return getStructure(mongoClient, datasourceConfiguration, isMock, StructureDiscoveryOptions.DEFAULT);
+        }
 
+        /**
+         * The collections are discovered a few at a time, as allowed by the options. The columns of a collection are
+         * the fields of a sample of its documents, instead of only the first one, as documents of a collection don't
+         * need to have the same fields.
+         */
+        @Override
+        public Mono<DatasourceStructure> getStructure(
+                MongoClient mongoClient,
+                DatasourceConfiguration datasourceConfiguration,
+                Boolean isMock,
+                StructureDiscoveryOptions options) {
+            log.debug(Thread.currentThread().getName() + ": getStructure() called for Mongo plugin.");
             final MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
 
-            return Flux.from(database.listCollectionNames())
+            Flux<String> collectionNames = Flux.from(database.listCollectionNames())
                     .filter(collectionName -> {
                         if (isMock != null && isMock == true) {
                             return collectionName.equals(MOCK_DB_MOVIES_COLLECTION_NAME);
                         }
                         return true;
                     })
-                    .sort((collectionName1, collectionName2) -> collectionName1.compareToIgnoreCase(collectionName2))
-                    .flatMap(collectionName -> {
-                        final ArrayList<DatasourceStructure.Column> columns = new ArrayList<>();
-                        final ArrayList<DatasourceStructure.Template> templates = new ArrayList<>();
-                        tables.add(new DatasourceStructure.Table(
-                                DatasourceStructure.TableType.COLLECTION,
-                                null,
-                                collectionName,
-                                columns,
-                                new ArrayList<>(),
-                                templates));
-
-                        return Mono.zip(
-                                Mono.just(columns),
-                                Mono.just(templates),
-                                Mono.just(collectionName),
-                                Mono.from(database.getCollection(collectionName)
-                                        .find()
-                                        .limit(1)
-                                        .first()));
-                    })
-                    .flatMap(tuple -> {
-                        final ArrayList<DatasourceStructure.Column> columns = tuple.getT1();
-                        final ArrayList<DatasourceStructure.Template> templates = tuple.getT2();
-                        String collectionName = tuple.getT3();
-                        Document document = tuple.getT4();
-
-                        generateTemplatesAndStructureForACollection(collectionName, document, columns, templates);
-
-                        return Mono.just(structure);
-                    })
-                    .collectList()
-                    .thenReturn(structure)
+                    .sort((collectionName1, collectionName2) -> collectionName1.compareToIgnoreCase(collectionName2));
+
+            return StructureDiscoveryUtils.discoverTables(
+                            collectionNames,
+                            collectionName -> Flux.from(database.getCollection(collectionName)
+                                            .find()
+                                            .limit(Math.max(1, options.getSampleSize())))
+                                    .collectList()
+                                    .map(documents -> getCollectionStructure(collectionName, documents)),
+                            options)
                     /**
                      * This is to catch the cases when Mongo connection pool closes for some reason and hence throws
                      * IllegalStateException when query is run.
@@ -1033,6 +994,32 @@ public class MongoPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        private static DatasourceStructure.Table getCollectionStructure(String collectionName, List<Document> documents) {
+            final ArrayList<DatasourceStructure.Column> columns = new ArrayList<>();
+            final ArrayList<DatasourceStructure.Template> templates = new ArrayList<>();
+
+            if (!documents.isEmpty()) {
+                // Fields are taken from the first document that has a value for them, in the order they appear
+                Document sample = new Document();
+                for (Document document : documents) {
+                    document.forEach((name, value) -> {
+                        if (sample.get(name) == null) {
+                            sample.put(name, value);
+                        }
+                    });
+                }
+                generateTemplatesAndStructureForACollection(collectionName, sample, columns, templates);
+            }
+
+            return new DatasourceStructure.Table(
+                    DatasourceStructure.TableType.COLLECTION,
+                    null,
+                    collectionName,
+                    columns,
+                    new ArrayList<>(),
+                    templates);
+        }
+
         @Override
         public Object substituteValueInInput(
                 int index,
@@ -1125,53 +1112,34 @@ public class MongoPlugin extends BasePlugin {
         }
     }
 
-    private static Object cleanUp(Object object) {
-        if (object instanceof JSONObject) {
-            JSONObject jsonObject = (JSONObject) object;
-            final boolean isSingleKey = jsonObject.keySet().size() == 1;
-
-            if (isSingleKey && "$numberLong".equals(jsonObject.keys().next())) {
-                return jsonObject.getBigInteger("$numberLong");
-
-            } else if (isSingleKey && "$oid".equals(jsonObject.keys().next())) {
-                return jsonObject.getString("$oid");
-
-            } else if (isSingleKey && "$date".equals(jsonObject.keys().next())) {
-                JSONObject dateJSON = jsonObject.optJSONObject("$date");
-                /*
-                    For dates before Jan 1, 1970 then the output json from MongoDB driver looks like
-                    "$date": {
-                        "$numberLong": "-493033770000"
-                    }
-                    And for dates on or after Jan 1, 1970 the output json from MongoDB driver is readily available and looks like
-                    "$date": "2022-07-01T10:32:37.318Z"
-                */
-                if (dateJSON != null
-                        && dateJSON.keySet().size() == 1
-                        && "$numberLong".equals(dateJSON.keys().next())) {
-                    return DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(dateJSON.getLong("$numberLong")));
-                }
-                return DateTimeFormatter.ISO_INSTANT.format(Instant.parse(jsonObject.getString("$date")));
-
-            } else if (isSingleKey && "$numberDecimal".equals(jsonObject.keys().next())) {
-                return new BigDecimal(jsonObject.getString("$numberDecimal"));
-
-            } else {
-                for (String key : new HashSet<>(jsonObject.keySet())) {
-                    jsonObject.put(key, cleanUp(jsonObject.get(key)));
-                }
-            }
-
-        } else if (object instanceof JSONArray) {
-            Collection<Object> cleaned = new ArrayList<>();
-
-            for (Object child : (JSONArray) object) {
-                cleaned.add(cleanUp(child));
-            }
+    /**
+     * The output is read as raw BSON, and from there straight into JSON nodes, which are also simplified for display on
+     * the way. Refer to BsonJsonNodeReader for the types.
+     */
+    private static ObjectNode readOutput(RawBsonDocument mongoOutput) {
+        Stopwatch processStopwatch = new Stopwatch("Mongo Plugin BsonJsonNodeReader read");
+        ObjectNode outputJson = BsonJsonNodeReader.read(mongoOutput);
+        processStopwatch.stopAndLogTimeInMillis();
+        return outputJson;
+    }
 
-            return new JSONArray(cleaned);
+    /**
+     * Returns the integral value of a number field of the command output, like the "ok" status, which is a double.
+     */
+    private static BigInteger getBigInteger(JsonNode output, String fieldName) {
+        JsonNode value = output.get(fieldName);
+        if (value == null || !value.isNumber()) {
+            throw new AppsmithPluginException(
+                    MongoPluginError.QUERY_EXECUTION_FAILED,
+                    MongoPluginErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                    "Unexpected value of " + fieldName + " in the output: " + value);
         }
+        return value.bigIntegerValue();
+    }
 
-        return object;
+    private static JsonNode getIntegerNode(BigInteger value) {
+        return value.bitLength() < Long.SIZE
+                ? BsonJsonNodeReader.readInteger(value.longValue())
+                : objectMapper.getNodeFactory().numberNode(value);
     }
 }
@@ -7,11 +7,15 @@ import com.appsmith.external.helpers.DataTypeStringUtils;
 import com.appsmith.external.helpers.PluginUtils;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.external.models.PaginationType;
 import com.external.plugins.exceptions.MongoPluginErrorMessages;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.json.JsonParseException;
 import org.pf4j.util.StringUtils;
@@ -21,6 +25,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.appsmith.external.helpers.PluginUtils.STRING_TYPE;
 import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
@@ -41,10 +46,13 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 public class Aggregate extends MongoCommand {
     String pipeline;
     String limit;
+    boolean cursorPagination;
 
     public Aggregate(ActionConfiguration actionConfiguration) {
         super(actionConfiguration);
 
+        this.cursorPagination = PaginationType.CURSOR.equals(actionConfiguration.getPaginationType());
+
         Map<String, Object> formData = actionConfiguration.getFormData();
 
         if (validConfigurationPresentInFormData(formData, AGGREGATE_PIPELINES)) {
@@ -113,11 +121,41 @@ public class Aggregate extends MongoCommand {
         if (!isBlank(this.limit)) {
             limit = Integer.parseInt(this.limit);
         }
+        /*
+         The cursor of the command is read until its end, so the limit is added as the last stage of the pipeline. With
+         cursor pagination, the limit is the size of a page instead, and the pages go on until the end of the cursor.
+        */
+        if (!this.cursorPagination) {
+            addLimitStage(commandDocument.get("pipeline"), limit);
+        }
         commandDocument.put("cursor", parseSafely("cursor", "{batchSize: " + limit + "}"));
 
         return commandDocument;
     }
 
+    /**
+     * This method is used to add a $limit stage at the end of the pipeline, unless the pipeline writes its output to a
+     * collection, as such a stage has to be the last one.
+     */
+    @SuppressWarnings("unchecked")
+    private static void addLimitStage(Object pipeline, int limit) {
+        if (pipeline instanceof BsonArray stages) {
+            BsonValue lastStage = stages.get(stages.size() - 1);
+            if (!lastStage.isDocument() || !isOutputStage(lastStage.asDocument().keySet())) {
+                stages.add(new BsonDocument("$limit", new BsonInt32(limit)));
+            }
+        } else if (pipeline instanceof List<?> stages) {
+            Document lastStage = (Document) stages.get(stages.size() - 1);
+            if (!isOutputStage(lastStage.keySet())) {
+                ((List<Document>) stages).add(new Document("$limit", limit));
+            }
+        }
+    }
+
+    private static boolean isOutputStage(Set<String> stageNames) {
+        return stageNames.contains("$out") || stageNames.contains("$merge");
+    }
+
     /**
      * This method coverts Mongo plugin's form inputs to Mongo's native query. Currently, it is meant to help users
      * switch easily from form based input to raw input mode by providing a readily available translation of the form
@@ -3,6 +3,7 @@ package com.external.plugins.commands;
 import com.appsmith.external.helpers.PluginUtils;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.external.models.PaginationType;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -39,10 +40,13 @@ public class Find extends MongoCommand {
     String projection;
     String limit;
     String skip;
+    boolean cursorPagination;
 
     public Find(ActionConfiguration actionConfiguration) {
         super(actionConfiguration);
 
+        this.cursorPagination = PaginationType.CURSOR.equals(actionConfiguration.getPaginationType());
+
         Map<String, Object> formData = actionConfiguration.getFormData();
 
         if (validConfigurationPresentInFormData(formData, FIND_QUERY)) {
@@ -91,7 +95,10 @@ public class Find extends MongoCommand {
         if (!StringUtils.isNullOrEmpty(this.limit)) {
             limit = Integer.parseInt(this.limit);
         }
-        document.put("limit", limit);
+        // With cursor pagination, the limit is the size of a page, and the pages go on until the end of the cursor
+        if (!this.cursorPagination) {
+            document.put("limit", limit);
+        }
         document.put("batchSize", limit);
 
         if (!StringUtils.isNullOrEmpty(this.skip)) {
@@ -43,6 +43,17 @@ public class MongoPluginErrorMessages {
 
     public static final String MONGO_CLIENT_NULL_ERROR_MSG = "Mongo client object is null.";
 
+    public static final String CURSOR_NOT_FOUND_ERROR_MSG =
+            "The cursor for the next page has expired, or was opened on another server or for another datasource. "
+                    + "Please run the query again from the first page.";
+
+    public static final String PREVIOUS_PAGE_NOT_SUPPORTED_ERROR_MSG =
+            "Cursor pagination only moves to the next page. Please run the query again from the first page.";
+
+    public static final String CURSOR_TRUNCATED_HINT_MSG =
+            "Only the first %d documents of the result were read, as more would exceed the supported result size. "
+                    + "Please add a limit to the query, or use cursor pagination to read the rest.";
+
     /*
     ************************************************************************************************************************************************
                                        Error messages related to validation of datasource.
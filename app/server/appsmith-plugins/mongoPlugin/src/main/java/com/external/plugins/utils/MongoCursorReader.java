@@ -0,0 +1,367 @@
+package com.external.plugins.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.BsonJsonNodeReader;
+import com.external.plugins.exceptions.MongoPluginErrorMessages;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mongodb.reactivestreams.client.ClientSession;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.external.plugins.constants.FieldName.AGGREGATE;
+import static com.external.plugins.constants.FieldName.FIND;
+import static com.external.plugins.constants.FieldName.LIMIT;
+
+/**
+ * MongoCursorReader reads the documents of the cursor returned by a find or an aggregate command. The command output
+ * only has the first batch of documents, the others are read with getMore commands, until the cursor is exhausted or
+ * a budget of documents and bytes is used. The commands are run in a session, as getMore has to run in the session
+ * that the cursor was created in.
+ * <p>
+ * With cursor pagination, a batch is read for every page, and the cursor is kept open with its session between pages.
+ * The cursor is known by a token that is returned with a page, and sent back in the next field of the action for the
+ * next page. A token is only used with the client and the database the cursor was opened with. The plugin gets a client
+ * for every datasource and environment, so a token can't read the cursor of another datasource or environment.
+ * Cursors that aren't paged through for a while are closed, as Mongo would time them out anyway.
+ */
+@Slf4j
+public class MongoCursorReader {
+
+    public static final String CURSOR = "cursor";
+
+    public static final String FIRST_BATCH = "firstBatch";
+
+    private static final String NEXT_BATCH = "nextBatch";
+
+    private static final String BATCH_SIZE = "batchSize";
+
+    // Documents read from a cursor, when the command doesn't limit them itself
+    public static final int MAX_DOCUMENTS = 10_000;
+
+    // Bytes of command outputs read from a cursor, the size of the largest batch Mongo returns
+    public static final long MAX_BYTES = 16L * 1024 * 1024;
+
+    // Batch size Mongo uses for the first batch when the command doesn't set one
+    private static final int DEFAULT_BATCH_SIZE = 101;
+
+    private static final Duration OPEN_CURSOR_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+    private static final int MAX_OPEN_CURSORS = 100;
+
+    private final Map<String, OpenCursor> openCursors = new ConcurrentHashMap<>();
+
+    /**
+     * Documents read from a cursor.
+     *
+     * @param output    : Command output, with all the documents read in cursor.firstBatch
+     * @param truncated : Whether documents were left unread in the cursor, for the budget was used
+     * @param nextToken : Token of the cursor kept open for the next page, null if there are no more pages
+     */
+    public record CursorResult(ObjectNode output, boolean truncated, String nextToken) {}
+
+    /**
+     * A cursor kept open for pagination, along with its session. It is only used by one page at a time, as it is taken
+     * out of the open cursors while a page is read.
+     */
+    private static final class OpenCursor {
+        private final MongoClient mongoClient;
+        private final ClientSession session;
+        private final MongoDatabase database;
+        private final String query;
+        private final String collection;
+        private final int pageSize;
+        private long cursorId;
+        private long lastUsedAt;
+
+        private OpenCursor(
+                MongoClient mongoClient,
+                ClientSession session,
+                MongoDatabase database,
+                String query,
+                String collection,
+                int pageSize,
+                long cursorId) {
+            this.mongoClient = mongoClient;
+            this.session = session;
+            this.database = database;
+            this.query = query;
+            this.collection = collection;
+            this.pageSize = pageSize;
+            this.cursorId = cursorId;
+            this.lastUsedAt = System.currentTimeMillis();
+        }
+
+        private boolean isOpenedWith(MongoClient mongoClient, MongoDatabase database) {
+            return this.mongoClient == mongoClient && this.database.getName().equals(database.getName());
+        }
+    }
+
+    /**
+     * Documents and bytes read from a cursor so far, against the budget.
+     */
+    private static final class Budget {
+        private final long maxDocuments;
+        private long documents;
+        private long bytes;
+
+        private Budget(long maxDocuments) {
+            this.maxDocuments = maxDocuments;
+        }
+
+        private void add(int documents, int bytes) {
+            this.documents += documents;
+            this.bytes += bytes;
+        }
+
+        private boolean isUsed() {
+            return documents >= maxDocuments || bytes >= MAX_BYTES;
+        }
+
+        private int getRemainingDocuments() {
+            return (int) Math.min(maxDocuments - documents, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * This method is used to check whether the output of a command has a cursor to read, which is the case for the
+     * find and aggregate commands.
+     */
+    public static boolean isCursorCommand(Document command) {
+        String commandName = getCommandName(command);
+        return FIND.equals(commandName) || AGGREGATE.equals(commandName);
+    }
+
+    /**
+     * This method is used to run a find or an aggregate command and read the documents of its cursor, within the
+     * budget. The limit of a find command is its budget of documents, it is MAX_DOCUMENTS for the other commands.
+     */
+    public Mono<CursorResult> read(MongoClient mongoClient, MongoDatabase database, Document command) {
+        Budget budget = new Budget(getMaxDocuments(command));
+        return Mono.usingWhen(
+                mongoClient.startSession(),
+                session -> Mono.from(database.runCommand(session, command, RawBsonDocument.class))
+                        .flatMap(firstOutput -> {
+                            ObjectNode output = BsonJsonNodeReader.read(firstOutput);
+                            budget.add(getBatch(getCursor(output), FIRST_BATCH).size(), getSize(firstOutput));
+                            return readRemaining(session, database, output, budget);
+                        }),
+                session -> Mono.fromRunnable(session::close));
+    }
+
+    /**
+     * This method is used to read a page of documents from a find or an aggregate command, one batch of its cursor.
+     * Without a token, or with a token of a cursor opened for another query, the command is run for the first page.
+     * Otherwise, the next batch of the cursor of the token is read. A token of a cursor opened with another client or
+     * database is rejected as not found, and its cursor is left open for its own datasource.
+     *
+     * @param query : Text of the command, which a token has to be used with
+     * @param token : Token returned with the previous page, or null for the first page
+     */
+    public Mono<CursorResult> readPage(
+            MongoClient mongoClient, MongoDatabase database, Document command, String query, String token) {
+        closeIdleCursors();
+        if (token == null || token.isBlank()) {
+            return readFirstPage(mongoClient, database, command, query);
+        }
+
+        OpenCursor openCursor = openCursors.get(token);
+        if (openCursor == null
+                || !openCursor.isOpenedWith(mongoClient, database)
+                || !openCursors.remove(token, openCursor)) {
+            return Mono.error(new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    MongoPluginErrorMessages.CURSOR_NOT_FOUND_ERROR_MSG));
+        }
+        if (!openCursor.query.equals(query)) {
+            close(openCursor);
+            return readFirstPage(mongoClient, database, command, query);
+        }
+
+        return getMore(
+                        openCursor.session,
+                        openCursor.database,
+                        openCursor.collection,
+                        openCursor.cursorId,
+                        openCursor.pageSize)
+                .map(nextOutput -> {
+                    ObjectNode output = BsonJsonNodeReader.read(nextOutput);
+                    // The page is returned in the shape of a first batch, like the first page
+                    ObjectNode cursor = getCursor(output);
+                    cursor.set(FIRST_BATCH, cursor.remove(NEXT_BATCH));
+
+                    openCursor.cursorId = getCursorId(cursor);
+                    if (openCursor.cursorId == 0) {
+                        openCursor.session.close();
+                        return new CursorResult(output, false, null);
+                    }
+                    keepOpen(token, openCursor);
+                    return new CursorResult(output, false, token);
+                })
+                .doOnError(error -> close(openCursor))
+                .doOnCancel(() -> close(openCursor));
+    }
+
+    private Mono<CursorResult> readFirstPage(
+            MongoClient mongoClient, MongoDatabase database, Document command, String query) {
+        int pageSize = getPageSize(command);
+        return Mono.from(mongoClient.startSession()).flatMap(session -> Mono.from(
+                        database.runCommand(session, command, RawBsonDocument.class))
+                .map(firstOutput -> {
+                    ObjectNode output = BsonJsonNodeReader.read(firstOutput);
+                    ObjectNode cursor = getCursor(output);
+                    long cursorId = cursor == null ? 0 : getCursorId(cursor);
+                    if (cursorId == 0) {
+                        session.close();
+                        return new CursorResult(output, false, null);
+                    }
+                    String token = UUID.randomUUID().toString();
+                    keepOpen(
+                            token,
+                            new OpenCursor(
+                                    mongoClient, session, database, query, getCollection(cursor), pageSize, cursorId));
+                    return new CursorResult(output, false, token);
+                })
+                .doOnError(error -> session.close())
+                .doOnCancel(session::close));
+    }
+
+    private Mono<CursorResult> readRemaining(
+            ClientSession session, MongoDatabase database, ObjectNode output, Budget budget) {
+        ObjectNode cursor = getCursor(output);
+        if (cursor == null || getCursorId(cursor) == 0) {
+            return Mono.just(new CursorResult(output, false, null));
+        }
+        if (budget.isUsed()) {
+            return killCursor(session, database, getCollection(cursor), getCursorId(cursor))
+                    .thenReturn(new CursorResult(output, true, null));
+        }
+
+        return getMore(session, database, getCollection(cursor), getCursorId(cursor), budget.getRemainingDocuments())
+                .flatMap(nextOutput -> {
+                    ObjectNode nextCursor = getCursor(BsonJsonNodeReader.read(nextOutput));
+                    ArrayNode nextBatch = getBatch(nextCursor, NEXT_BATCH);
+                    ((ArrayNode) cursor.get(FIRST_BATCH)).addAll(nextBatch);
+                    cursor.set("id", nextCursor.get("id"));
+                    budget.add(nextBatch.size(), getSize(nextOutput));
+                    return readRemaining(session, database, output, budget);
+                });
+    }
+
+    private static Mono<RawBsonDocument> getMore(
+            ClientSession session, MongoDatabase database, String collection, long cursorId, int batchSize) {
+        Document getMore = new Document("getMore", cursorId)
+                .append("collection", collection)
+                .append(BATCH_SIZE, batchSize);
+        return Mono.from(database.runCommand(session, getMore, RawBsonDocument.class));
+    }
+
+    private static Mono<Void> killCursor(
+            ClientSession session, MongoDatabase database, String collection, long cursorId) {
+        Document killCursors = new Document("killCursors", collection).append("cursors", List.of(cursorId));
+        return Mono.from(database.runCommand(session, killCursors))
+                .onErrorResume(error -> {
+                    log.debug("Failed to kill Mongo cursor {}, it would time out instead", cursorId, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private void keepOpen(String token, OpenCursor openCursor) {
+        openCursor.lastUsedAt = System.currentTimeMillis();
+        while (openCursors.size() >= MAX_OPEN_CURSORS) {
+            openCursors.entrySet().stream()
+                    .min(Comparator.comparingLong(entry -> entry.getValue().lastUsedAt))
+                    .filter(entry -> openCursors.remove(entry.getKey(), entry.getValue()))
+                    .ifPresent(entry -> close(entry.getValue()));
+        }
+        openCursors.put(token, openCursor);
+    }
+
+    private void closeIdleCursors() {
+        long idleSince = System.currentTimeMillis() - OPEN_CURSOR_IDLE_TIMEOUT.toMillis();
+        openCursors.forEach((token, openCursor) -> {
+            if (openCursor.lastUsedAt < idleSince && openCursors.remove(token, openCursor)) {
+                close(openCursor);
+            }
+        });
+    }
+
+    private static void close(OpenCursor openCursor) {
+        killCursor(openCursor.session, openCursor.database, openCursor.collection, openCursor.cursorId)
+                .doFinally(signal -> openCursor.session.close())
+                .subscribe();
+    }
+
+    private static long getMaxDocuments(Document command) {
+        if (FIND.equals(getCommandName(command))
+                && command.get(LIMIT) instanceof Number limit
+                && limit.longValue() > 0) {
+            return limit.longValue();
+        }
+        return MAX_DOCUMENTS;
+    }
+
+    /**
+     * Returns the batch size of the command, which is the size of its pages. A find command without a batch size
+     * returns as many documents as its limit in its first batch.
+     */
+    private static int getPageSize(Document command) {
+        Object batchSize;
+        if (FIND.equals(getCommandName(command))) {
+            batchSize = command.containsKey(BATCH_SIZE) ? command.get(BATCH_SIZE) : command.get(LIMIT);
+        } else {
+            Document cursor = command.get(CURSOR, Document.class);
+            batchSize = cursor == null ? null : cursor.get(BATCH_SIZE);
+        }
+        if (batchSize instanceof Number number && number.intValue() > 0) {
+            return number.intValue();
+        }
+        return DEFAULT_BATCH_SIZE;
+    }
+
+    private static String getCommandName(Document command) {
+        return command.keySet().stream().findFirst().orElse("");
+    }
+
+    private static ObjectNode getCursor(ObjectNode output) {
+        return output.get(CURSOR) instanceof ObjectNode cursor ? cursor : null;
+    }
+
+    private static ArrayNode getBatch(ObjectNode cursor, String fieldName) {
+        return cursor != null && cursor.get(fieldName) instanceof ArrayNode batch
+                ? batch
+                : JsonNodeFactory.instance.arrayNode();
+    }
+
+    private static long getCursorId(JsonNode cursor) {
+        return cursor.path("id").asLong();
+    }
+
+    /**
+     * Returns the collection of the cursor, from its namespace, which is the database name and the collection name
+     * joined by a dot. Database names can't have dots.
+     */
+    private static String getCollection(JsonNode cursor) {
+        String namespace = cursor.path("ns").asText();
+        return namespace.substring(namespace.indexOf('.') + 1);
+    }
+
+    private static int getSize(RawBsonDocument document) {
+        return document.getByteBuffer().remaining();
+    }
+}
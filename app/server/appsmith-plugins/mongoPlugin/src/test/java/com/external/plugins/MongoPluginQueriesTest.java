@@ -9,6 +9,8 @@ import com.appsmith.external.models.Connection;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.PaginationField;
+import com.appsmith.external.models.PaginationType;
 import com.appsmith.external.models.ParsedDataType;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
@@ -48,6 +50,7 @@ import static com.external.plugins.constants.FieldName.DELETE_LIMIT;
 import static com.external.plugins.constants.FieldName.DELETE_QUERY;
 import static com.external.plugins.constants.FieldName.DISTINCT_KEY;
 import static com.external.plugins.constants.FieldName.DISTINCT_QUERY;
+import static com.external.plugins.constants.FieldName.FIND_LIMIT;
 import static com.external.plugins.constants.FieldName.FIND_PROJECTION;
 import static com.external.plugins.constants.FieldName.FIND_QUERY;
 import static com.external.plugins.constants.FieldName.FIND_SORT;
@@ -59,6 +62,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -415,12 +419,14 @@ public class MongoPluginQueriesTest {
                     assertArrayEquals(
                             new DatasourceStructure.Column[] {
                                 new DatasourceStructure.Column("_id", "ObjectId", null, true),
+                                new DatasourceStructure.Column("aLong", "Long", null, false),
                                 new DatasourceStructure.Column("age", "Integer", null, false),
                                 new DatasourceStructure.Column("dob", "Date", null, false),
                                 new DatasourceStructure.Column("gender", "String", null, false),
                                 new DatasourceStructure.Column("luckyNumber", "Long", null, false),
                                 new DatasourceStructure.Column("name", "String", null, false),
                                 new DatasourceStructure.Column("netWorth", "BigDecimal", null, false),
+                                new DatasourceStructure.Column("ts", "Object", null, false),
                                 new DatasourceStructure.Column("updatedByCommand", "Object", null, false),
                             },
                             usersTable.getColumns().toArray());
@@ -489,12 +495,14 @@ public class MongoPluginQueriesTest {
                                     + "  \"documents\": [\n"
                                     + "    {\n"
                                     + "      \"_id\": ObjectId(\"a_valid_object_id_hex\"),\n"
+                                    + "      \"aLong\": NumberLong(\"1\"),\n"
                                     + "      \"age\": 1,\n"
                                     + "      \"dob\": new Date(\"2019-07-01\"),\n"
                                     + "      \"gender\": \"new value\",\n"
                                     + "      \"luckyNumber\": NumberLong(\"1\"),\n"
                                     + "      \"name\": \"new value\",\n"
                                     + "      \"netWorth\": NumberDecimal(\"1\"),\n"
+                                    + "      \"ts\": {},\n"
                                     + "      \"updatedByCommand\": {},\n"
                                     + "    }\n"
                                     + "  ]\n"
@@ -506,12 +514,15 @@ public class MongoPluginQueriesTest {
                             PluginUtils.getDataValueSafelyFromFormData(
                                     (Map<String, Object>) insertTemplate.getConfiguration(), COMMAND, STRING_TYPE));
                     assertEquals(
-                            "[{      \"_id\": ObjectId(\"a_valid_object_id_hex\"),\n" + "      \"age\": 1,\n"
+                            "[{      \"_id\": ObjectId(\"a_valid_object_id_hex\"),\n"
+                                    + "      \"aLong\": NumberLong(\"1\"),\n"
+                                    + "      \"age\": 1,\n"
                                     + "      \"dob\": new Date(\"2019-07-01\"),\n"
                                     + "      \"gender\": \"new value\",\n"
                                     + "      \"luckyNumber\": NumberLong(\"1\"),\n"
                                     + "      \"name\": \"new value\",\n"
                                     + "      \"netWorth\": NumberDecimal(\"1\"),\n"
+                                    + "      \"ts\": {},\n"
                                     + "      \"updatedByCommand\": {},\n"
                                     + "}]",
                             PluginUtils.getDataValueSafelyFromFormData(
@@ -797,4 +808,127 @@ public class MongoPluginQueriesTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void testAggregateCommand_cursorPastFirstBatch_returnsAllDocuments() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.FALSE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(
+                configMap,
+                BODY,
+                "{\n" + "      aggregate: \"users\",\n"
+                        + "      pipeline: [ { $sort: { _id: 1 } } ],\n"
+                        + "      cursor: { batchSize: 1 },\n"
+                        + "    }");
+        actionConfiguration.setFormData(configMap);
+
+        Mono<Object> executeMono = dsConnectionMono.flatMap(conn ->
+                pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+        StepVerifier.create(executeMono)
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertTrue(result.getIsExecutionSuccess());
+                    // The first batch only has one document, the others are read with getMore
+                    assertEquals(3, ((ArrayNode) result.getBody()).size());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testFindCommand_cursorPagination_returnsNextPageFromOpenCursor() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        MongoClient mongoClient = pluginExecutor.datasourceCreate(dsConfig).block();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPaginationType(PaginationType.CURSOR);
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.FALSE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "FIND");
+        setDataValueSafelyInFormData(configMap, COLLECTION, "users");
+        setDataValueSafelyInFormData(configMap, FIND_SORT, "{ _id: 1 }");
+        setDataValueSafelyInFormData(configMap, FIND_LIMIT, "2");
+        actionConfiguration.setFormData(configMap);
+
+        ActionExecutionResult firstPage = pluginExecutor
+                .executeParameterized(mongoClient, new ExecuteActionDTO(), dsConfig, actionConfiguration)
+                .block();
+        assertTrue(firstPage.getIsExecutionSuccess());
+        assertEquals(2, ((ArrayNode) firstPage.getBody()).size());
+        String nextCursor = getNextCursor(firstPage);
+        assertNotNull(nextCursor);
+
+        actionConfiguration.setNext(nextCursor);
+        ExecuteActionDTO nextPageDTO = new ExecuteActionDTO();
+        nextPageDTO.setPaginationField(PaginationField.NEXT);
+        ActionExecutionResult secondPage = pluginExecutor
+                .executeParameterized(mongoClient, nextPageDTO, dsConfig, actionConfiguration)
+                .block();
+        assertTrue(secondPage.getIsExecutionSuccess());
+        assertEquals(1, ((ArrayNode) secondPage.getBody()).size());
+        assertFalse(((ArrayNode) firstPage.getBody())
+                .findValuesAsText("_id")
+                .contains(((ArrayNode) secondPage.getBody()).get(0).get("_id").asText()));
+        // The cursor is exhausted, there is no next page
+        assertNull(getNextCursor(secondPage));
+
+        ActionExecutionResult expiredPage = pluginExecutor
+                .executeParameterized(mongoClient, nextPageDTO, dsConfig, actionConfiguration)
+                .block();
+        assertFalse(expiredPage.getIsExecutionSuccess());
+    }
+
+    @Test
+    public void testFindCommand_cursorTokenOfAnotherConnection_isRejected() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        MongoClient mongoClient = pluginExecutor.datasourceCreate(dsConfig).block();
+        MongoClient otherMongoClient = pluginExecutor.datasourceCreate(dsConfig).block();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPaginationType(PaginationType.CURSOR);
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.FALSE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "FIND");
+        setDataValueSafelyInFormData(configMap, COLLECTION, "users");
+        setDataValueSafelyInFormData(configMap, FIND_SORT, "{ _id: 1 }");
+        setDataValueSafelyInFormData(configMap, FIND_LIMIT, "2");
+        actionConfiguration.setFormData(configMap);
+
+        ActionExecutionResult firstPage = pluginExecutor
+                .executeParameterized(mongoClient, new ExecuteActionDTO(), dsConfig, actionConfiguration)
+                .block();
+        String nextCursor = getNextCursor(firstPage);
+        assertNotNull(nextCursor);
+
+        actionConfiguration.setNext(nextCursor);
+        ExecuteActionDTO nextPageDTO = new ExecuteActionDTO();
+        nextPageDTO.setPaginationField(PaginationField.NEXT);
+        ActionExecutionResult otherConnectionPage = pluginExecutor
+                .executeParameterized(otherMongoClient, nextPageDTO, dsConfig, actionConfiguration)
+                .block();
+        assertFalse(otherConnectionPage.getIsExecutionSuccess());
+
+        // The cursor is still open for the connection it was opened on
+        ActionExecutionResult secondPage = pluginExecutor
+                .executeParameterized(mongoClient, nextPageDTO, dsConfig, actionConfiguration)
+                .block();
+        assertTrue(secondPage.getIsExecutionSuccess());
+        assertEquals(1, ((ArrayNode) secondPage.getBody()).size());
+    }
+
+    private static String getNextCursor(ActionExecutionResult result) {
+        for (JsonNode header : (ArrayNode) result.getHeaders()) {
+            if (header.has("nextCursor")) {
+                return header.get("nextCursor").asText();
+            }
+        }
+        return null;
+    }
 }
@@ -11,6 +11,7 @@ import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionExceptio
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.helpers.Stopwatch;
+import com.appsmith.external.helpers.sql.JdbcRowReader;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -217,7 +218,7 @@ public class MssqlPlugin extends BasePlugin {
                         Statement statement = null;
                         PreparedStatement preparedQuery = null;
                         ResultSet resultSet = null;
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        List<Map<String, Object>> rowsList;
                         final List<String> columnsList = new ArrayList<>();
 
                         try {
@@ -270,6 +271,7 @@ public class MssqlPlugin extends BasePlugin {
                         try {
                             if (FALSE.equals(preparedStatement)) {
                                 statement = sqlConnectionFromPool.createStatement();
+                                JdbcRowReader.setFetchSize(statement);
                                 isResultSet = statement.execute(query);
                                 resultSet = statement.getResultSet();
                             } else {
@@ -288,18 +290,13 @@ public class MssqlPlugin extends BasePlugin {
                                                         parameters.get(i).getKey(),
                                                         parameters.get(i).getValue())));
 
+                                JdbcRowReader.setFetchSize(preparedQuery);
                                 isResultSet = preparedQuery.execute();
                                 resultSet = preparedQuery.getResultSet();
                             }
 
-                            MssqlExecuteUtils.populateRowsAndColumns(
-                                    rowsList,
-                                    columnsList,
-                                    resultSet,
-                                    isResultSet,
-                                    preparedStatement,
-                                    statement,
-                                    preparedQuery);
+                            rowsList = MssqlExecuteUtils.populateRowsAndColumns(
+                                    columnsList, resultSet, isResultSet, preparedStatement, statement, preparedQuery);
 
                         } catch (SQLException e) {
                             return Mono.error(new AppsmithPluginException(
@@ -1,5 +1,6 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.helpers.sql.JdbcRowReader;
 import org.apache.commons.lang3.ObjectUtils;
 
 import java.sql.Connection;
@@ -12,7 +13,6 @@ import java.text.MessageFormat;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -65,8 +65,12 @@ public class MssqlExecuteUtils {
                         Thread.currentThread().getName()));
     }
 
-    public static void populateRowsAndColumns(
-            List<Map<String, Object>> rowsList,
+    /**
+     * This method is used to read the rows of a query result, or the affected rows count when the query has no result
+     * set.
+     * @return The rows.
+     */
+    public static List<Map<String, Object>> populateRowsAndColumns(
             List<String> columnsList,
             ResultSet resultSet,
             boolean isResultSet,
@@ -80,52 +84,42 @@ public class MssqlExecuteUtils {
                     ? ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)
                     : ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-            rowsList.add(Map.of("affectedRows", updateCount));
-        } else {
-            ResultSetMetaData metaData = resultSet.getMetaData();
-            int colCount = metaData.getColumnCount();
-            columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
-
-            while (resultSet.next()) {
-                // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                for (int i = 1; i <= colCount; i++) {
-                    Object value;
-                    final String typeName = metaData.getColumnTypeName(i);
-
-                    if (resultSet.getObject(i) == null) {
-                        value = null;
-
-                    } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE.format(
-                                resultSet.getDate(i).toLocalDate());
+            return List.of(Map.of("affectedRows", updateCount));
+        }
 
-                    } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
-                                        resultSet.getDate(i).toLocalDate(),
-                                        resultSet.getTime(i).toLocalTime()))
-                                + "Z";
+        columnsList.addAll(getColumnsListForJdbcPlugin(resultSet.getMetaData()));
+        return new JdbcRowReader(MssqlExecuteUtils::getColumnReader).read(resultSet);
+    }
 
-                    } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class));
+    /**
+     * This method is used to pick how the values of a column are read, once per column of a result set.
+     */
+    private static JdbcRowReader.ColumnReader getColumnReader(ResultSetMetaData metaData, int column)
+            throws SQLException {
+        final String typeName = metaData.getColumnTypeName(column);
 
-                    } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName)
-                            || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = resultSet.getString(i);
+        if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return JdbcRowReader.nonNull((resultSet, i) ->
+                    DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate()));
 
-                    } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = resultSet.getObject(i).toString();
+        } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return JdbcRowReader.nonNull((resultSet, i) -> DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
+                            resultSet.getDate(i).toLocalDate(),
+                            resultSet.getTime(i).toLocalTime()))
+                    + "Z");
 
-                    } else {
-                        value = resultSet.getObject(i);
-                    }
+        } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return JdbcRowReader.nonNull((resultSet, i) ->
+                    DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class)));
 
-                    row.put(metaData.getColumnName(i), value);
-                }
+        } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return JdbcRowReader.nonNull(ResultSet::getString);
 
-                rowsList.add(row);
-            }
+        } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return JdbcRowReader.nonNull(
+                    (resultSet, i) -> resultSet.getObject(i).toString());
         }
+
+        return JdbcRowReader.GET_OBJECT;
     }
 }
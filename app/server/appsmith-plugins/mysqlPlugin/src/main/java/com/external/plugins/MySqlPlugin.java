@@ -11,6 +11,7 @@ import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.helpers.SSHTunnelContext;
 import com.appsmith.external.helpers.SSHUtils;
 import com.appsmith.external.helpers.Stopwatch;
+import com.appsmith.external.helpers.sql.SqlRows;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -378,20 +379,25 @@ public class MySqlPlugin extends BasePlugin {
 
                                 Mono<List<Map<String, Object>>> resultMono;
                                 if (isSelectOrShowOrDescQuery) {
+                                    final RowCollector rowCollector = new RowCollector();
                                     resultMono = resultFlux
-                                            .flatMap(result -> result.map((row, meta) -> {
-                                                rowsList.add(getRow(row, meta));
-
-                                                if (columnsList.isEmpty()) {
-                                                    meta.getColumnMetadatas().stream()
-                                                            .forEach(columnMetadata ->
-                                                                    columnsList.add(columnMetadata.getName()));
-                                                }
-
-                                                return result;
+                                            .concatMap(result -> Flux.defer(() -> {
+                                                // Each result is the one of the next statement
+                                                rowCollector.startStatement();
+                                                return result.map((row, meta) -> {
+                                                    rowCollector.add(row, meta);
+
+                                                    if (columnsList.isEmpty()) {
+                                                        meta.getColumnMetadatas().stream()
+                                                                .forEach(columnMetadata ->
+                                                                        columnsList.add(columnMetadata.getName()));
+                                                    }
+
+                                                    return result;
+                                                });
                                             }))
                                             .collectList()
-                                            .thenReturn(rowsList);
+                                            .thenReturn(rowCollector.rows);
                                 } else {
                                     resultMono = resultFlux
                                             .flatMap(Result::getRowsUpdated)
@@ -424,7 +430,7 @@ public class MySqlPlugin extends BasePlugin {
                                                     + ": objectMapper.valueToTree from MySQL plugin.");
                                             Stopwatch processStopwatch =
                                                     new Stopwatch("MySQL Plugin objectMapper valueToTree");
-                                            result.setBody(objectMapper.valueToTree(rowsList));
+                                            result.setBody(objectMapper.valueToTree(res));
                                             processStopwatch.stopAndLogTimeInMillis();
                                             result.setMessages(populateHintMessages(columnsList));
                                             result.setIsExecutionSuccess(true);
@@ -607,35 +613,116 @@ public class MySqlPlugin extends BasePlugin {
             return messages;
         }
 
+        /**
+         * Reads the value of a column from a row returned by the r2dbc driver.
+         */
+        @FunctionalInterface
+        private interface ColumnReader {
+            Object read(Row row, String columnName);
+        }
+
+        /**
+         * Collects the rows returned by the r2dbc driver into SqlRows. How every column is read is picked once per
+         * result, from its metadata, instead of for every value. Every statement starts a new result, even when its
+         * columns are the same as the ones of the statement before.
+         */
+        private static class RowCollector {
+
+            private final SqlRows rows = new SqlRows();
+
+            private boolean isNewStatement;
+
+            private RowMetadata metadata;
+
+            private List<ColumnDefinitionPacket> columns;
+
+            private List<String> columnNames;
+
+            private ColumnReader[] columnReaders;
+
+            void startStatement() {
+                isNewStatement = true;
+            }
+
+            void add(Row row, RowMetadata meta) {
+                if (isNewStatement) {
+                    startResult(meta);
+                } else if (meta != metadata) {
+                    // The driver may give every row its own metadata, for the same columns
+                    if (!hasSameColumns(meta)) {
+                        startResult(meta);
+                    }
+                    metadata = meta;
+                }
+
+                Object[] values = new Object[columnReaders.length];
+                for (int i = 0; i < columnReaders.length; i++) {
+                    values[i] = columnReaders[i].read(row, columnNames.get(i));
+                }
+                rows.addRow(values);
+            }
+
+            private boolean hasSameColumns(RowMetadata meta) {
+                List<ColumnDefinitionPacket> metaColumns = (List<ColumnDefinitionPacket>) meta.getColumnMetadatas();
+                if (columns == null || metaColumns.size() != columns.size()) {
+                    return false;
+                }
+                for (int i = 0; i < metaColumns.size(); i++) {
+                    ColumnDefinitionPacket column = metaColumns.get(i);
+                    ColumnDefinitionPacket knownColumn = columns.get(i);
+                    if (!column.getName().equals(knownColumn.getName())
+                            || column.getDataType() != knownColumn.getDataType()
+                            || !column.getJavaType().equals(knownColumn.getJavaType())) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            private void startResult(RowMetadata meta) {
+                isNewStatement = false;
+                metadata = meta;
+                columns = (List<ColumnDefinitionPacket>) meta.getColumnMetadatas();
+                columnNames = new ArrayList<>(columns.size());
+                columnReaders = new ColumnReader[columns.size()];
+                for (int i = 0; i < columns.size(); i++) {
+                    columnNames.add(columns.get(i).getName());
+                    columnReaders[i] = getColumnReader(columns.get(i));
+                }
+                rows.startResultSet(columnNames);
+            }
+        }
+
         /**
          * 1. Parse the actual row objects returned by r2dbc driver for mysql statements.
-         * 2. Return the row as a map {column_name -> column_value}.
+         * 2. Return how the values of the given column are read.
          */
-        private Map<String, Object> getRow(Row row, RowMetadata meta) {
-            Iterator<ColumnDefinitionPacket> iterator =
-                    (Iterator<ColumnDefinitionPacket>) meta.getColumnMetadatas().iterator();
-            Map<String, Object> processedRow = new LinkedHashMap<>();
-
-            while (iterator.hasNext()) {
-                ColumnDefinitionPacket metaData = iterator.next();
-                String columnName = metaData.getName();
-                String javaTypeName = metaData.getJavaType().toString();
-                String sqlColumnType = metaData.getDataType().name();
-                Object columnValue = row.get(columnName);
-
-                if (java.time.LocalDate.class.toString().equalsIgnoreCase(javaTypeName) && columnValue != null) {
-                    columnValue = DateTimeFormatter.ISO_DATE.format(row.get(columnName, LocalDate.class));
-                } else if ((java.time.LocalDateTime.class.toString().equalsIgnoreCase(javaTypeName))
-                        && columnValue != null) {
-                    columnValue = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
-                                    row.get(columnName, LocalDateTime.class).toLocalDate(),
-                                    row.get(columnName, LocalDateTime.class).toLocalTime()))
-                            + "Z";
-                } else if (java.time.LocalTime.class.toString().equalsIgnoreCase(javaTypeName) && columnValue != null) {
-                    columnValue = DateTimeFormatter.ISO_TIME.format(row.get(columnName, LocalTime.class));
-                } else if (java.time.Year.class.toString().equalsIgnoreCase(javaTypeName) && columnValue != null) {
-                    columnValue = row.get(columnName, LocalDate.class).getYear();
-                } else if (columnValue != null && JSON_DB_TYPE.equals(sqlColumnType)) {
+        private static ColumnReader getColumnReader(ColumnDefinitionPacket metaData) {
+            String javaTypeName = metaData.getJavaType().toString();
+            String sqlColumnType = metaData.getDataType().name();
+
+            if (java.time.LocalDate.class.toString().equalsIgnoreCase(javaTypeName)) {
+                return (row, columnName) -> row.get(columnName) == null
+                        ? null
+                        : DateTimeFormatter.ISO_DATE.format(row.get(columnName, LocalDate.class));
+            } else if (java.time.LocalDateTime.class.toString().equalsIgnoreCase(javaTypeName)) {
+                return (row, columnName) -> row.get(columnName) == null
+                        ? null
+                        : DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
+                                        row.get(columnName, LocalDateTime.class).toLocalDate(),
+                                        row.get(columnName, LocalDateTime.class).toLocalTime()))
+                                + "Z";
+            } else if (java.time.LocalTime.class.toString().equalsIgnoreCase(javaTypeName)) {
+                return (row, columnName) -> row.get(columnName) == null
+                        ? null
+                        : DateTimeFormatter.ISO_TIME.format(row.get(columnName, LocalTime.class));
+            } else if (java.time.Year.class.toString().equalsIgnoreCase(javaTypeName)) {
+                return (row, columnName) -> row.get(columnName) == null
+                        ? null
+                        : row.get(columnName, LocalDate.class).getYear();
+            } else if (JSON_DB_TYPE.equals(sqlColumnType)) {
+                return (row, columnName) -> {
+                    Object columnValue = row.get(columnName);
                     /**
                      * In case of MySQL the JSON DB type is stored as a binary object in the DB. This is different from
                      * MariaDB where it is stored as a text.Since we currently use MariaDB driver for MySQL plugin as
@@ -646,17 +733,14 @@ public class MySqlPlugin extends BasePlugin {
                      * text.
                      * Ref: https://mariadb.com/kb/en/json-data-type/
                      **/
-                    if (columnValue.getClass().isArray()) {
+                    if (columnValue != null && columnValue.getClass().isArray()) {
                         columnValue = new String((byte[]) columnValue, UTF_8);
                     }
-                } else {
-                    columnValue = row.get(columnName);
-                }
-
-                processedRow.put(columnName, columnValue);
+                    return columnValue;
+                };
             }
 
-            return processedRow;
+            return (row, columnName) -> row.get(columnName);
         }
 
         /**
@@ -7,6 +7,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.sql.JdbcRowReader;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -234,7 +235,7 @@ public class OraclePlugin extends BasePlugin {
                                             : new StaleConnectionException(e.getMessage()));
                         }
 
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        List<Map<String, Object>> rowsList;
                         final List<String> columnsList = new ArrayList<>();
 
                         Statement statement = null;
@@ -249,6 +250,7 @@ public class OraclePlugin extends BasePlugin {
                         try {
                             if (FALSE.equals(preparedStatement)) {
                                 statement = connectionFromPool.createStatement();
+                                JdbcRowReader.setFetchSize(statement);
                                 isResultSet = statement.execute(query);
                                 resultSet = statement.getResultSet();
                             } else {
@@ -266,18 +268,13 @@ public class OraclePlugin extends BasePlugin {
                                                         parameters.get(i).getValue())));
 
                                 requestData.put("ps-parameters", parameters);
+                                JdbcRowReader.setFetchSize(preparedQuery);
                                 isResultSet = preparedQuery.execute();
                                 resultSet = preparedQuery.getResultSet();
                             }
 
-                            populateRowsAndColumns(
-                                    rowsList,
-                                    columnsList,
-                                    resultSet,
-                                    isResultSet,
-                                    preparedStatement,
-                                    statement,
-                                    preparedQuery);
+                            rowsList = populateRowsAndColumns(
+                                    columnsList, resultSet, isResultSet, preparedStatement, statement, preparedQuery);
                         } catch (SQLException e) {
                             log.error(Thread.currentThread().getName()
                                     + ": In the OraclePlugin, got action execution error");
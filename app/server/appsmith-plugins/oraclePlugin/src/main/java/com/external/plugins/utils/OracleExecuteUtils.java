@@ -1,5 +1,6 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.helpers.sql.JdbcRowReader;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import oracle.jdbc.OracleArray;
 import oracle.jdbc.OracleBlob;
@@ -16,7 +17,6 @@ import java.text.MessageFormat;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -115,8 +115,12 @@ public class OracleExecuteUtils implements SmartSubstitutionInterface {
         return PL_SQL_MATCH_PATTERN.matcher(query.toLowerCase()).find();
     }
 
-    public static void populateRowsAndColumns(
-            List<Map<String, Object>> rowsList,
+    /**
+     * This method is used to read the rows of a query result, or the affected rows count when the query has no result
+     * set.
+     * @return The rows.
+     */
+    public static List<Map<String, Object>> populateRowsAndColumns(
             List<String> columnsList,
             ResultSet resultSet,
             Boolean isResultSet,
@@ -129,66 +133,69 @@ public class OracleExecuteUtils implements SmartSubstitutionInterface {
                     ? ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)
                     : ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-            rowsList.add(Map.of(AFFECTED_ROWS_KEY, updateCount));
-        } else {
-            ResultSetMetaData metaData = resultSet.getMetaData();
-            int colCount = metaData.getColumnCount();
-            columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
-
-            while (resultSet.next()) {
-                // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                for (int i = 1; i <= colCount; i++) {
-                    Object value;
-                    final String typeName = metaData.getColumnTypeName(i);
-
-                    if (resultSet.getObject(i) == null) {
-                        value = null;
-
-                    } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE.format(
-                                resultSet.getDate(i).toLocalDate());
-
-                    } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)
-                            || TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)
-                            || TIMESTAMPLTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class));
-                    } else if (CLOB_TYPE_NAME.equalsIgnoreCase(typeName) || NCLOB_TYPE_NAME.equals(typeName)) {
-                        /**
-                         * clob, nclob are textual data.
-                         * Ref: https://docs.oracle.com/javadb/10.10.1.2/ref/rrefclob.html
-                         */
-                        value = String.valueOf(
-                                ((CLOB) resultSet.getObject(i)).getTarget().getPrefetchedData());
-                    } else if (resultSet.getObject(i) instanceof OracleArray) {
-                        value = ((OracleArray) resultSet.getObject(i)).getArray();
-                    } else if (RAW_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        /**
-                         * Raw / Blob data cannot be interpreted as anything but a byte array. Hence, send it back as a
-                         * base64 encoded string. The correct way to read the data for these types is for the user to
-                         * cast them to a type before reading them, example:
-                         * select utl_raw.cast_to_varchar2(c_raw) as c_raw, utl_raw.cast_to_varchar2(c_blob) as c_blob from TYPESTEST4
-                         */
-                        value = Base64.getEncoder().encodeToString((byte[]) resultSet.getObject(i));
-                    } else if (BLOB_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        /**
-                         * Raw / Blob data cannot be interpreted as anything but a byte array. Hence, send it back as a
-                         * base64 encoded string. The correct way to read the data for these types is for the user to
-                         * cast them to a type before reading them, example:
-                         * select utl_raw.cast_to_varchar2(c_raw) as c_raw, utl_raw.cast_to_varchar2(c_blob) as c_blob from TYPESTEST4
-                         */
-                        value = ((OracleBlob) resultSet.getObject(i))
-                                .getBytes(1L, (int) ((OracleBlob) resultSet.getObject(i)).length());
-                    } else {
-                        value = resultSet.getObject(i).toString();
-                    }
-
-                    row.put(metaData.getColumnName(i), value);
-                }
-
-                rowsList.add(row);
-            }
+            return List.of(Map.of(AFFECTED_ROWS_KEY, updateCount));
+        }
+
+        columnsList.addAll(getColumnsListForJdbcPlugin(resultSet.getMetaData()));
+        return new JdbcRowReader(OracleExecuteUtils::getColumnReader).read(resultSet);
+    }
+
+    /**
+     * This method is used to pick how the values of a column are read, once per column of a result set.
+     */
+    private static JdbcRowReader.ColumnReader getColumnReader(ResultSetMetaData metaData, int column)
+            throws SQLException {
+        final String typeName = metaData.getColumnTypeName(column);
+
+        if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return JdbcRowReader.nonNull((resultSet, i) ->
+                    DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate()));
+
+        } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)
+                || TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)
+                || TIMESTAMPLTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return JdbcRowReader.nonNull((resultSet, i) ->
+                    DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class)));
+
+        } else if (CLOB_TYPE_NAME.equalsIgnoreCase(typeName) || NCLOB_TYPE_NAME.equals(typeName)) {
+            /**
+             * clob, nclob are textual data.
+             * Ref: https://docs.oracle.com/javadb/10.10.1.2/ref/rrefclob.html
+             */
+            return JdbcRowReader.nonNull((resultSet, i) ->
+                    String.valueOf(((CLOB) resultSet.getObject(i)).getTarget().getPrefetchedData()));
+
+        } else if (RAW_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            /**
+             * Raw / Blob data cannot be interpreted as anything but a byte array. Hence, send it back as a
+             * base64 encoded string. The correct way to read the data for these types is for the user to
+             * cast them to a type before reading them, example:
+             * select utl_raw.cast_to_varchar2(c_raw) as c_raw, utl_raw.cast_to_varchar2(c_blob) as c_blob from TYPESTEST4
+             */
+            return JdbcRowReader.nonNull(
+                    (resultSet, i) -> Base64.getEncoder().encodeToString((byte[]) resultSet.getObject(i)));
+
+        } else if (BLOB_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            /**
+             * Raw / Blob data cannot be interpreted as anything but a byte array. Hence, send it back as a
+             * base64 encoded string. The correct way to read the data for these types is for the user to
+             * cast them to a type before reading them, example:
+             * select utl_raw.cast_to_varchar2(c_raw) as c_raw, utl_raw.cast_to_varchar2(c_blob) as c_blob from TYPESTEST4
+             */
+            return JdbcRowReader.nonNull((resultSet, i) -> {
+                OracleBlob blob = (OracleBlob) resultSet.getObject(i);
+                return blob.getBytes(1L, (int) blob.length());
+            });
         }
+
+        return (resultSet, i) -> {
+            Object value = resultSet.getObject(i);
+            if (value == null) {
+                return null;
+            } else if (value instanceof OracleArray) {
+                return ((OracleArray) value).getArray();
+            }
+            return value.toString();
+        };
     }
 }
@@ -11,6 +11,8 @@ import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.helpers.SSHUtils;
 import com.appsmith.external.helpers.Stopwatch;
+import com.appsmith.external.helpers.sql.JdbcRowReader;
+import com.appsmith.external.helpers.sql.SqlRows;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -27,6 +29,7 @@ import com.appsmith.external.models.PsParameterDTO;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSHConnection;
 import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.StructureDiscoveryOptions;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
@@ -58,6 +61,7 @@ import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.sql.Array;
@@ -86,6 +90,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -103,7 +108,6 @@ import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
 import static com.appsmith.external.helpers.SSHUtils.getConnectionContext;
 import static com.appsmith.external.helpers.SSHUtils.isSSHEnabled;
-import static com.appsmith.external.helpers.Sizeof.sizeof;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.BOOL;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.DATE;
@@ -145,14 +149,20 @@ public class PostgresPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
-    private static final int HEAVY_OP_FREQUENCY = 100;
-
     public static final Long DEFAULT_POSTGRES_PORT = 5432L;
 
     private static int MAX_SIZE_SUPPORTED;
 
     private static final int CONNECTION_METHOD_INDEX = 1;
 
+    /**
+     * Matches a single statement that starts with SELECT, WITH, TABLE or VALUES, after any leading comments. Only
+     * semicolons at the end of the query are allowed, so queries with more than one statement do not match.
+     */
+    private static final Pattern READ_QUERY_PATTERN = Pattern.compile(
+            "\\s*(?:(?:--[^\\n]*(?:\\n|$)|/\\*.*?\\*/)\\s*)*(?:SELECT|WITH|TABLE|VALUES)\\b[^;]*[;\\s]*",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
     public static PostgresDatasourceUtils postgresDatasourceUtils = new PostgresDatasourceUtils();
 
     public PostgresPlugin(PluginWrapper wrapper) {
@@ -179,8 +189,14 @@ public class PostgresPlugin extends BasePlugin {
                         + "  and not a.attisdropped\n"
                         + "  and n.nspname not in ('information_schema', 'pg_catalog')\n"
                         + "  and c.relkind in ('r', 'v')\n"
+                        + "%s"
                         + "order by c.relname, a.attnum;";
 
+        private static final String TABLES_QUERY_SCHEMA_FILTER = "  and n.nspname = any(?)\n";
+
+        // Tables are filtered by the name they have in the structure, which is qualified by their schema
+        private static final String TABLES_QUERY_TABLE_FILTER = "  and n.nspname || '.' || c.relname = any(?)\n";
+
         public static final String KEYS_QUERY =
                 "select c.conname                                         as constraint_name,\n"
                         + "       c.contype                                         as constraint_type,\n"
@@ -367,6 +383,9 @@ public class PostgresPlugin extends BasePlugin {
             List<RequestParamDTO> requestParams =
                     List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, transformedQuery, null, null, psParams));
             Instant requestedAt = Instant.now();
+            // The driver only fetches the rows of a query in batches of the fetch size when auto commit is off, so
+            // reads run in a transaction of their own
+            final boolean readInTransaction = isReadQuery(query);
 
             return Mono.fromCallable(() -> {
                         log.debug(Thread.currentThread().getName()
@@ -390,7 +409,7 @@ public class PostgresPlugin extends BasePlugin {
                                             : new StaleConnectionException(e.getMessage()));
                         }
 
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        List<Map<String, Object>> rowsList = new ArrayList<>(1);
                         final List<String> columnsList = new ArrayList<>();
 
                         Statement statement = null;
@@ -412,8 +431,13 @@ public class PostgresPlugin extends BasePlugin {
                                 threadsAwaitingConnection,
                                 totalConnections));
                         try {
+                            if (readInTransaction) {
+                                connectionFromPool.setAutoCommit(false);
+                            }
+
                             if (FALSE.equals(preparedStatement)) {
                                 statement = connectionFromPool.createStatement();
+                                JdbcRowReader.setFetchSize(statement);
                                 isResultSet = statement.execute(query);
                                 resultSet = statement.getResultSet();
                             } else {
@@ -436,6 +460,7 @@ public class PostgresPlugin extends BasePlugin {
                                                         parameters.get(i).getValue())));
 
                                 requestData.put("ps-parameters", parameters);
+                                JdbcRowReader.setFetchSize(preparedQuery);
                                 isResultSet = preparedQuery.execute();
                                 resultSet = preparedQuery.getResultSet();
                             }
@@ -450,96 +475,24 @@ public class PostgresPlugin extends BasePlugin {
 
                             } else {
 
-                                ResultSetMetaData metaData = resultSet.getMetaData();
-                                int colCount = metaData.getColumnCount();
-                                columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
-
-                                int iterator = 0;
-                                while (resultSet.next()) {
-
-                                    // Only check the data size at low frequency to ensure the performance is not
-                                    // impacted heavily
-                                    if (iterator % HEAVY_OP_FREQUENCY == 0) {
-                                        int objectSize = sizeof(rowsList);
-
-                                        if (objectSize > MAX_SIZE_SUPPORTED) {
-                                            log.debug(String.format(
-                                                    "[PostgresPlugin] Result size greater than maximum supported size of %d bytes. Current size: %d",
-                                                    MAX_SIZE_SUPPORTED, objectSize));
-                                            return Mono.error(new AppsmithPluginException(
-                                                    PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
-                                                    (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
-                                        }
-                                    }
-
-                                    // Use `LinkedHashMap` here so that the column ordering is preserved in the
-                                    // response.
-                                    Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                                    for (int i = 1; i <= colCount; i++) {
-                                        Object value;
-                                        final String typeName = metaData.getColumnTypeName(i);
-
-                                        if (resultSet.getObject(i) == null) {
-                                            value = null;
-
-                                        } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE.format(
-                                                    resultSet.getDate(i).toLocalDate());
-
-                                        } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
-                                                            resultSet.getDate(i).toLocalDate(),
-                                                            resultSet.getTime(i).toLocalTime()))
-                                                    + "Z";
-
-                                        } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                                    resultSet.getObject(i, OffsetDateTime.class));
-
-                                        } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName)
-                                                || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getString(i);
-
-                                        } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getObject(i).toString();
-
-                                        } else if (typeName.startsWith("_")) {
-                                            value = resultSet.getArray(i).getArray();
-
-                                        } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName)
-                                                || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            log.debug(Thread.currentThread().getName()
-                                                    + ": objectMapper readTree for Postgres plugin.");
-                                            Stopwatch processStopwatch =
-                                                    new Stopwatch("Postgres Plugin objectMapper readTree");
-                                            value = objectMapper.readTree(resultSet.getString(i));
-                                            processStopwatch.stopAndLogTimeInMillis();
-                                        } else {
-                                            value = resultSet.getObject(i);
-
-                                            /**
-                                             * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
-                                             * two attributes: type and value. Hence, when PGobject gets serialized, it gets
-                                             * converted into a JSON like {"type":"citext", "value":"someText"}. Since we
-                                             * are
-                                             * only interested in the value and not the type, it makes sense to extract out
-                                             * the value as a string.
-                                             * Reference:
-                                             * https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
-                                             */
-                                            if (value instanceof PGobject) {
-                                                value = ((PGobject) value).getValue();
-                                            }
-                                        }
+                                columnsList.addAll(getColumnsListForJdbcPlugin(resultSet.getMetaData()));
 
-                                        row.put(metaData.getColumnName(i), value);
-                                    }
+                                rowsList =
+                                        new JdbcRowReader(this::getColumnReader, MAX_SIZE_SUPPORTED).read(resultSet);
+                            }
 
-                                    rowsList.add(row);
+                            if (readInTransaction) {
+                                // Ends the transaction of the read, rows past the size limit are never fetched
+                                connectionFromPool.commit();
+                            }
 
-                                    iterator++;
-                                }
+                            if (rowsList instanceof SqlRows rows && rows.isSizeLimitExceeded()) {
+                                log.debug(String.format(
+                                        "[PostgresPlugin] Result size greater than maximum supported size of %d bytes. Current size: %d",
+                                        MAX_SIZE_SUPPORTED, rows.getEstimatedSize()));
+                                return Mono.error(new AppsmithPluginException(
+                                        PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                        (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
                             }
 
                         } catch (SQLException e) {
@@ -549,7 +502,7 @@ public class PostgresPlugin extends BasePlugin {
                                     PostgresErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
                                     e.getMessage(),
                                     "SQLSTATE: " + e.getSQLState()));
-                        } catch (IOException e) {
+                        } catch (UncheckedIOException e) {
                             // Since postgres json type field can only hold valid json data, this exception
                             // is not expected
                             // to occur.
@@ -557,7 +510,7 @@ public class PostgresPlugin extends BasePlugin {
                             return Mono.error(new AppsmithPluginException(
                                     PostgresPluginError.QUERY_EXECUTION_FAILED,
                                     PostgresErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                                    e.getMessage()));
+                                    e.getCause().getMessage()));
                         } finally {
                             idleConnections = poolProxy.getIdleConnections();
                             activeConnections = poolProxy.getActiveConnections();
@@ -593,6 +546,18 @@ public class PostgresPlugin extends BasePlugin {
                                 }
                             }
 
+                            if (readInTransaction && connectionFromPool != null) {
+                                try {
+                                    // Ends the transaction if the query failed, and turns auto commit back on before
+                                    // the connection goes back to the pool
+                                    connectionFromPool.rollback();
+                                    connectionFromPool.setAutoCommit(true);
+                                } catch (SQLException e) {
+                                    log.error("Execute Error restoring auto commit on Postgres connection");
+                                    e.printStackTrace();
+                                }
+                            }
+
                             if (connectionFromPool != null) {
                                 try {
                                     // Return the connection back to the pool
@@ -648,6 +613,76 @@ public class PostgresPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Returns true for queries that are run in a transaction of their own, so that their rows are fetched in
+         * batches as they are read. These are single SELECT, WITH, TABLE or VALUES statements. Other statements, like
+         * the ones that cannot run in a transaction block, keep running with auto commit.
+         */
+        static boolean isReadQuery(String query) {
+            return query != null && READ_QUERY_PATTERN.matcher(query).matches();
+        }
+
+        /**
+         * This method is used to pick how the values of a column are read, once per column of a result set.
+         */
+        private JdbcRowReader.ColumnReader getColumnReader(ResultSetMetaData metaData, int column) throws SQLException {
+            final String typeName = metaData.getColumnTypeName(column);
+
+            if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return JdbcRowReader.nonNull((resultSet, i) ->
+                        DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate()));
+
+            } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return JdbcRowReader.nonNull((resultSet, i) -> DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
+                                resultSet.getDate(i).toLocalDate(),
+                                resultSet.getTime(i).toLocalTime()))
+                        + "Z");
+
+            } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return JdbcRowReader.nonNull((resultSet, i) ->
+                        DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class)));
+
+            } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return JdbcRowReader.nonNull(ResultSet::getString);
+
+            } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return JdbcRowReader.nonNull(
+                        (resultSet, i) -> resultSet.getObject(i).toString());
+
+            } else if (typeName.startsWith("_")) {
+                return JdbcRowReader.nonNull(
+                        (resultSet, i) -> resultSet.getArray(i).getArray());
+
+            } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName) || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return JdbcRowReader.nonNull((resultSet, i) -> {
+                    try {
+                        return objectMapper.readTree(resultSet.getString(i));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+
+            return (resultSet, i) -> {
+                Object value = resultSet.getObject(i);
+
+                /**
+                 * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
+                 * two attributes: type and value. Hence, when PGobject gets serialized, it gets
+                 * converted into a JSON like {"type":"citext", "value":"someText"}. Since we
+                 * are
+                 * only interested in the value and not the type, it makes sense to extract out
+                 * the value as a string.
+                 * Reference:
+                 * https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
+                 */
+                if (value instanceof PGobject) {
+                    value = ((PGobject) value).getValue();
+                }
+                return value;
+            };
+        }
+
         private Set<String> populateHintMessages(List<String> columnNames) {
 
             Set<String> messages = new HashSet<>();
@@ -783,6 +818,21 @@ public class PostgresPlugin extends BasePlugin {
         @Override
         public Mono<DatasourceStructure> getStructure(
                 HikariDataSource connection, DatasourceConfiguration datasourceConfiguration) {
+            return getStructure(connection, datasourceConfiguration, null, StructureDiscoveryOptions.DEFAULT);
+        }
+
+        /**
+         * The schemas and tables included by the options are filtered in the catalog query of the tables. That query is
+         * cancelled when it takes longer than the time budget of the options, leaving a partial structure without
+         * tables. The keys of the tables are left out, and the structure is marked as partial in its keys, when the time
+         * budget runs out before they are fetched.
+         */
+        @Override
+        public Mono<DatasourceStructure> getStructure(
+                HikariDataSource connection,
+                DatasourceConfiguration datasourceConfiguration,
+                Boolean isMock,
+                StructureDiscoveryOptions options) {
 
             log.debug(Thread.currentThread().getName() + ": getStructure() called for Postgres plugin.");
             final DatasourceStructure structure = new DatasourceStructure();
@@ -819,10 +869,15 @@ public class PostgresPlugin extends BasePlugin {
 
                         // Ref:
                         // <https://docs.oracle.com/en/java/javase/11/docs/api/java.sql/java/sql/DatabaseMetaData.html>.
-                        try (Statement statement = connectionFromPool.createStatement()) {
-
-                            // Get tables and fill up their columns.
-                            try (ResultSet columnsResultSet = statement.executeQuery(TABLES_QUERY)) {
+                        final Instant deadline = Instant.now().plus(options.getTimeBudget());
+                        try (Statement statement = connectionFromPool.createStatement();
+                                PreparedStatement tablesStatement =
+                                        prepareTablesStatement(connectionFromPool, options)) {
+
+                            // Get tables and fill up their columns, within the time budget.
+                            tablesStatement.setQueryTimeout(
+                                    (int) Math.max(1, options.getTimeBudget().getSeconds()));
+                            try (ResultSet columnsResultSet = tablesStatement.executeQuery()) {
                                 while (columnsResultSet.next()) {
                                     final char kind =
                                             columnsResultSet.getString("kind").charAt(0);
@@ -854,51 +909,73 @@ public class PostgresPlugin extends BasePlugin {
                                                     defaultExpr,
                                                     isAutogenerated));
                                 }
+                            } catch (PSQLException e) {
+                                if (!PSQLState.QUERY_CANCELED.getState().equals(e.getSQLState())) {
+                                    throw e;
+                                }
+                                // The columns of the tables read until then may be incomplete, so none are kept
+                                tablesByName.clear();
+                                structure.setIsPartial(true);
                             }
 
-                            // Get tables' constraints and fill those up.
-                            try (ResultSet constraintsResultSet = statement.executeQuery(KEYS_QUERY)) {
-                                while (constraintsResultSet.next()) {
-                                    final String constraintName = constraintsResultSet.getString("constraint_name");
-                                    final char constraintType = constraintsResultSet
-                                            .getString("constraint_type")
-                                            .charAt(0);
-                                    final String selfSchema = constraintsResultSet.getString("self_schema");
-                                    final String tableName = constraintsResultSet.getString("self_table");
-                                    final String fullTableName = selfSchema + "." + tableName;
-                                    if (!tablesByName.containsKey(fullTableName)) {
-                                        continue;
-                                    }
-
-                                    final DatasourceStructure.Table table = tablesByName.get(fullTableName);
+                            // Get tables' constraints and fill those up, if there is time left for it.
+                            final long secondsLeft = Duration.between(Instant.now(), deadline).getSeconds();
+                            if (secondsLeft < 1) {
+                                structure.setIsKeysPartial(true);
+                            } else {
+                                statement.setQueryTimeout((int) secondsLeft);
+                                try (ResultSet constraintsResultSet = statement.executeQuery(KEYS_QUERY)) {
+                                    while (constraintsResultSet.next()) {
+                                        final String constraintName = constraintsResultSet.getString("constraint_name");
+                                        final char constraintType = constraintsResultSet
+                                                .getString("constraint_type")
+                                                .charAt(0);
+                                        final String selfSchema = constraintsResultSet.getString("self_schema");
+                                        final String tableName = constraintsResultSet.getString("self_table");
+                                        final String fullTableName = selfSchema + "." + tableName;
+                                        if (!tablesByName.containsKey(fullTableName)) {
+                                            continue;
+                                        }
 
-                                    if (constraintType == 'p') {
-                                        final DatasourceStructure.PrimaryKey key = new DatasourceStructure.PrimaryKey(
-                                                constraintName, List.of((String[]) constraintsResultSet
-                                                        .getArray("self_columns")
-                                                        .getArray()));
-                                        table.getKeys().add(key);
-
-                                    } else if (constraintType == 'f') {
-                                        final String foreignSchema = constraintsResultSet.getString("foreign_schema");
-                                        final String prefix =
-                                                (foreignSchema.equalsIgnoreCase(selfSchema) ? "" : foreignSchema + ".")
-                                                        + constraintsResultSet.getString("foreign_table")
-                                                        + ".";
-
-                                        final DatasourceStructure.ForeignKey key = new DatasourceStructure.ForeignKey(
-                                                constraintName,
-                                                List.of((String[]) constraintsResultSet
-                                                        .getArray("self_columns")
-                                                        .getArray()),
-                                                Stream.of((String[]) constraintsResultSet
-                                                                .getArray("foreign_columns")
-                                                                .getArray())
-                                                        .map(name -> prefix + name)
-                                                        .collect(Collectors.toList()));
-
-                                        table.getKeys().add(key);
+                                        final DatasourceStructure.Table table = tablesByName.get(fullTableName);
+
+                                        if (constraintType == 'p') {
+                                            final DatasourceStructure.PrimaryKey key =
+                                                    new DatasourceStructure.PrimaryKey(
+                                                            constraintName, List.of((String[]) constraintsResultSet
+                                                                    .getArray("self_columns")
+                                                                    .getArray()));
+                                            table.getKeys().add(key);
+
+                                        } else if (constraintType == 'f') {
+                                            final String foreignSchema =
+                                                    constraintsResultSet.getString("foreign_schema");
+                                            final String prefix = (foreignSchema.equalsIgnoreCase(selfSchema)
+                                                                    ? ""
+                                                                    : foreignSchema + ".")
+                                                    + constraintsResultSet.getString("foreign_table")
+                                                    + ".";
+
+                                            final DatasourceStructure.ForeignKey key =
+                                                    new DatasourceStructure.ForeignKey(
+                                                            constraintName,
+                                                            List.of((String[]) constraintsResultSet
+                                                                    .getArray("self_columns")
+                                                                    .getArray()),
+                                                            Stream.of((String[]) constraintsResultSet
+                                                                            .getArray("foreign_columns")
+                                                                            .getArray())
+                                                                    .map(name -> prefix + name)
+                                                                    .collect(Collectors.toList()));
+
+                                            table.getKeys().add(key);
+                                        }
                                     }
+                                } catch (PSQLException e) {
+                                    if (!PSQLState.QUERY_CANCELED.getState().equals(e.getSQLState())) {
+                                        throw e;
+                                    }
+                                    structure.setIsKeysPartial(true);
                                 }
                             }
 
@@ -1023,6 +1100,26 @@ public class PostgresPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        private static PreparedStatement prepareTablesStatement(
+                Connection connection, StructureDiscoveryOptions options) throws SQLException {
+            final List<Set<String>> filterValues = new ArrayList<>();
+            final StringBuilder filters = new StringBuilder();
+            if (!CollectionUtils.isEmpty(options.getSchemas())) {
+                filters.append(TABLES_QUERY_SCHEMA_FILTER);
+                filterValues.add(options.getSchemas());
+            }
+            if (!CollectionUtils.isEmpty(options.getTables())) {
+                filters.append(TABLES_QUERY_TABLE_FILTER);
+                filterValues.add(options.getTables());
+            }
+
+            final PreparedStatement statement = connection.prepareStatement(String.format(TABLES_QUERY, filters));
+            for (int i = 0; i < filterValues.size(); i++) {
+                statement.setArray(i + 1, connection.createArrayOf("text", filterValues.get(i).toArray()));
+            }
+            return statement;
+        }
+
         @Override
         public Object substituteValueInInput(
                 int index,
@@ -5,6 +5,7 @@ import com.appsmith.external.datatypes.ClientDataType;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.sql.JdbcRowReader;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -41,6 +42,7 @@ import reactor.test.StepVerifier;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
@@ -57,6 +59,7 @@ import java.util.stream.Stream;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -639,6 +642,107 @@ public class PostgresPluginTest {
                 .verifyComplete();
     }
 
+    private static Connection getJdbcConnection() throws SQLException {
+        Properties properties = new Properties();
+        properties.putAll(Map.of(
+                "user", username,
+                "password", password));
+        return DriverManager.getConnection("jdbc:postgresql://" + address + ":" + port + "/" + username, properties);
+    }
+
+    private Mono<ActionExecutionResult> executeWithoutPreparedStatement(
+            HikariDataSource connection, DatasourceConfiguration dsConfig, String query) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(query);
+        List<Property> pluginSpecifiedTemplates = new ArrayList<>();
+        pluginSpecifiedTemplates.add(new Property("preparedStatement", "false"));
+        actionConfiguration.setPluginSpecifiedTemplates(pluginSpecifiedTemplates);
+
+        return pluginExecutor.executeParameterized(connection, new ExecuteActionDTO(), dsConfig, actionConfiguration);
+    }
+
+    @Test
+    public void testIsReadQuery() {
+        assertTrue(PostgresPlugin.PostgresPluginExecutor.isReadQuery("SELECT * FROM users;"));
+        assertTrue(PostgresPlugin.PostgresPluginExecutor.isReadQuery(
+                "-- users\n/* all */ with u as (select * from users) select * from u"));
+        assertTrue(PostgresPlugin.PostgresPluginExecutor.isReadQuery("VALUES (1), (2)"));
+        assertFalse(PostgresPlugin.PostgresPluginExecutor.isReadQuery("UPDATE users SET username = 'a'"));
+        assertFalse(PostgresPlugin.PostgresPluginExecutor.isReadQuery("SELECT 1; VACUUM"));
+        assertFalse(PostgresPlugin.PostgresPluginExecutor.isReadQuery("CREATE INDEX CONCURRENTLY i ON users (id)"));
+    }
+
+    /**
+     * This test is used to check that the rows of a read are fetched in batches as they are read: once the size
+     * limit is reached, the rows after the first batch are never produced by the database.
+     */
+    @Test
+    public void testReadQueryRowsAreFetchedInBatches() throws SQLException {
+        try (Connection connection = getJdbcConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP SEQUENCE IF EXISTS fetched_rows_seq");
+            statement.execute("CREATE SEQUENCE fetched_rows_seq");
+        }
+
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<ActionExecutionResult> executeMono = pluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(conn -> executeWithoutPreparedStatement(
+                        conn,
+                        dsConfig,
+                        "SELECT nextval('fetched_rows_seq') AS n, repeat('x', 100) AS padding"
+                                + " FROM generate_series(1, 100000)"));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(
+                            PostgresPluginError.RESPONSE_SIZE_TOO_LARGE.getAppErrorCode(), result.getStatusCode());
+                })
+                .verifyComplete();
+
+        try (Connection connection = getJdbcConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT last_value FROM fetched_rows_seq")) {
+            assertTrue(resultSet.next());
+            assertTrue(resultSet.getLong(1) <= JdbcRowReader.DEFAULT_FETCH_SIZE);
+        }
+    }
+
+    /**
+     * This test is used to check that a read with side effects is committed, and that the connection it ran on goes
+     * back to the pool with auto commit on.
+     */
+    @Test
+    public void testReadQueryInTransactionIsCommitted() throws SQLException {
+        try (Connection connection = getJdbcConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS read_writes");
+            statement.execute("CREATE TABLE read_writes (id int)");
+        }
+
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<ActionExecutionResult> executeMono = pluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(conn -> executeWithoutPreparedStatement(
+                                conn,
+                                dsConfig,
+                                "WITH inserted AS (INSERT INTO read_writes VALUES (1) RETURNING id)"
+                                        + " SELECT id FROM inserted")
+                        .then(executeWithoutPreparedStatement(conn, dsConfig, "INSERT INTO read_writes VALUES (2)")));
+
+        StepVerifier.create(executeMono)
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+
+        try (Connection connection = getJdbcConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM read_writes")) {
+            assertTrue(resultSet.next());
+            assertEquals(2, resultSet.getInt(1));
+        }
+    }
+
     @Test
     public void testApplicationName() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
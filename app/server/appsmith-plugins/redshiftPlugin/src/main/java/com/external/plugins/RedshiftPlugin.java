@@ -3,6 +3,7 @@ package com.external.plugins;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.sql.JdbcRowReader;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -131,62 +132,50 @@ public class RedshiftPlugin extends BasePlugin {
 
         private void checkResultSetValidity(ResultSet resultSet) throws AppsmithPluginException {
             if (resultSet == null) {
-                log.debug("Redshift plugin: getRow: driver failed to fetch result: resultSet is null.");
+                log.debug("Redshift plugin: driver failed to fetch result: resultSet is null.");
                 throw new AppsmithPluginException(
                         RedshiftPluginError.QUERY_EXECUTION_FAILED, RedshiftErrorMessages.NULL_RESULTSET_ERROR_MSG);
             }
         }
 
-        private Map<String, Object> getRow(ResultSet resultSet) throws SQLException, AppsmithPluginException {
-            checkResultSetValidity(resultSet);
-
-            ResultSetMetaData metaData = resultSet.getMetaData();
-
+        private void checkMetaDataValidity(ResultSetMetaData metaData) throws AppsmithPluginException {
             /*
              * 1. Ideally metaData is never supposed to be null. Redshift JDBC driver does null check before returning
              *    ResultSetMetaData.
              */
             if (metaData == null) {
-                log.debug("Redshift plugin: getRow: metaData is null. Ideally this is never supposed to "
+                log.debug("Redshift plugin: metaData is null. Ideally this is never supposed to "
                         + "happen as the Redshift JDBC driver does a null check before passing this object. This means "
                         + "that something has gone wrong while processing the query result.");
                 throw new AppsmithPluginException(
                         RedshiftPluginError.QUERY_EXECUTION_FAILED, RedshiftErrorMessages.NULL_METADATA_ERROR_MSG);
             }
+        }
 
-            int colCount = metaData.getColumnCount();
-            // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-            Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-            for (int i = 1; i <= colCount; i++) {
-                Object value;
-                final String typeName = metaData.getColumnTypeName(i);
-
-                if (resultSet.getObject(i) == null) {
-                    value = null;
-
-                } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                    value = DateTimeFormatter.ISO_DATE.format(
-                            resultSet.getDate(i).toLocalDate());
-
-                } else if ("timestamp".equalsIgnoreCase(typeName)) {
-                    value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
-                                    resultSet.getDate(i).toLocalDate(),
-                                    resultSet.getTime(i).toLocalTime()))
-                            + "Z";
-
-                } else if ("timestamptz".equalsIgnoreCase(typeName)) {
-                    value = DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class));
-                } else if ("time".equalsIgnoreCase(typeName) || "timetz".equalsIgnoreCase(typeName)) {
-                    value = resultSet.getString(i);
-                } else {
-                    value = resultSet.getObject(i);
-                }
-
-                row.put(metaData.getColumnName(i), value);
+        /**
+         * This method is used to pick how the values of a column are read, once per column of a result set.
+         */
+        private JdbcRowReader.ColumnReader getColumnReader(ResultSetMetaData metaData, int column) throws SQLException {
+            final String typeName = metaData.getColumnTypeName(column);
+
+            if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return JdbcRowReader.nonNull((resultSet, i) ->
+                        DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate()));
+
+            } else if ("timestamp".equalsIgnoreCase(typeName)) {
+                return JdbcRowReader.nonNull((resultSet, i) -> DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
+                                resultSet.getDate(i).toLocalDate(),
+                                resultSet.getTime(i).toLocalTime()))
+                        + "Z");
+
+            } else if ("timestamptz".equalsIgnoreCase(typeName)) {
+                return JdbcRowReader.nonNull((resultSet, i) ->
+                        DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class)));
+            } else if ("time".equalsIgnoreCase(typeName) || "timetz".equalsIgnoreCase(typeName)) {
+                return JdbcRowReader.nonNull(ResultSet::getString);
             }
 
-            return row;
+            return JdbcRowReader.GET_OBJECT;
         }
 
         @Override
@@ -238,26 +227,26 @@ public class RedshiftPlugin extends BasePlugin {
                          */
                         printConnectionPoolStatus(connectionPool, false);
 
-                        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                        List<Map<String, Object>> rowsList;
                         final List<String> columnsList = new ArrayList<>();
                         Statement statement = null;
                         ResultSet resultSet = null;
 
                         try {
                             statement = connection.createStatement();
+                            JdbcRowReader.setFetchSize(statement);
                             boolean isResultSet = statement.execute(query);
 
                             if (isResultSet) {
                                 resultSet = statement.getResultSet();
+                                checkResultSetValidity(resultSet);
                                 ResultSetMetaData metaData = resultSet.getMetaData();
+                                checkMetaDataValidity(metaData);
                                 columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
-                                while (resultSet.next()) {
-                                    Map<String, Object> row = getRow(resultSet);
-                                    rowsList.add(row);
-                                }
+                                rowsList = new JdbcRowReader(this::getColumnReader).read(resultSet);
                             } else {
-                                rowsList.add(Map.of(
+                                rowsList = List.of(Map.of(
                                         "affectedRows", ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)));
                             }
                         } catch (SQLException e) {
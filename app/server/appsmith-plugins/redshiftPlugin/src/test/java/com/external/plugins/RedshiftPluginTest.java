@@ -217,8 +217,9 @@ public class RedshiftPluginTest {
          */
         ResultSet mockResultSet = mock(ResultSet.class);
         when(mockStatement.getResultSet()).thenReturn(mockResultSet);
+        // Plain columns are read once, the others are first read to check for null
         when(mockResultSet.getObject(Mockito.anyInt()))
-                .thenReturn("", 1, "", "Jack", "", "jill", "", "jack@exemplars.com", null, "", "", "", "", "");
+                .thenReturn(1, "Jack", "jill", "jack@exemplars.com", null, "", "", "", "", "");
         when(mockResultSet.getDate(Mockito.anyInt()))
                 .thenReturn(Date.valueOf("2018-12-31"), Date.valueOf("2018-11-30"));
         when(mockResultSet.getString(Mockito.anyInt())).thenReturn("18:32:45", "12:05:06+00");
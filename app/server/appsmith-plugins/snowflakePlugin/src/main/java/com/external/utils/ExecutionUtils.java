@@ -2,6 +2,7 @@ package com.external.utils;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.sql.JdbcRowReader;
 import com.external.plugins.exceptions.SnowflakeErrorMessages;
 import com.external.plugins.exceptions.SnowflakePluginError;
 import lombok.extern.slf4j.Slf4j;
@@ -9,11 +10,8 @@ import net.snowflake.client.jdbc.SnowflakeReauthenticationRequest;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -32,7 +30,7 @@ public class ExecutionUtils {
      */
     public static List<Map<String, Object>> getRowsFromQueryResult(Connection connection, String query)
             throws AppsmithPluginException, StaleConnectionException {
-        List<Map<String, Object>> rowsList = new ArrayList<>();
+        List<Map<String, Object>> rowsList;
         ResultSet resultSet = null;
         Statement statement = null;
         try {
@@ -44,20 +42,9 @@ public class ExecutionUtils {
             }
 
             statement = connection.createStatement();
+            JdbcRowReader.setFetchSize(statement);
             resultSet = statement.executeQuery(query);
-            ResultSetMetaData metaData = resultSet.getMetaData();
-            int colCount = metaData.getColumnCount();
-
-            while (resultSet.next()) {
-                // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                for (int i = 1; i <= colCount; i++) {
-                    Object value = resultSet.getObject(i);
-                    row.put(metaData.getColumnName(i), value);
-                }
-                rowsList.add(row);
-            }
+            rowsList = new JdbcRowReader(JdbcRowReader.GET_OBJECT_FACTORY).read(resultSet);
         } catch (SQLException e) {
             if (e instanceof SnowflakeReauthenticationRequest) {
                 throw new StaleConnectionException(e.getMessage());
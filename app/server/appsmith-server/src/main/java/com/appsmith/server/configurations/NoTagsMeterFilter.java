@@ -8,6 +8,15 @@ import io.micrometer.core.instrument.config.MeterFilter;
 import java.util.List;
 import java.util.Map;
 
+import static com.appsmith.caching.components.CacheMetrics.CACHE_EVICTIONS;
+import static com.appsmith.caching.components.CacheMetrics.CACHE_GETS;
+import static com.appsmith.caching.components.CacheMetrics.CACHE_LOAD;
+import static com.appsmith.caching.components.CacheMetrics.CACHE_PAYLOAD_SIZE;
+import static com.appsmith.caching.components.CacheMetrics.CACHE_PUTS;
+import static com.appsmith.caching.components.CacheMetrics.CACHE_TAG;
+import static com.appsmith.caching.components.CacheMetrics.RESULT_TAG;
+import static com.appsmith.caching.components.CacheMetrics.SCOPE_TAG;
+import static com.appsmith.caching.components.CacheMetrics.TIER_TAG;
 import static com.appsmith.external.constants.spans.LoginSpan.LOGIN_ATTEMPT;
 import static com.appsmith.external.constants.spans.LoginSpan.LOGIN_FAILURE;
 import static com.appsmith.external.constants.spans.ce.ActionSpanCE.*;
@@ -32,7 +41,12 @@ public class NoTagsMeterFilter implements MeterFilter {
             Map.entry(FS_FETCH_REMOTE, List.of()),
             Map.entry(JGIT_FETCH_REMOTE, List.of()),
             Map.entry(LOGIN_FAILURE, List.of("source", "message")),
-            Map.entry(LOGIN_ATTEMPT, List.of("source")));
+            Map.entry(LOGIN_ATTEMPT, List.of("source")),
+            Map.entry(CACHE_GETS, List.of(CACHE_TAG, TIER_TAG, RESULT_TAG)),
+            Map.entry(CACHE_PUTS, List.of(CACHE_TAG, RESULT_TAG)),
+            Map.entry(CACHE_EVICTIONS, List.of(CACHE_TAG, SCOPE_TAG)),
+            Map.entry(CACHE_LOAD, List.of(CACHE_TAG)),
+            Map.entry(CACHE_PAYLOAD_SIZE, List.of(CACHE_TAG)));
 
     @Override
     public Meter.Id map(Meter.Id id) {
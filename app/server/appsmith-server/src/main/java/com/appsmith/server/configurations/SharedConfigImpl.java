@@ -1,11 +1,14 @@
 package com.appsmith.server.configurations;
 
+import com.appsmith.external.helpers.restApiUtils.helpers.HttpClientRegistry;
 import com.appsmith.external.services.SharedConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
@@ -17,6 +20,24 @@ public class SharedConfigImpl implements SharedConfig {
     @Value("${appsmith.plugin.response.size.max:5}")
     private float maxPluginResponseSize = 5;
 
+    @Value("${appsmith.plugin.http.pool.max-pools:500}")
+    private int httpPoolMaxPools;
+
+    @Value("${appsmith.plugin.http.pool.max-connections:100}")
+    private int httpPoolMaxConnections;
+
+    @Value("${appsmith.plugin.http.pool.pending-acquire-max-count:1000}")
+    private int httpPoolPendingAcquireMaxCount;
+
+    @Value("${appsmith.plugin.http.pool.pending-acquire-timeout:45s}")
+    private Duration httpPoolPendingAcquireTimeout;
+
+    @Value("${appsmith.plugin.http.pool.max-idle-time:30s}")
+    private Duration httpPoolMaxIdleTime;
+
+    @Value("${appsmith.plugin.http.pool.max-life-time:600s}")
+    private Duration httpPoolMaxLifeTime;
+
     private final CloudServicesConfig cloudServicesConfig;
 
     @Override
@@ -38,4 +59,15 @@ public class SharedConfigImpl implements SharedConfig {
     public String getAIProxyBasePathUrl() {
         return cloudServicesConfig.getBaseUrl();
     }
+
+    @Override
+    public HttpClientRegistry.Settings getHttpConnectionPoolSettings() {
+        return new HttpClientRegistry.Settings(
+                httpPoolMaxPools,
+                httpPoolMaxConnections,
+                httpPoolPendingAcquireMaxCount,
+                httpPoolPendingAcquireTimeout,
+                httpPoolMaxIdleTime,
+                httpPoolMaxLifeTime);
+    }
 }
@@ -43,6 +43,7 @@ import reactor.core.publisher.Mono;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @RequestMapping(Url.DATASOURCE_URL)
@@ -126,10 +127,11 @@ public class DatasourceControllerCE {
     public Mono<ResponseDTO<DatasourceStructure>> getStructure(
             @PathVariable String datasourceId,
             @RequestParam(required = false, defaultValue = "false") Boolean ignoreCache,
+            @RequestParam(required = false) Set<String> tables,
             @RequestHeader(name = FieldName.HEADER_ENVIRONMENT_ID, required = false) String environmentId) {
         log.debug("Going to get structure for datasource with id: '{}'.", datasourceId);
         return datasourceStructureSolution
-                .getStructure(datasourceId, BooleanUtils.isTrue(ignoreCache), environmentId)
+                .getStructure(datasourceId, BooleanUtils.isTrue(ignoreCache), environmentId, tables)
                 .map(structure -> new ResponseDTO<>(HttpStatus.OK, structure));
     }
 
@@ -9,13 +9,22 @@ import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
 
 public class ArtifactExchangeJsonAdapterCE implements JsonDeserializer<ArtifactExchangeJson> {
     private static final String FIELD_NAME = "artifactJsonType";
+    // Exports write the artifactJsonType at the very start, it is only looked for in these first characters
+    private static final int LEADING_FIELD_READ_LIMIT = 8192;
     protected Map<ArtifactType, Class<? extends ArtifactExchangeJson>> artifactTypeRegistry;
     private final Gson gson;
 
@@ -33,12 +42,76 @@ public class ArtifactExchangeJsonAdapterCE implements JsonDeserializer<ArtifactE
     public ArtifactExchangeJson deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context)
             throws JsonParseException {
         JsonObject jsonObject = json.getAsJsonObject();
-        JsonElement artifactJsonTypeElement = jsonObject.get(FIELD_NAME);
-        Class<? extends ArtifactExchangeJson> instanceClass = ApplicationJson.class;
-        if (artifactJsonTypeElement != null) {
-            ArtifactType artifactType = ArtifactType.valueOf(artifactJsonTypeElement.getAsString());
-            instanceClass = artifactTypeRegistry.getOrDefault(artifactType, ApplicationJson.class);
+        return gson.fromJson(json, getInstanceClass(jsonObject.get(FIELD_NAME)));
+    }
+
+    /**
+     * Reads an ArtifactExchangeJson straight from the stream, without building the JSON tree of the whole file first.
+     * When the artifactJsonType is the first field, as exports write it, it is read from the start of the stream, and
+     * the whole object is then read by the Gson adapter of the artifact json class, so that the pages, actions and
+     * collections are only ever held as objects. Otherwise, the object is read as a JSON tree and bound like in
+     * deserialize.
+     *
+     * @param reader reader of the JSON document
+     * @return JSON entity which implements ArtifactExchangeJson, or null when the document is a JSON null
+     * @throws java.io.EOFException when the document is empty
+     */
+    public ArtifactExchangeJson read(Reader reader) throws IOException {
+        BufferedReader bufferedReader = new BufferedReader(reader, LEADING_FIELD_READ_LIMIT);
+        bufferedReader.mark(LEADING_FIELD_READ_LIMIT);
+        char[] start = new char[LEADING_FIELD_READ_LIMIT];
+        int length = 0;
+        int read;
+        while (length < start.length && (read = bufferedReader.read(start, length, start.length - length)) != -1) {
+            length += read;
+        }
+        bufferedReader.reset();
+
+        JsonReader jsonReader = new JsonReader(bufferedReader);
+        // Same as Gson.fromJson
+        jsonReader.setLenient(true);
+        if (jsonReader.peek() == JsonToken.NULL) {
+            return null;
+        }
+
+        Class<? extends ArtifactExchangeJson> leadingInstanceClass =
+                getLeadingInstanceClass(new String(start, 0, length));
+        if (leadingInstanceClass != null) {
+            return gson.getAdapter(leadingInstanceClass).read(jsonReader);
+        }
+
+        JsonElement json = JsonParser.parseReader(jsonReader);
+        if (!json.isJsonObject()) {
+            throw new JsonParseException("Expected a JSON object but was " + json);
+        }
+        return gson.fromJson(json, getInstanceClass(json.getAsJsonObject().get(FIELD_NAME)));
+    }
+
+    protected Class<? extends ArtifactExchangeJson> getInstanceClass(JsonElement artifactJsonTypeElement) {
+        if (artifactJsonTypeElement == null || artifactJsonTypeElement.isJsonNull()) {
+            return ApplicationJson.class;
+        }
+        ArtifactType artifactType = ArtifactType.valueOf(artifactJsonTypeElement.getAsString());
+        return artifactTypeRegistry.getOrDefault(artifactType, ApplicationJson.class);
+    }
+
+    /**
+     * The class of the artifact json, when the artifactJsonType is the first field of the given start of the document.
+     */
+    private Class<? extends ArtifactExchangeJson> getLeadingInstanceClass(String documentStart) {
+        JsonReader jsonReader = new JsonReader(new StringReader(documentStart));
+        jsonReader.setLenient(true);
+        try {
+            if (jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
+                return null;
+            }
+            jsonReader.beginObject();
+            if (jsonReader.hasNext() && FIELD_NAME.equals(jsonReader.nextName())) {
+                return getInstanceClass(JsonParser.parseReader(jsonReader));
+            }
+        } catch (IOException | JsonParseException e) {
+            // The start of the document ends before the first field, which is then read with the whole document
         }
-        return gson.fromJson(json, instanceClass);
+        return null;
     }
 }
@@ -12,6 +12,7 @@ import org.springframework.data.mongodb.core.mapping.Document;
  * This stores a snapshot of an application. If a snapshot is more than 15 MB, we'll break it into smaller chunks.
  * Both the root chunk and the child chunks will be stored in this collection.
  * We'll use some attributes to create and maintain the sequence of the chunks.
+ * The JSON is compressed as it is written, and the compressed data is what gets split into chunks.
  */
 @Getter
 @Setter
@@ -32,6 +33,19 @@ public class ApplicationSnapshot extends BaseDomain {
      */
     private int chunkOrder;
 
+    /**
+     * Compression the data is stored with, same on every chunk. Snapshots without it are plain UTF-8 JSON.
+     */
+    private String compression;
+
+    /**
+     * Hash and size of the uncompressed JSON, present only in the first chunk. Used to skip writing a snapshot
+     * that is the same as the stored one.
+     */
+    private String contentHash;
+
+    private Long uncompressedSize;
+
     /**
      * Adding this method as updatedAt field in BaseDomain is annotated with @JsonIgnore
      *
@@ -0,0 +1,140 @@
+package com.appsmith.server.helpers;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AstReferencesCache keeps the references that RTS found in a binding, for the binding text and the eval version it
+ * was parsed with. The same binding always has the same references for an eval version, while the bindings of a page
+ * were sent to RTS again on every layout update and on page load computation.
+ * <p>
+ * Bindings are keyed by a hash of their text, so that long bindings are not kept around as keys. The cache is kept in
+ * memory only, for a bounded size.
+ */
+@Component
+public class AstReferencesCache {
+
+    // Characters of the references kept
+    private static final long MAX_WEIGHT = 32L * 1024 * 1024;
+
+    private static final int ENTRY_WEIGHT = 128;
+
+    // Unused entries are let go, as RTS could be upgraded to parse the same eval version differently
+    private static final Duration EXPIRY = Duration.ofHours(6);
+
+    private static final String METRIC_PREFIX = "appsmith.ast.references";
+
+    private final Cache<Key, Set<String>> references = Caffeine.newBuilder()
+            .maximumWeight(MAX_WEIGHT)
+            .weigher((Key key, Set<String> value) -> weigh(value))
+            .expireAfterAccess(EXPIRY)
+            .build();
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private final DistributionSummary batchSizeSummary;
+
+    private final Timer rtsTimer;
+
+    private final Timer savedTimer;
+
+    // Moving average of the RTS call durations, as an estimate of the time saved by a call that isn't made
+    private final AtomicLong averageRtsNanos = new AtomicLong();
+
+    /**
+     * Identifies the references of a binding.
+     *
+     * @param hash        : Hash of the binding text
+     * @param evalVersion : Eval version the binding is parsed with
+     */
+    public record Key(String hash, int evalVersion) {}
+
+    public AstReferencesCache(MeterRegistry meterRegistry) {
+        this.hitCounter = Counter.builder(METRIC_PREFIX + ".cache")
+                .description("Bindings whose references were served from the cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_PREFIX + ".cache")
+                .description("Bindings whose references were served from the cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder(METRIC_PREFIX + ".rts.batch.size")
+                .description("Bindings sent to RTS in a call")
+                .register(meterRegistry);
+        this.rtsTimer = Timer.builder(METRIC_PREFIX + ".rts")
+                .description("Time taken by RTS to find the references of a batch of bindings")
+                .register(meterRegistry);
+        this.savedTimer = Timer.builder(METRIC_PREFIX + ".saved")
+                .description("Estimated time saved by RTS calls that were served from the cache")
+                .register(meterRegistry);
+    }
+
+    public static Key getKey(String binding, int evalVersion) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String hash = Base64.getEncoder()
+                    .withoutPadding()
+                    .encodeToString(digest.digest(binding.getBytes(StandardCharsets.UTF_8)));
+            return new Key(hash, evalVersion);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to hash binding", e);
+        }
+    }
+
+    /**
+     * Returns the references kept for the key, or null. A lookup is counted as a hit or a miss.
+     */
+    public Set<String> get(Key key) {
+        Set<String> value = references.getIfPresent(key);
+        (value == null ? missCounter : hitCounter).increment();
+        return value;
+    }
+
+    public void put(Key key, Set<String> value) {
+        references.put(key, value == null ? Set.of() : Set.copyOf(value));
+    }
+
+    /**
+     * This method is used to record an RTS call made for the bindings that were not in the cache.
+     */
+    public void recordRtsCall(int batchSize, long durationNanos) {
+        batchSizeSummary.record(batchSize);
+        rtsTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+        averageRtsNanos.updateAndGet(
+                average -> average == 0 ? durationNanos : average + (durationNanos - average) / 8);
+    }
+
+    /**
+     * This method is used to record an RTS call that wasn't made, because all the bindings were in the cache.
+     */
+    public void recordRtsCallSaved() {
+        long average = averageRtsNanos.get();
+        if (average > 0) {
+            savedTimer.record(average, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static int weigh(Set<String> value) {
+        int weight = ENTRY_WEIGHT;
+        for (String reference : value) {
+            weight += reference.length();
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,156 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.helpers.ResponseSizeEstimator;
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.domains.Layout;
+import com.appsmith.server.dtos.ConsolidatedAPIResponseDTO;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.dtos.ResponseDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * ConsolidatedAPIViewModeCache keeps the published parts of the view mode consolidated API response of a page, which
+ * are the pages, themes, custom JS libraries, page DSL, actions and action collections. These only change when the
+ * application is deployed, while they were read again from the database on every page load of every end user.
+ * <p>
+ * A payload is kept for the application and page it was read for, the deployment it was read from, the policies of
+ * the application and the page, and the permission groups of the user it was read for, as every read it is made of is
+ * filtered by them. Changing who can view the application changes its policies and those of its page, so the payloads
+ * read before are not used anymore. End users with the same permission groups, like all the anonymous users of a public
+ * application, share the same payload.
+ * The payloads of an application are evicted when it is published, and are kept in memory only, for a bounded size.
+ */
+@Slf4j
+@Component
+public class ConsolidatedAPIViewModeCache {
+
+    // Estimated bytes of JSON, from the page DSL
+    private static final long MAX_WEIGHT = 256L * 1024 * 1024;
+
+    private static final int PAYLOAD_WEIGHT = 16 * 1024;
+
+    private static final int EXECUTABLE_WEIGHT = 1024;
+
+    // Policies of the actions, action collections and themes are not part of the key, changes to them that do not come
+    // with a change to the policies of the application or the page are served for at most this long
+    private static final Duration EXPIRY = Duration.ofMinutes(5);
+
+    private final Cache<Key, ConsolidatedAPIResponseDTO> payloads = Caffeine.newBuilder()
+            .maximumWeight(MAX_WEIGHT)
+            .weigher((Key key, ConsolidatedAPIResponseDTO payload) -> weigh(payload))
+            .expireAfterWrite(EXPIRY)
+            .build();
+
+    /**
+     * Identifies a view mode payload.
+     *
+     * @param applicationId      : Branched application id
+     * @param pageId             : Branched page id
+     * @param lastDeployedAt     : Deployment of the application the payload was read from
+     * @param policies           : Policies of the application and the page, see policiesOf
+     * @param permissionGroupIds : Permission groups of the user the payload was read for
+     */
+    public record Key(
+            String applicationId,
+            String pageId,
+            String lastDeployedAt,
+            Map<String, Set<String>> policies,
+            Set<String> permissionGroupIds) {}
+
+    /**
+     * Returns the permission groups of every permission in the policies of the given domain objects, as an immutable
+     * map for the key of a payload.
+     */
+    public static Map<String, Set<String>> policiesOf(BaseDomain... domains) {
+        Map<String, Set<String>> policies = new HashMap<>();
+        for (BaseDomain domain : domains) {
+            if (domain.getPolicyMap() == null) {
+                continue;
+            }
+            for (Policy policy : domain.getPolicyMap().values()) {
+                if (policy.getPermission() != null && policy.getPermissionGroups() != null) {
+                    policies.computeIfAbsent(policy.getPermission(), permission -> new HashSet<>())
+                            .addAll(policy.getPermissionGroups());
+                }
+            }
+        }
+        Map<String, Set<String>> immutablePolicies = new HashMap<>();
+        policies.forEach(
+                (permission, permissionGroups) -> immutablePolicies.put(permission, Set.copyOf(permissionGroups)));
+        return Map.copyOf(immutablePolicies);
+    }
+
+    /**
+     * Returns the payload kept for the given key, or null.
+     */
+    public ConsolidatedAPIResponseDTO get(Key key) {
+        return payloads.getIfPresent(key);
+    }
+
+    /**
+     * This method is used to keep a payload, only when all of its parts were read successfully. The payload must not
+     * be changed afterwards, as it is shared by all the requests with the same key.
+     */
+    public void put(Key key, ConsolidatedAPIResponseDTO payload) {
+        if (isComplete(payload)) {
+            payloads.put(key, payload);
+        }
+    }
+
+    /**
+     * This method is used to evict all the payloads of a branched application, when it is published.
+     */
+    public void evictApplication(String applicationId) {
+        payloads.asMap().keySet().removeIf(key -> key.applicationId().equals(applicationId));
+        log.debug("Evicted view mode payloads of application {}", applicationId);
+    }
+
+    private static boolean isComplete(ConsolidatedAPIResponseDTO payload) {
+        return Stream.of(
+                        payload.getPages(),
+                        payload.getCurrentTheme(),
+                        payload.getThemes(),
+                        payload.getCustomJSLibraries(),
+                        payload.getPageWithMigratedDsl(),
+                        payload.getPublishedActions(),
+                        payload.getPublishedActionCollections())
+                .allMatch(ConsolidatedAPIViewModeCache::isSuccessful);
+    }
+
+    private static boolean isSuccessful(ResponseDTO<?> responseDTO) {
+        return responseDTO != null
+                && responseDTO.getResponseMeta() != null
+                && responseDTO.getResponseMeta().getStatus() == HttpStatus.OK.value()
+                && responseDTO.getData() != null;
+    }
+
+    private static int weigh(ConsolidatedAPIResponseDTO payload) {
+        long weight = PAYLOAD_WEIGHT;
+        PageDTO page = payload.getPageWithMigratedDsl().getData();
+        if (page.getLayouts() != null) {
+            for (Layout layout : page.getLayouts()) {
+                weight += ResponseSizeEstimator.estimate(layout.getDsl());
+            }
+        }
+        weight += (long) EXECUTABLE_WEIGHT
+                * (sizeOf(payload.getPublishedActions()) + sizeOf(payload.getPublishedActionCollections()));
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static int sizeOf(ResponseDTO<? extends List<?>> responseDTO) {
+        return responseDTO.getData().size();
+    }
+}
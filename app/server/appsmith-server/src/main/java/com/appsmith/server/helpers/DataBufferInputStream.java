@@ -0,0 +1,172 @@
+package com.appsmith.server.helpers;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * DataBufferInputStream reads the DataBuffers of a publisher as a blocking InputStream, requesting more buffers only
+ * as the ones before them are read, so that at most a few buffers of the body are held at a time. Every buffer is
+ * released as soon as it has been read.
+ * <p>
+ * Reads block until the next buffer arrives, so the stream must only be read on a thread that may block.
+ */
+public class DataBufferInputStream extends InputStream {
+
+    private static final int DEFAULT_PREFETCH = 4;
+
+    private static final Object COMPLETE = new Object();
+
+    // Holds DataBuffers, followed by COMPLETE or the error the publisher failed with
+    private final BlockingQueue<Object> signals = new LinkedBlockingQueue<>();
+
+    private final BufferSubscriber subscriber;
+
+    private DataBuffer current;
+
+    private boolean done;
+
+    private volatile boolean closed;
+
+    public DataBufferInputStream(Publisher<DataBuffer> source) {
+        this(source, DEFAULT_PREFETCH);
+    }
+
+    public DataBufferInputStream(Publisher<DataBuffer> source, int prefetch) {
+        this.subscriber = new BufferSubscriber(prefetch);
+        source.subscribe(subscriber);
+    }
+
+    @Override
+    public int read() throws IOException {
+        DataBuffer buffer = currentBuffer();
+        if (buffer == null) {
+            return -1;
+        }
+        int value = buffer.read() & 0xFF;
+        releaseIfRead(buffer);
+        return value;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        DataBuffer buffer = currentBuffer();
+        if (buffer == null) {
+            return -1;
+        }
+        int count = Math.min(length, buffer.readableByteCount());
+        buffer.read(bytes, offset, count);
+        releaseIfRead(buffer);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return current == null ? 0 : current.readableByteCount();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        subscriber.dispose();
+        if (current != null) {
+            DataBufferUtils.release(current);
+            current = null;
+        }
+        drain();
+    }
+
+    private DataBuffer currentBuffer() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        while (current == null && !done) {
+            Object signal;
+            try {
+                signal = signals.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for data");
+            }
+
+            if (signal instanceof DataBuffer buffer) {
+                if (buffer.readableByteCount() > 0) {
+                    current = buffer;
+                } else {
+                    DataBufferUtils.release(buffer);
+                    subscriber.request(1);
+                }
+            } else {
+                done = true;
+                if (signal instanceof Throwable error) {
+                    throw new IOException("Unable to read data", error);
+                }
+            }
+        }
+        return current;
+    }
+
+    private void releaseIfRead(DataBuffer buffer) {
+        if (buffer.readableByteCount() == 0) {
+            DataBufferUtils.release(buffer);
+            current = null;
+            subscriber.request(1);
+        }
+    }
+
+    private void drain() {
+        Object signal;
+        while ((signal = signals.poll()) != null) {
+            if (signal instanceof DataBuffer buffer) {
+                DataBufferUtils.release(buffer);
+            }
+        }
+    }
+
+    private class BufferSubscriber extends BaseSubscriber<DataBuffer> {
+
+        private final int prefetch;
+
+        BufferSubscriber(int prefetch) {
+            this.prefetch = Math.max(prefetch, 1);
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            subscription.request(prefetch);
+        }
+
+        @Override
+        protected void hookOnNext(DataBuffer buffer) {
+            signals.add(buffer);
+            if (closed) {
+                // Closed while this buffer was on its way
+                drain();
+            }
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            signals.add(COMPLETE);
+        }
+
+        @Override
+        protected void hookOnError(Throwable throwable) {
+            signals.add(throwable);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import lombok.NonNull;
 import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.core.query.Criteria;
 
+import java.time.Instant;
 import java.util.Collection;
 
 public final class Bridge {
@@ -104,6 +105,14 @@ public final class Bridge {
         return Bridge.<T>query().isNotNull(key);
     }
 
+    public static <T extends BaseDomain> BridgeQuery<T> gte(@NonNull String key, @NonNull Instant value) {
+        return Bridge.<T>query().gte(key, value);
+    }
+
+    public static <T extends BaseDomain> BridgeQuery<T> lte(@NonNull String key, @NonNull Instant value) {
+        return Bridge.<T>query().lte(key, value);
+    }
+
     public static <T extends BaseDomain> BridgeQuery<T> isTrue(@NonNull String key) {
         return Bridge.<T>query().isTrue(key);
     }
@@ -6,6 +6,7 @@ import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.core.query.Criteria;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -103,6 +104,16 @@ public final class BridgeQuery<T extends BaseDomain> extends Criteria {
         return this;
     }
 
+    public BridgeQuery<T> gte(@NonNull String key, @NonNull Instant value) {
+        checks.add(Criteria.where(key).gte(value));
+        return this;
+    }
+
+    public BridgeQuery<T> lte(@NonNull String key, @NonNull Instant value) {
+        checks.add(Criteria.where(key).lte(value));
+        return this;
+    }
+
     public BridgeQuery<T> isTrue(@NonNull String key) {
         checks.add(Criteria.where(key).is(true));
         return this;
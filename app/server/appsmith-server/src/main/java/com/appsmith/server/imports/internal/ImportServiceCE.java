@@ -33,6 +33,8 @@ public interface ImportServiceCE {
 
     Mono<String> readFilePartToString(Part file);
 
+    Mono<? extends ArtifactExchangeJson> readFilePartToArtifactExchangeJson(Part file);
+
     Mono<? extends ArtifactExchangeJson> extractArtifactExchangeJson(String jsonString);
 
     /**
@@ -21,6 +21,7 @@ import com.appsmith.server.dtos.ImportingMetaDTO;
 import com.appsmith.server.dtos.MappedImportableResourcesDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.DataBufferInputStream;
 import com.appsmith.server.helpers.ImportArtifactPermissionProvider;
 import com.appsmith.server.helpers.ImportExportUtils;
 import com.appsmith.server.imports.importable.ImportableService;
@@ -31,8 +32,7 @@ import com.appsmith.server.repositories.PermissionGroupRepository;
 import com.appsmith.server.services.AnalyticsService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.WorkspaceService;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -44,7 +44,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-
+import reactor.core.scheduler.Schedulers;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -67,7 +74,6 @@ public class ImportServiceCEImpl implements ImportServiceCE {
     private final AnalyticsService analyticsService;
     private final ImportableService<Plugin> pluginImportableService;
     private final ImportableService<Datasource> datasourceImportableService;
-    private final GsonBuilder gsonBuilder;
     private final ArtifactExchangeJsonAdapter artifactExchangeJsonAdapter;
     private final JsonSchemaMigration jsonSchemaMigration;
     private final DryOperationRepository dryOperationRepository;
@@ -103,18 +109,51 @@ public class ImportServiceCEImpl implements ImportServiceCE {
 
     @Override
     public Mono<String> readFilePartToString(Part file) {
+        return validateFilePart(file).then(DataBufferUtils.join(file.content()).map(dataBuffer -> {
+            byte[] data = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(data);
+            DataBufferUtils.release(dataBuffer);
+            return new String(data);
+        }));
+    }
+
+    /**
+     * This method reads the JSON file part straight into a JSON entity which implements the ArtifactExchangeJson
+     * interface, as its DataBuffers arrive. The file is never held as a whole, be it as bytes, a string or a JSON tree,
+     * so the memory needed is that of the parsed entity plus a few buffers, whatever the size of the file.
+     *
+     * @param file JSON file part to parse
+     * @return JSON entity which implements ArtifactExchangeJson
+     */
+    @Override
+    public Mono<? extends ArtifactExchangeJson> readFilePartToArtifactExchangeJson(Part file) {
+        return validateFilePart(file)
+                .then(Mono.using(
+                                () -> new DataBufferInputStream(file.content()),
+                                inputStream -> Mono.fromCallable(() -> readArtifactExchangeJson(
+                                        new InputStreamReader(inputStream, StandardCharsets.UTF_8))),
+                                DataBufferInputStream::close)
+                        // Reading blocks until the next buffer of the file arrives
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .onErrorMap(
+                        error -> error instanceof JsonParseException || error instanceof IOException,
+                        error -> {
+                            log.error("Error while parsing the imported file", error);
+                            return new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE);
+                        });
+    }
+
+    private Mono<Void> validateFilePart(Part file) {
         final MediaType contentType = file.headers().getContentType();
         if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType)) {
             log.error("Invalid content type, {}", contentType);
             return Mono.error(new AppsmithException(AppsmithError.VALIDATION_FAILURE, INVALID_JSON_FILE));
         }
+        return Mono.empty();
+    }
 
-        return DataBufferUtils.join(file.content()).map(dataBuffer -> {
-            byte[] data = new byte[dataBuffer.readableByteCount()];
-            dataBuffer.read(data);
-            DataBufferUtils.release(dataBuffer);
-            return new String(data);
-        });
+    private ArtifactExchangeJson readArtifactExchangeJson(Reader reader) throws IOException {
+        return artifactExchangeJsonAdapter.read(reader);
     }
 
     /**
@@ -126,18 +165,26 @@ public class ImportServiceCEImpl implements ImportServiceCE {
     @Override
     public Mono<? extends ArtifactExchangeJson> extractArtifactExchangeJson(String jsonString) {
         return Mono.fromCallable(() -> {
-            gsonBuilder.registerTypeAdapter(ArtifactExchangeJson.class, artifactExchangeJsonAdapter);
-            Gson gson = gsonBuilder.create();
-            return gson.fromJson(jsonString, ArtifactExchangeJson.class);
+            try {
+                return readArtifactExchangeJson(new StringReader(jsonString));
+            } catch (EOFException e) {
+                // Same as Gson.fromJson, an empty document has no entity
+                return null;
+            }
         });
     }
 
     @Override
     public Mono<? extends ArtifactImportDTO> extractArtifactExchangeJsonAndSaveArtifact(
             Part filePart, String workspaceId, String artifactId) {
-        return readFilePartToString(filePart)
-                .flatMap(jsonContents ->
-                        extractArtifactExchangeJsonAndSaveArtifact(jsonContents, workspaceId, artifactId));
+
+        if (StringUtils.isEmpty(workspaceId)) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.WORKSPACE_ID));
+        }
+
+        return readFilePartToArtifactExchangeJson(filePart)
+                .flatMap(artifactExchangeJson ->
+                        saveArtifactExchangeJson(artifactExchangeJson, workspaceId, artifactId));
     }
 
     /**
@@ -155,7 +202,14 @@ public class ImportServiceCEImpl implements ImportServiceCE {
             return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.WORKSPACE_ID));
         }
 
-        Mono<ArtifactImportDTO> importedContextMono = extractArtifactExchangeJson(jsonContents)
+        return extractArtifactExchangeJson(jsonContents)
+                .flatMap(artifactExchangeJson ->
+                        saveArtifactExchangeJson(artifactExchangeJson, workspaceId, artifactId));
+    }
+
+    private Mono<? extends ArtifactImportDTO> saveArtifactExchangeJson(
+            ArtifactExchangeJson artifactExchangeJson, String workspaceId, String artifactId) {
+        Mono<ArtifactImportDTO> importedContextMono = Mono.just(artifactExchangeJson)
                 .zipWhen(contextJson -> {
                     if (StringUtils.isEmpty(artifactId)) {
                         return importNewArtifactInWorkspaceFromJson(workspaceId, contextJson);
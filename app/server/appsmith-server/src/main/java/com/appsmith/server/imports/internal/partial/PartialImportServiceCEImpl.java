@@ -20,6 +20,7 @@ import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.Workspace;
 import com.appsmith.server.dtos.ApplicationImportDTO;
 import com.appsmith.server.dtos.ApplicationJson;
+import com.appsmith.server.dtos.ArtifactExchangeJson;
 import com.appsmith.server.dtos.BuildingBlockDTO;
 import com.appsmith.server.dtos.BuildingBlockImportDTO;
 import com.appsmith.server.dtos.BuildingBlockResponseDTO;
@@ -107,17 +108,24 @@ public class PartialImportServiceCEImpl implements PartialImportServiceCE {
 
     @Override
     public Mono<Application> importResourceInPage(String workspaceId, String applicationId, String pageId, Part file) {
-        return importService
-                .readFilePartToString(file)
-                .flatMap(fileContents -> importResourceInPage(workspaceId, applicationId, pageId, fileContents));
+        return importResourceInPage(
+                workspaceId, applicationId, pageId, importService.readFilePartToArtifactExchangeJson(file));
     }
 
     @Override
     public Mono<Application> importResourceInPage(
             String workspaceId, String applicationId, String pageId, String fileContents) {
+        return importResourceInPage(
+                workspaceId, applicationId, pageId, importService.extractArtifactExchangeJson(fileContents));
+    }
+
+    private Mono<Application> importResourceInPage(
+            String workspaceId,
+            String applicationId,
+            String pageId,
+            Mono<? extends ArtifactExchangeJson> artifactExchangeJsonMono) {
         Mono<User> currUserMono = sessionUserService.getCurrentUser();
-        return importService
-                .extractArtifactExchangeJson(fileContents)
+        return artifactExchangeJsonMono
                 .flatMap(artifactExchangeJson -> {
                     if (artifactExchangeJson instanceof ApplicationJson
                             && isImportableResource((ApplicationJson) artifactExchangeJson)) {
@@ -0,0 +1,73 @@
+package com.appsmith.server.migrations.db.ce;
+
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Workspace;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+import static com.appsmith.external.helpers.StringUtils.dotted;
+import static com.appsmith.server.migrations.DatabaseChangelog1.dropIndexIfExists;
+import static com.appsmith.server.migrations.DatabaseChangelog1.ensureIndexes;
+import static com.appsmith.server.migrations.DatabaseChangelog1.makeIndex;
+import static com.appsmith.server.migrations.constants.DeprecatedFieldName.DELETED;
+import static com.appsmith.server.migrations.constants.FieldName.DELETED_AT;
+import static com.appsmith.server.migrations.constants.FieldName.PERMISSION_GROUPS;
+import static com.appsmith.server.migrations.constants.FieldName.POLICY_MAP;
+
+/**
+ * This migration adds indexes to back the search of workspaces and applications by name. The read permission groups
+ * lead the index so that only the entities visible to the user are scanned, and the name is part of the index so that
+ * the case-insensitive name match is evaluated on the index keys, without fetching the documents that don't match.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@ChangeUnit(order = "075", id = "add-idx-name-search-workspace-application", author = " ")
+public class Migration075AddNameSearchIndexesForWorkspaceAndApplication {
+    private final MongoTemplate mongoTemplate;
+
+    public static final String WORKSPACE_NAME_SEARCH_INDEX = "policy_read_workspace_name_search_index";
+    public static final String APPLICATION_NAME_SEARCH_INDEX = "policy_read_application_name_search_index";
+
+    @RollbackExecution
+    public void rollbackExecution() {}
+
+    @Execution
+    public void executeMigration() {
+        createAndApplyIndex(
+                WORKSPACE_NAME_SEARCH_INDEX,
+                Workspace.class,
+                dotted(POLICY_MAP, "read:workspaces", PERMISSION_GROUPS),
+                DELETED,
+                DELETED_AT,
+                Workspace.Fields.name);
+
+        createAndApplyIndex(
+                APPLICATION_NAME_SEARCH_INDEX,
+                Application.class,
+                dotted(POLICY_MAP, "read:applications", PERMISSION_GROUPS),
+                DELETED,
+                DELETED_AT,
+                Application.Fields.name);
+    }
+
+    private void createAndApplyIndex(String indexName, Class<?> clazz, String... fields) {
+        try {
+            Index index = makeIndex(fields).named(indexName).background();
+            dropIndexIfExists(mongoTemplate, clazz, indexName);
+            ensureIndexes(mongoTemplate, clazz, index);
+        } catch (UncategorizedMongoDbException exception) {
+            log.error(
+                    "An error occurred while creating the index : {}, skipping the addition of index because of {}.",
+                    indexName,
+                    exception.getMessage());
+        } catch (Exception e) {
+            log.error("An error occurred while creating the index : {}", indexName, e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.appsmith.server.migrations.db.ce;
+
+import com.appsmith.external.models.DatasourceStorageStructure;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+import static com.appsmith.server.migrations.DatabaseChangelog1.dropIndexIfExists;
+import static com.appsmith.server.migrations.DatabaseChangelog1.ensureIndexes;
+import static com.appsmith.server.migrations.DatabaseChangelog1.makeIndex;
+
+/**
+ * This migration adds an index to back the lookup of the datasource structures to refresh in the background, which
+ * are the ones used since a given time, and not tried to be refreshed since another.
+ */
+@RequiredArgsConstructor
+@Slf4j
+@ChangeUnit(order = "076", id = "add-idx-datasource-structure-refresh", author = " ")
+public class Migration076AddIndexForDatasourceStructureRefresh {
+    private final MongoTemplate mongoTemplate;
+
+    public static final String DATASOURCE_STRUCTURE_REFRESH_INDEX = "datasource_structure_used_at_attempted_at_index";
+
+    @RollbackExecution
+    public void rollbackExecution() {}
+
+    @Execution
+    public void executeMigration() {
+        try {
+            Index index = makeIndex(
+                            DatasourceStorageStructure.Fields.usedAt,
+                            DatasourceStorageStructure.Fields.refreshAttemptedAt)
+                    .named(DATASOURCE_STRUCTURE_REFRESH_INDEX)
+                    .background();
+            dropIndexIfExists(mongoTemplate, DatasourceStorageStructure.class, DATASOURCE_STRUCTURE_REFRESH_INDEX);
+            ensureIndexes(mongoTemplate, DatasourceStorageStructure.class, index);
+        } catch (UncategorizedMongoDbException exception) {
+            log.error(
+                    "An error occurred while creating the index : {}, skipping the addition of index because of {}.",
+                    DATASOURCE_STRUCTURE_REFRESH_INDEX,
+                    exception.getMessage());
+        } catch (Exception e) {
+            log.error("An error occurred while creating the index : {}", DATASOURCE_STRUCTURE_REFRESH_INDEX, e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.appsmith.server.newpages.postpublishhooks;
+
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.postpublishhooks.base.PostPublishHookableCE;
+import com.appsmith.server.services.ConsolidatedAPIService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RequiredArgsConstructor
+public class NewPagePostApplicationPublishServiceCEImpl implements PostPublishHookableCE<Application, NewPage> {
+
+    private final ConsolidatedAPIService consolidatedAPIService;
+
+    /**
+     * Evicts the view mode payloads of the published application's pages, which the consolidated API serves until the
+     * next deployment.
+     */
+    @Override
+    public Mono<Void> postPublishHookForArtifactEntities(String artifactId) {
+        return consolidatedAPIService.evictViewModePayloads(artifactId);
+    }
+
+    @Override
+    public Class<NewPage> getEntityType() {
+        return NewPage.class;
+    }
+
+    @Override
+    public Class<Application> getArtifactType() {
+        return Application.class;
+    }
+}
@@ -0,0 +1,17 @@
+package com.appsmith.server.newpages.postpublishhooks;
+
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.postpublishhooks.base.PostPublishHookable;
+import com.appsmith.server.services.ConsolidatedAPIService;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+@Service
+public class NewPagePostApplicationPublishServiceImpl extends NewPagePostApplicationPublishServiceCEImpl
+        implements PostPublishHookable<Application, NewPage> {
+
+    public NewPagePostApplicationPublishServiceImpl(@Lazy ConsolidatedAPIService consolidatedAPIService) {
+        super(consolidatedAPIService);
+    }
+}
@@ -0,0 +1,214 @@
+package com.appsmith.server.onload.internal;
+
+import com.appsmith.external.models.EntityDependencyNode;
+import com.appsmith.external.models.EntityReferenceType;
+import com.appsmith.external.models.Executable;
+import com.appsmith.server.domains.ExecutableDependencyEdge;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.DirectedAcyclicGraph;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * OnLoadDependencyIndex keeps what the last computation of the on load executables of every page (or other creator)
+ * found, so that the next computation for the same page only does the work again for what changed. For every page it
+ * holds:
+ * 1. The graph edges every dependency edge was turned into, once unknown entities are filtered out and the implicit
+ * parent child and configuration edges are added. These are reused as long as the page has the same entity names.
+ * 2. The dependency graph itself. It is reused as is when the vertices and edges did not change, which is the case for
+ * most layout updates such as moving a widget around. Otherwise a new graph is made with the vertices of the previous
+ * one first, in their topological order, so that only the changed edges need the graph to update its order.
+ * <p>
+ * The possible references in the bindings of the page are not kept here, the AST service keeps them for all pages in
+ * AstReferencesCache.
+ * <p>
+ * Everything in the index is keyed by content, so that a stale entry can never be used. It is kept in memory only, for
+ * a bounded number of pages, as it can always be computed again.
+ */
+@Slf4j
+class OnLoadDependencyIndex {
+
+    private static final int MAX_INDEXED_CREATORS = 1000;
+
+    private final Cache<String, Snapshot> snapshots =
+            Caffeine.newBuilder().maximumSize(MAX_INDEXED_CREATORS).build();
+
+    /**
+     * An edge of the dependency graph, between two property paths.
+     */
+    record GraphEdge(String source, String target) {
+        @Override
+        public String toString() {
+            // Same as ExecutableDependencyEdge, for the cyclical dependency errors
+            return source + " : " + target;
+        }
+    }
+
+    /**
+     * Everything about a dependency edge that the graph edges made from it depend on.
+     */
+    private record EdgeKey(NodeKey source, NodeKey target) {
+        static EdgeKey of(ExecutableDependencyEdge edge) {
+            return new EdgeKey(NodeKey.of(edge.getSourceNode()), NodeKey.of(edge.getTargetNode()));
+        }
+    }
+
+    private record NodeKey(
+            EntityReferenceType entityReferenceType,
+            String validEntityName,
+            String referenceString,
+            Boolean isFunctionCall,
+            String configurationPath) {
+        static NodeKey of(EntityDependencyNode node) {
+            Executable executable = node.getExecutable();
+            return new NodeKey(
+                    node.getEntityReferenceType(),
+                    node.getValidEntityName(),
+                    node.getReferenceString(),
+                    node.getIsFunctionCall(),
+                    executable == null ? null : executable.getConfigurationPath());
+        }
+    }
+
+    private record Snapshot(
+            int evalVersion,
+            Set<String> entityNames,
+            Map<EdgeKey, List<GraphEdge>> graphEdgesByEdge,
+            Set<String> vertices,
+            Set<GraphEdge> graphEdges,
+            DirectedAcyclicGraph<String, DefaultEdge> graph) {}
+
+    /**
+     * This method is used to start a computation of the on load executables of a creator, which reads from what the
+     * previous computation for the same creator and evaluation version found.
+     */
+    Run startRun(String creatorKey, int evalVersion) {
+        Snapshot previous = snapshots.getIfPresent(creatorKey);
+        if (previous != null && previous.evalVersion() != evalVersion) {
+            previous = null;
+        }
+        return new Run(creatorKey, evalVersion, previous);
+    }
+
+    /**
+     * A single computation of the on load executables of a creator. What it finds replaces the index entry of the
+     * creator once its dependency graph is built.
+     */
+    class Run {
+
+        private final String creatorKey;
+
+        private final int evalVersion;
+
+        private final Snapshot previous;
+
+        private final Map<EdgeKey, List<GraphEdge>> graphEdgesByEdge = new HashMap<>();
+
+        private Set<String> entityNames = Set.of();
+
+        private Map<EdgeKey, List<GraphEdge>> previousGraphEdgesByEdge = Map.of();
+
+        private Run(String creatorKey, int evalVersion, Snapshot previous) {
+            this.creatorKey = creatorKey;
+            this.evalVersion = evalVersion;
+            this.previous = previous;
+        }
+
+        /**
+         * This method is used to give the names of the executables and widgets of the creator, which decide which
+         * dependency edges are kept in the graph.
+         */
+        void setEntityNames(Set<String> executableNames, Set<String> widgetNames) {
+            Set<String> names = new HashSet<>(executableNames);
+            names.addAll(widgetNames);
+            entityNames = names;
+            previousGraphEdgesByEdge =
+                    previous != null && previous.entityNames().equals(names) ? previous.graphEdgesByEdge() : Map.of();
+        }
+
+        /**
+         * This method is used to get the graph edges a dependency edge is turned into, using the given function only
+         * when the same edge was not already turned into graph edges with the same entity names.
+         */
+        List<GraphEdge> getGraphEdges(ExecutableDependencyEdge edge, Supplier<List<GraphEdge>> graphEdgesSupplier) {
+            EdgeKey edgeKey = EdgeKey.of(edge);
+            List<GraphEdge> graphEdges = graphEdgesByEdge.get(edgeKey);
+            if (graphEdges == null) {
+                graphEdges = previousGraphEdgesByEdge.get(edgeKey);
+                if (graphEdges == null) {
+                    graphEdges = List.copyOf(graphEdgesSupplier.get());
+                }
+                graphEdgesByEdge.put(edgeKey, graphEdges);
+            }
+            return graphEdges;
+        }
+
+        /**
+         * This method is used to get the dependency graph with the given vertices and edges, and to save what this run
+         * found in the index.
+         * The returned graph must not be changed, as it may be shared with later runs.
+         *
+         * @throws AppsmithException with CYCLICAL_DEPENDENCY_ERROR if the edges make a cycle
+         */
+        DirectedAcyclicGraph<String, DefaultEdge> buildGraph(Set<String> vertices, Set<GraphEdge> graphEdges) {
+            DirectedAcyclicGraph<String, DefaultEdge> graph;
+            if (previous != null
+                    && previous.graph() != null
+                    && previous.vertices().equals(vertices)
+                    && previous.graphEdges().equals(graphEdges)) {
+                graph = previous.graph();
+            } else {
+                graph = new DirectedAcyclicGraph<>(DefaultEdge.class);
+                if (previous != null && previous.graph() != null) {
+                    // Keep the previous topological order for the vertices still in the graph, so that edges that did
+                    // not change are added without reordering anything
+                    for (String vertex : previous.graph()) {
+                        if (vertices.contains(vertex)) {
+                            graph.addVertex(vertex);
+                        }
+                    }
+                }
+                for (String vertex : vertices) {
+                    graph.addVertex(vertex);
+                }
+                for (GraphEdge graphEdge : graphEdges) {
+                    try {
+                        graph.addEdge(graphEdge.source(), graphEdge.target());
+                    } catch (IllegalArgumentException e) {
+                        // This error is also thrown when adding an edge which makes the graph cyclical
+                        if (e.getMessage().contains("Edge would induce a cycle")) {
+                            throw new AppsmithException(AppsmithError.CYCLICAL_DEPENDENCY_ERROR, graphEdge.toString());
+                        }
+                    }
+                }
+            }
+
+            snapshots.put(
+                    creatorKey,
+                    new Snapshot(
+                            evalVersion,
+                            entityNames,
+                            graphEdgesByEdge,
+                            vertices,
+                            graphEdges,
+                            graph));
+
+            log.debug(
+                    "On load dependency index for {}: graph {}",
+                    creatorKey,
+                    graph == (previous == null ? null : previous.graph()) ? "reused" : "updated");
+
+            return graph;
+        }
+    }
+}
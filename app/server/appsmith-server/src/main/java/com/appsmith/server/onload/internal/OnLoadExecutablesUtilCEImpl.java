@@ -45,9 +45,9 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
@@ -99,6 +99,9 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
     private final FeatureFlagService featureFlagService;
     private final RunBehaviourAnalyticsUtils runBehaviourAnalyticsUtils;
 
+    // Keeps what was found for every page, so that a layout update only analyses again what changed in it
+    private final OnLoadDependencyIndex dependencyIndex = new OnLoadDependencyIndex();
+
     /**
      * This function computes the sequenced on page load executables.
      * <p>
@@ -131,6 +134,9 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
             Set<String> executablesUsedInDSLRef,
             CreatorContextType creatorType) {
 
+        OnLoadDependencyIndex.Run dependencyIndexRun =
+                dependencyIndex.startRun(creatorType + ":" + creatorId, evaluatedVersion);
+
         Set<String> onLoadExecutableSetRef = new HashSet<>();
         Set<String> explicitUserSetOnLoadExecutablesRef = new HashSet<>();
         Set<String> bindingsFromExecutablesRef = ConcurrentHashMap.newKeySet();
@@ -226,7 +232,8 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
                 .map(tuple -> {
                     Set<String> allExecutables = tuple.getT1();
                     Set<ExecutableDependencyEdge> updatedEdges = tuple.getT2();
-                    return constructDAG(allExecutables, widgetNames, updatedEdges, executableBindingsInDslRef);
+                    return constructDAG(
+                            allExecutables, widgetNames, updatedEdges, executableBindingsInDslRef, dependencyIndexRun);
                 })
                 .cache();
 
@@ -905,117 +912,107 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
      * Dropdown1.options -> Dropdown1
      * <p>
      * 3. Now create the DAG using the edges after the two steps.
+     * <p>
+     * The first two steps are done for every edge on its own, and only for the edges that the dependency index has not
+     * seen before with the same entity names. The index also gives back the previous graph of the page when nothing
+     * changed in it.
      *
      * @param executableNames
      * @param widgetNames
      * @param edges
      * @param executableBindingsInDsl
+     * @param dependencyIndexRun
      * @return
      */
     private DirectedAcyclicGraph<String, DefaultEdge> constructDAG(
             Set<String> executableNames,
             Set<String> widgetNames,
             Set<ExecutableDependencyEdge> edges,
-            Set<EntityDependencyNode> executableBindingsInDsl) {
+            Set<EntityDependencyNode> executableBindingsInDsl,
+            OnLoadDependencyIndex.Run dependencyIndexRun) {
 
-        DirectedAcyclicGraph<String, DefaultEdge> executableSchedulingGraph =
-                new DirectedAcyclicGraph<>(DefaultEdge.class);
+        Set<String> vertices = new LinkedHashSet<>();
 
         // Add the vertices for all the executables found in the DSL
         for (EntityDependencyNode executableBindingInDsl : executableBindingsInDsl) {
-            executableSchedulingGraph.addVertex(executableBindingInDsl.getReferenceString());
+            vertices.add(executableBindingInDsl.getReferenceString());
         }
 
-        Set<ExecutableDependencyEdge> implicitParentChildEdges = new HashSet<>();
-
-        // Remove any edge which contains an unknown entity - aka neither a known executable nor a known widget
-        // Note : appsmith world objects like `appsmith` would also count as an unknown here.
-        // TODO : Handle the above global variables provided by appsmith in the following filtering.
-        edges = edges.stream()
-                .filter(edge -> {
-                    String source = edge.getSourceNode().getReferenceString();
-                    String target = edge.getTargetNode().getReferenceString();
-
-                    // Edges here are assumed to be non-null
-                    // If an edge comprises vertices that depend on itself (caused by self-referencing),
-                    // We want to throw an error before attempting to create the DAG
-                    // Example: Text1.text has the value {{ Text1.text }}
-                    if (source.equals(target)) {
-                        throw new AppsmithException(AppsmithError.CYCLICAL_DEPENDENCY_ERROR, edge.toString());
-                    }
-
-                    Set<String> vertices = Set.of(source, target);
+        // Edges here are assumed to be non-null
+        // If an edge comprises vertices that depend on itself (caused by self-referencing),
+        // We want to throw an error before attempting to create the DAG
+        // Example: Text1.text has the value {{ Text1.text }}
+        for (ExecutableDependencyEdge edge : edges) {
+            if (edge.getSourceNode()
+                    .getReferenceString()
+                    .equals(edge.getTargetNode().getReferenceString())) {
+                throw new AppsmithException(AppsmithError.CYCLICAL_DEPENDENCY_ERROR, edge.toString());
+            }
+        }
 
-                    boolean isValidEdge = true;
+        dependencyIndexRun.setEntityNames(executableNames, widgetNames);
 
-                    // Assert that the vertices which are entire property paths have a possible parent which is either
-                    // an executable or a widget or a static variable provided by appsmith at page/application level.
-                    for (String vertex : vertices) {
-                        Optional<String> validEntity = getPossibleParents(vertex).stream()
-                                .filter(parent -> {
-                                    if (!executableNames.contains(parent)
-                                            && !widgetNames.contains(parent)
-                                            && !APPSMITH_GLOBAL_VARIABLES.contains(parent)) {
-                                        return false;
-                                    }
-                                    return true;
-                                })
-                                .findFirst();
-                        // If any of the generated entity names from the path are valid appsmith entity name,
-                        // the vertex is considered valid
-                        if (!validEntity.isPresent()) {
-                            isValidEdge = FALSE;
-                            break;
-                        }
-                    }
+        Set<OnLoadDependencyIndex.GraphEdge> graphEdges = new LinkedHashSet<>();
+        for (ExecutableDependencyEdge edge : edges) {
+            graphEdges.addAll(dependencyIndexRun.getGraphEdges(
+                    edge, () -> generateGraphEdges(edge, executableNames, widgetNames)));
+        }
 
-                    return isValidEdge;
-                })
-                .collect(Collectors.toSet());
+        for (OnLoadDependencyIndex.GraphEdge graphEdge : graphEdges) {
+            vertices.add(graphEdge.source());
+            vertices.add(graphEdge.target());
+        }
 
-        Set<ExecutableDependencyEdge> executableDataFromConfigurationEdges = new HashSet<>();
+        return dependencyIndexRun.buildGraph(vertices, graphEdges);
+    }
 
-        edges.stream().forEach(edge -> {
-            addImplicitExecutableConfigurationDependency(edge.getSourceNode(), executableDataFromConfigurationEdges);
-            addImplicitExecutableConfigurationDependency(edge.getTargetNode(), executableDataFromConfigurationEdges);
-        });
+    /**
+     * This function does the first two steps of constructDAG for a single edge. It returns no graph edges if the edge
+     * contains an unknown entity, else the edge itself with its implicit executable configuration and parent child
+     * edges.
+     */
+    private List<OnLoadDependencyIndex.GraphEdge> generateGraphEdges(
+            ExecutableDependencyEdge edge, Set<String> executableNames, Set<String> widgetNames) {
+        // Remove any edge which contains an unknown entity - aka neither a known executable nor a known widget
+        // Note : appsmith world objects like `appsmith` would also count as an unknown here.
+        // TODO : Handle the above global variables provided by appsmith in the following filtering.
+        Set<String> vertices = Set.of(
+                edge.getSourceNode().getReferenceString(), edge.getTargetNode().getReferenceString());
+
+        // Assert that the vertices which are entire property paths have a possible parent which is either
+        // an executable or a widget or a static variable provided by appsmith at page/application level.
+        for (String vertex : vertices) {
+            boolean hasValidEntity = getPossibleParents(vertex).stream()
+                    .anyMatch(parent -> executableNames.contains(parent)
+                            || widgetNames.contains(parent)
+                            || APPSMITH_GLOBAL_VARIABLES.contains(parent));
+            // If any of the generated entity names from the path are valid appsmith entity name,
+            // the vertex is considered valid
+            if (!hasValidEntity) {
+                return List.of();
+            }
+        }
 
-        edges.addAll(executableDataFromConfigurationEdges);
+        Set<ExecutableDependencyEdge> edges = new HashSet<>();
+        edges.add(edge);
+        addImplicitExecutableConfigurationDependency(edge.getSourceNode(), edges);
+        addImplicitExecutableConfigurationDependency(edge.getTargetNode(), edges);
 
         // Now add the relationship aka when a child gets updated, the parent should get updated as well. Aka
         // parent depends on the child.
-        for (ExecutableDependencyEdge edge : edges) {
-            EntityDependencyNode source = edge.getSourceNode();
-            EntityDependencyNode target = edge.getTargetNode();
-
-            Set<EntityDependencyNode> edgeVertices = Set.of(source, target);
-
-            edgeVertices.stream()
-                    .forEach(vertex -> implicitParentChildEdges.addAll(generateParentChildRelationships(vertex)));
+        Set<ExecutableDependencyEdge> implicitParentChildEdges = new HashSet<>();
+        for (ExecutableDependencyEdge dependencyEdge : edges) {
+            implicitParentChildEdges.addAll(generateParentChildRelationships(dependencyEdge.getSourceNode()));
+            implicitParentChildEdges.addAll(generateParentChildRelationships(dependencyEdge.getTargetNode()));
         }
-
         edges.addAll(implicitParentChildEdges);
 
-        // Now create the graph from all the edges.
-        for (ExecutableDependencyEdge edge : edges) {
-
-            String source = edge.getSourceNode().getReferenceString();
-            String target = edge.getTargetNode().getReferenceString();
-
-            executableSchedulingGraph.addVertex(source);
-            executableSchedulingGraph.addVertex(target);
-
-            try {
-                executableSchedulingGraph.addEdge(source, target);
-            } catch (IllegalArgumentException e) {
-                // This error is also thrown when adding an edge which makes the graph cyclical
-                if (e.getMessage().contains("Edge would induce a cycle")) {
-                    throw new AppsmithException(AppsmithError.CYCLICAL_DEPENDENCY_ERROR, edge.toString());
-                }
-            }
-        }
-
-        return executableSchedulingGraph;
+        return edges.stream()
+                .map(dependencyEdge -> new OnLoadDependencyIndex.GraphEdge(
+                        dependencyEdge.getSourceNode().getReferenceString(),
+                        dependencyEdge.getTargetNode().getReferenceString()))
+                .distinct()
+                .toList();
     }
 
     /**
@@ -0,0 +1,100 @@
+package com.appsmith.server.ratelimiting;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * LocalTokenLeases holds tokens that were taken from a distributed bucket in a batch, but not needed by the request
+ * that took them, so that the next requests of the same bucket can be granted a token without a round trip to Redis.
+ * <p>
+ * Leased tokens are already consumed from the distributed bucket, so granting them locally never lets more requests
+ * through than the distributed limit. A lease is only good for a short while, so that a reset of the bucket or a
+ * request landing on another server is not left behind by tokens held here for long. The tokens a lease still holds
+ * when it expires, or is evicted, are given back to the distributed bucket, so that batching doesn't lower the limit
+ * of users with sparse requests. Tokens of an invalidated lease are not given back, as the bucket is reset.
+ */
+public class LocalTokenLeases {
+
+    private static final int MAX_LEASES = 10_000;
+
+    private final long leaseDurationNanos;
+
+    private final Cache<String, Lease> leases;
+
+    private record Lease(AtomicLong tokens, long expiresAt, LongConsumer giveBack) {
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+
+        void giveBackUnused() {
+            long unused = tokens.getAndSet(0);
+            if (unused > 0) {
+                giveBack.accept(unused);
+            }
+        }
+    }
+
+    public LocalTokenLeases(Duration leaseDuration) {
+        this.leaseDurationNanos = leaseDuration.toNanos();
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(MAX_LEASES)
+                .expireAfterWrite(leaseDuration)
+                // Expired leases are removed on time, rather than on the next access, to give their tokens back
+                .scheduler(Scheduler.systemScheduler())
+                .<String, Lease>removalListener((key, lease, cause) -> {
+                    if (lease != null && cause.wasEvicted()) {
+                        lease.giveBackUnused();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Grants a leased token of the bucket, if there's one left.
+     */
+    public boolean tryConsume(String bucketIdentifier) {
+        Lease lease = leases.getIfPresent(bucketIdentifier);
+        if (lease == null || lease.isExpired(System.nanoTime())) {
+            return false;
+        }
+
+        return lease.tokens().getAndUpdate(tokens -> tokens > 0 ? tokens - 1 : 0) > 0;
+    }
+
+    /**
+     * Adds tokens taken from the distributed bucket to the lease of the bucket. Tokens added to a lease that's still
+     * good are held until that lease expires.
+     *
+     * @param giveBack : Gives the tokens the lease didn't grant back to the distributed bucket
+     */
+    public void lease(String bucketIdentifier, long tokens, LongConsumer giveBack) {
+        if (tokens <= 0) {
+            return;
+        }
+        if (leaseDurationNanos <= 0) {
+            giveBack.accept(tokens);
+            return;
+        }
+
+        long now = System.nanoTime();
+        leases.asMap().compute(bucketIdentifier, (key, lease) -> {
+            if (lease == null || lease.isExpired(now)) {
+                if (lease != null) {
+                    lease.giveBackUnused();
+                }
+                return new Lease(new AtomicLong(tokens), now + leaseDurationNanos, giveBack);
+            }
+            lease.tokens().addAndGet(tokens);
+            return lease;
+        });
+    }
+
+    public void invalidate(String bucketIdentifier) {
+        leases.invalidate(bucketIdentifier);
+    }
+}
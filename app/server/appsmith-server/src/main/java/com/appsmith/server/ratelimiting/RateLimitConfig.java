@@ -1,48 +1,77 @@
 package com.appsmith.server.ratelimiting;
 
 import com.appsmith.server.constants.RateLimitConstants;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.Refill;
+import io.github.bucket4j.distributed.AsyncBucketProxy;
 import io.github.bucket4j.distributed.BucketProxy;
 import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
 import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
 import io.lettuce.core.AbstractRedisClient;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.cluster.RedisClusterClient;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 
 @Configuration
 @Slf4j
 public class RateLimitConfig {
-    private static final Map<String, BucketConfiguration> apiConfigurationMap = new HashMap<>();
+    private static final String PROPERTY_PREFIX = "appsmith.rate-limit.";
 
-    @Autowired
-    private final AbstractRedisClient redisClient;
+    // Bucket proxies are cheap to keep, but building them for every request is not
+    private static final int MAX_CACHED_BUCKETS = 10_000;
 
-    public RateLimitConfig(AbstractRedisClient redisClient) {
-        this.redisClient = redisClient;
-    }
+    private static final Duration CACHED_BUCKET_EXPIRY = Duration.ofMinutes(30);
+
+    private final Map<String, ApiRateLimit> apiRateLimitMap = new HashMap<>();
+
+    private final LettuceBasedProxyManager<byte[]> proxyManager;
+
+    private final Cache<String, AsyncBucketProxy> asyncBucketCache = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_BUCKETS)
+            .expireAfterAccess(CACHED_BUCKET_EXPIRY)
+            .build();
+
+    /**
+     * How long tokens taken from a distributed bucket in a batch can be granted locally. Tokens not granted by then
+     * are added back to the distributed bucket.
+     */
+    @Getter
+    private final Duration localLeaseDuration;
+
+    /**
+     * Limits of an API, per user.
+     *
+     * @param configuration   : Configuration of the distributed bucket
+     * @param localBatchSize  : Number of tokens taken from the distributed bucket at a time, the ones not needed by the
+     *                        request are granted locally to the next requests of the same user. 1 disables batching.
+     */
+    public record ApiRateLimit(BucketConfiguration configuration, int localBatchSize) {}
 
-    static {
-        apiConfigurationMap.put(
-                RateLimitConstants.BUCKET_KEY_FOR_LOGIN_API, createBucketConfiguration(Duration.ofDays(1), 5));
-        apiConfigurationMap.put(
-                RateLimitConstants.BUCKET_KEY_FOR_TEST_DATASOURCE_API,
-                createBucketConfiguration(Duration.ofSeconds(5), 3));
+    public RateLimitConfig(AbstractRedisClient redisClient, Environment environment) {
+        this.proxyManager = createProxyManager(redisClient);
+        this.localLeaseDuration =
+                environment.getProperty(PROPERTY_PREFIX + "local-lease-duration", Duration.class, Duration.ofSeconds(1));
+
+        // The limits of every API can be overridden with appsmith.rate-limit.<api>.limit, .refill-period and
+        // .local-batch-size
+        addApiRateLimit(environment, RateLimitConstants.BUCKET_KEY_FOR_LOGIN_API, Duration.ofDays(1), 5);
+        addApiRateLimit(environment, RateLimitConstants.BUCKET_KEY_FOR_TEST_DATASOURCE_API, Duration.ofSeconds(5), 3);
         // Add more API configurations as needed
     }
 
-    @Bean
-    public LettuceBasedProxyManager<byte[]> proxyManager() {
+    private static LettuceBasedProxyManager<byte[]> createProxyManager(AbstractRedisClient redisClient) {
         /*
          we want a single proxyManager to manage all buckets.
          If we set too short an expiration time,
@@ -61,24 +90,54 @@ public class RateLimitConfig {
                 .build();
     }
 
+    @Bean
+    public LettuceBasedProxyManager<byte[]> proxyManager() {
+        return proxyManager;
+    }
+
     @Bean
     public Map<String, BucketProxy> apiBuckets() {
         Map<String, BucketProxy> apiBuckets = new HashMap<>();
 
-        apiConfigurationMap.forEach((apiIdentifier, configuration) ->
-                apiBuckets.put(apiIdentifier, proxyManager().builder().build(apiIdentifier.getBytes(), configuration)));
+        apiRateLimitMap.forEach((apiIdentifier, apiRateLimit) -> apiBuckets.put(
+                apiIdentifier, proxyManager.builder().build(getKey(apiIdentifier), apiRateLimit.configuration())));
 
         return apiBuckets;
     }
 
-    public BucketProxy getOrCreateAPIUserSpecificBucket(String apiIdentifier, String userId) {
-        String bucketIdentifier = apiIdentifier + userId;
-        Optional<BucketConfiguration> bucketProxy = proxyManager().getProxyConfiguration(bucketIdentifier.getBytes());
-        if (bucketProxy.isPresent()) {
-            return proxyManager().builder().build(bucketIdentifier.getBytes(), bucketProxy.get());
-        }
+    public ApiRateLimit getApiRateLimit(String apiIdentifier) {
+        return apiRateLimitMap.get(apiIdentifier);
+    }
+
+    public String getBucketIdentifier(String apiIdentifier, String userId) {
+        return apiIdentifier + userId;
+    }
+
+    /*
+     * The configuration is only used to create the bucket when it doesn't exist in Redis yet. An existing bucket keeps
+     * the configuration it was created with, so there's no need to read it from Redis first.
+     */
+    public AsyncBucketProxy getOrCreateAPIUserSpecificAsyncBucket(String apiIdentifier, String userId) {
+        String bucketIdentifier = getBucketIdentifier(apiIdentifier, userId);
+        return asyncBucketCache.get(bucketIdentifier, key -> proxyManager
+                .asAsync()
+                .builder()
+                .build(getKey(key), apiRateLimitMap.get(apiIdentifier).configuration()));
+    }
+
+    private void addApiRateLimit(Environment environment, String apiIdentifier, Duration refillPeriod, int limit) {
+        String prefix = PROPERTY_PREFIX + apiIdentifier + ".";
+        refillPeriod = environment.getProperty(prefix + "refill-period", Duration.class, refillPeriod);
+        limit = environment.getProperty(prefix + "limit", Integer.class, limit);
+        int localBatchSize = Math.max(environment.getProperty(prefix + "local-batch-size", Integer.class, 1), 1);
+
+        apiRateLimitMap.put(
+                apiIdentifier,
+                new ApiRateLimit(createBucketConfiguration(refillPeriod, limit), Math.min(localBatchSize, limit)));
+    }
 
-        return proxyManager().builder().build(bucketIdentifier.getBytes(), apiConfigurationMap.get(apiIdentifier));
+    private static byte[] getKey(String bucketIdentifier) {
+        return bucketIdentifier.getBytes(StandardCharsets.UTF_8);
     }
 
     private static BucketConfiguration createBucketConfiguration(Duration refillDuration, int limit) {
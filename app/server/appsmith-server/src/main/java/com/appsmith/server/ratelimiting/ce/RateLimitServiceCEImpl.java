@@ -4,7 +4,9 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.LoadShifter;
 import com.appsmith.server.helpers.RedisUtils;
+import com.appsmith.server.ratelimiting.LocalTokenLeases;
 import com.appsmith.server.ratelimiting.RateLimitConfig;
+import io.github.bucket4j.distributed.AsyncBucketProxy;
 import io.github.bucket4j.distributed.BucketProxy;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
@@ -20,28 +22,53 @@ public class RateLimitServiceCEImpl implements RateLimitServiceCE {
 
     private final Map<String, BucketProxy> apiBuckets;
     private final RateLimitConfig rateLimitConfig;
-    // this number of tokens can later be customised per API in the configuration.
-    private final Integer DEFAULT_NUMBER_OF_TOKENS_CONSUMED_PER_REQUEST = 1;
+    private final int DEFAULT_NUMBER_OF_TOKENS_CONSUMED_PER_REQUEST = 1;
     // this is required for blocking the execution if bucket exhausted
     private final RedisUtils redisUtils;
     private final String BLOCKED_HOSTNAME_PREFIX = "blocked";
+    // Tokens taken from the distributed buckets in batches, to be granted locally
+    private final LocalTokenLeases localTokenLeases;
 
     public RateLimitServiceCEImpl(
             Map<String, BucketProxy> apiBuckets, RateLimitConfig rateLimitConfig, RedisUtils redisUtils) {
         this.apiBuckets = apiBuckets;
         this.rateLimitConfig = rateLimitConfig;
         this.redisUtils = redisUtils;
+        this.localTokenLeases = new LocalTokenLeases(rateLimitConfig.getLocalLeaseDuration());
     }
 
+    /*
+     * Tokens are first granted from the local lease of the user's bucket. When there's none left, a batch of tokens is
+     * taken from the distributed bucket with an async Redis command, one for this request and the rest for the lease.
+     * The tokens of the lease that are not granted before it expires are added back to the distributed bucket.
+     */
     @Override
     public Mono<Boolean> tryIncreaseCounter(String apiIdentifier, String userIdentifier) {
 
         return sanitizeInput(apiIdentifier, userIdentifier)
                 .flatMap(isInputValid -> {
-                    BucketProxy userSpecificBucket =
-                            rateLimitConfig.getOrCreateAPIUserSpecificBucket(apiIdentifier, userIdentifier);
+                    String bucketIdentifier = rateLimitConfig.getBucketIdentifier(apiIdentifier, userIdentifier);
+                    if (localTokenLeases.tryConsume(bucketIdentifier)) {
+                        return Mono.just(TRUE);
+                    }
+
+                    int batchSize = rateLimitConfig.getApiRateLimit(apiIdentifier).localBatchSize();
+                    AsyncBucketProxy userSpecificBucket =
+                            rateLimitConfig.getOrCreateAPIUserSpecificAsyncBucket(apiIdentifier, userIdentifier);
+
+                    if (batchSize <= DEFAULT_NUMBER_OF_TOKENS_CONSUMED_PER_REQUEST) {
+                        return Mono.fromFuture(
+                                () -> userSpecificBucket.tryConsume(DEFAULT_NUMBER_OF_TOKENS_CONSUMED_PER_REQUEST));
+                    }
 
-                    return Mono.just(userSpecificBucket.tryConsume(DEFAULT_NUMBER_OF_TOKENS_CONSUMED_PER_REQUEST));
+                    return Mono.fromFuture(() -> userSpecificBucket.tryConsumeAsMuchAsPossible(batchSize))
+                            .map(consumedTokens -> {
+                                localTokenLeases.lease(
+                                        bucketIdentifier,
+                                        consumedTokens - DEFAULT_NUMBER_OF_TOKENS_CONSUMED_PER_REQUEST,
+                                        tokens -> giveBackTokens(userSpecificBucket, bucketIdentifier, tokens));
+                                return consumedTokens >= DEFAULT_NUMBER_OF_TOKENS_CONSUMED_PER_REQUEST;
+                            });
                 })
                 .map(isSuccessful -> {
                     if (FALSE.equals(isSuccessful)) {
@@ -53,27 +80,27 @@ public class RateLimitServiceCEImpl implements RateLimitServiceCE {
                     }
 
                     return isSuccessful;
-                })
-                // Since we are interacting with redis, we want to make sure that the operation is done on a separate
-                // thread pool
-                .subscribeOn(LoadShifter.elasticScheduler);
+                });
+    }
+
+    private static void giveBackTokens(AsyncBucketProxy bucket, String bucketIdentifier, long tokens) {
+        bucket.addTokens(tokens).whenComplete((result, error) -> {
+            if (error != null) {
+                log.warn("Could not give {} unused tokens back to bucket {}", tokens, bucketIdentifier, error);
+            }
+        });
     }
 
     @Override
     public Mono<Void> resetCounter(String apiIdentifier, String userIdentifier) {
 
-        return sanitizeInput(apiIdentifier, userIdentifier)
-                .flatMap(isInputValid -> {
-                    rateLimitConfig
-                            .getOrCreateAPIUserSpecificBucket(apiIdentifier, userIdentifier)
-                            .reset();
+        return sanitizeInput(apiIdentifier, userIdentifier).flatMap(isInputValid -> {
+            localTokenLeases.invalidate(rateLimitConfig.getBucketIdentifier(apiIdentifier, userIdentifier));
 
-                    return Mono.just(TRUE);
-                })
-                .then()
-                // Since we are interacting with redis, we want to make sure that the operation is done on a separate
-                // thread pool
-                .subscribeOn(LoadShifter.elasticScheduler);
+            return Mono.fromFuture(() -> rateLimitConfig
+                    .getOrCreateAPIUserSpecificAsyncBucket(apiIdentifier, userIdentifier)
+                    .reset());
+        });
     }
 
     /* **************************************************************************************************** */
@@ -153,7 +180,6 @@ public class RateLimitServiceCEImpl implements RateLimitServiceCE {
                     }
 
                     return Mono.just(true);
-                })
-                .subscribeOn(LoadShifter.elasticScheduler);
+                });
     }
 }
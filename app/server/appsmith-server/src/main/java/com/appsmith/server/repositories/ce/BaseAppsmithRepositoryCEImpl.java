@@ -20,8 +20,15 @@ import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.StringOperators;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
@@ -37,10 +44,12 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.helpers.StringUtils.dotted;
@@ -87,6 +96,8 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
 
     public static final int NO_SKIP = 0;
 
+    private static final String MATCH_RANK = "matchRank";
+
     @SuppressWarnings("unchecked")
     public BaseAppsmithRepositoryCEImpl() {
         this.genericDomain =
@@ -193,6 +204,17 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
             List<String> projectionFieldNames,
             Set<String> permissionGroups,
             AclPermission aclPermission) {
+        final Query query = new Query(createCriteriaWithPermission(criterias, permissionGroups, aclPermission));
+
+        if (!isEmpty(projectionFieldNames)) {
+            query.fields().include(projectionFieldNames.toArray(new String[0]));
+        }
+
+        return query;
+    }
+
+    private Criteria createCriteriaWithPermission(
+            List<Criteria> criterias, Set<String> permissionGroups, AclPermission aclPermission) {
         final ArrayList<Criteria> criteriaList = new ArrayList<>(criterias);
         criteriaList.add(notDeleted());
 
@@ -201,13 +223,7 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
             criteriaList.add(permissionCriteria);
         }
 
-        final Query query = new Query(new Criteria().andOperator(criteriaList.toArray(new Criteria[0])));
-
-        if (!isEmpty(projectionFieldNames)) {
-            query.fields().include(projectionFieldNames.toArray(new String[0]));
-        }
-
-        return query;
+        return new Criteria().andOperator(criteriaList.toArray(new Criteria[0]));
     }
 
     public QueryAllParams<T> queryBuilder() {
@@ -230,6 +246,10 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
                 return Flux.empty();
             }
 
+            if (!params.getRankFields().isEmpty()) {
+                return queryAllRankedExecute(params, permissionGroups, projectionClass);
+            }
+
             final Query query =
                     createQueryWithPermission(params.getCriteria(), params.getFields(), permissionGroups, permission);
 
@@ -253,6 +273,86 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
         }));
     }
 
+    /**
+     * Runs the query as an aggregation that computes a match rank for every document, so that ordering by match
+     * quality, skip and limit are all done by the DB, and only the requested page is sent back. The DB still ranks and
+     * sorts every document that matches the criteria, as the rank cannot be served from an index. When only some
+     * fields are asked for, the documents are cut down to those, and the ones needed to rank and sort, before they are
+     * sorted. The sort may spill to disk, so that large result sets don't hit the memory limit of a sort.
+     */
+    private <P> Flux<P> queryAllRankedExecute(
+            QueryAllParams<T> params, Set<String> permissionGroups, Class<P> projectionClass) {
+        final List<AggregationOperation> operations = new ArrayList<>();
+        operations.add(Aggregation.match(
+                createCriteriaWithPermission(params.getCriteria(), permissionGroups, params.getPermission())));
+
+        Sort sort = Sort.by(Sort.Direction.ASC, MATCH_RANK);
+        if (params.getSort() != null) {
+            sort = sort.and(params.getSort());
+        }
+        // Tie-breaker, so that pages don't overlap when many documents have the same rank and sort values
+        sort = sort.and(Sort.by(Sort.Direction.ASC, FieldName.ID));
+
+        final boolean isProjected = !isEmpty(params.getFields());
+        if (isProjected) {
+            final Set<String> sortedFields = new LinkedHashSet<>(params.getFields());
+            sortedFields.addAll(params.getRankFields());
+            sort.stream()
+                    .map(Sort.Order::getProperty)
+                    .filter(property -> !MATCH_RANK.equals(property))
+                    .forEach(sortedFields::add);
+            operations.add(Aggregation.project(sortedFields.toArray(new String[0])));
+        }
+
+        operations.add(Aggregation.addFields()
+                .addField(MATCH_RANK)
+                .withValueOf(getMatchRankExpression(params.getRankFields(), params.getRankSearchString()))
+                .build());
+        operations.add(Aggregation.sort(sort));
+
+        if (params.getSkip() > NO_SKIP) {
+            operations.add(Aggregation.skip((long) params.getSkip()));
+        }
+
+        if (params.getLimit() != NO_RECORD_LIMIT) {
+            operations.add(Aggregation.limit(params.getLimit()));
+        }
+
+        if (isProjected) {
+            operations.add(Aggregation.project(params.getFields().toArray(new String[0])));
+        }
+
+        return mongoOperations.aggregate(
+                Aggregation.newAggregation(genericDomain, operations)
+                        .withOptions(AggregationOptions.builder()
+                                .allowDiskUse(true)
+                                .cursorBatchSize(10_000)
+                                .build()),
+                projectionClass);
+    }
+
+    /**
+     * Rank 0 for an exact match on any of the fields, 1 for a prefix match on any of them, and 2 for everything
+     * else. Comparisons are case-insensitive, with the same regex matching as the search criteria in BridgeQuery.
+     */
+    private static AggregationExpression getMatchRankExpression(List<String> fields, String searchString) {
+        final String quotedNeedle = Pattern.quote(searchString);
+        final List<ConditionalOperators.Switch.CaseOperator> exactCases = new ArrayList<>();
+        final List<ConditionalOperators.Switch.CaseOperator> prefixCases = new ArrayList<>();
+        for (String field : fields) {
+            exactCases.add(ConditionalOperators.Switch.CaseOperator.when(
+                            StringOperators.valueOf(field).regexMatch("^" + quotedNeedle + "$", "i"))
+                    .then(0));
+            prefixCases.add(ConditionalOperators.Switch.CaseOperator.when(
+                            StringOperators.valueOf(field).regexMatch("^" + quotedNeedle, "i"))
+                    .then(1));
+        }
+
+        final List<ConditionalOperators.Switch.CaseOperator> cases = new ArrayList<>(exactCases);
+        cases.addAll(prefixCases);
+        return ConditionalOperators.switchCases(cases).defaultTo(2);
+    }
+
     public Mono<T> queryOneExecute(QueryAllParams<T> params) {
         return queryOneExecute(params, this.genericDomain)
                 .flatMap(obj -> setUserPermissionsInObject(obj, params.getPermissionGroups()));
@@ -41,10 +41,17 @@ public class CacheableRepositoryHelperCEImpl implements CacheableRepositoryHelpe
     private final ReactiveMongoOperations mongoOperations;
     private final ObservationRegistry observationRegistry;
     private static final String CACHE_DEFAULT_PAGE_ID_TO_DEFAULT_APPLICATION_ID = "pageIdToAppId";
+    // Per-user and per-page entries are reloaded after a day, so that Redis doesn't keep them for users and pages that
+    // are gone
+    private static final long CACHE_TTL_ONE_DAY = 24 * 60 * 60;
     private static String defaultOrganizationId;
     private final InMemoryCacheableRepositoryHelper inMemoryCacheableRepositoryHelper;
 
-    @Cache(cacheName = "permissionGroupsForUser", key = "{#user.email + #user.organizationId}")
+    @Cache(
+            cacheName = "permissionGroupsForUser",
+            key = "{#user.email + #user.organizationId}",
+            singleFlight = true,
+            ttl = CACHE_TTL_ONE_DAY)
     @Override
     public Mono<Set<String>> getPermissionGroupsOfUser(User user) {
 
@@ -188,7 +195,7 @@ public class CacheableRepositoryHelperCEImpl implements CacheableRepositoryHelpe
      * @param organizationId
      * @return
      */
-    @Cache(cacheName = "organization", key = "{#organizationId}")
+    @Cache(cacheName = "organization", key = "{#organizationId}", singleFlight = true, distributedSingleFlight = true)
     @Override
     public Mono<Organization> getOrganizationById(String organizationId) {
         BridgeQuery<Organization> idCriteria = Bridge.equal(Organization.Fields.id, organizationId);
@@ -215,7 +222,7 @@ public class CacheableRepositoryHelperCEImpl implements CacheableRepositoryHelpe
         return Mono.empty().then();
     }
 
-    @Cache(cacheName = CACHE_DEFAULT_PAGE_ID_TO_DEFAULT_APPLICATION_ID, key = "{#basePageId}")
+    @Cache(cacheName = CACHE_DEFAULT_PAGE_ID_TO_DEFAULT_APPLICATION_ID, key = "{#basePageId}", ttl = CACHE_TTL_ONE_DAY)
     @Override
     public Mono<String> fetchBaseApplicationId(String basePageId, String baseApplicationId) {
         return !StringUtils.hasText(baseApplicationId) ? Mono.empty() : Mono.just(baseApplicationId);
@@ -2,5 +2,10 @@ package com.appsmith.server.repositories.ce;
 
 import com.appsmith.server.domains.ApplicationSnapshot;
 import com.appsmith.server.repositories.AppsmithRepository;
+import reactor.core.publisher.Mono;
 
-public interface CustomApplicationSnapshotRepositoryCE extends AppsmithRepository<ApplicationSnapshot> {}
+public interface CustomApplicationSnapshotRepositoryCE extends AppsmithRepository<ApplicationSnapshot> {
+    Mono<ApplicationSnapshot> findFirstChunkWithoutDataByApplicationId(String applicationId);
+
+    Mono<Integer> updateFirstChunkUpdatedAtByApplicationId(String applicationId);
+}
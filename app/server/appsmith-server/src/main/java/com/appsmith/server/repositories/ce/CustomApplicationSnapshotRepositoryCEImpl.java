@@ -1,7 +1,40 @@
 package com.appsmith.server.repositories.ce;
 
 import com.appsmith.server.domains.ApplicationSnapshot;
+import com.appsmith.server.helpers.ce.bridge.Bridge;
+import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
 
 public class CustomApplicationSnapshotRepositoryCEImpl extends BaseAppsmithRepositoryImpl<ApplicationSnapshot>
-        implements CustomApplicationSnapshotRepositoryCE {}
+        implements CustomApplicationSnapshotRepositoryCE {
+
+    private static BridgeQuery<ApplicationSnapshot> firstChunkCriteria(String applicationId) {
+        return Bridge.<ApplicationSnapshot>equal(ApplicationSnapshot.Fields.applicationId, applicationId)
+                .equal(ApplicationSnapshot.Fields.chunkOrder, 1);
+    }
+
+    @Override
+    public Mono<ApplicationSnapshot> findFirstChunkWithoutDataByApplicationId(String applicationId) {
+        return queryBuilder()
+                .criteria(firstChunkCriteria(applicationId))
+                .fields(
+                        ApplicationSnapshot.Fields.id,
+                        ApplicationSnapshot.Fields.applicationId,
+                        ApplicationSnapshot.Fields.chunkOrder,
+                        ApplicationSnapshot.Fields.compression,
+                        ApplicationSnapshot.Fields.contentHash,
+                        ApplicationSnapshot.Fields.uncompressedSize,
+                        ApplicationSnapshot.Fields.updatedAt)
+                .one();
+    }
+
+    @Override
+    public Mono<Integer> updateFirstChunkUpdatedAtByApplicationId(String applicationId) {
+        return queryBuilder()
+                .criteria(firstChunkCriteria(applicationId))
+                .updateFirst(Bridge.update().set(ApplicationSnapshot.Fields.updatedAt, Instant.now()));
+    }
+}
@@ -2,11 +2,31 @@ package com.appsmith.server.repositories.ce;
 
 import com.appsmith.external.models.DatasourceStorageStructure;
 import com.appsmith.external.models.DatasourceStructure;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+
 public interface CustomDatasourceStorageStructureRepositoryCE {
 
     Mono<Integer> updateStructure(String datasourceId, String environmentId, DatasourceStructure structure);
 
+    Mono<Integer> updateChangedStructure(
+            String datasourceId,
+            String environmentId,
+            DatasourceStructure structure,
+            String structureHash,
+            Instant refreshedAt);
+
+    Mono<Integer> updateRefreshedAtOfUnchangedStructure(
+            String datasourceId, String environmentId, String structureHash, Instant refreshedAt);
+
+    Mono<Integer> updateRefreshAttemptedAt(String datasourceId, String environmentId, Instant attemptedAt);
+
+    Mono<Integer> updateUsedAt(String datasourceId, String environmentId, Instant usedAt);
+
+    Flux<DatasourceStorageStructure> findAllUsedSinceAndRefreshAttemptedBefore(
+            Instant usedSince, Instant attemptedBefore, int limit);
+
     Mono<DatasourceStorageStructure> findByDatasourceIdAndEnvironmentId(String datasourceId, String environmentId);
 }
@@ -5,9 +5,13 @@ import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+
 @Component
 public class CustomDatasourceStorageStructureRepositoryCEImpl
         extends BaseAppsmithRepositoryImpl<DatasourceStorageStructure>
@@ -21,6 +25,83 @@ public class CustomDatasourceStorageStructureRepositoryCEImpl
                 .updateFirst(Bridge.update().set(DatasourceStorageStructure.Fields.structure, structure));
     }
 
+    /**
+     * Writes the structure only if its hash differs from the stored one, with the hash and the time it was discovered.
+     */
+    @Override
+    public Mono<Integer> updateChangedStructure(
+            String datasourceId,
+            String environmentId,
+            DatasourceStructure structure,
+            String structureHash,
+            Instant refreshedAt) {
+        return queryBuilder()
+                .criteria(Bridge.equal(DatasourceStorageStructure.Fields.datasourceId, datasourceId)
+                        .equal(DatasourceStorageStructure.Fields.environmentId, environmentId)
+                        .notEqual(DatasourceStorageStructure.Fields.structureHash, structureHash))
+                .updateFirst(Bridge.update()
+                        .set(DatasourceStorageStructure.Fields.structure, structure)
+                        .set(DatasourceStorageStructure.Fields.structureHash, structureHash)
+                        .set(DatasourceStorageStructure.Fields.refreshedAt, refreshedAt)
+                        .set(DatasourceStorageStructure.Fields.refreshAttemptedAt, refreshedAt));
+    }
+
+    /**
+     * Only moves the time the structure was discovered, if the stored structure has the same hash.
+     */
+    @Override
+    public Mono<Integer> updateRefreshedAtOfUnchangedStructure(
+            String datasourceId, String environmentId, String structureHash, Instant refreshedAt) {
+        return queryBuilder()
+                .criteria(Bridge.equal(DatasourceStorageStructure.Fields.datasourceId, datasourceId)
+                        .equal(DatasourceStorageStructure.Fields.environmentId, environmentId)
+                        .equal(DatasourceStorageStructure.Fields.structureHash, structureHash))
+                .updateFirst(Bridge.update()
+                        .set(DatasourceStorageStructure.Fields.refreshedAt, refreshedAt)
+                        .set(DatasourceStorageStructure.Fields.refreshAttemptedAt, refreshedAt));
+    }
+
+    @Override
+    public Mono<Integer> updateRefreshAttemptedAt(String datasourceId, String environmentId, Instant attemptedAt) {
+        return queryBuilder()
+                .criteria(Bridge.equal(DatasourceStorageStructure.Fields.datasourceId, datasourceId)
+                        .equal(DatasourceStorageStructure.Fields.environmentId, environmentId))
+                .updateFirst(Bridge.update().set(DatasourceStorageStructure.Fields.refreshAttemptedAt, attemptedAt));
+    }
+
+    @Override
+    public Mono<Integer> updateUsedAt(String datasourceId, String environmentId, Instant usedAt) {
+        return queryBuilder()
+                .criteria(Bridge.equal(DatasourceStorageStructure.Fields.datasourceId, datasourceId)
+                        .equal(DatasourceStorageStructure.Fields.environmentId, environmentId))
+                .updateFirst(Bridge.update().set(DatasourceStorageStructure.Fields.usedAt, usedAt));
+    }
+
+    /**
+     * Finds the structures used since the given time that were not tried to be discovered since the other given time,
+     * the ones tried longest ago first. As a failed try counts too, structures that can't be discovered move back in
+     * the queue like the others. Only the fields needed to discover them again are read, not the structures.
+     */
+    @Override
+    public Flux<DatasourceStorageStructure> findAllUsedSinceAndRefreshAttemptedBefore(
+            Instant usedSince, Instant attemptedBefore, int limit) {
+        final BridgeQuery<DatasourceStorageStructure> q = Bridge.<DatasourceStorageStructure>gte(
+                        DatasourceStorageStructure.Fields.usedAt, usedSince)
+                .and(Bridge.or(
+                        Bridge.isNull(DatasourceStorageStructure.Fields.refreshAttemptedAt),
+                        Bridge.lte(DatasourceStorageStructure.Fields.refreshAttemptedAt, attemptedBefore)));
+        return queryBuilder()
+                .criteria(q)
+                .fields(
+                        DatasourceStorageStructure.Fields.datasourceId,
+                        DatasourceStorageStructure.Fields.environmentId,
+                        DatasourceStorageStructure.Fields.refreshedAt,
+                        DatasourceStorageStructure.Fields.refreshAttemptedAt)
+                .sort(Sort.by(Sort.Direction.ASC, DatasourceStorageStructure.Fields.refreshAttemptedAt))
+                .limit(limit)
+                .all();
+    }
+
     @Override
     public Mono<DatasourceStorageStructure> findByDatasourceIdAndEnvironmentId(
             String datasourceId, String environmentId) {
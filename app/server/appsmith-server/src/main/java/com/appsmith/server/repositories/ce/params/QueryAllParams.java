@@ -10,6 +10,8 @@ import lombok.NonNull;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -36,6 +38,14 @@ public class QueryAllParams<T extends BaseDomain> {
     private int limit = NO_RECORD_LIMIT;
     private int skip = NO_SKIP;
 
+    /**
+     * When set, results are ordered by how well these fields match {@link #rankSearchString} before the sort is
+     * applied. Refer to {@link #rankByMatch(Collection, String)}.
+     */
+    private final List<String> rankFields = new ArrayList<>();
+
+    private String rankSearchString;
+
     /**
      * When this flag is true, permission checks will include the affects of anonymous user permissions. This is the
      * default and very-usually, what we want. When it's false, we are only checking for the permissions of the user.
@@ -159,6 +169,22 @@ public class QueryAllParams<T extends BaseDomain> {
         return this;
     }
 
+    /**
+     * Orders the results by match quality of the search string against the given fields, ahead of the sort. An exact
+     * (case-insensitive) match on any of the fields comes first, then a prefix match, then everything else. Skip and
+     * limit are applied after ranking, so that pages stay consistent with the ranked order.
+     * <p>
+     * This only orders the results, the criteria that decides which documents match should be added separately.
+     */
+    public QueryAllParams<T> rankByMatch(Collection<String> fields, String searchString) {
+        if (CollectionUtils.isEmpty(fields) || !StringUtils.hasLength(searchString)) {
+            return this;
+        }
+        rankFields.addAll(fields);
+        rankSearchString = searchString;
+        return this;
+    }
+
     public QueryAllParams<T> includeAnonymousUserPermissions(boolean value) {
         includeAnonymousUserPermissions = value;
         return this;
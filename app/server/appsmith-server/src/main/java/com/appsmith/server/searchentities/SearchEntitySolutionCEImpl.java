@@ -35,7 +35,8 @@ public class SearchEntitySolutionCEImpl implements SearchEntitySolutionCE {
     /**
      * This method searches for workspaces and applications based on the searchString provided.
      * The search is performed with contains operator on the name field of the entities and is case-insensitive.
-     * The search results are sorted by the updated_at field in descending order.
+     * The search results are ranked by match quality, exact matches first and then prefix matches, and within the same
+     * rank sorted by the updated_at field in descending order.
      * searchString = "test" will return all entities with name containing "test".
      * e.g. "test_app", "test_workspace", "appTest", "wsTest_random" etc.
      *
@@ -7,6 +7,7 @@ import com.appsmith.server.repositories.ApplicationSnapshotRepository;
 import com.appsmith.server.services.ce.ApplicationSnapshotServiceCEImpl;
 import com.appsmith.server.solutions.ApplicationPermission;
 import com.google.gson.Gson;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -20,13 +21,15 @@ public class ApplicationSnapshotServiceImpl extends ApplicationSnapshotServiceCE
             ImportService importService,
             ExportService exportService,
             ApplicationPermission applicationPermission,
-            Gson gson) {
+            Gson gson,
+            MeterRegistry meterRegistry) {
         super(
                 applicationSnapshotRepository,
                 applicationService,
                 importService,
                 exportService,
                 applicationPermission,
-                gson);
+                gson,
+                meterRegistry);
     }
 }
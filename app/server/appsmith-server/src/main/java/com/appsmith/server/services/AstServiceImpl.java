@@ -3,6 +3,7 @@ package com.appsmith.server.services;
 import com.appsmith.external.services.RTSCaller;
 import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.configurations.InstanceConfig;
+import com.appsmith.server.helpers.AstReferencesCache;
 import com.appsmith.server.services.ce.AstServiceCEImpl;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
@@ -16,7 +17,8 @@ public class AstServiceImpl extends AstServiceCEImpl implements AstService {
             CommonConfig commonConfig,
             InstanceConfig instanceConfig,
             RTSCaller rtsCaller,
-            ObservationRegistry observationRegistry) {
-        super(commonConfig, instanceConfig, rtsCaller, observationRegistry);
+            ObservationRegistry observationRegistry,
+            AstReferencesCache astReferencesCache) {
+        super(commonConfig, instanceConfig, rtsCaller, observationRegistry, astReferencesCache);
     }
 }
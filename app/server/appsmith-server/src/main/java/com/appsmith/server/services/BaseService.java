@@ -9,6 +9,7 @@ import com.appsmith.server.helpers.ce.bridge.Bridge;
 import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.repositories.AppsmithRepository;
 import com.appsmith.server.repositories.BaseRepository;
+import com.appsmith.server.repositories.ce.params.QueryAllParams;
 import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -100,7 +101,10 @@ public abstract class BaseService<
 
     /**
      * This function is used to filter the entities based on the entity fields and the search string.
-     * The search is performed with contains operator on the entity fields and is case-insensitive.
+     * The search is performed with contains operator on the entity fields and is case-insensitive. Results are ranked
+     * by match quality, i.e. exact matches first and then prefix matches, ahead of the given sort order. Ranking and
+     * pagination are both done by the DB, so only the requested page is sent back, though the DB still ranks and sorts
+     * every matching entity.
      * @param searchableEntityFields  The list of entity fields to search for. If null or empty, all entities are searched.
      * @param searchString  The string to search for in the entity fields.
      * @param pageable      The page number of the results to return.
@@ -124,16 +128,16 @@ public abstract class BaseService<
             criteria.add(Bridge.searchIgnoreCase(fieldName, searchString));
         }
 
-        Flux<T> result = repository
+        QueryAllParams<T> query = repository
                 .queryBuilder()
                 .criteria(Bridge.or(criteria))
                 .permission(permission)
+                .rankByMatch(searchableEntityFields, searchString)
                 .sort(sort)
-                .includeAnonymousUserPermissions(false)
-                .all();
+                .includeAnonymousUserPermissions(false);
         if (pageable != null) {
-            return result.skip(pageable.getOffset()).take(pageable.getPageSize());
+            query.skip(Math.toIntExact(pageable.getOffset())).limit(pageable.getPageSize());
         }
-        return result;
+        return query.all();
     }
 }
@@ -4,6 +4,7 @@ import com.appsmith.external.helpers.ObservationHelper;
 import com.appsmith.server.actioncollections.base.ActionCollectionService;
 import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.datasources.base.DatasourceService;
+import com.appsmith.server.helpers.ConsolidatedAPIViewModeCache;
 import com.appsmith.server.jslibs.base.CustomJSLibService;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
@@ -39,7 +40,9 @@ public class ConsolidatedAPIServiceImpl extends ConsolidatedAPIServiceCECompatib
             MockDataService mockDataService,
             ObservationRegistry observationRegistry,
             CacheableRepositoryHelper cacheableRepositoryHelper,
-            ObservationHelper observationHelper) {
+            ObservationHelper observationHelper,
+            PermissionGroupService permissionGroupService,
+            ConsolidatedAPIViewModeCache consolidatedAPIViewModeCache) {
         super(
                 sessionUserService,
                 userService,
@@ -59,6 +62,8 @@ public class ConsolidatedAPIServiceImpl extends ConsolidatedAPIServiceCECompatib
                 mockDataService,
                 observationRegistry,
                 cacheableRepositoryHelper,
-                observationHelper);
+                observationHelper,
+                permissionGroupService,
+                consolidatedAPIViewModeCache);
     }
 }
@@ -10,21 +10,42 @@ import com.appsmith.server.dtos.ApplicationJson;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.exports.internal.ExportService;
+import com.appsmith.server.helpers.LoadShifter;
 import com.appsmith.server.imports.internal.ImportService;
 import com.appsmith.server.projections.ApplicationSnapshotResponseDTO;
 import com.appsmith.server.repositories.ApplicationSnapshotRepository;
 import com.appsmith.server.solutions.ApplicationPermission;
 import com.google.gson.Gson;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
-import reactor.core.publisher.Flux;
+import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.SequenceInputStream;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
+@Slf4j
 @RequiredArgsConstructor
 public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServiceCE {
     private final ApplicationSnapshotRepository applicationSnapshotRepository;
@@ -33,29 +54,60 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
     private final ExportService exportService;
     private final ApplicationPermission applicationPermission;
     private final Gson gson;
+    private final MeterRegistry meterRegistry;
 
     private static final int MAX_SNAPSHOT_SIZE = 15 * 1024 * 1024; // 15 MB
 
+    private static final String GZIP_COMPRESSION = "gzip";
+
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    private static final String SNAPSHOT_CREATE = "appsmith.application.snapshot.create";
+    private static final String SNAPSHOT_RESTORE = "appsmith.application.snapshot.restore";
+    private static final String SNAPSHOT_SIZE = "appsmith.application.snapshot.size";
+
     @Override
     public Mono<Boolean> createApplicationSnapshot(String branchedApplicationId) {
-        return exportService
-                .exportByArtifactId(
-                        branchedApplicationId, SerialiseArtifactObjective.VERSION_CONTROL, ArtifactType.APPLICATION)
-                .flatMapMany(artifactExchangeJson -> {
-                    ApplicationJson applicationJson = (ApplicationJson) artifactExchangeJson;
-                    return applicationSnapshotRepository
-                            .deleteAllByApplicationId(branchedApplicationId)
-                            .thenMany(createSnapshots(branchedApplicationId, applicationJson));
+        return Mono.defer(() -> {
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    return exportService
+                            .exportByArtifactId(
+                                    branchedApplicationId,
+                                    SerialiseArtifactObjective.VERSION_CONTROL,
+                                    ArtifactType.APPLICATION)
+                            .flatMap(artifactExchangeJson -> Mono.fromCallable(() -> createSnapshotsObjects(
+                                            (ApplicationJson) artifactExchangeJson, branchedApplicationId))
+                                    .subscribeOn(LoadShifter.elasticScheduler))
+                            .flatMap(applicationSnapshots -> saveSnapshots(branchedApplicationId, applicationSnapshots))
+                            .doOnNext(saved -> sample.stop(Timer.builder(SNAPSHOT_CREATE)
+                                    .tag("saved", String.valueOf(saved))
+                                    .register(meterRegistry)));
                 })
                 .then(Mono.just(Boolean.TRUE));
     }
 
-    private Flux<ApplicationSnapshot> createSnapshots(String applicationId, ApplicationJson applicationJson) {
-        String json = gson.toJson(applicationJson);
-        // check the size of the exported json before storing to avoid mongodb document size limit
-        byte[] utf8JsonString = json.getBytes(StandardCharsets.UTF_8);
-        List<ApplicationSnapshot> applicationSnapshots = createSnapshotsObjects(utf8JsonString, applicationId);
-        return applicationSnapshotRepository.saveAll(applicationSnapshots);
+    /**
+     * Replaces the stored snapshot with the new one, unless the stored one has the same content, in which case only
+     * its time is updated.
+     *
+     * @return true if the snapshot was written
+     */
+    private Mono<Boolean> saveSnapshots(String applicationId, List<ApplicationSnapshot> applicationSnapshots) {
+        ApplicationSnapshot firstChunk = applicationSnapshots.get(0);
+        return applicationSnapshotRepository
+                .findFirstChunkWithoutDataByApplicationId(applicationId)
+                .filter(storedChunk -> GZIP_COMPRESSION.equals(storedChunk.getCompression())
+                        && firstChunk.getContentHash().equals(storedChunk.getContentHash()))
+                .flatMap(storedChunk -> {
+                    log.debug("Snapshot of application {} is unchanged, not writing it again", applicationId);
+                    return applicationSnapshotRepository
+                            .updateFirstChunkUpdatedAtByApplicationId(applicationId)
+                            .thenReturn(Boolean.FALSE);
+                })
+                .switchIfEmpty(Mono.defer(() -> applicationSnapshotRepository
+                        .deleteAllByApplicationId(applicationId)
+                        .thenMany(applicationSnapshotRepository.saveAll(applicationSnapshots))
+                        .then(Mono.just(Boolean.TRUE))));
     }
 
     @Override
@@ -72,14 +124,13 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
                 .findById(branchedApplicationId, applicationPermission.getEditPermission())
                 .switchIfEmpty(Mono.error(new AppsmithException(
                         AppsmithError.NO_RESOURCE_FOUND, FieldName.APPLICATION, branchedApplicationId)))
-                .flatMap(application -> getApplicationJsonStringFromSnapShot(application.getId())
-                        .zipWith(Mono.just(application)))
-                .flatMap(objects -> {
-                    String applicationJsonString = objects.getT1();
-                    Application application = objects.getT2();
-                    ApplicationJson applicationJson = gson.fromJson(applicationJsonString, ApplicationJson.class);
-                    return importService.restoreSnapshot(
-                            application.getWorkspaceId(), application.getId(), applicationJson);
+                .flatMap(application -> {
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    return getApplicationJsonFromSnapShot(application.getId())
+                            .flatMap(applicationJson -> importService.restoreSnapshot(
+                                    application.getWorkspaceId(), application.getId(), applicationJson))
+                            .doOnSuccess(restoredApplication ->
+                                    sample.stop(Timer.builder(SNAPSHOT_RESTORE).register(meterRegistry)));
                 })
                 .map(importableArtifact -> (Application) importableArtifact)
                 .flatMap(application -> applicationSnapshotRepository
@@ -87,48 +138,168 @@ public class ApplicationSnapshotServiceCEImpl implements ApplicationSnapshotServ
                         .thenReturn(application));
     }
 
-    private Mono<String> getApplicationJsonStringFromSnapShot(String applicationId) {
+    private Mono<ApplicationJson> getApplicationJsonFromSnapShot(String applicationId) {
         return applicationSnapshotRepository
                 .findByApplicationId(applicationId)
                 .sort(Comparator.comparingInt(ApplicationSnapshot::getChunkOrder))
-                .map(ApplicationSnapshot::getData)
                 .collectList()
-                .map(bytes -> {
-                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-                    for (byte[] b : bytes) {
-                        outputStream.writeBytes(b);
-                    }
-                    return outputStream.toString(StandardCharsets.UTF_8);
-                });
+                .filter(applicationSnapshots -> !applicationSnapshots.isEmpty())
+                .flatMap(applicationSnapshots -> Mono.fromCallable(() -> readApplicationJson(applicationSnapshots))
+                        .subscribeOn(LoadShifter.elasticScheduler));
     }
 
-    private List<ApplicationSnapshot> createSnapshotsObjects(byte[] bytes, String applicationId) {
-        List<ApplicationSnapshot> applicationSnapshots = new ArrayList<>();
-        int total = bytes.length;
-        int copiedCount = 0;
-        int chunkOrder = 1;
-
-        while (copiedCount < total) {
-            int currentChunkSize = MAX_SNAPSHOT_SIZE;
-            if (copiedCount + currentChunkSize > total) {
-                currentChunkSize = total - copiedCount;
-            }
-            byte[] sub = new byte[currentChunkSize];
-            System.arraycopy(bytes, copiedCount, sub, 0, currentChunkSize);
-            copiedCount += currentChunkSize;
+    /**
+     * Reads the ApplicationJson straight from the chunks, decompressing them as they are read, so that neither the
+     * whole JSON nor the joined chunks are held in memory.
+     */
+    private ApplicationJson readApplicationJson(List<ApplicationSnapshot> applicationSnapshots) throws IOException {
+        List<InputStream> chunkStreams = new ArrayList<>();
+        for (ApplicationSnapshot applicationSnapshot : applicationSnapshots) {
+            chunkStreams.add(new ByteArrayInputStream(applicationSnapshot.getData()));
+        }
+
+        InputStream inputStream = new SequenceInputStream(Collections.enumeration(chunkStreams));
+        // Older snapshots were stored uncompressed
+        if (GZIP_COMPRESSION.equals(applicationSnapshots.get(0).getCompression())) {
+            inputStream = new GZIPInputStream(inputStream, STREAM_BUFFER_SIZE);
+        }
 
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, ApplicationJson.class);
+        }
+    }
+
+    /**
+     * Serializes the ApplicationJson through a gzip stream into chunks of at most MAX_SNAPSHOT_SIZE bytes, so that
+     * the uncompressed JSON is never held in memory. The size and hash of the uncompressed JSON are kept on the first
+     * chunk.
+     */
+    private List<ApplicationSnapshot> createSnapshotsObjects(ApplicationJson applicationJson, String applicationId)
+            throws IOException {
+        ChunkOutputStream chunkOutputStream = new ChunkOutputStream();
+        ContentOutputStream contentOutputStream =
+                new ContentOutputStream(new GZIPOutputStream(chunkOutputStream, STREAM_BUFFER_SIZE));
+        try (Writer writer = new OutputStreamWriter(contentOutputStream, StandardCharsets.UTF_8)) {
+            gson.toJson(applicationJson, writer);
+        }
+
+        List<byte[]> chunks = chunkOutputStream.getChunks();
+        List<ApplicationSnapshot> applicationSnapshots = new ArrayList<>();
+        for (int i = 0; i < chunks.size(); i++) {
             // create snapshot that'll contain the chunk of data
             ApplicationSnapshot applicationSnapshot = new ApplicationSnapshot();
-            applicationSnapshot.setData(sub);
+            applicationSnapshot.setData(chunks.get(i));
             applicationSnapshot.setApplicationId(applicationId);
-            applicationSnapshot.setChunkOrder(chunkOrder);
+            applicationSnapshot.setChunkOrder(i + 1);
+            applicationSnapshot.setCompression(GZIP_COMPRESSION);
             applicationSnapshots.add(applicationSnapshot);
-
-            chunkOrder++;
         }
+
+        ApplicationSnapshot firstChunk = applicationSnapshots.get(0);
+        firstChunk.setContentHash(Base64.getEncoder().encodeToString(contentOutputStream.getDigest()));
+        firstChunk.setUncompressedSize(contentOutputStream.getSize());
+
+        long compressedSize = chunkOutputStream.getSize();
+        DistributionSummary.builder(SNAPSHOT_SIZE)
+                .baseUnit("bytes")
+                .tag("type", "uncompressed")
+                .register(meterRegistry)
+                .record(contentOutputStream.getSize());
+        DistributionSummary.builder(SNAPSHOT_SIZE)
+                .baseUnit("bytes")
+                .tag("type", "compressed")
+                .register(meterRegistry)
+                .record(compressedSize);
+        log.debug(
+                "Snapshot of application {} is {} bytes, compressed to {} bytes in {} chunks",
+                applicationId,
+                contentOutputStream.getSize(),
+                compressedSize,
+                chunks.size());
+
         return applicationSnapshots;
     }
 
+    /**
+     * Hashes and counts the uncompressed bytes on their way to the compressed stream.
+     */
+    private static class ContentOutputStream extends FilterOutputStream {
+        private final MessageDigest digest;
+        private long size;
+
+        ContentOutputStream(OutputStream outputStream) {
+            super(outputStream);
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            digest.update((byte) b);
+            size++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+            digest.update(bytes, offset, length);
+            size += length;
+        }
+
+        byte[] getDigest() {
+            return digest.digest();
+        }
+
+        long getSize() {
+            return size;
+        }
+    }
+
+    /**
+     * Collects the bytes written to it into chunks of at most MAX_SNAPSHOT_SIZE bytes, each one sized to its content.
+     */
+    private static class ChunkOutputStream extends OutputStream {
+        private final List<byte[]> chunks = new ArrayList<>();
+        private ByteArrayOutputStream currentChunk = new ByteArrayOutputStream(STREAM_BUFFER_SIZE);
+        private long size;
+
+        @Override
+        public void write(int b) {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            while (length > 0) {
+                int count = Math.min(length, MAX_SNAPSHOT_SIZE - currentChunk.size());
+                currentChunk.write(bytes, offset, count);
+                offset += count;
+                length -= count;
+                size += count;
+                if (currentChunk.size() == MAX_SNAPSHOT_SIZE) {
+                    chunks.add(currentChunk.toByteArray());
+                    currentChunk = new ByteArrayOutputStream(STREAM_BUFFER_SIZE);
+                }
+            }
+        }
+
+        List<byte[]> getChunks() {
+            if (currentChunk.size() > 0 || chunks.isEmpty()) {
+                chunks.add(currentChunk.toByteArray());
+                currentChunk = new ByteArrayOutputStream(0);
+            }
+            return chunks;
+        }
+
+        long getSize() {
+            return size;
+        }
+    }
+
     @Override
     public Mono<Boolean> deleteSnapshot(String branchedApplicationId) {
         return applicationSnapshotRepository
@@ -7,6 +7,7 @@ import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.configurations.InstanceConfig;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.AstReferencesCache;
 import com.appsmith.util.WebClientUtils;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.AllArgsConstructor;
@@ -27,11 +28,14 @@ import reactor.util.function.Tuples;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -49,6 +53,8 @@ public class AstServiceCEImpl implements AstServiceCE {
     private final RTSCaller rtsCaller;
     private final ObservationRegistry observationRegistry;
 
+    private final AstReferencesCache astReferencesCache;
+
     private final WebClient webClient = WebClientUtils.create(ConnectionProvider.builder("rts-provider")
             .maxConnections(100)
             .maxIdleTime(Duration.ofSeconds(30))
@@ -122,22 +128,53 @@ public class AstServiceCEImpl implements AstServiceCE {
                         Mono.just(new HashSet<>(MustacheHelper.getPossibleParentsOld(bindingValue))));
             });
         }
-        return rtsCaller
-                .post("/rts-api/v1/ast/multiple-script-data", new GetIdentifiersRequestBulk(bindingValues, evalVersion))
+
+        // Only the bindings that are not in the cache are sent to RTS
+        Set<String> distinctBindings = new HashSet<>();
+        List<Tuple2<String, Set<String>>> cachedReferences = new ArrayList<>();
+        Map<String, AstReferencesCache.Key> uncachedBindings = new LinkedHashMap<>();
+        for (String bindingValue : bindingValues) {
+            if (!distinctBindings.add(bindingValue)) {
+                continue;
+            }
+            AstReferencesCache.Key key = AstReferencesCache.getKey(bindingValue, evalVersion);
+            Set<String> references = astReferencesCache.get(key);
+            if (references != null) {
+                cachedReferences.add(Tuples.of(bindingValue, new HashSet<>(references)));
+            } else {
+                uncachedBindings.put(bindingValue, key);
+            }
+        }
+
+        if (uncachedBindings.isEmpty()) {
+            astReferencesCache.recordRtsCallSaved();
+            return Flux.fromIterable(cachedReferences);
+        }
+
+        List<String> scripts = new ArrayList<>(uncachedBindings.keySet());
+        Flux<Tuple2<String, Set<String>>> rtsReferences = rtsCaller
+                .post("/rts-api/v1/ast/multiple-script-data", new GetIdentifiersRequestBulk(scripts, evalVersion))
                 .name(AST_SERVICE_CALLING_RTS_API)
                 .tap(Micrometer.observation(observationRegistry))
-                .tag("no_of_bindings", String.valueOf(bindingValues.size()))
+                .tag("no_of_bindings", String.valueOf(scripts.size()))
                 .tag("eval_version", String.valueOf(evalVersion))
-                .flatMapMany(spec -> spec.retrieve()
+                .flatMap(spec -> spec.retrieve()
                         .bodyToMono(GetIdentifiersResponseBulk.class)
-                        .retryWhen(Retry.max(3))
-                        .flatMapIterable(getIdentifiersResponse -> getIdentifiersResponse.data)
-                        .index())
-                .flatMap(tuple2 -> {
-                    long currentIndex = tuple2.getT1();
+                        .retryWhen(Retry.max(3)))
+                .elapsed()
+                .flatMapIterable(tuple2 -> {
+                    astReferencesCache.recordRtsCall(scripts.size(), TimeUnit.MILLISECONDS.toNanos(tuple2.getT1()));
+                    return tuple2.getT2().data;
+                })
+                .index()
+                .map(tuple2 -> {
+                    String bindingValue = scripts.get((int) tuple2.getT1().longValue());
                     Set<String> references = tuple2.getT2().getReferences();
-                    return Mono.zip(Mono.just(bindingValues.get((int) currentIndex)), Mono.just(references));
+                    astReferencesCache.put(uncachedBindings.get(bindingValue), references);
+                    return Tuples.of(bindingValue, references);
                 });
+
+        return Flux.fromIterable(cachedReferences).concatWith(rtsReferences);
         // TODO: add error handling scenario for when RTS is not accessible in fat container
     }
 
@@ -44,6 +44,9 @@ import static com.appsmith.server.constants.ce.FieldNameCE.DEFAULT;
 @Slf4j
 public class CacheableFeatureFlagHelperCEImpl implements CacheableFeatureFlagHelperCE {
 
+    // Flags of a user are reloaded after a week, so that Redis doesn't keep them for users that no longer log in
+    private static final long USER_FLAGS_CACHE_TTL = 7 * 24 * 60 * 60;
+
     // Dedicated WebClient for Cloud Services calls with optimized connection pool
     private final WebClient cloudServicesWebClient;
 
@@ -72,7 +75,7 @@ public class CacheableFeatureFlagHelperCEImpl implements CacheableFeatureFlagHel
         this.cloudServicesWebClient = WebClientUtils.createForCloudServices();
     }
 
-    @Cache(cacheName = "featureFlag", key = "{#userIdentifier}")
+    @Cache(cacheName = "featureFlag", key = "{#userIdentifier}", ttl = USER_FLAGS_CACHE_TTL)
     @Override
     public Mono<CachedFlags> fetchUserCachedFlags(String userIdentifier, User user) {
         return this.forceAllRemoteFeatureFlagsForUser(userIdentifier, user).flatMap(flags -> {
@@ -88,7 +91,7 @@ public class CacheableFeatureFlagHelperCEImpl implements CacheableFeatureFlagHel
         });
     }
 
-    @Cache(cacheName = "featureFlag", key = "{#userIdentifier}")
+    @Cache(cacheName = "featureFlag", key = "{#userIdentifier}", ttl = USER_FLAGS_CACHE_TTL)
     @Override
     public Mono<CachedFlags> updateUserCachedFlags(String userIdentifier, CachedFlags cachedFlags) {
         return Mono.just(cachedFlags);
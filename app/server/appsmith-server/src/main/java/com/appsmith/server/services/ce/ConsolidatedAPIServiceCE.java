@@ -12,4 +12,6 @@ public interface ConsolidatedAPIServiceCE {
 
     String computeConsolidatedAPIResponseEtag(
             ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO, String defaultPageId, String applicationId);
+
+    Mono<Void> evictViewModePayloads(String branchedApplicationId);
 }
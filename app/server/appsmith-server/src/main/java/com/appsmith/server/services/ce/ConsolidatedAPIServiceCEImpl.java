@@ -20,6 +20,7 @@ import com.appsmith.server.dtos.ProductAlertResponseDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ConsolidatedAPIViewModeCache;
 import com.appsmith.server.helpers.TextUtils;
 import com.appsmith.server.jslibs.base.CustomJSLibService;
 import com.appsmith.server.newactions.base.NewActionService;
@@ -29,6 +30,7 @@ import com.appsmith.server.repositories.CacheableRepositoryHelper;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.MockDataService;
 import com.appsmith.server.services.OrganizationService;
+import com.appsmith.server.services.PermissionGroupService;
 import com.appsmith.server.services.ProductAlertService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.UserDataService;
@@ -126,6 +128,8 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
     private final ObservationRegistry observationRegistry;
     private final CacheableRepositoryHelper cacheableRepositoryHelper;
     private final ObservationHelper observationHelper;
+    private final PermissionGroupService permissionGroupService;
+    private final ConsolidatedAPIViewModeCache consolidatedAPIViewModeCache;
 
     protected <T> ResponseDTO<T> getSuccessResponse(T data) {
         return new ResponseDTO<>(HttpStatus.OK, data);
@@ -254,14 +258,185 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
 
         Mono<Application> branchedApplicationMonoCached = getBranchedApplicationMono(mode, applicationAndPageTupleMono);
 
-        Mono<List<NewPage>> pagesFromCurrentApplicationMonoCached = branchedApplicationMonoCached
+        /* Published data of view mode, which is the same for every page load until the next deployment */
+        if (isViewMode) {
+            fetches.add(getViewModePayloadFetchableMono(
+                    consolidatedAPIResponseDTO, branchedApplicationMonoCached, branchedPageMonoCached, mode));
+            return fetches;
+        }
+
+        Mono<List<NewPage>> pagesFromCurrentApplicationMonoCached =
+                getPagesFromCurrentApplicationMono(branchedApplicationMonoCached, mode);
+
+        Mono<ResponseDTO<ApplicationPagesDTO>> applicationPagesDTOResponseDTOMonoCache =
+                getApplicationPagesDTOResponseDTOMono(
+                        consolidatedAPIResponseDTO,
+                        branchedApplicationMonoCached,
+                        pagesFromCurrentApplicationMonoCached,
+                        mode);
+
+        fetches.addAll(getApplicationFetchableMonos(
+                consolidatedAPIResponseDTO,
+                branchedApplicationMonoCached,
+                branchedPageMonoCached,
+                applicationPagesDTOResponseDTOMonoCache,
+                mode));
+
+        /* Get all actions in edit mode */
+        fetches.add(branchedApplicationMonoCached
+                .flatMap(branchedApplication -> {
+                    MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+                    params.add(APPLICATION_ID, branchedApplication.getId());
+                    return newActionService.getUnpublishedActions(params, false).collectList();
+                })
+                .as(this::toResponseDTO)
+                .doOnError(e -> log.error("Error fetching unpublished actions", e))
+                .doOnSuccess(consolidatedAPIResponseDTO::setUnpublishedActions)
+                .name(getQualifiedSpanName(ACTIONS_SPAN, mode))
+                .tap(Micrometer.observation(observationRegistry)));
+
+        /* Get all action collections in edit mode */
+        fetches.add(branchedApplicationMonoCached
+                .flatMapMany(branchedApplication -> {
+                    MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+                    params.add(APPLICATION_ID, branchedApplication.getId());
+                    return actionCollectionService.getPopulatedActionCollectionsByViewMode(params, false);
+                })
+                .collectList()
+                .as(this::toResponseDTO)
+                .doOnError(e -> log.error("Error fetching unpublished action collections", e))
+                .doOnSuccess(consolidatedAPIResponseDTO::setUnpublishedActionCollections)
+                .name(getQualifiedSpanName(ACTION_COLLECTIONS_SPAN, mode))
+                .tap(Micrometer.observation(observationRegistry)));
+
+        /* Get all pages in edit mode post apply migrate DSL changes */
+        fetches.add(pagesFromCurrentApplicationMonoCached
+                .flatMapMany(Flux::fromIterable)
+                .flatMap(page -> applicationPageService.getPageDTOAfterMigratingDSL(page, false, true))
+                .collect(Collectors.toList())
+                .as(this::toResponseDTO)
+                .doOnError(e -> log.error("Error fetching pages with migrated DSL", e))
+                .doOnSuccess(consolidatedAPIResponseDTO::setPagesWithMigratedDsl)
+                .name(getQualifiedSpanName(PAGES_DSL_SPAN, mode))
+                .tap(Micrometer.observation(observationRegistry)));
+
+        /* Get all workspace id */
+        Mono<String> workspaceIdMonoCache = applicationPagesDTOResponseDTOMonoCache
+                .map(responseDTO -> {
+                    if (INTERNAL_SERVER_ERROR_STATUS
+                            == responseDTO.getResponseMeta().getStatus()) {
+                        return EMPTY_WORKSPACE_ID_ON_ERROR;
+                    }
+
+                    return responseDTO.getData().getWorkspaceId();
+                })
+                .onErrorResume(error -> Mono.just(EMPTY_WORKSPACE_ID_ON_ERROR))
+                .name(getQualifiedSpanName(WORKSPACE_SPAN, mode))
+                .tap(Micrometer.observation(observationRegistry))
+                .cache();
+
+        /* Get all plugins in workspace */
+        Mono<ResponseDTO<List<Plugin>>> listOfPluginsResponseDTOMonoCache = workspaceIdMonoCache
+                .flatMap(workspaceId -> EMPTY_WORKSPACE_ID_ON_ERROR.equals(workspaceId)
+                        ? Mono.empty()
+                        : pluginService.getInWorkspace(workspaceId).collectList())
+                .as(this::toResponseDTO)
+                .doOnError(e -> log.error("Error fetching plugins", e))
+                .doOnSuccess(consolidatedAPIResponseDTO::setPlugins)
+                .name(getQualifiedSpanName(PLUGINS_SPAN, mode))
+                .tap(Micrometer.observation(observationRegistry))
+                .cache();
+        fetches.add(listOfPluginsResponseDTOMonoCache);
+
+        /* Get all datasources in workspace */
+        Mono<ResponseDTO<List<Datasource>>> listOfDatasourcesResponseDTOMonoCache = workspaceIdMonoCache
+                .flatMap(workspaceId -> {
+                    MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+                    if (!EMPTY_WORKSPACE_ID_ON_ERROR.equals(workspaceId)) {
+                        params.add(WORKSPACE_ID, workspaceId);
+                    }
+                    return datasourceService.getAllWithStorages(params).collectList();
+                })
+                .as(this::toResponseDTO)
+                .doOnError(e -> log.error("Error fetching datasources", e))
+                .doOnSuccess(consolidatedAPIResponseDTO::setDatasources)
+                .name(getQualifiedSpanName(DATASOURCES_SPAN, mode))
+                .tap(Micrometer.observation(observationRegistry))
+                .cache();
+        fetches.add(listOfDatasourcesResponseDTOMonoCache);
+
+        /* Get form config for all relevant plugins by following this rule:
+         *   (a) there is at least one datasource of the plugin type alive in the workspace
+         *   (b) include REST API and GraphQL API plugin always
+         *   (c) ignore any other plugin
+         *  */
+        fetches.add(Mono.zip(listOfPluginsResponseDTOMonoCache, listOfDatasourcesResponseDTOMonoCache)
+                .map(tuple2 -> {
+                    Set<String> setOfAllPluginIdsToGetFormConfig = new HashSet<>();
+                    List<Plugin> pluginList = tuple2.getT1().getData();
+                    List<Datasource> datasourcesList = tuple2.getT2().getData();
+
+                    datasourcesList.stream()
+                            .filter(datasource -> !isBlank(datasource.getPluginId()))
+                            .forEach(datasource -> setOfAllPluginIdsToGetFormConfig.add(datasource.getPluginId()));
+
+                    // There are some plugins that allow query to be created without creating a datasource. For
+                    // such datasources, form config is required by the client at the time of page load.
+                    pluginList.stream()
+                            .filter(this::isPossibleToCreateQueryWithoutDatasource)
+                            .forEach(plugin -> setOfAllPluginIdsToGetFormConfig.add(plugin.getId()));
+
+                    return setOfAllPluginIdsToGetFormConfig;
+                })
+                .flatMapMany(Flux::fromIterable)
+                .flatMap(pluginId ->
+                        pluginService.getFormConfig(pluginId).map(formConfig -> Pair.of(pluginId, formConfig)))
+                .collectList()
+                .map(listOfFormConfig -> {
+                    Map<String, Map<?, ?>> pluginIdToFormConfigMap = new HashMap<>();
+                    listOfFormConfig.forEach(individualConfigMap -> {
+                        String pluginId = individualConfigMap.getFirst();
+                        Map<?, ?> config = individualConfigMap.getSecond();
+                        pluginIdToFormConfigMap.put(pluginId, config);
+                    });
+
+                    return pluginIdToFormConfigMap;
+                })
+                .as(this::toResponseDTO)
+                .doOnError(e -> log.error("Error fetching plugin form configs", e))
+                .doOnSuccess(consolidatedAPIResponseDTO::setPluginFormConfigs)
+                .name(getQualifiedSpanName(FORM_CONFIG_SPAN, mode))
+                .tap(Micrometer.observation(observationRegistry)));
+
+        /* List of mock datasources available to the user */
+        fetches.add(mockDataService
+                .getMockDataSet()
+                .map(MockDataDTO::getMockdbs)
+                .as(this::toResponseDTO)
+                .doOnError(e -> log.error("Error fetching mock datasources", e))
+                .doOnSuccess(consolidatedAPIResponseDTO::setMockDatasources)
+                .name(getQualifiedSpanName(MOCK_DATASOURCES_SPAN, mode))
+                .tap(Micrometer.observation(observationRegistry)));
+        return fetches;
+    }
+
+    protected Mono<List<NewPage>> getPagesFromCurrentApplicationMono(
+            Mono<Application> branchedApplicationMonoCached, ApplicationMode mode) {
+        return branchedApplicationMonoCached
                 .flatMap(branchedApplication ->
                         applicationPageService.getPagesBasedOnApplicationMode(branchedApplication, mode))
                 .cache();
+    }
+
+    protected Mono<ResponseDTO<ApplicationPagesDTO>> getApplicationPagesDTOResponseDTOMono(
+            ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO,
+            Mono<Application> branchedApplicationMonoCached,
+            Mono<List<NewPage>> pagesFromCurrentApplicationMonoCached,
+            ApplicationMode mode) {
+        boolean isViewMode = isViewMode(mode);
 
         /* Get all applicationPages in application */
-        Mono<ResponseDTO<ApplicationPagesDTO>> applicationPagesDTOResponseDTOMonoCache = Mono.zip(
-                        branchedApplicationMonoCached, pagesFromCurrentApplicationMonoCached)
+        return Mono.zip(branchedApplicationMonoCached, pagesFromCurrentApplicationMonoCached)
                 .flatMap(tuple2 -> {
                     Application branchedApplication = tuple2.getT1();
                     List<NewPage> newPages = tuple2.getT2();
@@ -273,6 +448,21 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
                 .name(getQualifiedSpanName(PAGES_SPAN, mode))
                 .tap(Micrometer.observation(observationRegistry))
                 .cache();
+    }
+
+    /**
+     * This method is used to get the fetches of the data of the application and the page that is read in both modes,
+     * which are the pages, themes, custom JS libraries and the page with its migrated DSL, and in view mode the
+     * published actions and action collections.
+     */
+    protected List<Mono<?>> getApplicationFetchableMonos(
+            ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO,
+            Mono<Application> branchedApplicationMonoCached,
+            Mono<NewPage> branchedPageMonoCached,
+            Mono<ResponseDTO<ApplicationPagesDTO>> applicationPagesDTOResponseDTOMonoCache,
+            ApplicationMode mode) {
+        boolean isViewMode = isViewMode(mode);
+        final List<Mono<?>> fetches = new ArrayList<>();
 
         fetches.add(applicationPagesDTOResponseDTOMonoCache);
 
@@ -306,35 +496,31 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
                 .name(getQualifiedSpanName(CUSTOM_JS_LIB_SPAN, mode))
                 .tap(Micrometer.observation(observationRegistry)));
 
-        if (!isBlank(basePageId)) {
-            /* Get current page */
-            fetches.add(branchedPageMonoCached
-                    .flatMap(branchedPage -> applicationPageService.getPageAndMigrateDslByBranchedPageId(
-                            branchedPage.getId(), isViewMode, true))
-                    .as(this::toResponseDTO)
-                    .doOnError(e -> log.error("Error fetching current page", e))
-                    .doOnSuccess(consolidatedAPIResponseDTO::setPageWithMigratedDsl)
-                    .name(getQualifiedSpanName(CURRENT_PAGE_SPAN, mode))
-                    .tap(Micrometer.observation(observationRegistry)));
-        }
+        /* Get current page */
+        fetches.add(branchedPageMonoCached
+                .flatMap(branchedPage -> applicationPageService.getPageAndMigrateDslByBranchedPageId(
+                        branchedPage.getId(), isViewMode, true))
+                .as(this::toResponseDTO)
+                .doOnError(e -> log.error("Error fetching current page", e))
+                .doOnSuccess(consolidatedAPIResponseDTO::setPageWithMigratedDsl)
+                .name(getQualifiedSpanName(CURRENT_PAGE_SPAN, mode))
+                .tap(Micrometer.observation(observationRegistry)));
 
         /* Fetch view specific data */
         if (isViewMode) {
             /* Get list of all actions of the page in view mode */
-            if (!isBlank(basePageId)) {
-                // For a git connected application the desired branch name may differ from the base if no
-                // branch name is provided hence, we would still need to check this.
-                Mono<String> branchedPageIdMono = branchedPageMonoCached.map(NewPage::getId);
-                fetches.add(branchedPageIdMono
-                        .flatMap(branchedPageId -> newActionService
-                                .getActionsForViewModeByPageId(branchedPageId)
-                                .collectList())
-                        .as(this::toResponseDTO)
-                        .doOnError(e -> log.error("Error fetching actions for view mode", e))
-                        .doOnSuccess(consolidatedAPIResponseDTO::setPublishedActions)
-                        .name(getQualifiedSpanName(ACTIONS_SPAN, mode))
-                        .tap(Micrometer.observation(observationRegistry)));
-            }
+            // For a git connected application the desired branch name may differ from the base if no
+            // branch name is provided hence, we would still need to check this.
+            Mono<String> branchedPageIdMono = branchedPageMonoCached.map(NewPage::getId);
+            fetches.add(branchedPageIdMono
+                    .flatMap(branchedPageId -> newActionService
+                            .getActionsForViewModeByPageId(branchedPageId)
+                            .collectList())
+                    .as(this::toResponseDTO)
+                    .doOnError(e -> log.error("Error fetching actions for view mode", e))
+                    .doOnSuccess(consolidatedAPIResponseDTO::setPublishedActions)
+                    .name(getQualifiedSpanName(ACTIONS_SPAN, mode))
+                    .tap(Micrometer.observation(observationRegistry)));
 
             /* Get list of all action collections in view mode */
             fetches.add(branchedApplicationMonoCached
@@ -345,147 +531,109 @@ public class ConsolidatedAPIServiceCEImpl implements ConsolidatedAPIServiceCE {
                     .doOnError(e -> log.error("Error fetching action collections for view mode", e))
                     .doOnSuccess(consolidatedAPIResponseDTO::setPublishedActionCollections)
                     .name(getQualifiedSpanName(ACTION_COLLECTIONS_SPAN, mode)));
+        }
 
-        } else {
-            /* Get all actions in edit mode */
-            fetches.add(branchedApplicationMonoCached
-                    .flatMap(branchedApplication -> {
-                        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-                        params.add(APPLICATION_ID, branchedApplication.getId());
-                        return newActionService
-                                .getUnpublishedActions(params, false)
-                                .collectList();
-                    })
-                    .as(this::toResponseDTO)
-                    .doOnError(e -> log.error("Error fetching unpublished actions", e))
-                    .doOnSuccess(consolidatedAPIResponseDTO::setUnpublishedActions)
-                    .name(getQualifiedSpanName(ACTIONS_SPAN, mode))
-                    .tap(Micrometer.observation(observationRegistry)));
+        return fetches;
+    }
 
-            /* Get all action collections in edit mode */
-            fetches.add(branchedApplicationMonoCached
-                    .flatMapMany(branchedApplication -> {
-                        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-                        params.add(APPLICATION_ID, branchedApplication.getId());
-                        return actionCollectionService.getPopulatedActionCollectionsByViewMode(params, false);
-                    })
-                    .collectList()
-                    .as(this::toResponseDTO)
-                    .doOnError(e -> log.error("Error fetching unpublished action collections", e))
-                    .doOnSuccess(consolidatedAPIResponseDTO::setUnpublishedActionCollections)
-                    .name(getQualifiedSpanName(ACTION_COLLECTIONS_SPAN, mode))
-                    .tap(Micrometer.observation(observationRegistry)));
+    /**
+     * This method is used to get the published data of the page in view mode, from ConsolidatedAPIViewModeCache when
+     * the same deployment was already read, with the same policies of the application and the page, for a user with
+     * the same permission groups. When the application or the page cannot be found, the data is read without the cache
+     * so that every part of the response has its own error, as in edit mode.
+     */
+    protected Mono<?> getViewModePayloadFetchableMono(
+            ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO,
+            Mono<Application> branchedApplicationMonoCached,
+            Mono<NewPage> branchedPageMonoCached,
+            ApplicationMode mode) {
+        return Mono.zip(branchedApplicationMonoCached, branchedPageMonoCached)
+                .flatMap(tuple2 -> getViewModePayload(tuple2.getT1(), tuple2.getT2(), mode))
+                .doOnNext(payload -> setViewModePayload(payload, consolidatedAPIResponseDTO))
+                .onErrorResume(error -> Mono.when(getViewModeFetchableMonos(
+                                consolidatedAPIResponseDTO,
+                                branchedApplicationMonoCached,
+                                branchedPageMonoCached,
+                                mode))
+                        .then(Mono.empty()));
+    }
 
-            /* Get all pages in edit mode post apply migrate DSL changes */
-            fetches.add(pagesFromCurrentApplicationMonoCached
-                    .flatMapMany(Flux::fromIterable)
-                    .flatMap(page -> applicationPageService.getPageDTOAfterMigratingDSL(page, false, true))
-                    .collect(Collectors.toList())
-                    .as(this::toResponseDTO)
-                    .doOnError(e -> log.error("Error fetching pages with migrated DSL", e))
-                    .doOnSuccess(consolidatedAPIResponseDTO::setPagesWithMigratedDsl)
-                    .name(getQualifiedSpanName(PAGES_DSL_SPAN, mode))
-                    .tap(Micrometer.observation(observationRegistry)));
+    protected Mono<ConsolidatedAPIResponseDTO> getViewModePayload(
+            Application branchedApplication, NewPage branchedPage, ApplicationMode mode) {
+        String lastDeployedAt = branchedApplication.getLastDeployedAt();
+        if (lastDeployedAt == null) {
+            // Nothing to tell the deployments of the application apart
+            return readViewModePayload(branchedApplication, branchedPage, mode);
+        }
 
-            /* Get all workspace id */
-            Mono<String> workspaceIdMonoCache = applicationPagesDTOResponseDTOMonoCache
-                    .map(responseDTO -> {
-                        if (INTERNAL_SERVER_ERROR_STATUS
-                                == responseDTO.getResponseMeta().getStatus()) {
-                            return EMPTY_WORKSPACE_ID_ON_ERROR;
-                        }
+        return permissionGroupService
+                .getSessionUserPermissionGroupIds()
+                .defaultIfEmpty(Set.of())
+                .flatMap(permissionGroupIds -> {
+                    ConsolidatedAPIViewModeCache.Key key = new ConsolidatedAPIViewModeCache.Key(
+                            branchedApplication.getId(),
+                            branchedPage.getId(),
+                            lastDeployedAt,
+                            ConsolidatedAPIViewModeCache.policiesOf(branchedApplication, branchedPage),
+                            Set.copyOf(permissionGroupIds));
+                    ConsolidatedAPIResponseDTO payload = consolidatedAPIViewModeCache.get(key);
+                    if (payload != null) {
+                        return Mono.just(payload);
+                    }
+                    return readViewModePayload(branchedApplication, branchedPage, mode)
+                            .doOnNext(readPayload -> consolidatedAPIViewModeCache.put(key, readPayload));
+                });
+    }
 
-                        return responseDTO.getData().getWorkspaceId();
-                    })
-                    .onErrorResume(error -> Mono.just(EMPTY_WORKSPACE_ID_ON_ERROR))
-                    .name(getQualifiedSpanName(WORKSPACE_SPAN, mode))
-                    .tap(Micrometer.observation(observationRegistry))
-                    .cache();
-
-            /* Get all plugins in workspace */
-            Mono<ResponseDTO<List<Plugin>>> listOfPluginsResponseDTOMonoCache = workspaceIdMonoCache
-                    .flatMap(workspaceId -> EMPTY_WORKSPACE_ID_ON_ERROR.equals(workspaceId)
-                            ? Mono.empty()
-                            : pluginService.getInWorkspace(workspaceId).collectList())
-                    .as(this::toResponseDTO)
-                    .doOnError(e -> log.error("Error fetching plugins", e))
-                    .doOnSuccess(consolidatedAPIResponseDTO::setPlugins)
-                    .name(getQualifiedSpanName(PLUGINS_SPAN, mode))
-                    .tap(Micrometer.observation(observationRegistry))
-                    .cache();
-            fetches.add(listOfPluginsResponseDTOMonoCache);
-
-            /* Get all datasources in workspace */
-            Mono<ResponseDTO<List<Datasource>>> listOfDatasourcesResponseDTOMonoCache = workspaceIdMonoCache
-                    .flatMap(workspaceId -> {
-                        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-                        if (!EMPTY_WORKSPACE_ID_ON_ERROR.equals(workspaceId)) {
-                            params.add(WORKSPACE_ID, workspaceId);
-                        }
-                        return datasourceService.getAllWithStorages(params).collectList();
-                    })
-                    .as(this::toResponseDTO)
-                    .doOnError(e -> log.error("Error fetching datasources", e))
-                    .doOnSuccess(consolidatedAPIResponseDTO::setDatasources)
-                    .name(getQualifiedSpanName(DATASOURCES_SPAN, mode))
-                    .tap(Micrometer.observation(observationRegistry))
-                    .cache();
-            fetches.add(listOfDatasourcesResponseDTOMonoCache);
-
-            /* Get form config for all relevant plugins by following this rule:
-             *   (a) there is at least one datasource of the plugin type alive in the workspace
-             *   (b) include REST API and GraphQL API plugin always
-             *   (c) ignore any other plugin
-             *  */
-            fetches.add(Mono.zip(listOfPluginsResponseDTOMonoCache, listOfDatasourcesResponseDTOMonoCache)
-                    .map(tuple2 -> {
-                        Set<String> setOfAllPluginIdsToGetFormConfig = new HashSet<>();
-                        List<Plugin> pluginList = tuple2.getT1().getData();
-                        List<Datasource> datasourcesList = tuple2.getT2().getData();
-
-                        datasourcesList.stream()
-                                .filter(datasource -> !isBlank(datasource.getPluginId()))
-                                .forEach(datasource -> setOfAllPluginIdsToGetFormConfig.add(datasource.getPluginId()));
-
-                        // There are some plugins that allow query to be created without creating a datasource. For
-                        // such datasources, form config is required by the client at the time of page load.
-                        pluginList.stream()
-                                .filter(this::isPossibleToCreateQueryWithoutDatasource)
-                                .forEach(plugin -> setOfAllPluginIdsToGetFormConfig.add(plugin.getId()));
-
-                        return setOfAllPluginIdsToGetFormConfig;
-                    })
-                    .flatMapMany(Flux::fromIterable)
-                    .flatMap(pluginId ->
-                            pluginService.getFormConfig(pluginId).map(formConfig -> Pair.of(pluginId, formConfig)))
-                    .collectList()
-                    .map(listOfFormConfig -> {
-                        Map<String, Map<?, ?>> pluginIdToFormConfigMap = new HashMap<>();
-                        listOfFormConfig.forEach(individualConfigMap -> {
-                            String pluginId = individualConfigMap.getFirst();
-                            Map<?, ?> config = individualConfigMap.getSecond();
-                            pluginIdToFormConfigMap.put(pluginId, config);
-                        });
+    private Mono<ConsolidatedAPIResponseDTO> readViewModePayload(
+            Application branchedApplication, NewPage branchedPage, ApplicationMode mode) {
+        ConsolidatedAPIResponseDTO payload = new ConsolidatedAPIResponseDTO();
+        return Mono.when(getViewModeFetchableMonos(
+                        payload, Mono.just(branchedApplication), Mono.just(branchedPage), mode))
+                .thenReturn(payload);
+    }
 
-                        return pluginIdToFormConfigMap;
-                    })
-                    .as(this::toResponseDTO)
-                    .doOnError(e -> log.error("Error fetching plugin form configs", e))
-                    .doOnSuccess(consolidatedAPIResponseDTO::setPluginFormConfigs)
-                    .name(getQualifiedSpanName(FORM_CONFIG_SPAN, mode))
-                    .tap(Micrometer.observation(observationRegistry)));
+    private List<Mono<?>> getViewModeFetchableMonos(
+            ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO,
+            Mono<Application> branchedApplicationMonoCached,
+            Mono<NewPage> branchedPageMonoCached,
+            ApplicationMode mode) {
+        Mono<List<NewPage>> pagesFromCurrentApplicationMonoCached =
+                getPagesFromCurrentApplicationMono(branchedApplicationMonoCached, mode);
+        Mono<ResponseDTO<ApplicationPagesDTO>> applicationPagesDTOResponseDTOMonoCache =
+                getApplicationPagesDTOResponseDTOMono(
+                        consolidatedAPIResponseDTO,
+                        branchedApplicationMonoCached,
+                        pagesFromCurrentApplicationMonoCached,
+                        mode);
+        return getApplicationFetchableMonos(
+                consolidatedAPIResponseDTO,
+                branchedApplicationMonoCached,
+                branchedPageMonoCached,
+                applicationPagesDTOResponseDTOMonoCache,
+                mode);
+    }
 
-            /* List of mock datasources available to the user */
-            fetches.add(mockDataService
-                    .getMockDataSet()
-                    .map(MockDataDTO::getMockdbs)
-                    .as(this::toResponseDTO)
-                    .doOnError(e -> log.error("Error fetching mock datasources", e))
-                    .doOnSuccess(consolidatedAPIResponseDTO::setMockDatasources)
-                    .name(getQualifiedSpanName(MOCK_DATASOURCES_SPAN, mode))
-                    .tap(Micrometer.observation(observationRegistry)));
-        }
-        return fetches;
+    private void setViewModePayload(
+            ConsolidatedAPIResponseDTO payload, ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO) {
+        consolidatedAPIResponseDTO.setPages(payload.getPages());
+        consolidatedAPIResponseDTO.setCurrentTheme(payload.getCurrentTheme());
+        consolidatedAPIResponseDTO.setThemes(payload.getThemes());
+        consolidatedAPIResponseDTO.setCustomJSLibraries(payload.getCustomJSLibraries());
+        consolidatedAPIResponseDTO.setPageWithMigratedDsl(payload.getPageWithMigratedDsl());
+        consolidatedAPIResponseDTO.setPublishedActions(payload.getPublishedActions());
+        consolidatedAPIResponseDTO.setPublishedActionCollections(payload.getPublishedActionCollections());
+    }
+
+    /**
+     * This method is used to evict the view mode payloads of an application when it is published. They are read again,
+     * with the permissions of the user, on the first page load after the publish.
+     *
+     * @param branchedApplicationId : Id of the published application
+     */
+    @Override
+    public Mono<Void> evictViewModePayloads(String branchedApplicationId) {
+        return Mono.fromRunnable(() -> consolidatedAPIViewModeCache.evictApplication(branchedApplicationId));
     }
 
     protected Boolean isStaticMode(String baseApplicationId, String basePageId) {
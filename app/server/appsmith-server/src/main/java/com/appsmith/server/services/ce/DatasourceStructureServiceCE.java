@@ -2,8 +2,11 @@ package com.appsmith.server.services.ce;
 
 import com.appsmith.external.models.DatasourceStorageStructure;
 import com.appsmith.external.models.DatasourceStructure;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+
 public interface DatasourceStructureServiceCE {
 
     Mono<DatasourceStorageStructure> getByDatasourceIdAndEnvironmentId(String datasourceId, String environmentId);
@@ -11,4 +14,11 @@ public interface DatasourceStructureServiceCE {
     Mono<DatasourceStorageStructure> save(DatasourceStorageStructure datasourceStorageStructure);
 
     Mono<Void> saveStructure(String datasourceId, String environmentId, DatasourceStructure structure);
+
+    Mono<Void> markUsed(String datasourceId, String environmentId);
+
+    Mono<Void> markRefreshAttempted(String datasourceId, String environmentId);
+
+    Flux<DatasourceStorageStructure> getAllUsedSinceAndRefreshAttemptedBefore(
+            Instant usedSince, Instant attemptedBefore, int limit);
 }
@@ -3,14 +3,35 @@ package com.appsmith.server.services.ce;
 import com.appsmith.external.models.DatasourceStorageStructure;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.server.repositories.DatasourceStorageStructureRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
 @AllArgsConstructor
 @Service
+@Slf4j
 public class DatasourceStructureServiceCEImpl implements DatasourceStructureServiceCE {
 
+    // Map keys and bean properties are sorted, so that the same structure always hashes the same
+    private static final ObjectMapper STRUCTURE_HASH_MAPPER = JsonMapper.builder()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+            .build();
+
     protected final DatasourceStorageStructureRepository repository;
 
     @Override
@@ -24,19 +45,91 @@ public class DatasourceStructureServiceCEImpl implements DatasourceStructureServ
         return repository.save(datasourceStorageStructure);
     }
 
+    /**
+     * This method is used to store a structure that was just discovered. The structure is written only if its hash
+     * differs from the one of the stored structure, otherwise only the time it was discovered at is updated.
+     */
     @Override
     public Mono<Void> saveStructure(String datasourceId, String environmentId, DatasourceStructure structure) {
+        final Instant refreshedAt = Instant.now();
+        final String structureHash = getStructureHash(structure);
+        if (structureHash == null) {
+            return repository
+                    .updateStructure(datasourceId, environmentId, structure)
+                    .flatMap(count -> count == 0
+                            ? insertStructure(datasourceId, environmentId, structure, null, refreshedAt)
+                            : Mono.empty());
+        }
+
         return repository
-                .updateStructure(datasourceId, environmentId, structure)
+                .updateChangedStructure(datasourceId, environmentId, structure, structureHash, refreshedAt)
+                .flatMap(count -> {
+                    if (count > 0) {
+                        return Mono.just(count);
+                    }
+                    return repository.updateRefreshedAtOfUnchangedStructure(
+                            datasourceId, environmentId, structureHash, refreshedAt);
+                })
                 .flatMap(count -> {
                     if (count == 0) {
-                        DatasourceStorageStructure dss = new DatasourceStorageStructure();
-                        dss.setDatasourceId(datasourceId);
-                        dss.setEnvironmentId(environmentId);
-                        dss.setStructure(structure);
-                        return repository.save(dss).then();
+                        return insertStructure(datasourceId, environmentId, structure, structureHash, refreshedAt);
                     }
                     return Mono.empty();
                 });
     }
+
+    private Mono<Void> insertStructure(
+            String datasourceId,
+            String environmentId,
+            DatasourceStructure structure,
+            String structureHash,
+            Instant refreshedAt) {
+        DatasourceStorageStructure dss = new DatasourceStorageStructure();
+        dss.setDatasourceId(datasourceId);
+        dss.setEnvironmentId(environmentId);
+        dss.setStructure(structure);
+        dss.setStructureHash(structureHash);
+        dss.setRefreshedAt(refreshedAt);
+        dss.setRefreshAttemptedAt(refreshedAt);
+        // A structure is only stored for the first time when it is asked for
+        dss.setUsedAt(refreshedAt);
+        return repository.save(dss).then();
+    }
+
+    @Override
+    public Mono<Void> markUsed(String datasourceId, String environmentId) {
+        return repository.updateUsedAt(datasourceId, environmentId, Instant.now()).then();
+    }
+
+    @Override
+    public Mono<Void> markRefreshAttempted(String datasourceId, String environmentId) {
+        return repository.updateRefreshAttemptedAt(datasourceId, environmentId, Instant.now()).then();
+    }
+
+    @Override
+    public Flux<DatasourceStorageStructure> getAllUsedSinceAndRefreshAttemptedBefore(
+            Instant usedSince, Instant attemptedBefore, int limit) {
+        return repository.findAllUsedSinceAndRefreshAttemptedBefore(usedSince, attemptedBefore, limit);
+    }
+
+    /**
+     * Hashes what the structure consists of, leaving out the time it was discovered at. Returns null if the structure
+     * can't be hashed, in which case it is always written.
+     */
+    private static String getStructureHash(DatasourceStructure structure) {
+        Map<String, Object> structureSignature = new HashMap<>();
+        structureSignature.put("tables", structure.getTables());
+        structureSignature.put("error", structure.getError());
+        structureSignature.put("isPartial", structure.getIsPartial());
+        structureSignature.put("isKeysPartial", structure.getIsKeysPartial());
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashBytes = digest.digest(STRUCTURE_HASH_MAPPER.writeValueAsBytes(structureSignature));
+            return Base64.getEncoder().encodeToString(hashBytes);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            log.error("Error while computing the hash of a datasource structure", e);
+            return null;
+        }
+    }
 }
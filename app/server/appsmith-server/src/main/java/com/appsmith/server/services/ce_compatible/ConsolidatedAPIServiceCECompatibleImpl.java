@@ -4,6 +4,7 @@ import com.appsmith.external.helpers.ObservationHelper;
 import com.appsmith.server.actioncollections.base.ActionCollectionService;
 import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.datasources.base.DatasourceService;
+import com.appsmith.server.helpers.ConsolidatedAPIViewModeCache;
 import com.appsmith.server.jslibs.base.CustomJSLibService;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
@@ -12,6 +13,7 @@ import com.appsmith.server.repositories.CacheableRepositoryHelper;
 import com.appsmith.server.services.ApplicationPageService;
 import com.appsmith.server.services.MockDataService;
 import com.appsmith.server.services.OrganizationService;
+import com.appsmith.server.services.PermissionGroupService;
 import com.appsmith.server.services.ProductAlertService;
 import com.appsmith.server.services.SessionUserService;
 import com.appsmith.server.services.UserDataService;
@@ -42,7 +44,9 @@ public class ConsolidatedAPIServiceCECompatibleImpl extends ConsolidatedAPIServi
             MockDataService mockDataService,
             ObservationRegistry observationRegistry,
             CacheableRepositoryHelper cacheableRepositoryHelper,
-            ObservationHelper observationHelper) {
+            ObservationHelper observationHelper,
+            PermissionGroupService permissionGroupService,
+            ConsolidatedAPIViewModeCache consolidatedAPIViewModeCache) {
         super(
                 sessionUserService,
                 userService,
@@ -62,6 +66,8 @@ public class ConsolidatedAPIServiceCECompatibleImpl extends ConsolidatedAPIServi
                 mockDataService,
                 observationRegistry,
                 cacheableRepositoryHelper,
-                observationHelper);
+                observationHelper,
+                permissionGroupService,
+                consolidatedAPIViewModeCache);
     }
 }
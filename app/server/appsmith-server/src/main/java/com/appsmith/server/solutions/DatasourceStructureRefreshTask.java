@@ -0,0 +1,5 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.DatasourceStructureRefreshTaskCE;
+
+public interface DatasourceStructureRefreshTask extends DatasourceStructureRefreshTaskCE {}
@@ -0,0 +1,20 @@
+package com.appsmith.server.solutions;
+
+import com.appsmith.caching.aspects.DistributedLockAspect;
+import com.appsmith.server.services.DatasourceStructureService;
+import com.appsmith.server.solutions.ce.DatasourceStructureRefreshTaskCEImpl;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("!test")
+public class DatasourceStructureRefreshTaskImpl extends DatasourceStructureRefreshTaskCEImpl
+        implements DatasourceStructureRefreshTask {
+
+    public DatasourceStructureRefreshTaskImpl(
+            DatasourceStructureService datasourceStructureService,
+            DatasourceStructureSolution datasourceStructureSolution,
+            DistributedLockAspect distributedLockAspect) {
+        super(datasourceStructureService, datasourceStructureSolution, distributedLockAspect);
+    }
+}
@@ -0,0 +1,6 @@
+package com.appsmith.server.solutions.ce;
+
+public interface DatasourceStructureRefreshTaskCE {
+
+    void refreshDatasourceStructures();
+}
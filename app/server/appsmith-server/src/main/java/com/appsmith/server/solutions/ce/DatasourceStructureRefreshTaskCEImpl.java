@@ -0,0 +1,65 @@
+package com.appsmith.server.solutions.ce;
+
+import com.appsmith.caching.aspects.DistributedLockAspect;
+import com.appsmith.server.services.DatasourceStructureService;
+import com.appsmith.server.solutions.DatasourceStructureSolution;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Slf4j
+@RequiredArgsConstructor
+public class DatasourceStructureRefreshTaskCEImpl implements DatasourceStructureRefreshTaskCE {
+
+    // Only the structures used since then are refreshed, the others are discovered again when they are next used
+    private static final Duration STRUCTURE_USED_WITHIN = Duration.ofDays(1);
+
+    private static final Duration STRUCTURE_REFRESH_INTERVAL = Duration.ofMinutes(15);
+
+    private static final int STRUCTURES_PER_RUN = 50;
+
+    private static final int STRUCTURE_REFRESH_CONCURRENCY = 4;
+
+    // The lease is left to expire, so that a structure is refreshed by one server at a time
+    private static final long STRUCTURE_REFRESH_LEASE_SECONDS = 5 * 60;
+
+    private final DatasourceStructureService datasourceStructureService;
+    private final DatasourceStructureSolution datasourceStructureSolution;
+    private final DistributedLockAspect distributedLockAspect;
+
+    /**
+     * Discovers again the structures of datasources that were used recently, and were not refreshed for a while, so
+     * that the stored structure can be served right away when it is read. The structures that were tried the longest
+     * ago are refreshed first, and a failed try counts, so that failing datasources don't hold up the others.
+     */
+    @Override
+    @Scheduled(initialDelay = 2 * 60 * 1000 /* two minutes */, fixedDelay = 5 * 60 * 1000 /* five minutes */)
+    @Observed(name = "refreshDatasourceStructures")
+    public void refreshDatasourceStructures() {
+        Instant now = Instant.now();
+        datasourceStructureService
+                .getAllUsedSinceAndRefreshAttemptedBefore(
+                        now.minus(STRUCTURE_USED_WITHIN), now.minus(STRUCTURE_REFRESH_INTERVAL), STRUCTURES_PER_RUN)
+                .flatMap(
+                        datasourceStorageStructure -> distributedLockAspect
+                                .tryAcquireLock(
+                                        "datasourceStructureRefresh:" + datasourceStorageStructure.getDatasourceId()
+                                                + ":" + datasourceStorageStructure.getEnvironmentId(),
+                                        STRUCTURE_REFRESH_LEASE_SECONDS)
+                                .flatMap(lockKey ->
+                                        datasourceStructureSolution.refreshStructure(datasourceStorageStructure)),
+                        STRUCTURE_REFRESH_CONCURRENCY)
+                .onErrorResume(error -> {
+                    log.error("Error while refreshing the structures of datasources", error);
+                    return Mono.empty();
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe();
+    }
+}
@@ -2,16 +2,27 @@ package com.appsmith.server.solutions.ce;
 
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.models.DatasourceStorageStructure;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceStructure.Template;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
+
 public interface DatasourceStructureSolutionCE {
 
     Mono<DatasourceStructure> getStructure(String datasourceId, boolean ignoreCache, String environmentId);
 
+    Mono<DatasourceStructure> getStructure(
+            String datasourceId, boolean ignoreCache, String environmentId, Set<String> tableNames);
+
     Mono<DatasourceStructure> getStructure(DatasourceStorage datasourceStorage, boolean ignoreCache);
 
+    Mono<DatasourceStructure> getStructure(
+            DatasourceStorage datasourceStorage, boolean ignoreCache, Set<String> tableNames);
+
+    Mono<Void> refreshStructure(DatasourceStorageStructure datasourceStorageStructure);
+
     Mono<ActionExecutionResult> getSchemaPreviewData(
             String datasourceId, String environmentName, Template queryTemplate);
 }
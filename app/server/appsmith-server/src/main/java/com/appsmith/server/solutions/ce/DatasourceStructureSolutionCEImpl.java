@@ -4,6 +4,7 @@ import com.appsmith.external.constants.AnalyticsEvents;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.StructureDiscoveryUtils;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.Datasource;
@@ -11,6 +12,7 @@ import com.appsmith.external.models.DatasourceStorage;
 import com.appsmith.external.models.DatasourceStorageStructure;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceStructure.Template;
+import com.appsmith.external.models.StructureDiscoveryOptions;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.datasources.base.DatasourceService;
@@ -30,6 +32,9 @@ import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeoutException;
 
 import static com.appsmith.server.helpers.DatasourceAnalyticsUtils.getAnalyticsPropertiesForTestEventStatus;
@@ -41,6 +46,12 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
 
     public static final int GET_STRUCTURE_TIMEOUT_SECONDS = 15;
 
+    // Left short of the timeout, so that plugins can return the tables discovered until then as a partial structure
+    public static final int GET_STRUCTURE_TIME_BUDGET_SECONDS = 10;
+
+    // The time a structure was used at is updated at most this often, as it is updated when the structure is read
+    public static final Duration STRUCTURE_USED_AT_UPDATE_INTERVAL = Duration.ofMinutes(10);
+
     private final DatasourceService datasourceService;
     private final DatasourceStorageService datasourceStorageService;
     private final PluginExecutorHelper pluginExecutorHelper;
@@ -54,6 +65,12 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
 
     @Override
     public Mono<DatasourceStructure> getStructure(String datasourceId, boolean ignoreCache, String environmentId) {
+        return getStructure(datasourceId, ignoreCache, environmentId, null);
+    }
+
+    @Override
+    public Mono<DatasourceStructure> getStructure(
+            String datasourceId, boolean ignoreCache, String environmentId, Set<String> tableNames) {
         return datasourceService
                 .findById(datasourceId, datasourcePermission.getExecutePermission())
                 .zipWhen(datasource -> datasourceService.getTrueEnvironmentId(
@@ -63,7 +80,7 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
                         environmentPermission.getExecutePermission()))
                 .flatMap(tuple2 -> datasourceStorageService.findByDatasourceAndEnvironmentIdForExecution(
                         tuple2.getT1(), tuple2.getT2()))
-                .flatMap(datasourceStorage -> getStructure(datasourceStorage, ignoreCache))
+                .flatMap(datasourceStorage -> getStructure(datasourceStorage, ignoreCache, tableNames))
                 .onErrorMap(
                         IllegalArgumentException.class,
                         error -> new AppsmithPluginException(
@@ -85,6 +102,19 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
 
     @Override
     public Mono<DatasourceStructure> getStructure(DatasourceStorage datasourceStorage, boolean ignoreCache) {
+        return getStructure(datasourceStorage, ignoreCache, null);
+    }
+
+    /**
+     * This method is used to get the structure of a datasource, from the cache unless it is ignored. The cached
+     * structure is returned right away, with the time it was discovered at, as structures that are used are discovered
+     * again in the background by DatasourceStructureRefreshTask.
+     * When the cache is ignored and table names are given, only those tables are discovered again, and replaced in the
+     * cached structure. Tables left out of a partial discovery, for the time budget, are kept from the cached structure.
+     */
+    @Override
+    public Mono<DatasourceStructure> getStructure(
+            DatasourceStorage datasourceStorage, boolean ignoreCache, Set<String> tableNames) {
 
         Mono<String> environmentNameMonoCached = datasourceStorageService
                 .getEnvironmentNameFromEnvironmentIdForAnalytics(datasourceStorage.getEnvironmentId())
@@ -103,7 +133,139 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
                 datasourceStructureService.getByDatasourceIdAndEnvironmentId(
                         datasourceStorage.getDatasourceId(), datasourceStorage.getEnvironmentId());
 
-        Mono<DatasourceStructure> fetchAndStoreNewStructureMono = pluginExecutorHelper
+        StructureDiscoveryOptions options = StructureDiscoveryOptions.DEFAULT.toBuilder()
+                .timeBudget(Duration.ofSeconds(GET_STRUCTURE_TIME_BUDGET_SECONDS))
+                .build();
+
+        // This mono, when computed, will load the structure of the datasourceStorage by calling the plugin method.
+        return configurationStructureMono
+                .filter(configurationStructure -> configurationStructure.getStructure() != null)
+                .flatMap(configurationStructure -> markUsed(configurationStructure).thenReturn(configurationStructure))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(configurationStructure -> {
+                    if (!ignoreCache && configurationStructure.isPresent()) {
+
+                        // Return the cached structure if available.
+                        DatasourceStructure cachedStructure =
+                                configurationStructure.get().getStructure();
+                        cachedStructure.setRefreshedAt(configurationStructure.get().getRefreshedAt());
+                        return Mono.just(cachedStructure);
+                    }
+
+                    // Tables are only discovered again when there is a cached structure to replace them in
+                    return fetchAndStoreStructure(
+                            datasourceStorage,
+                            environmentNameMonoCached,
+                            configurationStructure
+                                    .map(DatasourceStorageStructure::getStructure)
+                                    .orElse(null),
+                            configurationStructure.isPresent()
+                                    ? options.toBuilder().tables(tableNames).build()
+                                    : options);
+                })
+                .defaultIfEmpty(new DatasourceStructure());
+    }
+
+    /**
+     * This method is used to discover the structure of a datasource again, in the background. A structure that could
+     * not be discovered is left as it is, and the tables left out of a partial discovery are kept from it. The try is
+     * recorded before anything else, so that a structure that can't be discovered moves back in the refresh queue.
+     */
+    @Override
+    public Mono<Void> refreshStructure(DatasourceStorageStructure datasourceStorageStructure) {
+        String datasourceId = datasourceStorageStructure.getDatasourceId();
+        String environmentId = datasourceStorageStructure.getEnvironmentId();
+        StructureDiscoveryOptions options = StructureDiscoveryOptions.DEFAULT.toBuilder()
+                .timeBudget(Duration.ofSeconds(GET_STRUCTURE_TIME_BUDGET_SECONDS))
+                .build();
+
+        return datasourceStructureService
+                .markRefreshAttempted(datasourceId, environmentId)
+                .then(datasourceService.findById(datasourceId))
+                .flatMap(datasource ->
+                        datasourceStorageService.findByDatasourceAndEnvironmentIdForExecution(datasource, environmentId))
+                .filter(DatasourceStorage::getIsValid)
+                .flatMap(datasourceStorage -> fetchStructure(datasourceStorage, options))
+                .filter(discoveredStructure -> discoveredStructure.getError() == null)
+                .flatMap(discoveredStructure -> {
+                    if (!Boolean.TRUE.equals(discoveredStructure.getIsPartial())
+                            && !Boolean.TRUE.equals(discoveredStructure.getIsKeysPartial())) {
+                        return Mono.just(discoveredStructure);
+                    }
+                    return datasourceStructureService
+                            .getByDatasourceIdAndEnvironmentId(datasourceId, environmentId)
+                            .mapNotNull(DatasourceStorageStructure::getStructure)
+                            .map(storedStructure ->
+                                    StructureDiscoveryUtils.mergeTables(storedStructure, discoveredStructure, options))
+                            .defaultIfEmpty(discoveredStructure);
+                })
+                .flatMap(structure -> datasourceStructureService.saveStructure(datasourceId, environmentId, structure))
+                .onErrorResume(error -> {
+                    log.warn(
+                            "Could not refresh the structure of datasource {} in environment {}",
+                            datasourceId,
+                            environmentId,
+                            error);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> markUsed(DatasourceStorageStructure configurationStructure) {
+        Instant usedAt = configurationStructure.getUsedAt();
+        if (usedAt != null && usedAt.isAfter(Instant.now().minus(STRUCTURE_USED_AT_UPDATE_INTERVAL))) {
+            return Mono.empty();
+        }
+
+        return datasourceStructureService
+                .markUsed(configurationStructure.getDatasourceId(), configurationStructure.getEnvironmentId())
+                .onErrorResume(error -> {
+                    log.error("Error while marking the structure of a datasource as used", error);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<DatasourceStructure> fetchAndStoreStructure(
+            DatasourceStorage datasourceStorage,
+            Mono<String> environmentNameMonoCached,
+            DatasourceStructure cachedStructure,
+            StructureDiscoveryOptions options) {
+        return fetchStructure(datasourceStorage, options)
+                .onErrorResume(error -> environmentNameMonoCached
+                        .zipWhen(environmentName -> analyticsService.sendObjectEvent(
+                                AnalyticsEvents.DS_SCHEMA_FETCH_EVENT,
+                                datasourceStorage,
+                                getAnalyticsPropertiesForTestEventStatus(
+                                        datasourceStorage, false, error, environmentName)))
+                        .then(Mono.error(error)))
+                .flatMap(discoveredStructure -> {
+                    String datasourceId = datasourceStorage.getDatasourceId();
+                    String environmentId = datasourceStorage.getEnvironmentId();
+                    DatasourceStructure structure = cachedStructure == null || discoveredStructure.getError() != null
+                            ? discoveredStructure
+                            : StructureDiscoveryUtils.mergeTables(cachedStructure, discoveredStructure, options);
+
+                    return environmentNameMonoCached
+                            .zipWhen(environmentName -> analyticsService.sendObjectEvent(
+                                    AnalyticsEvents.DS_SCHEMA_FETCH_EVENT,
+                                    datasourceStorage,
+                                    getAnalyticsPropertiesForTestEventStatus(
+                                            datasourceStorage, true, null, environmentName)))
+                            .then(
+                                    !hasText(datasourceId)
+                                            ? Mono.empty()
+                                            : datasourceStructureService
+                                                    .saveStructure(datasourceId, environmentId, structure)
+                                                    .then(Mono.fromSupplier(() -> {
+                                                        structure.setRefreshedAt(Instant.now());
+                                                        return structure;
+                                                    })));
+                });
+    }
+
+    private Mono<DatasourceStructure> fetchStructure(
+            DatasourceStorage datasourceStorage, StructureDiscoveryOptions options) {
+        return pluginExecutorHelper
                 .getPluginExecutor(pluginService.findById(datasourceStorage.getPluginId()))
                 .switchIfEmpty(Mono.error(new AppsmithException(
                         AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN, datasourceStorage.getPluginId())))
@@ -113,7 +275,8 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
                                     .getStructure(
                                             resourceContext.getConnection(),
                                             datasourceStorage.getDatasourceConfiguration(),
-                                            datasourceStorage.getIsMock()));
+                                            datasourceStorage.getIsMock(),
+                                            options));
                 })
                 .timeout(Duration.ofSeconds(GET_STRUCTURE_TIMEOUT_SECONDS))
                 .onErrorMap(TimeoutException.class, error -> new AppsmithPluginException(
@@ -140,43 +303,7 @@ public class DatasourceStructureSolutionCEImpl implements DatasourceStructureSol
                     }
 
                     return e;
-                })
-                .onErrorResume(error -> environmentNameMonoCached
-                        .zipWhen(environmentName -> analyticsService.sendObjectEvent(
-                                AnalyticsEvents.DS_SCHEMA_FETCH_EVENT,
-                                datasourceStorage,
-                                getAnalyticsPropertiesForTestEventStatus(
-                                        datasourceStorage, false, error, environmentName)))
-                        .then(Mono.error(error)))
-                .flatMap(structure -> {
-                    String datasourceId = datasourceStorage.getDatasourceId();
-                    String environmentId = datasourceStorage.getEnvironmentId();
-
-                    return environmentNameMonoCached
-                            .zipWhen(environmentName -> analyticsService.sendObjectEvent(
-                                    AnalyticsEvents.DS_SCHEMA_FETCH_EVENT,
-                                    datasourceStorage,
-                                    getAnalyticsPropertiesForTestEventStatus(
-                                            datasourceStorage, true, null, environmentName)))
-                            .then(
-                                    !hasText(datasourceId)
-                                            ? Mono.empty()
-                                            : datasourceStructureService
-                                                    .saveStructure(datasourceId, environmentId, structure)
-                                                    .thenReturn(structure));
                 });
-
-        // This mono, when computed, will load the structure of the datasourceStorage by calling the plugin method.
-        return configurationStructureMono
-                .flatMap(configurationStructure -> {
-                    if (!ignoreCache && configurationStructure.getStructure() != null) {
-
-                        // Return the cached structure if available.
-                        return Mono.just(configurationStructure.getStructure());
-                    } else return Mono.empty();
-                })
-                .switchIfEmpty(fetchAndStoreNewStructureMono)
-                .defaultIfEmpty(new DatasourceStructure());
     }
 
     @Override
@@ -0,0 +1,157 @@
+package com.appsmith.server.benchmarks;
+
+import com.appsmith.external.helpers.BsonJsonNodeReader;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the two ways the Mongo plugin read the output of a find command, with a first batch of 50k documents.
+ * "text" is the path the plugin used, decoding the output into a Document, writing it as Extended JSON, parsing that
+ * into a JSONObject, simplifying it, and parsing its text again into Jackson nodes. "raw" is BsonJsonNodeReader reading
+ * the raw BSON of the output.
+ * Run with BsonJsonNodeReaderBenchmark#main from the test classpath. Add "-prof gc" to the JMH options for the
+ * allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(
+        value = 1,
+        jvmArgs = {"-Xmx4g"})
+public class BsonJsonNodeReaderBenchmark {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Param({"text", "raw"})
+    public String reader;
+
+    @Param({"50000"})
+    public int documents;
+
+    private RawBsonDocument output;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        output = createOutput(documents);
+    }
+
+    @Benchmark
+    public JsonNode read() throws JsonProcessingException {
+        if ("raw".equals(reader)) {
+            return BsonJsonNodeReader.read(output).get("cursor").get("firstBatch");
+        }
+        Document document = new DocumentCodec().decode(output.asBsonReader(), DecoderContext.builder().build());
+        JSONObject outputJson = new JSONObject(document.toJson());
+        Object firstBatch = cleanUp(outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
+        return objectMapper.readTree(firstBatch.toString());
+    }
+
+    private static RawBsonDocument createOutput(int documents) {
+        List<Document> firstBatch = new ArrayList<>(documents);
+        for (int i = 0; i < documents; i++) {
+            firstBatch.add(new Document()
+                    .append("_id", new ObjectId())
+                    .append("customer", "customer" + i)
+                    .append("email", "customer" + i + "@example.com")
+                    .append("status", i % 3 == 0 ? "shipped" : "pending")
+                    .append("amount", new Decimal128(BigDecimal.valueOf(i * 15L, 1)))
+                    .append("quantity", i % 10)
+                    .append("views", (long) i * 1000)
+                    .append("rating", i % 50 / 10.0)
+                    .append("createdAt", new Date(1672531200000L + i * 60_000L))
+                    .append("tags", List.of("tag" + i % 7, "tag" + i % 11))
+                    .append("address", new Document("city", "city" + i % 100).append("zip", 10000 + i % 1000)));
+        }
+        Document output = new Document()
+                .append("cursor", new Document("firstBatch", firstBatch).append("id", 0L).append("ns", "db.orders"))
+                .append("ok", 1.0);
+        return new RawBsonDocument(output, new DocumentCodec());
+    }
+
+    /**
+     * Simplification the Mongo plugin applied to the parsed Extended JSON.
+     */
+    private static Object cleanUp(Object object) {
+        if (object instanceof JSONObject jsonObject) {
+            final boolean isSingleKey = jsonObject.keySet().size() == 1;
+
+            if (isSingleKey && "$numberLong".equals(jsonObject.keys().next())) {
+                return jsonObject.getBigInteger("$numberLong");
+
+            } else if (isSingleKey && "$oid".equals(jsonObject.keys().next())) {
+                return jsonObject.getString("$oid");
+
+            } else if (isSingleKey && "$date".equals(jsonObject.keys().next())) {
+                JSONObject dateJSON = jsonObject.optJSONObject("$date");
+                if (dateJSON != null
+                        && dateJSON.keySet().size() == 1
+                        && "$numberLong".equals(dateJSON.keys().next())) {
+                    return DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(dateJSON.getLong("$numberLong")));
+                }
+                return DateTimeFormatter.ISO_INSTANT.format(Instant.parse(jsonObject.getString("$date")));
+
+            } else if (isSingleKey && "$numberDecimal".equals(jsonObject.keys().next())) {
+                return new BigDecimal(jsonObject.getString("$numberDecimal"));
+
+            } else {
+                for (String key : new HashSet<>(jsonObject.keySet())) {
+                    jsonObject.put(key, cleanUp(jsonObject.get(key)));
+                }
+            }
+
+        } else if (object instanceof JSONArray jsonArray) {
+            List<Object> cleaned = new ArrayList<>();
+            for (Object child : jsonArray) {
+                cleaned.add(cleanUp(child));
+            }
+            return new JSONArray(cleaned);
+        }
+        return object;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        RawBsonDocument output = createOutput(50_000);
+        System.out.printf(
+                "first batch of 50000 documents is %d KB of BSON%n",
+                output.getByteBuffer().remaining() / 1024);
+        new Runner(new OptionsBuilder()
+                        .include(BsonJsonNodeReaderBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,162 @@
+package com.appsmith.server.benchmarks;
+
+import com.appsmith.caching.codec.BinaryCacheCodec;
+import com.appsmith.caching.codec.CacheCodecRegistry;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.constants.LicensePlan;
+import com.appsmith.server.domains.License;
+import com.appsmith.server.domains.Organization;
+import com.appsmith.server.domains.OrganizationConfiguration;
+import com.appsmith.server.featureflags.CachedFeatures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares the codecs available for cached values, on the two values that are read from the cache on almost every
+ * request. "jdk" is what the server cache template falls back to today, "binary" is BinaryCacheCodec, and
+ * "binary-lz4" is BinaryCacheCodec with every value compressed.
+ * Run with CacheCodecBenchmark#main from the test classpath, payload sizes are printed before the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheCodecBenchmark {
+
+    private static final String CACHE_NAME = "benchmark";
+
+    private static final int MAX_DECOMPRESSED_SIZE = 1 << 20;
+
+    @Param({"jdk", "binary", "binary-lz4"})
+    public String codec;
+
+    @Param({"cachedFeatures", "organization"})
+    public String value;
+
+    private CacheCodecRegistry registry;
+    private Object object;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() {
+        registry = createRegistry(codec);
+        object = "organization".equals(value) ? createOrganization() : createCachedFeatures();
+        encoded = toBytes(registry.encode(CACHE_NAME, object));
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        return registry.encode(CACHE_NAME, object);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return registry.decode(ByteBuffer.wrap(encoded));
+    }
+
+    private static CacheCodecRegistry createRegistry(String codec) {
+        // Same value serializer as the server cache template falls back to for everything that is not a session
+        ReactiveRedisTemplate<String, Object> reactiveRedisTemplate = new ReactiveRedisTemplate<>(
+                mock(ReactiveRedisConnectionFactory.class),
+                RedisSerializationContext.<String, Object>newSerializationContext(new JdkSerializationRedisSerializer())
+                        .key(new StringRedisSerializer())
+                        .build());
+        List<String> cacheCodecs = "jdk".equals(codec) ? List.of() : List.of(CACHE_NAME + ":" + BinaryCacheCodec.NAME);
+        int compressionThreshold = "binary-lz4".equals(codec) ? 1 : 0;
+        return new CacheCodecRegistry(
+                reactiveRedisTemplate,
+                List.of(new BinaryCacheCodec()),
+                cacheCodecs,
+                compressionThreshold,
+                MAX_DECOMPRESSED_SIZE);
+    }
+
+    private static CachedFeatures createCachedFeatures() {
+        Map<String, Boolean> features = new HashMap<>();
+        for (int i = 0; i < 150; i++) {
+            features.put("release_feature_flag_" + i + "_enabled", i % 3 == 0);
+        }
+        return new CachedFeatures(features, Instant.now());
+    }
+
+    private static Organization createOrganization() {
+        Organization organization = new Organization();
+        organization.setId("65f2a3b1c4d5e6f7a8b9c0d1");
+        organization.setSlug("default");
+        organization.setDisplayName("Default");
+        organization.setCreatedAt(Instant.now());
+        organization.setUpdatedAt(Instant.now());
+
+        OrganizationConfiguration configuration = new OrganizationConfiguration();
+        configuration.setIsFormLoginEnabled(true);
+        configuration.setIsSignupDisabled(false);
+        configuration.setThirdPartyAuths(List.of("google", "github"));
+        License license = new License();
+        license.setPlan(LicensePlan.FREE);
+        configuration.setLicense(license);
+        organization.setOrganizationConfiguration(configuration);
+
+        Set<Policy> policies = new HashSet<>();
+        for (String permission :
+                List.of("manage:organization", "read:organization", "create:workspace", "manage:users", "read:audit")) {
+            Set<String> permissionGroups = new HashSet<>();
+            for (int i = 0; i < 5; i++) {
+                permissionGroups.add("65f2a3b1c4d5e6f7a8b9c1" + i + permission.length());
+            }
+            policies.add(new Policy(permission, permissionGroups));
+        }
+        organization.setPolicies(policies);
+        return organization;
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (String codec : List.of("jdk", "binary", "binary-lz4")) {
+            CacheCodecRegistry registry = createRegistry(codec);
+            System.out.printf(
+                    "%s: cachedFeatures = %d bytes, organization = %d bytes%n",
+                    codec,
+                    registry.encode(CACHE_NAME, createCachedFeatures()).remaining(),
+                    registry.encode(CACHE_NAME, createOrganization()).remaining());
+        }
+        new Runner(new OptionsBuilder()
+                        .include(CacheCodecBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
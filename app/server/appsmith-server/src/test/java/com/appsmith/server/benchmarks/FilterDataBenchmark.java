@@ -0,0 +1,114 @@
+package com.appsmith.server.benchmarks;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.FilterDataService;
+import com.appsmith.external.services.ce.InMemoryDatabaseFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+
+/**
+ * Compares the two ways of running a UQI filter, sort and paginate over the rows of a query response. "h2" creates,
+ * fills and drops an H2 table for every call, as the InMemoryDatabaseFilter of the interfaces tests does, "inMemory"
+ * evaluates the filter over the rows directly, as FilterDataService#filterDataNew does.
+ * Run with FilterDataBenchmark#main from the test classpath, the 1M rows case needs a few GB of heap for "h2".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(
+        value = 1,
+        jvmArgs = {"-Xmx4g"})
+public class FilterDataBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private final FilterDataService filterDataService = FilterDataService.getInstance();
+    private final InMemoryDatabaseFilter inMemoryDatabaseFilter = new InMemoryDatabaseFilter();
+    private ArrayNode items;
+    private UQIDataFilterParams params;
+
+    @Setup
+    public void setup() {
+        items = createItems(rows);
+        params = createParams();
+    }
+
+    @Benchmark
+    public ArrayNode h2() {
+        return inMemoryDatabaseFilter.filterData(items, params, null);
+    }
+
+    @Benchmark
+    public ArrayNode inMemory() {
+        return filterDataService.filterDataNew(items, params, null);
+    }
+
+    private static ArrayNode createItems(int rows) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ArrayNode items = objectMapper.createArrayNode();
+        String[] statuses = {"active", "inactive", "pending", "archived"};
+        for (int i = 0; i < rows; i++) {
+            ObjectNode item = items.addObject();
+            item.put("id", i);
+            item.put("name", "user" + i);
+            item.put("email", "user" + i + "@example.com");
+            item.put("status", statuses[i % statuses.length]);
+            item.put("orderAmount", (i * 7919 % 100_000) / 100.0);
+            item.put("createdAt", String.format("2021-%02d-%02d", 1 + i % 12, 1 + i % 28));
+        }
+        return items;
+    }
+
+    /**
+     * Typical table widget query: two conditions, one sort column and the first page.
+     */
+    private static UQIDataFilterParams createParams() {
+        Condition condition = new Condition(
+                null,
+                ConditionalOperator.AND,
+                List.of(
+                        new Condition("status", ConditionalOperator.IN, "[\"active\", \"pending\"]", null),
+                        new Condition("orderAmount", ConditionalOperator.GT, "250", null)),
+                null);
+        List<Map<String, String>> sortBy =
+                List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "orderAmount", SORT_BY_TYPE_KEY, "Descending"));
+        Map<String, String> paginateBy = Map.of(PAGINATE_LIMIT_KEY, "20", PAGINATE_OFFSET_KEY, "0");
+        return new UQIDataFilterParams(condition, null, sortBy, paginateBy);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(FilterDataBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,161 @@
+package com.appsmith.server.benchmarks;
+
+import com.appsmith.external.helpers.sql.JdbcRowReader;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the two ways JDBC plugins read a query result, on a 500k rows table in an H2 database. "maps" is the
+ * LinkedHashMap per row loop the plugins used, reading the column type and name for every value, "rows" is
+ * JdbcRowReader. Both include turning the rows into the JSON body of the response.
+ * Run with JdbcRowReaderBenchmark#main from the test classpath, the heap kept by the rows of each reader is printed
+ * before the run. Add "-prof gc" to the JMH options for the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(
+        value = 1,
+        jvmArgs = {"-Xmx4g"})
+public class JdbcRowReaderBenchmark {
+
+    private static final String QUERY = "SELECT * FROM orders";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Param({"maps", "rows"})
+    public String reader;
+
+    @Param({"500000"})
+    public int rows;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = createDatabase(rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public JsonNode readAndSerialize() throws SQLException {
+        return objectMapper.valueToTree(read(connection, reader));
+    }
+
+    private static List<Map<String, Object>> read(Connection connection, String reader) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            JdbcRowReader.setFetchSize(statement);
+            try (ResultSet resultSet = statement.executeQuery(QUERY)) {
+                if ("rows".equals(reader)) {
+                    return new JdbcRowReader(JdbcRowReaderBenchmark::getColumnReader).read(resultSet);
+                }
+                return readAsMaps(resultSet);
+            }
+        }
+    }
+
+    private static JdbcRowReader.ColumnReader getColumnReader(ResultSetMetaData metaData, int column)
+            throws SQLException {
+        if ("DATE".equalsIgnoreCase(metaData.getColumnTypeName(column))) {
+            return JdbcRowReader.nonNull(
+                    (resultSet, i) -> resultSet.getDate(i).toLocalDate().toString());
+        }
+        return JdbcRowReader.GET_OBJECT;
+    }
+
+    private static List<Map<String, Object>> readAsMaps(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int colCount = metaData.getColumnCount();
+        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+        while (resultSet.next()) {
+            Map<String, Object> row = new LinkedHashMap<>(colCount);
+            for (int i = 1; i <= colCount; i++) {
+                Object value;
+                final String typeName = metaData.getColumnTypeName(i);
+                if (resultSet.getObject(i) == null) {
+                    value = null;
+                } else if ("DATE".equalsIgnoreCase(typeName)) {
+                    value = resultSet.getDate(i).toLocalDate().toString();
+                } else {
+                    value = resultSet.getObject(i);
+                }
+                row.put(metaData.getColumnName(i), value);
+            }
+            rowsList.add(row);
+        }
+        return rowsList;
+    }
+
+    private static Connection createDatabase(int rows) throws SQLException {
+        Connection connection = DriverManager.getConnection("jdbc:h2:mem:jdbcRowReaderBenchmark");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS orders");
+            statement.execute("CREATE TABLE orders (id INT PRIMARY KEY, customer VARCHAR(64), email VARCHAR(128), "
+                    + "status VARCHAR(16), amount DECIMAL(12, 2), quantity INT, created_on DATE, notes VARCHAR(255))");
+            statement.execute(
+                    "INSERT INTO orders SELECT X, CONCAT('customer', X), CONCAT('customer', X, '@example.com'), "
+                            + "CASEWHEN(MOD(X, 3) = 0, 'shipped', 'pending'), X * 1.5, MOD(X, 10), "
+                            + "DATEADD('DAY', MOD(X, 365), DATE '2023-01-01'), CASEWHEN(MOD(X, 4) = 0, NULL, 'no notes') "
+                            + "FROM SYSTEM_RANGE(1, " + rows + ")");
+        }
+        return connection;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    public static void main(String[] args) throws RunnerException, SQLException {
+        try (Connection connection = createDatabase(500_000)) {
+            for (String reader : List.of("maps", "rows")) {
+                long before = usedHeap();
+                List<Map<String, Object>> rows = read(connection, reader);
+                long after = usedHeap();
+                System.out.printf(
+                        "%s: %d rows keep %d MB of heap%n", reader, rows.size(), (after - before) / (1024 * 1024));
+            }
+        }
+        new Runner(new OptionsBuilder()
+                        .include(JdbcRowReaderBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
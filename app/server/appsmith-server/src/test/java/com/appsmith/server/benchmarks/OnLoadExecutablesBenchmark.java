@@ -0,0 +1,175 @@
+package com.appsmith.server.benchmarks;
+
+import com.appsmith.external.dtos.DslExecutableDTO;
+import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.CreatorContextType;
+import com.appsmith.external.models.Executable;
+import com.appsmith.external.models.PluginType;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.helpers.ObservationHelperImpl;
+import com.appsmith.server.helpers.RunBehaviourAnalyticsUtils;
+import com.appsmith.server.onload.executables.ExecutableOnLoadService;
+import com.appsmith.server.onload.internal.OnLoadExecutablesUtilCEImpl;
+import com.appsmith.server.services.AstService;
+import com.appsmith.server.services.FeatureFlagService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.Boolean.FALSE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * Measures the computation of the on load executables of a synthetic page, as done on every layout update. Every widget
+ * of the page has two bindings, on an API and on the widget before it, and there is an API for every ten widgets.
+ * "full" computes everything from scratch as on the first update of the page, "drag" computes it again for a page
+ * whose bindings did not change, as when a widget is moved, and "edit" for a page where one binding changed.
+ * The ast service runs the same parsing as when RTS is not reachable, with no network call, so that the gain measured
+ * here is lower than on a server that calls RTS.
+ * Run with OnLoadExecutablesBenchmark#main from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class OnLoadExecutablesBenchmark {
+
+    private static final String PAGE_ID = "pageId";
+
+    @Param({"full", "drag", "edit"})
+    public String update;
+
+    @Param({"200", "1000"})
+    public int widgets;
+
+    private List<Executable> actions;
+
+    private Set<String> widgetNames;
+
+    private Map<String, Set<String>> widgetBindings;
+
+    private OnLoadExecutablesUtilCEImpl onLoadExecutablesUtil;
+
+    private int edits;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        actions = new ArrayList<>();
+        for (int i = 0; i < Math.max(widgets / 10, 1); i++) {
+            ActionDTO action = new ActionDTO();
+            action.setId("api" + i);
+            action.setName("Api" + i);
+            action.setPluginType(PluginType.API);
+            action.setJsonPathKeys(Set.of());
+            action.setUserSetOnLoad(FALSE);
+            actions.add(action);
+        }
+
+        widgetNames = new HashSet<>();
+        widgetBindings = new HashMap<>();
+        for (int i = 0; i < widgets; i++) {
+            widgetNames.add("Text" + i);
+            widgetNames.add("Input" + i);
+            widgetBindings.put(
+                    "Text" + i + ".text",
+                    Set.of("Api" + (i % actions.size()) + ".data.users[0].name", "Input" + i + ".text"));
+            if (i > 0) {
+                widgetBindings.put("Input" + i + ".defaultText", Set.of("Text" + (i - 1) + ".text.trim()"));
+            }
+        }
+
+        onLoadExecutablesUtil = createOnLoadExecutablesUtil();
+        if (!"full".equals(update)) {
+            findAllOnLoadExecutables();
+        }
+    }
+
+    @Benchmark
+    public List<Set<DslExecutableDTO>> findAllOnLoadExecutables() {
+        if ("full".equals(update)) {
+            onLoadExecutablesUtil = createOnLoadExecutablesUtil();
+        } else if ("edit".equals(update)) {
+            edits++;
+            widgetBindings.put("Text0.text", Set.of("Api0.data.users[" + edits + "].name"));
+        }
+
+        return onLoadExecutablesUtil
+                .findAllOnLoadExecutables(
+                        PAGE_ID,
+                        2,
+                        widgetNames,
+                        new HashSet<>(),
+                        widgetBindings,
+                        new ArrayList<>(),
+                        new HashSet<>(),
+                        CreatorContextType.PAGE)
+                .block();
+    }
+
+    private OnLoadExecutablesUtilCEImpl createOnLoadExecutablesUtil() {
+        AstService astService = Mockito.mock(AstService.class);
+        Mockito.when(astService.getPossibleReferencesFromDynamicBinding(any(), anyInt()))
+                .thenAnswer(invocation -> {
+                    List<String> bindings = invocation.getArgument(0);
+                    return Flux.fromIterable(bindings)
+                            .map(binding ->
+                                    Tuples.of(binding, new HashSet<>(MustacheHelper.getPossibleParentsOld(binding))));
+                });
+
+        @SuppressWarnings("unchecked")
+        ExecutableOnLoadService<NewPage> executableOnLoadService = Mockito.mock(ExecutableOnLoadService.class);
+        Mockito.when(executableOnLoadService.getAllExecutablesByCreatorIdFlux(anyString()))
+                .thenAnswer(invocation -> Flux.fromIterable(actions));
+        Mockito.when(executableOnLoadService.getUnpublishedOnLoadExecutablesExplicitSetByUserInPageFlux(anyString()))
+                .thenAnswer(invocation -> Flux.empty());
+        Mockito.when(executableOnLoadService.fillSelfReferencingPaths(any()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        return new OnLoadExecutablesUtilCEImpl(
+                astService,
+                new ObjectMapper(),
+                executableOnLoadService,
+                ObservationRegistry.NOOP,
+                Mockito.mock(ObservationHelperImpl.class),
+                Mockito.mock(FeatureFlagService.class),
+                Mockito.mock(RunBehaviourAnalyticsUtils.class));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(OnLoadExecutablesBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
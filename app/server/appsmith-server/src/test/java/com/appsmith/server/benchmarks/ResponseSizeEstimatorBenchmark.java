@@ -0,0 +1,124 @@
+package com.appsmith.server.benchmarks;
+
+import com.appsmith.external.helpers.Sizeof;
+import com.appsmith.external.helpers.sql.SqlRows;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what keeping track of the response size costs while the rows of a query are added. The score is the time
+ * taken by all the rows, divide it by the row count for the overhead per row.
+ * "sizeof" is how PostgresPlugin did it, serializing the whole list of rows with Sizeof every 100 rows, "estimator"
+ * is SqlRows with its ResponseSizeEstimator. Both include adding the rows, which costs the same either way.
+ * Run with ResponseSizeEstimatorBenchmark#main from the test classpath. As "sizeof" grows with the square of the row
+ * count, main only runs it up to 100k rows, a 1M rows run of it takes hours.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(
+        value = 1,
+        jvmArgs = {"-Xmx4g"})
+public class ResponseSizeEstimatorBenchmark {
+
+    private static final int HEAVY_OP_FREQUENCY = 100;
+
+    private static final List<String> COLUMN_NAMES =
+            List.of("id", "customer", "email", "amount", "created_on", "attributes", "tags");
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Param({"estimator", "sizeof"})
+    public String accounting;
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private List<Object[]> values;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        values = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            values.add(new Object[] {
+                i,
+                "customer" + i,
+                "customer" + i + "@example.com",
+                BigDecimal.valueOf(i * 15L, 1),
+                "2024-01-" + (10 + i % 20),
+                objectMapper.readTree("{\"priority\": " + (i % 5) + ", \"gift\": " + (i % 2 == 0) + "}"),
+                new Object[] {"tag" + i % 7, "tag" + i % 11}
+            });
+        }
+    }
+
+    @Benchmark
+    public long addRows() throws IOException {
+        return "sizeof".equals(accounting) ? addRowsWithSizeof() : addRowsWithEstimator();
+    }
+
+    private long addRowsWithEstimator() {
+        SqlRows sqlRows = new SqlRows();
+        sqlRows.startResultSet(COLUMN_NAMES);
+        for (Object[] row : values) {
+            sqlRows.addRow(row);
+        }
+        return sqlRows.getEstimatedSize();
+    }
+
+    private long addRowsWithSizeof() throws IOException {
+        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+        long size = 0;
+        int iterator = 0;
+        for (Object[] row : values) {
+            Map<String, Object> map = new LinkedHashMap<>(row.length);
+            for (int i = 0; i < row.length; i++) {
+                map.put(COLUMN_NAMES.get(i), row[i]);
+            }
+            rowsList.add(map);
+            iterator++;
+            if (iterator % HEAVY_OP_FREQUENCY == 0) {
+                size = Sizeof.sizeof(rowsList);
+            }
+        }
+        return size;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(ResponseSizeEstimatorBenchmark.class.getSimpleName())
+                        .param("rows", "10000", "100000")
+                        .build())
+                .run();
+        new Runner(new OptionsBuilder()
+                        .include(ResponseSizeEstimatorBenchmark.class.getSimpleName())
+                        .param("accounting", "estimator")
+                        .param("rows", "1000000")
+                        .build())
+                .run();
+    }
+}
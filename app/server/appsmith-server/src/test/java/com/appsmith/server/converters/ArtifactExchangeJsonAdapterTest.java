@@ -0,0 +1,85 @@
+package com.appsmith.server.converters;
+
+import com.appsmith.server.constants.ArtifactType;
+import com.appsmith.server.dtos.ApplicationJson;
+import com.appsmith.server.dtos.ArtifactExchangeJson;
+import com.appsmith.util.SerializationUtils;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ArtifactExchangeJsonAdapterTest {
+
+    private final ArtifactExchangeJsonAdapter adapter = new ArtifactExchangeJsonAdapter(gson());
+
+    private static Gson gson() {
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        SerializationUtils.typeAdapterRegistration().customize(gsonBuilder);
+        return gsonBuilder.create();
+    }
+
+    private ArtifactExchangeJson read(String json) throws IOException {
+        return adapter.read(new StringReader(json));
+    }
+
+    @Test
+    public void read_TypeFirst_BindsAllFields() throws IOException {
+        ArtifactExchangeJson artifactExchangeJson = read("{\"artifactJsonType\":\"APPLICATION\","
+                + "\"clientSchemaVersion\":1,\"serverSchemaVersion\":11,"
+                + "\"pageList\":[{\"gitSyncId\":\"page1\"}],\"unknownField\":{\"a\":[1,2]},"
+                + "\"actionList\":[]}");
+
+        assertThat(artifactExchangeJson).isInstanceOf(ApplicationJson.class);
+        ApplicationJson applicationJson = (ApplicationJson) artifactExchangeJson;
+        assertThat(applicationJson.getArtifactJsonType()).isEqualTo(ArtifactType.APPLICATION);
+        assertThat(applicationJson.getClientSchemaVersion()).isEqualTo(1);
+        assertThat(applicationJson.getServerSchemaVersion()).isEqualTo(11);
+        assertThat(applicationJson.getPageList()).hasSize(1);
+        assertThat(applicationJson.getPageList().get(0).getGitSyncId()).isEqualTo("page1");
+        assertThat(applicationJson.getActionList()).isEmpty();
+        assertThat(applicationJson.getActionCollectionList()).isNull();
+    }
+
+    @Test
+    public void read_TypeLastOrMissing_BindsFieldsReadBeforeIt() throws IOException {
+        ApplicationJson typeLast = (ApplicationJson)
+                read("{\"serverSchemaVersion\":11,\"pageList\":[],\"artifactJsonType\":\"APPLICATION\"}");
+        assertThat(typeLast.getServerSchemaVersion()).isEqualTo(11);
+        assertThat(typeLast.getPageList()).isEmpty();
+
+        ApplicationJson typeMissing = (ApplicationJson) read("{\"serverSchemaVersion\":11,\"pageList\":null}");
+        assertThat(typeMissing.getArtifactJsonType()).isEqualTo(ArtifactType.APPLICATION);
+        assertThat(typeMissing.getServerSchemaVersion()).isEqualTo(11);
+        assertThat(typeMissing.getPageList()).isNull();
+    }
+
+    @Test
+    public void read_SameJson_MatchesTreeDeserialization() throws IOException {
+        String json = "{\"artifactJsonType\":\"APPLICATION\",\"serverSchemaVersion\":11,"
+                + "\"exportedApplication\":{\"name\":\"app\"},\"widgets\":\"{}\"}";
+
+        ApplicationJson streamed = (ApplicationJson) read(json);
+        ApplicationJson fromTree = (ApplicationJson) gson().newBuilder()
+                .registerTypeAdapter(ArtifactExchangeJson.class, adapter)
+                .create()
+                .fromJson(json, ArtifactExchangeJson.class);
+
+        assertThat(streamed.getExportedApplication().getName())
+                .isEqualTo(fromTree.getExportedApplication().getName());
+        assertThat(streamed.getWidgets()).isEqualTo(fromTree.getWidgets());
+        assertThat(streamed.getServerSchemaVersion()).isEqualTo(fromTree.getServerSchemaVersion());
+    }
+
+    @Test
+    public void read_NullOrEmptyDocument_ReturnsNullOrThrows() throws IOException {
+        assertThat(read(" null ")).isNull();
+        assertThatThrownBy(() -> read("")).isInstanceOf(EOFException.class);
+    }
+}
@@ -0,0 +1,62 @@
+package com.appsmith.server.helpers;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AstReferencesCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final AstReferencesCache cache = new AstReferencesCache(meterRegistry);
+
+    @Test
+    public void get_SameBindingAndEvalVersion_ReturnsCachedReferences() {
+        cache.put(AstReferencesCache.getKey("Api1.data.map(x => x.id)", 2), Set.of("Api1.data"));
+
+        assertThat(cache.get(AstReferencesCache.getKey("Api1.data.map(x => x.id)", 2)))
+                .containsExactly("Api1.data");
+        assertThat(cache.get(AstReferencesCache.getKey("Api1.data.map(x => x.id)", 1)))
+                .isNull();
+        assertThat(cache.get(AstReferencesCache.getKey("Api2.data", 2))).isNull();
+
+        assertThat(meterRegistry
+                        .get("appsmith.ast.references.cache")
+                        .tag("result", "hit")
+                        .counter()
+                        .count())
+                .isEqualTo(1);
+        assertThat(meterRegistry
+                        .get("appsmith.ast.references.cache")
+                        .tag("result", "miss")
+                        .counter()
+                        .count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void put_NullReferences_KeptAsEmpty() {
+        cache.put(AstReferencesCache.getKey("1 + 1", 2), null);
+
+        assertThat(cache.get(AstReferencesCache.getKey("1 + 1", 2))).isEmpty();
+    }
+
+    @Test
+    public void recordRtsCallSaved_AfterRtsCall_RecordsEstimatedSaving() {
+        cache.recordRtsCallSaved();
+        assertThat(meterRegistry.get("appsmith.ast.references.saved").timer().count())
+                .isZero();
+
+        cache.recordRtsCall(5, TimeUnit.MILLISECONDS.toNanos(40));
+        cache.recordRtsCallSaved();
+
+        assertThat(meterRegistry.get("appsmith.ast.references.rts.batch.size").summary().totalAmount())
+                .isEqualTo(5);
+        assertThat(meterRegistry.get("appsmith.ast.references.saved").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(40);
+    }
+}
@@ -0,0 +1,139 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.CustomJSLib;
+import com.appsmith.server.domains.Layout;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.Theme;
+import com.appsmith.server.dtos.ActionCollectionViewDTO;
+import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.ApplicationPagesDTO;
+import com.appsmith.server.dtos.ConsolidatedAPIResponseDTO;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.dtos.ResponseDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import net.minidev.json.JSONObject;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConsolidatedAPIViewModeCacheTest {
+
+    private static ConsolidatedAPIResponseDTO payload() {
+        Layout layout = new Layout();
+        layout.setDsl(new JSONObject(Map.of("widgetName", "MainContainer")));
+        PageDTO page = new PageDTO();
+        page.setLayouts(List.of(layout));
+
+        ConsolidatedAPIResponseDTO payload = new ConsolidatedAPIResponseDTO();
+        payload.setPages(new ResponseDTO<>(HttpStatus.OK, new ApplicationPagesDTO()));
+        payload.setCurrentTheme(new ResponseDTO<>(HttpStatus.OK, new Theme()));
+        payload.setThemes(new ResponseDTO<>(HttpStatus.OK, List.<Theme>of()));
+        payload.setCustomJSLibraries(new ResponseDTO<>(HttpStatus.OK, List.<CustomJSLib>of()));
+        payload.setPageWithMigratedDsl(new ResponseDTO<>(HttpStatus.OK, page));
+        payload.setPublishedActions(new ResponseDTO<>(HttpStatus.OK, List.of(new ActionViewDTO())));
+        payload.setPublishedActionCollections(new ResponseDTO<>(HttpStatus.OK, List.<ActionCollectionViewDTO>of()));
+        return payload;
+    }
+
+    private static final Map<String, Set<String>> POLICIES = Map.of("read:applications", Set.of("pg1"));
+
+    private static ConsolidatedAPIViewModeCache.Key key(
+            String applicationId, String pageId, String lastDeployedAt, Set<String> permissionGroupIds) {
+        return new ConsolidatedAPIViewModeCache.Key(
+                applicationId, pageId, lastDeployedAt, POLICIES, permissionGroupIds);
+    }
+
+    @Test
+    public void testGet_KeyedByDeploymentAndPermissionGroups() {
+        ConsolidatedAPIViewModeCache cache = new ConsolidatedAPIViewModeCache();
+        ConsolidatedAPIResponseDTO payload = payload();
+        cache.put(key("app", "page", "2024-01-01T00:00:00Z", Set.of("pg1")), payload);
+
+        assertThat(cache.get(key("app", "page", "2024-01-01T00:00:00Z", Set.of("pg1"))))
+                .isSameAs(payload);
+        assertThat(cache.get(key("app", "page", "2024-01-02T00:00:00Z", Set.of("pg1"))))
+                .isNull();
+        assertThat(cache.get(key("app", "page", "2024-01-01T00:00:00Z", Set.of("pg1", "pg2"))))
+                .isNull();
+    }
+
+    @Test
+    public void testPut_PayloadWithErrorIsNotKept() {
+        ConsolidatedAPIViewModeCache cache = new ConsolidatedAPIViewModeCache();
+        ConsolidatedAPIResponseDTO payload = payload();
+        payload.setThemes(
+                new ResponseDTO<>(AppsmithError.INTERNAL_SERVER_ERROR.getHttpErrorCode(), null, "error", false));
+        ConsolidatedAPIViewModeCache.Key key = key("app", "page", "2024-01-01T00:00:00Z", Set.of());
+
+        cache.put(key, payload);
+
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    public void testEvictApplication_OnlyEvictsPayloadsOfApplication() {
+        ConsolidatedAPIViewModeCache cache = new ConsolidatedAPIViewModeCache();
+        ConsolidatedAPIViewModeCache.Key page1 = key("app", "page1", "2024-01-01T00:00:00Z", Set.of());
+        ConsolidatedAPIViewModeCache.Key page2 = key("app", "page2", "2024-01-01T00:00:00Z", Set.of());
+        ConsolidatedAPIViewModeCache.Key otherApplication = key("otherApp", "page", "2024-01-01T00:00:00Z", Set.of());
+        cache.put(page1, payload());
+        cache.put(page2, payload());
+        cache.put(otherApplication, payload());
+
+        cache.evictApplication("app");
+
+        assertThat(cache.get(page1)).isNull();
+        assertThat(cache.get(page2)).isNull();
+        assertThat(cache.get(otherApplication)).isNotNull();
+    }
+
+    @Test
+    public void testGet_KeyedByPoliciesOfApplicationAndPage() {
+        Application application = new Application();
+        application.setPolicyMap(new HashMap<>(Map.of(
+                "read:applications",
+                Policy.builder()
+                        .permission("read:applications")
+                        .permissionGroups(new HashSet<>(Set.of("pg1", "public")))
+                        .build())));
+        NewPage page = new NewPage();
+        page.setPolicyMap(new HashMap<>(Map.of(
+                "read:pages",
+                Policy.builder()
+                        .permission("read:pages")
+                        .permissionGroups(new HashSet<>(Set.of("pg1", "public")))
+                        .build())));
+
+        ConsolidatedAPIViewModeCache cache = new ConsolidatedAPIViewModeCache();
+        ConsolidatedAPIResponseDTO payload = payload();
+        Map<String, Set<String>> policies = ConsolidatedAPIViewModeCache.policiesOf(application, page);
+        assertThat(policies)
+                .isEqualTo(Map.of("read:applications", Set.of("pg1", "public"), "read:pages", Set.of("pg1", "public")));
+        ConsolidatedAPIViewModeCache.Key key =
+                new ConsolidatedAPIViewModeCache.Key("app", "page", "2024-01-01T00:00:00Z", policies, Set.of());
+        cache.put(key, payload);
+        assertThat(cache.get(key)).isSameAs(payload);
+
+        // The application is made private, without a new deployment
+        application.getPolicyMap().get("read:applications").getPermissionGroups().remove("public");
+        page.getPolicyMap().get("read:pages").getPermissionGroups().remove("public");
+
+        assertThat(policies.get("read:applications")).contains("public");
+        assertThat(cache.get(new ConsolidatedAPIViewModeCache.Key(
+                        "app",
+                        "page",
+                        "2024-01-01T00:00:00Z",
+                        ConsolidatedAPIViewModeCache.policiesOf(application, page),
+                        Set.of())))
+                .isNull();
+    }
+}
@@ -0,0 +1,58 @@
+package com.appsmith.server.helpers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DataBufferInputStreamTest {
+
+    private static DataBuffer buffer(String content) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void read_MultipleBuffers_ReadsAllBytesInOrder() throws IOException {
+        Flux<DataBuffer> content = Flux.just(buffer("{\"a\":"), buffer(""), buffer("1,"), buffer("\"b\":2}"));
+
+        try (DataBufferInputStream inputStream = new DataBufferInputStream(content)) {
+            assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8))
+                    .isEqualTo("{\"a\":1,\"b\":2}");
+            assertThat(inputStream.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    public void read_SlowReader_RequestsOnlyPrefetchedBuffers() throws IOException {
+        AtomicLong requested = new AtomicLong();
+        Flux<DataBuffer> content = Flux.range(0, 100)
+                .map(i -> buffer("x"))
+                .doOnRequest(requested::addAndGet);
+
+        try (DataBufferInputStream inputStream = new DataBufferInputStream(content, 2)) {
+            assertThat(requested.get()).isEqualTo(2);
+
+            assertThat(inputStream.read()).isEqualTo('x');
+            assertThat(requested.get()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    public void read_PublisherFails_ThrowsIOException() {
+        Flux<DataBuffer> content =
+                Flux.concat(Flux.just(buffer("{")), Flux.error(new IllegalStateException("connection reset")));
+
+        DataBufferInputStream inputStream = new DataBufferInputStream(content);
+        assertThatThrownBy(inputStream::readAllBytes)
+                .isInstanceOf(IOException.class)
+                .hasRootCauseMessage("connection reset");
+        inputStream.close();
+    }
+}
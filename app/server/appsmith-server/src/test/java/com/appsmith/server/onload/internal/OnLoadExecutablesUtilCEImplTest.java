@@ -1,11 +1,15 @@
 package com.appsmith.server.onload.internal;
 
+import com.appsmith.external.dtos.DslExecutableDTO;
 import com.appsmith.external.dtos.LayoutExecutableUpdateDTO;
 import com.appsmith.external.enums.FeatureFlagEnum;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.CreatorContextType;
 import com.appsmith.external.models.Executable;
+import com.appsmith.external.models.PluginType;
 import com.appsmith.external.models.RunBehaviourEnum;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.ObservationHelperImpl;
 import com.appsmith.server.helpers.RunBehaviourAnalyticsUtils;
 import com.appsmith.server.onload.executables.ExecutableOnLoadService;
@@ -22,14 +26,24 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.spy;
@@ -537,6 +551,97 @@ public class OnLoadExecutablesUtilCEImplTest {
     }
 
     // Helper methods to create test executables
+    private Flux<Tuple2<String, Set<String>>> referencesOf(List<String> bindings) {
+        // Every binding refers to itself only, enough for bindings like `Api1.data`
+        return Flux.fromIterable(bindings).map(binding -> Tuples.of(binding, Set.of(binding)));
+    }
+
+    private Mono<List<Set<DslExecutableDTO>>> findAllOnLoadExecutables(Map<String, Set<String>> widgetBindings) {
+        return onLoadExecutablesUtilCE.findAllOnLoadExecutables(
+                "pageId",
+                2,
+                Set.of("Table1", "Text1"),
+                new HashSet<>(),
+                widgetBindings,
+                new ArrayList<>(),
+                new HashSet<>(),
+                CreatorContextType.PAGE);
+    }
+
+    @Test
+    public void testFindAllOnLoadExecutables_ScheduleFollowsChangedBindings() {
+        ActionDTO api1 = createTestExecutable("Api1", RunBehaviourEnum.MANUAL);
+        api1.setPluginType(PluginType.API);
+        api1.setJsonPathKeys(Set.of());
+        ActionDTO api2 = createTestExecutable("Api2", RunBehaviourEnum.MANUAL);
+        api2.setPluginType(PluginType.API);
+        api2.setJsonPathKeys(Set.of());
+
+        when(executableOnLoadService.getAllExecutablesByCreatorIdFlux("pageId"))
+                .thenAnswer(invocation -> Flux.just(api1, api2));
+        when(executableOnLoadService.getUnpublishedOnLoadExecutablesExplicitSetByUserInPageFlux("pageId"))
+                .thenReturn(Flux.empty());
+        when(executableOnLoadService.fillSelfReferencingPaths(any(ActionDTO.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(astService.getPossibleReferencesFromDynamicBinding(any(), eq(2)))
+                .thenAnswer(invocation -> referencesOf(invocation.getArgument(0)));
+
+        Map<String, Set<String>> widgetBindings = new HashMap<>();
+        widgetBindings.put("Table1.tableData", Set.of("Api1.data"));
+        widgetBindings.put("Text1.text", Set.of("Table1.selectedRow"));
+
+        StepVerifier.create(findAllOnLoadExecutables(widgetBindings))
+                .assertNext(schedule -> assertEquals(
+                        List.of(Set.of("Api1")),
+                        schedule.stream()
+                                .map(level -> level.stream()
+                                        .map(DslExecutableDTO::getName)
+                                        .collect(Collectors.toSet()))
+                                .toList()))
+                .verifyComplete();
+
+        // Nothing changed in the bindings, the graph of the page is reused
+        StepVerifier.create(findAllOnLoadExecutables(widgetBindings))
+                .assertNext(schedule -> assertEquals(1, schedule.size()))
+                .verifyComplete();
+
+        // The schedule follows the changed binding
+        widgetBindings.put("Text1.text", Set.of("Api2.data"));
+        StepVerifier.create(findAllOnLoadExecutables(widgetBindings))
+                .assertNext(schedule -> assertEquals(
+                        Set.of("Api1", "Api2"),
+                        schedule.get(0).stream().map(DslExecutableDTO::getName).collect(Collectors.toSet())))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testFindAllOnLoadExecutables_CycleFoundAfterIncrementalUpdate() {
+        when(executableOnLoadService.getAllExecutablesByCreatorIdFlux("pageId")).thenAnswer(invocation -> Flux.empty());
+        when(executableOnLoadService.getUnpublishedOnLoadExecutablesExplicitSetByUserInPageFlux("pageId"))
+                .thenReturn(Flux.empty());
+        when(astService.getPossibleReferencesFromDynamicBinding(any(), eq(2)))
+                .thenAnswer(invocation -> referencesOf(invocation.getArgument(0)));
+
+        Map<String, Set<String>> widgetBindings = new HashMap<>();
+        widgetBindings.put("Text1.text", Set.of("Table1.selectedRow"));
+
+        StepVerifier.create(findAllOnLoadExecutables(widgetBindings))
+                .assertNext(schedule -> assertTrue(schedule.isEmpty()))
+                .verifyComplete();
+
+        widgetBindings.put("Table1.selectedRow", Set.of("Text1.text"));
+        StepVerifier.create(findAllOnLoadExecutables(widgetBindings))
+                .expectErrorMatches(error -> error instanceof AppsmithException appsmithException
+                        && AppsmithError.CYCLICAL_DEPENDENCY_ERROR.equals(appsmithException.getError()))
+                .verify();
+
+        // The graph that had the cycle is not kept, the page can be fixed
+        widgetBindings.remove("Table1.selectedRow");
+        StepVerifier.create(findAllOnLoadExecutables(widgetBindings))
+                .assertNext(schedule -> assertTrue(schedule.isEmpty()))
+                .verifyComplete();
+    }
+
     private List<Executable> createTestExecutables(String... names) {
         List<Executable> executables = new ArrayList<>();
         for (String name : names) {
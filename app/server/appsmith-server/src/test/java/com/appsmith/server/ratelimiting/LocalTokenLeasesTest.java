@@ -0,0 +1,69 @@
+package com.appsmith.server.ratelimiting;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class LocalTokenLeasesTest {
+
+    @Test
+    public void tryConsume_LeasedTokens_GrantsEachTokenOnce() {
+        LocalTokenLeases leases = new LocalTokenLeases(Duration.ofMinutes(1));
+
+        assertThat(leases.tryConsume("loginuser@example.com")).isFalse();
+
+        leases.lease("loginuser@example.com", 2, tokens -> {});
+        assertThat(leases.tryConsume("loginuser@example.com")).isTrue();
+        assertThat(leases.tryConsume("loginuser@example.com")).isTrue();
+        assertThat(leases.tryConsume("loginuser@example.com")).isFalse();
+        assertThat(leases.tryConsume("loginother@example.com")).isFalse();
+    }
+
+    @Test
+    public void tryConsume_InvalidatedLease_GrantsNothing() {
+        AtomicLong givenBack = new AtomicLong();
+        LocalTokenLeases leases = new LocalTokenLeases(Duration.ofMinutes(1));
+
+        leases.lease("loginuser@example.com", 3, givenBack::addAndGet);
+        leases.invalidate("loginuser@example.com");
+
+        assertThat(leases.tryConsume("loginuser@example.com")).isFalse();
+        assertThat(givenBack.get()).isZero();
+    }
+
+    @Test
+    public void tryConsume_ExpiredLease_GrantsNothing() throws InterruptedException {
+        LocalTokenLeases leases = new LocalTokenLeases(Duration.ofMillis(50));
+
+        leases.lease("loginuser@example.com", 3, tokens -> {});
+        Thread.sleep(100);
+
+        assertThat(leases.tryConsume("loginuser@example.com")).isFalse();
+    }
+
+    @Test
+    public void lease_ExpiredLease_GivesBackUnusedTokens() {
+        AtomicLong givenBack = new AtomicLong();
+        LocalTokenLeases leases = new LocalTokenLeases(Duration.ofMillis(50));
+
+        leases.lease("loginuser@example.com", 3, givenBack::addAndGet);
+        assertThat(leases.tryConsume("loginuser@example.com")).isTrue();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> givenBack.get() == 2);
+    }
+
+    @Test
+    public void lease_ZeroDuration_GivesBackAllTokens() {
+        AtomicLong givenBack = new AtomicLong();
+        LocalTokenLeases leases = new LocalTokenLeases(Duration.ZERO);
+
+        leases.lease("loginuser@example.com", 3, givenBack::addAndGet);
+
+        assertThat(leases.tryConsume("loginuser@example.com")).isFalse();
+        assertThat(givenBack.get()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,49 @@
+package com.appsmith.server.ratelimiting;
+
+import com.appsmith.server.constants.RateLimitConstants;
+import io.github.bucket4j.distributed.AsyncBucketProxy;
+import io.github.bucket4j.distributed.BucketProxy;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class RateLimitServiceTest {
+
+    private static final String API_IDENTIFIER = RateLimitConstants.BUCKET_KEY_FOR_LOGIN_API;
+
+    private static final String USER_IDENTIFIER = "loginuser@example.com";
+
+    @Test
+    public void tryIncreaseCounter_WithLocalBatch_TakesBatchOnceAndGivesBackUnusedTokens() {
+        RateLimitConfig rateLimitConfig = Mockito.mock(RateLimitConfig.class);
+        AsyncBucketProxy userSpecificBucket = Mockito.mock(AsyncBucketProxy.class);
+        Mockito.when(rateLimitConfig.getLocalLeaseDuration()).thenReturn(Duration.ofMillis(100));
+        Mockito.when(rateLimitConfig.getBucketIdentifier(API_IDENTIFIER, USER_IDENTIFIER))
+                .thenReturn(API_IDENTIFIER + USER_IDENTIFIER);
+        Mockito.when(rateLimitConfig.getApiRateLimit(API_IDENTIFIER))
+                .thenReturn(new RateLimitConfig.ApiRateLimit(null, 5));
+        Mockito.when(rateLimitConfig.getOrCreateAPIUserSpecificAsyncBucket(API_IDENTIFIER, USER_IDENTIFIER))
+                .thenReturn(userSpecificBucket);
+        Mockito.when(userSpecificBucket.tryConsumeAsMuchAsPossible(5))
+                .thenReturn(CompletableFuture.completedFuture(5L));
+        Mockito.when(userSpecificBucket.addTokens(Mockito.anyLong()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        RateLimitService rateLimitService = new RateLimitServiceImpl(
+                Map.of(API_IDENTIFIER, Mockito.mock(BucketProxy.class)), rateLimitConfig, null);
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(rateLimitService.tryIncreaseCounter(API_IDENTIFIER, USER_IDENTIFIER))
+                    .expectNext(true)
+                    .verifyComplete();
+        }
+
+        // One batch of tokens is taken from Redis, and the two that were not granted are given back once it expires
+        Mockito.verify(userSpecificBucket, Mockito.times(1)).tryConsumeAsMuchAsPossible(5);
+        Mockito.verify(userSpecificBucket, Mockito.timeout(5000)).addTokens(2);
+    }
+}
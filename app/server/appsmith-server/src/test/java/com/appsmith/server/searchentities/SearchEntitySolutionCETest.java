@@ -242,6 +242,60 @@ class SearchEntitySolutionCETest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails("api_user")
+    public void searchEntity_multipleMatches_returnsRankedPagesByMatchQuality() {
+        final String searchString = UUID.randomUUID().toString();
+        // Created in this order, so that the most recently updated workspace is the weakest match
+        List<String> names = List.of(
+                searchString, searchString.toUpperCase() + " prefix", "Contains " + searchString + " in the middle");
+        for (String name : names) {
+            Workspace workspace = new Workspace();
+            workspace.setName(name);
+            workspace = workspaceService.create(workspace).block();
+            assertNotNull(workspace, "Workspace should not be null");
+            workspaceIds.add(workspace.getId());
+        }
+
+        Mono<SearchEntityDTO> firstPageMono =
+                searchEntitySolution.searchEntity(new String[] {"workspace"}, searchString, 0, 2, true);
+        Mono<SearchEntityDTO> secondPageMono =
+                searchEntitySolution.searchEntity(new String[] {"workspace"}, searchString, 1, 2, true);
+
+        StepVerifier.create(Mono.zip(firstPageMono, secondPageMono))
+                .assertNext(tuple -> {
+                    assertThat(tuple.getT1().getWorkspaces())
+                            .extracting(Workspace::getName)
+                            .containsExactly(names.get(0), names.get(1));
+                    assertThat(tuple.getT2().getWorkspaces())
+                            .extracting(Workspace::getName)
+                            .containsExactly(names.get(2));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails("api_user")
+    public void searchEntity_nonAsciiAndRegexCharacters_ranksCaseInsensitiveMatches() {
+        final String searchString = "Ärger (" + UUID.randomUUID() + ")";
+        // Created in this order, so that the most recently updated workspace is the weakest match
+        List<String> names = List.of(
+                searchString.toLowerCase(), searchString.toUpperCase() + " prefix", "Contains " + searchString);
+        for (String name : names) {
+            Workspace workspace = new Workspace();
+            workspace.setName(name);
+            workspace = workspaceService.create(workspace).block();
+            assertNotNull(workspace, "Workspace should not be null");
+            workspaceIds.add(workspace.getId());
+        }
+
+        StepVerifier.create(searchEntitySolution.searchEntity(new String[] {"workspace"}, searchString, 0, 3, true))
+                .assertNext(searchEntityDTO -> assertThat(searchEntityDTO.getWorkspaces())
+                        .extracting(Workspace::getName)
+                        .containsExactlyElementsOf(names))
+                .verifyComplete();
+    }
+
     private static Application mockGitConnectedApplication(
             String branchName, String defaultBranchName, String searchString, Workspace workspace) {
         Application application = new Application();
@@ -67,9 +67,9 @@ public class ApplicationSnapshotServiceUnitTest {
     public void createApplicationSnapshot_WhenApplicationTooLarge_SnapshotCreatedSuccessfully() {
         String defaultAppId = "default-app-id", branchName = "develop", branchedAppId = "branched-app-id";
 
-        // Create a large ApplicationJson object that exceeds the 15 MB size
+        // Create a large ApplicationJson object that exceeds the 15 MB size even when compressed
         JSONObject jsonObject = new JSONObject();
-        jsonObject.put("key", generateRandomString(16));
+        jsonObject.put("key", generateRandomString(24));
 
         Layout layout = new Layout();
         layout.setDsl(jsonObject);
@@ -91,6 +91,9 @@ public class ApplicationSnapshotServiceUnitTest {
                         branchedAppId, SerialiseArtifactObjective.VERSION_CONTROL, ArtifactType.APPLICATION))
                 .thenAnswer(getTypeSafeMockAnswer(applicationJson));
 
+        Mockito.when(applicationSnapshotRepository.findFirstChunkWithoutDataByApplicationId(branchedAppId))
+                .thenReturn(Mono.empty());
+
         Mockito.when(applicationSnapshotRepository.deleteAllByApplicationId(branchedAppId))
                 .thenReturn(Mono.just("").then());
 
@@ -159,6 +162,106 @@ public class ApplicationSnapshotServiceUnitTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void createApplicationSnapshot_ThenRestored_CompressedSnapshotRoundTrips() {
+        String branchedAppId = "compressed-app-id", workspaceId = "workspace-id";
+
+        Application application = new Application();
+        application.setName("Compressed snapshot test");
+        application.setWorkspaceId(workspaceId);
+        application.setId(branchedAppId);
+
+        ApplicationJson applicationJson = new ApplicationJson();
+        applicationJson.setExportedApplication(application);
+
+        Mockito.when(exportService.exportByArtifactId(
+                        branchedAppId, SerialiseArtifactObjective.VERSION_CONTROL, ArtifactType.APPLICATION))
+                .thenAnswer(getTypeSafeMockAnswer(applicationJson));
+        Mockito.when(applicationSnapshotRepository.findFirstChunkWithoutDataByApplicationId(branchedAppId))
+                .thenReturn(Mono.empty());
+        Mockito.when(applicationSnapshotRepository.deleteAllByApplicationId(branchedAppId))
+                .thenReturn(Mono.empty());
+
+        List<ApplicationSnapshot> savedSnapshots = new ArrayList<>();
+        Mockito.when(applicationSnapshotRepository.saveAll(Mockito.<List<ApplicationSnapshot>>any()))
+                .thenAnswer(invocation -> {
+                    List<ApplicationSnapshot> snapshots = invocation.getArgument(0);
+                    savedSnapshots.addAll(snapshots);
+                    return Flux.fromIterable(snapshots);
+                });
+
+        StepVerifier.create(applicationSnapshotService.createApplicationSnapshot(branchedAppId))
+                .expectNext(Boolean.TRUE)
+                .verifyComplete();
+
+        assertThat(savedSnapshots).hasSize(1);
+        ApplicationSnapshot firstChunk = savedSnapshots.get(0);
+        String jsonString = gson.toJson(applicationJson);
+        assertThat(firstChunk.getCompression()).isEqualTo("gzip");
+        assertThat(firstChunk.getContentHash()).isNotNull();
+        assertThat(firstChunk.getUncompressedSize())
+                .isEqualTo(jsonString.getBytes(StandardCharsets.UTF_8).length);
+
+        Mockito.doReturn(Mono.just(application))
+                .when(applicationService)
+                .findById(branchedAppId, AclPermission.MANAGE_APPLICATIONS);
+        Mockito.when(applicationSnapshotRepository.findByApplicationId(branchedAppId))
+                .thenReturn(Flux.fromIterable(savedSnapshots));
+        ArgumentMatcher<ApplicationJson> matchApplicationJson = restoredJson ->
+                restoredJson.getExportedApplication().getName().equals(application.getName());
+        Mockito.when(importService.restoreSnapshot(eq(workspaceId), eq(branchedAppId), argThat(matchApplicationJson)))
+                .thenAnswer(getTypeSafeMockAnswer(application));
+
+        StepVerifier.create(applicationSnapshotService.restoreSnapshot(branchedAppId))
+                .assertNext(restoredApplication ->
+                        assertThat(restoredApplication.getName()).isEqualTo(application.getName()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void createApplicationSnapshot_WhenStoredSnapshotHasSameContent_SnapshotNotRewritten() {
+        String branchedAppId = "unchanged-app-id";
+
+        Application application = new Application();
+        application.setName("Unchanged snapshot test");
+
+        ApplicationJson applicationJson = new ApplicationJson();
+        applicationJson.setExportedApplication(application);
+
+        Mockito.when(exportService.exportByArtifactId(
+                        branchedAppId, SerialiseArtifactObjective.VERSION_CONTROL, ArtifactType.APPLICATION))
+                .thenAnswer(getTypeSafeMockAnswer(applicationJson));
+        Mockito.when(applicationSnapshotRepository.findFirstChunkWithoutDataByApplicationId(branchedAppId))
+                .thenReturn(Mono.empty());
+        Mockito.when(applicationSnapshotRepository.deleteAllByApplicationId(branchedAppId))
+                .thenReturn(Mono.empty());
+
+        List<ApplicationSnapshot> savedSnapshots = new ArrayList<>();
+        Mockito.when(applicationSnapshotRepository.saveAll(Mockito.<List<ApplicationSnapshot>>any()))
+                .thenAnswer(invocation -> {
+                    List<ApplicationSnapshot> snapshots = invocation.getArgument(0);
+                    savedSnapshots.addAll(snapshots);
+                    return Flux.fromIterable(snapshots);
+                });
+
+        applicationSnapshotService.createApplicationSnapshot(branchedAppId).block();
+        assertThat(savedSnapshots).hasSize(1);
+
+        // the stored first chunk now has the same content hash as the next snapshot
+        Mockito.when(applicationSnapshotRepository.findFirstChunkWithoutDataByApplicationId(branchedAppId))
+                .thenReturn(Mono.just(savedSnapshots.get(0)));
+        Mockito.when(applicationSnapshotRepository.updateFirstChunkUpdatedAtByApplicationId(branchedAppId))
+                .thenReturn(Mono.just(1));
+
+        StepVerifier.create(applicationSnapshotService.createApplicationSnapshot(branchedAppId))
+                .expectNext(Boolean.TRUE)
+                .verifyComplete();
+
+        assertThat(savedSnapshots).hasSize(1);
+        Mockito.verify(applicationSnapshotRepository).updateFirstChunkUpdatedAtByApplicationId(branchedAppId);
+        Mockito.verify(applicationSnapshotRepository, Mockito.times(1)).deleteAllByApplicationId(branchedAppId);
+    }
+
     private ApplicationSnapshot createSnapshot(String applicationId, byte[] data, int chunkOrder) {
         ApplicationSnapshot applicationSnapshot = new ApplicationSnapshot();
         applicationSnapshot.setApplicationId(applicationId);
@@ -39,6 +39,7 @@ import org.springframework.security.test.context.support.WithUserDetails;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 
@@ -415,6 +416,109 @@ public class DatasourceStructureSolutionTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void verifyRefreshStructureReplacesStoredStructure() {
+        doReturn(Mono.just(new DatasourceStructure()))
+                .when(datasourceContextService)
+                .retryOnce(any(), any());
+
+        datasourceStructureSolution
+                .getStructure(datasourceId, Boolean.TRUE, defaultEnvironmentId)
+                .block();
+
+        doReturn(Mono.just(generateDatasourceStructureObject()))
+                .when(datasourceContextService)
+                .retryOnce(any(), any());
+
+        Mono<DatasourceStorageStructure> datasourceStorageStructureMono = datasourceStructureService
+                .getByDatasourceIdAndEnvironmentId(datasourceId, defaultEnvironmentId)
+                .flatMap(datasourceStorageStructure ->
+                        datasourceStructureSolution.refreshStructure(datasourceStorageStructure))
+                .then(datasourceStructureService.getByDatasourceIdAndEnvironmentId(
+                        datasourceId, defaultEnvironmentId));
+
+        StepVerifier.create(datasourceStorageStructureMono)
+                .assertNext(datasourceStorageStructure -> {
+                    assertThat(datasourceStorageStructure.getRefreshedAt()).isNotNull();
+                    DatasourceStructure datasourceStructure = datasourceStorageStructure.getStructure();
+                    assertThat(datasourceStructure.getTables()).hasSize(2);
+                    assertThat(datasourceStructure.getTables().get(0).getName()).isEqualTo("Table1");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void verifyUnchangedStructureOnlyMovesRefreshedAt() {
+        doReturn(Mono.just(generateDatasourceStructureObject()))
+                .when(datasourceContextService)
+                .retryOnce(any(), any());
+
+        datasourceStructureSolution
+                .getStructure(datasourceId, Boolean.TRUE, defaultEnvironmentId)
+                .block();
+        DatasourceStorageStructure savedStructure = datasourceStructureService
+                .getByDatasourceIdAndEnvironmentId(datasourceId, defaultEnvironmentId)
+                .block();
+
+        Mono<DatasourceStorageStructure> datasourceStorageStructureMono = datasourceStructureService
+                .saveStructure(datasourceId, defaultEnvironmentId, generateDatasourceStructureObject())
+                .then(datasourceStructureService.getByDatasourceIdAndEnvironmentId(
+                        datasourceId, defaultEnvironmentId));
+
+        StepVerifier.create(datasourceStorageStructureMono)
+                .assertNext(datasourceStorageStructure -> {
+                    assertThat(datasourceStorageStructure.getStructureHash())
+                            .isEqualTo(savedStructure.getStructureHash());
+                    assertThat(datasourceStorageStructure.getRefreshedAt())
+                            .isAfterOrEqualTo(savedStructure.getRefreshedAt());
+                    assertThat(datasourceStorageStructure.getStructure().getTables()).hasSize(2);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void verifyFailedRefreshMovesStructureBackInRefreshQueue() {
+        doReturn(Mono.just(generateDatasourceStructureObject()))
+                .when(datasourceContextService)
+                .retryOnce(any(), any());
+
+        datasourceStructureSolution
+                .getStructure(datasourceId, Boolean.TRUE, defaultEnvironmentId)
+                .block();
+        DatasourceStorageStructure savedStructure = datasourceStructureService
+                .getByDatasourceIdAndEnvironmentId(datasourceId, defaultEnvironmentId)
+                .block();
+        Instant beforeRefresh = Instant.now();
+
+        doReturn(Mono.error(new RuntimeException("Datasource is unreachable")))
+                .when(datasourceContextService)
+                .retryOnce(any(), any());
+
+        Mono<List<DatasourceStorageStructure>> refreshQueueMono = datasourceStructureSolution
+                .refreshStructure(savedStructure)
+                .thenMany(datasourceStructureService.getAllUsedSinceAndRefreshAttemptedBefore(
+                        beforeRefresh.minusSeconds(60 * 60), beforeRefresh, 50))
+                .filter(datasourceStorageStructure -> datasourceId.equals(datasourceStorageStructure.getDatasourceId()))
+                .collectList();
+
+        StepVerifier.create(refreshQueueMono)
+                .assertNext(refreshQueue -> assertThat(refreshQueue).isEmpty())
+                .verifyComplete();
+
+        StepVerifier.create(datasourceStructureService.getByDatasourceIdAndEnvironmentId(
+                        datasourceId, defaultEnvironmentId))
+                .assertNext(datasourceStorageStructure -> {
+                    assertThat(datasourceStorageStructure.getRefreshAttemptedAt())
+                            .isAfterOrEqualTo(beforeRefresh);
+                    assertThat(datasourceStorageStructure.getRefreshedAt()).isEqualTo(savedStructure.getRefreshedAt());
+                    assertThat(datasourceStorageStructure.getStructure().getTables()).hasSize(2);
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void verifyDuplicateKeyErrorOnSave() {
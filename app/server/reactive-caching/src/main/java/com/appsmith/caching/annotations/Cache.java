@@ -22,4 +22,33 @@ public @interface Cache {
      * All method arguments can be used in the expression
      */
     String key() default "";
+
+    /**
+     * Whether concurrent misses for the same key on this pod should share a single call of the method, instead of
+     * every caller calling it and writing the result back. The method runs in the context of the first caller.
+     */
+    boolean singleFlight() default false;
+
+    /**
+     * Whether single-flight loading should also coalesce callers across pods, with a distributed lock on the key.
+     * Pods that don't get the lock wait for the value to show up in the cache, and call the method themselves if it
+     * doesn't show up in time. Only used when singleFlight is true.
+     */
+    boolean distributedSingleFlight() default false;
+
+    /**
+     * Time-to-live of the cached entries in seconds. 0 keeps them until they are evicted.
+     */
+    long ttl() default 0;
+
+    /**
+     * Age in seconds after which a cached entry is stale. Stale entries are still returned, while one background call
+     * of the method per key and pod refreshes them. 0 disables stale-while-revalidate. Should be lower than ttl.
+     */
+    long softTtl() default 0;
+
+    /**
+     * Maximum size in bytes of the serialized value. Larger values are returned but not cached. 0 for no limit.
+     */
+    int maxSize() default 0;
 }
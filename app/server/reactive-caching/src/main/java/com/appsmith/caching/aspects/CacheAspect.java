@@ -3,6 +3,8 @@ package com.appsmith.caching.aspects;
 import com.appsmith.caching.annotations.Cache;
 import com.appsmith.caching.annotations.CacheEvict;
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.components.CacheMetrics;
+import com.appsmith.caching.model.CacheEntry;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -20,8 +22,12 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * CacheAspect is an aspect that is used to cache the results of a method call annotated with Cache.
@@ -33,27 +39,52 @@ import java.util.List;
 public class CacheAspect {
 
     private final CacheManager cacheManager;
+    private final DistributedLockAspect distributedLockAspect;
+    private final CacheMetrics cacheMetrics;
 
     public static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
 
+    // Time-to-live of the lock taken for distributed single-flight loads, in seconds.
+    private static final long DISTRIBUTED_LOAD_LOCK_TTL = 30;
+    private static final Duration DISTRIBUTED_LOAD_POLL_INTERVAL = Duration.ofMillis(100);
+    // How many times a pod that didn't get the lock checks the cache before calling the method itself.
+    private static final int DISTRIBUTED_LOAD_MAX_POLLS = 100;
+
+    /**
+     * Loads currently running on this pod for single-flight caches, by cacheName:key.
+     */
+    private final Map<String, Mono<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+    /**
+     * Stale keys being refreshed in the background on this pod, by cacheName:key.
+     */
+    private final Set<String> refreshesInFlight = ConcurrentHashMap.newKeySet();
+
     @Autowired
-    public CacheAspect(CacheManager cacheManager) {
+    public CacheAspect(
+            CacheManager cacheManager, DistributedLockAspect distributedLockAspect, CacheMetrics cacheMetrics) {
         this.cacheManager = cacheManager;
+        this.distributedLockAspect = distributedLockAspect;
+        this.cacheMetrics = cacheMetrics;
     }
 
     /**
      * This method is used to call original Mono<T> returning method and return the the result after caching it with CacheManager
      *
-     * @param joinPoint The join point of the method call
-     * @param cacheName The name of the cache
-     * @param key       The key to be used for caching
+     * @param joinPoint  The join point of the method call
+     * @param annotation The Cache annotation of the method
+     * @param cacheName  The name of the cache
+     * @param key        The key to be used for caching
      * @return The result of the method call
      */
-    private Mono<Object> callMonoMethodAndCache(ProceedingJoinPoint joinPoint, String cacheName, String key) {
+    private Mono<Object> callMonoMethodAndCache(
+            ProceedingJoinPoint joinPoint, Cache annotation, String cacheName, String key) {
         try {
-            return ((Mono<?>) joinPoint.proceed())
-                    .zipWhen(value ->
-                            cacheManager.put(cacheName, key, value)) // Call CacheManager.put() to cache the object
+            // Only the method is timed, not the write to the cache
+            return cacheMetrics
+                    .timeLoad(cacheName, (Mono<?>) joinPoint.proceed())
+                    .zipWhen(value -> putInCache(
+                            annotation, cacheName, key, value)) // Call CacheManager.put() to cache the object
                     .flatMap(value -> Mono.just(value.getT1())); // Maps to the original object
         } catch (Throwable e) {
             log.error(
@@ -67,17 +98,20 @@ public class CacheAspect {
     /**
      * This method is used to call original Flux<T> returning method and return the the result after caching it with CacheManager
      *
-     * @param joinPoint The join point
-     * @param cacheName The name of the cache
-     * @param key       The key to be used for caching
+     * @param joinPoint  The join point
+     * @param annotation The Cache annotation of the method
+     * @param cacheName  The name of the cache
+     * @param key        The key to be used for caching
      * @return The result of the method call after caching
      */
-    private Flux<?> callFluxMethodAndCache(ProceedingJoinPoint joinPoint, String cacheName, String key) {
+    private Flux<?> callFluxMethodAndCache(
+            ProceedingJoinPoint joinPoint, Cache annotation, String cacheName, String key) {
         try {
-            return ((Flux<?>) joinPoint.proceed())
-                    .collectList() // Collect Flux<T> into Mono<List<T>>
+            // Collect Flux<T> into Mono<List<T>>, only the method is timed, not the write to the cache
+            return cacheMetrics
+                    .timeLoad(cacheName, ((Flux<?>) joinPoint.proceed()).collectList())
                     .zipWhen(value ->
-                            cacheManager.put(cacheName, key, value)) // Call CacheManager.put() to cache the list
+                            putInCache(annotation, cacheName, key, value)) // Call CacheManager.put() to cache the list
                     .flatMap(value -> Mono.just(value.getT1())) // Maps to the original list
                     .flatMapMany(Flux::fromIterable); // Convert it back to Flux<T>
         } catch (Throwable e) {
@@ -89,6 +123,142 @@ public class CacheAspect {
         }
     }
 
+    /**
+     * This method is used to put the result of a method call in the cache, with the expiry and size limit of the
+     * annotation. Values of caches with a soft TTL are wrapped in a CacheEntry recording when they were loaded.
+     *
+     * @param annotation The Cache annotation of the method
+     * @param cacheName  The name of the cache
+     * @param key        The key to be used for caching
+     * @param value      The result of the method call
+     * @return Mono<Boolean> true if the value was cached, false otherwise
+     */
+    private Mono<Boolean> putInCache(Cache annotation, String cacheName, String key, Object value) {
+        Object cachedValue = annotation.softTtl() > 0 ? CacheEntry.of(value, System.currentTimeMillis()) : value;
+        return cacheManager.put(
+                cacheName, key, cachedValue, Duration.ofSeconds(annotation.ttl()), annotation.maxSize());
+    }
+
+    /**
+     * This method is used to get a value from the cache. For caches with a soft TTL, the value is unwrapped from its
+     * CacheEntry, and if it is stale a single background refresh per key is started while the stale value is returned.
+     *
+     * @param annotation The Cache annotation of the method
+     * @param cacheName  The name of the cache
+     * @param key        The key to be used for caching
+     * @param load       The load calling the original method and caching the result, used for the refresh
+     * @return The cached value, empty if not found
+     */
+    private Mono<Object> getFromCache(Cache annotation, String cacheName, String key, Mono<Object> load) {
+        if (annotation.softTtl() <= 0) {
+            return cacheManager.get(cacheName, key);
+        }
+
+        return cacheManager.get(cacheName, key).map(cachedValue -> {
+            // Values cached before a soft TTL was set on the cache are not wrapped, and are refreshed right away
+            boolean isEntry = cachedValue instanceof CacheEntry;
+            Object value = isEntry ? ((CacheEntry) cachedValue).getValue() : cachedValue;
+            long age = isEntry ? System.currentTimeMillis() - ((CacheEntry) cachedValue).getLoadedAt() : Long.MAX_VALUE;
+            if (age > Duration.ofSeconds(annotation.softTtl()).toMillis()) {
+                cacheManager.getStats(cacheName).getSoftExpirations().incrementAndGet();
+                refreshInBackground(cacheName, key, load);
+            }
+            return value;
+        });
+    }
+
+    /**
+     * This method is used to refresh a stale key in the background, unless a refresh of the key is already running
+     * on this pod. The refresh is detached from the caller, so it does not see the caller's context.
+     *
+     * @param cacheName The name of the cache
+     * @param key       The key to be used for caching
+     * @param load      The load calling the original method and caching the result
+     */
+    private void refreshInBackground(String cacheName, String key, Mono<Object> load) {
+        String path = cacheName + ":" + key;
+        if (!refreshesInFlight.add(path)) {
+            return;
+        }
+        cacheManager.getStats(cacheName).getRefreshes().incrementAndGet();
+        log.debug("Refreshing stale cache entry {}", path);
+        load.doFinally(signalType -> refreshesInFlight.remove(path))
+                .subscribe(
+                        value -> {},
+                        error -> log.error("Error occurred in refreshing stale cache entry {}", path, error));
+    }
+
+    /**
+     * This method is used to wrap the load of a missed key according to the single-flight settings of the annotation.
+     *
+     * @param annotation The Cache annotation of the method
+     * @param cacheName  The name of the cache
+     * @param key        The key to be used for caching
+     * @param load       The load calling the original method and caching the result
+     * @return The load to subscribe to on a cache miss
+     */
+    private Mono<Object> withLoadCoalescing(Cache annotation, String cacheName, String key, Mono<Object> load) {
+        if (!annotation.singleFlight()) {
+            return load;
+        }
+        if (annotation.distributedSingleFlight()) {
+            return singleFlight(cacheName, key, distributedSingleFlight(cacheName, key, load));
+        }
+        return singleFlight(cacheName, key, load);
+    }
+
+    /**
+     * This method is used to share a single load between all callers that miss the same key at the same time.
+     * The first caller subscribes to the load, and later callers attach to it until it completes.
+     *
+     * @param cacheName The name of the cache
+     * @param key       The key to be used for caching
+     * @param load      The load to be shared, calling the original method and caching the result
+     * @return The shared load
+     */
+    @SuppressWarnings("unchecked")
+    private Mono<Object> singleFlight(String cacheName, String key, Mono<Object> load) {
+        String path = cacheName + ":" + key;
+        return Mono.defer(() -> {
+            Mono<Object>[] sharedLoad = new Mono[1];
+            // Removed once the load terminates, so that errors are not shared with later callers
+            sharedLoad[0] = load.doFinally(signalType -> inFlightLoads.remove(path, sharedLoad[0]))
+                    .cache();
+            Mono<Object> inFlightLoad = inFlightLoads.putIfAbsent(path, sharedLoad[0]);
+            return inFlightLoad != null ? inFlightLoad : sharedLoad[0];
+        });
+    }
+
+    /**
+     * This method is used to share a single load between all pods that miss the same key at the same time.
+     * The pod that acquires the lock runs the load, the others wait for the value to be cached.
+     *
+     * @param cacheName The name of the cache
+     * @param key       The key to be used for caching
+     * @param load      The load to be shared, calling the original method and caching the result
+     * @return The shared load
+     */
+    private Mono<Object> distributedSingleFlight(String cacheName, String key, Mono<Object> load) {
+        Mono<Object> waitForOtherPod = Mono.defer(() -> cacheManager
+                .get(cacheName, key)
+                .repeatWhenEmpty(
+                        DISTRIBUTED_LOAD_MAX_POLLS, attempts -> attempts.delayElements(DISTRIBUTED_LOAD_POLL_INTERVAL))
+                // The other pod took too long or the cache is unreachable, load it ourselves
+                .onErrorResume(error -> Mono.empty())
+                .switchIfEmpty(load));
+
+        return distributedLockAspect
+                .tryAcquireLock("cache-load:" + cacheName + ":" + key, DISTRIBUTED_LOAD_LOCK_TTL)
+                .map(lockKey -> load.doFinally(signalType -> distributedLockAspect.releaseLock(lockKey)))
+                .defaultIfEmpty(waitForOtherPod)
+                // Only errors from acquiring the lock end up here, errors from the load itself are not retried
+                .onErrorResume(error -> {
+                    log.error("Error acquiring the lock to load {}:{}, loading without it", cacheName, key, error);
+                    return Mono.just(load);
+                })
+                .flatMap(selectedLoad -> selectedLoad);
+    }
+
     /**
      * This method is used to derive the key name for caching the result of a method call based on method arguments.
      * This uses original strategy used by Spring's Cacheable annotation.
@@ -166,19 +336,19 @@ public class CacheAspect {
 
         Class<?> returnType = method.getReturnType();
         if (returnType.isAssignableFrom(Mono.class)) { // If method returns Mono<T>
-            return cacheManager
-                    .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callMonoMethodAndCache(
-                            joinPoint, cacheName,
-                            key))); // defer the creation of Mono until subscription as it will call original function
+            // defer the creation of Mono until subscription as it will call original function
+            Mono<Object> load = Mono.defer(() -> callMonoMethodAndCache(joinPoint, annotation, cacheName, key));
+            return getFromCache(annotation, cacheName, key, load)
+                    .switchIfEmpty(withLoadCoalescing(annotation, cacheName, key, load));
         }
 
         if (returnType.isAssignableFrom(Flux.class)) { // If method returns Flux<T>
-            return cacheManager
-                    .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callFluxMethodAndCache(joinPoint, cacheName, key)
-                            .collectList())) // defer the creation of Flux until subscription as it will call original
-                    // function
+            // defer the creation of Flux until subscription as it will call original function
+            Mono<Object> load = Mono.defer(() -> callFluxMethodAndCache(joinPoint, annotation, cacheName, key)
+                    .collectList()
+                    .cast(Object.class));
+            return getFromCache(annotation, cacheName, key, load)
+                    .switchIfEmpty(withLoadCoalescing(annotation, cacheName, key, load))
                     .map(value -> (List<?>) value)
                     .flatMapMany(Flux::fromIterable);
         }
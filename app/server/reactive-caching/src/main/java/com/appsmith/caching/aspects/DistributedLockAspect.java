@@ -62,16 +62,37 @@ public class DistributedLockAspect {
     }
 
     private Mono<LockDetails> createLockDetails(DistributedLock lock) {
+        return createLockDetails(lock.key(), lock.ttl());
+    }
+
+    private Mono<LockDetails> createLockDetails(String key, long ttl) {
         return instanceIdProvider.getInstanceId().defaultIfEmpty("unknown").map(instanceId -> {
-            String lockKey = LOCK_PREFIX + ":" + instanceId + ":" + lock.key();
-            long ttl = lock.ttl();
+            String lockKey = LOCK_PREFIX + ":" + instanceId + ":" + key;
             String value = "locked until "
                     + Instant.now().plus(ttl, ChronoUnit.SECONDS).toString();
             return new LockDetails(lockKey, value, Duration.ofSeconds(ttl));
         });
     }
 
-    private void releaseLock(String lockKey) {
+    /**
+     * Tries to acquire the lock for the given key, with the same key layout and expiry as @DistributedLock.
+     * This is for callers that need to lock around a reactive pipeline instead of a whole method.
+     * @param key The key of the lock.
+     * @param ttl Time-to-live for the lock in seconds.
+     * @return Mono with the full lock key to pass to releaseLock if the lock was acquired, empty otherwise.
+     */
+    public Mono<String> tryAcquireLock(String key, long ttl) {
+        return createLockDetails(key, ttl).flatMap(lockDetails -> redisOperations
+                .opsForValue()
+                .setIfAbsent(lockDetails.key, lockDetails.value, lockDetails.duration)
+                .filter(Boolean.TRUE::equals)
+                .map(acquired -> {
+                    log.debug("Acquired lock for: {}", lockDetails.key);
+                    return lockDetails.key;
+                }));
+    }
+
+    public void releaseLock(String lockKey) {
         redisOperations
                 .delete(lockKey)
                 .doOnSuccess(deleted -> {
@@ -0,0 +1,149 @@
+package com.appsmith.caching.codec;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BinaryCacheCodec encodes values as Smile, a binary form of JSON.
+ * Like JDK serialization it works on fields and ignores Jackson annotations, so that a cached value comes back
+ * exactly as it was put, including fields that are hidden from API responses. Unlike JDK serialization it does
+ * not write class descriptors, and property names and short strings that repeat are written only once.
+ * Type information is kept for every value whose declared type is not final, and only com.appsmith types and the
+ * JDK collection and value types listed in ALLOWED_JDK_TYPES may be decoded, so that the content of Redis cannot
+ * instantiate any other class.
+ */
+@Component
+public class BinaryCacheCodec implements CacheCodec {
+
+    public static final String NAME = "binary";
+
+    private static final byte ID = 1;
+
+    private static final Set<Class<?>> ALLOWED_JDK_TYPES = Set.of(
+            String.class,
+            Boolean.class,
+            Character.class,
+            Byte.class,
+            Short.class,
+            Integer.class,
+            Long.class,
+            Float.class,
+            Double.class,
+            BigInteger.class,
+            BigDecimal.class,
+            UUID.class,
+            Date.class,
+            Instant.class,
+            LocalDate.class,
+            LocalDateTime.class,
+            OffsetDateTime.class,
+            ZonedDateTime.class,
+            Duration.class,
+            ArrayList.class,
+            LinkedList.class,
+            HashMap.class,
+            LinkedHashMap.class,
+            TreeMap.class,
+            ConcurrentHashMap.class,
+            HashSet.class,
+            LinkedHashSet.class,
+            TreeSet.class);
+
+    // Types returned by List.of, Collections.unmodifiableList and the like, which Jackson decodes to plain collections
+    private static final List<String> ALLOWED_JDK_COLLECTION_PREFIXES =
+            List.of("java.util.Arrays$ArrayList", "java.util.Collections$", "java.util.ImmutableCollections$");
+
+    private final ObjectMapper objectMapper;
+
+    @SuppressWarnings("deprecation")
+    public BinaryCacheCodec() {
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        BasicPolymorphicTypeValidator.Builder typeValidatorBuilder = BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType("com.appsmith.")
+                // Exact classes only, as allowIfSubType(Class) would also allow their subclasses
+                .allowIfSubType(new BasicPolymorphicTypeValidator.TypeMatcher() {
+                    @Override
+                    public boolean match(MapperConfig<?> config, Class<?> clazz) {
+                        return ALLOWED_JDK_TYPES.contains(clazz);
+                    }
+                });
+        ALLOWED_JDK_COLLECTION_PREFIXES.forEach(typeValidatorBuilder::allowIfSubType);
+        this.objectMapper = SmileMapper.builder(smileFactory)
+                .disable(MapperFeature.USE_ANNOTATIONS)
+                .visibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                // Values of Object fields are typed as well, so that a Long in an Object field stays a Long
+                .activateDefaultTyping(typeValidatorBuilder.build(), ObjectMapper.DefaultTyping.NON_FINAL)
+                .findAndAddModules()
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        try {
+            // Written as an Object, so that the type of the value itself is kept even when its class is final
+            return objectMapper.writerFor(Object.class).writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException(
+                    "Could not encode " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object decode(byte[] bytes, int offset, int length) {
+        try {
+            return objectMapper.readValue(bytes, offset, length, Object.class);
+        } catch (IOException e) {
+            throw new SerializationException("Could not decode cached value", e);
+        }
+    }
+}
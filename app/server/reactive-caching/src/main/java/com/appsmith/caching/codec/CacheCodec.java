@@ -0,0 +1,36 @@
+package com.appsmith.caching.codec;
+
+/**
+ * CacheCodec turns cached values into bytes and back.
+ * Codecs are picked up as beans and selected per cache name with appsmith.cache.codecs, caches without a codec
+ * keep using the value serializer of the ReactiveRedisTemplate.
+ */
+public interface CacheCodec {
+
+    /**
+     * The name used to select this codec in appsmith.cache.codecs.
+     */
+    String getName();
+
+    /**
+     * The id written in front of every value encoded by this codec, so that values can be decoded even after the
+     * codec of a cache was changed. Must be unique among codecs.
+     */
+    byte getId();
+
+    /**
+     * This method is used to encode a value.
+     * @param value The value to be encoded, never null.
+     * @return The encoded value.
+     */
+    byte[] encode(Object value);
+
+    /**
+     * This method is used to decode a value encoded by this codec.
+     * @param bytes The buffer holding the encoded value.
+     * @param offset The offset of the encoded value in bytes.
+     * @param length The length of the encoded value.
+     * @return The decoded value.
+     */
+    Object decode(byte[] bytes, int offset, int length);
+}
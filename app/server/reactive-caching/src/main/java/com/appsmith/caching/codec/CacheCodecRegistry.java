@@ -0,0 +1,175 @@
+package com.appsmith.caching.codec;
+
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CacheCodecRegistry encodes and decodes cached values with the codec configured for their cache.
+ *
+ * Caches are mapped to codecs with appsmith.cache.codecs, as a list of cacheName:codecName pairs. Caches that are
+ * not listed keep using the value serializer of the ReactiveRedisTemplate, and their values are stored exactly as
+ * before. Values written by a codec start with a small header holding the codec id and whether the value is LZ4
+ * compressed, which is how they are told apart from values written by the template when read back. This lets the
+ * codec of a cache be changed without evicting it first.
+ * Values encoded by a codec are compressed with LZ4 once they are larger than
+ * appsmith.cache.codec.compression-threshold bytes, and only kept compressed if that makes them smaller. A compressed
+ * value is not decompressed if its header says it is larger than appsmith.cache.codec.max-decompressed-size bytes.
+ */
+@Component
+@Slf4j
+public class CacheCodecRegistry {
+
+    // JDK serialization starts with 0xACED and JSON with an ASCII character, so neither can be taken for a header
+    private static final byte MAGIC_0 = (byte) 0xC0;
+    private static final byte MAGIC_1 = (byte) 0xDE;
+    private static final int HEADER_LENGTH = 4;
+    private static final byte FLAG_LZ4 = 1;
+
+    private final RedisSerializationContext.SerializationPair<Object> valueSerializationPair;
+    private final Map<String, CacheCodec> codecsByCacheName = new HashMap<>();
+    private final CacheCodec[] codecsById = new CacheCodec[256];
+    private final int compressionThreshold;
+    private final int maxDecompressedSize;
+
+    private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+    private final LZ4FastDecompressor decompressor =
+            LZ4Factory.fastestInstance().fastDecompressor();
+
+    @Autowired
+    public CacheCodecRegistry(
+            ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
+            List<CacheCodec> codecs,
+            @Value("${appsmith.cache.codecs:}") List<String> cacheCodecs,
+            @Value("${appsmith.cache.codec.compression-threshold:4096}") int compressionThreshold,
+            @Value("${appsmith.cache.codec.max-decompressed-size:67108864}") int maxDecompressedSize) {
+        this.valueSerializationPair =
+                reactiveRedisTemplate.getSerializationContext().getValueSerializationPair();
+        this.compressionThreshold = compressionThreshold;
+        this.maxDecompressedSize = maxDecompressedSize;
+
+        Map<String, CacheCodec> codecsByName = new HashMap<>();
+        for (CacheCodec codec : codecs) {
+            int id = Byte.toUnsignedInt(codec.getId());
+            if (codecsById[id] != null) {
+                throw new IllegalStateException("Cache codecs " + codecsById[id].getName() + " and " + codec.getName()
+                        + " have the same id " + id);
+            }
+            codecsById[id] = codec;
+            codecsByName.put(codec.getName(), codec);
+        }
+
+        for (String cacheCodec : cacheCodecs) {
+            if (cacheCodec.isBlank()) {
+                continue;
+            }
+            String[] parts = cacheCodec.trim().split(":", 2);
+            CacheCodec codec = parts.length == 2 ? codecsByName.get(parts[1]) : null;
+            if (codec == null) {
+                throw new IllegalArgumentException("Invalid cache codec " + cacheCodec + ", expected "
+                        + "cacheName:codecName with codecName one of " + codecsByName.keySet());
+            }
+            codecsByCacheName.put(parts[0], codec);
+            log.debug("Cache {} uses codec {}", parts[0], codec.getName());
+        }
+    }
+
+    /**
+     * This method is used to encode a value with the codec of its cache.
+     * @param cacheName The name of the cache.
+     * @param value The value to be encoded.
+     * @return ByteBuffer holding the encoded value.
+     */
+    public ByteBuffer encode(String cacheName, Object value) {
+        CacheCodec codec = codecsByCacheName.get(cacheName);
+        if (codec == null || value == null) {
+            return valueSerializationPair.write(value);
+        }
+
+        byte[] encoded = codec.encode(value);
+        byte flags = 0;
+        byte[] payload = encoded;
+        if (compressionThreshold > 0 && encoded.length > compressionThreshold) {
+            byte[] compressed = compress(encoded);
+            if (compressed.length < encoded.length) {
+                flags = FLAG_LZ4;
+                payload = compressed;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + payload.length);
+        buffer.put(MAGIC_0).put(MAGIC_1).put(codec.getId()).put(flags).put(payload);
+        return buffer.flip();
+    }
+
+    /**
+     * This method is used to decode a value, whichever codec it was encoded with.
+     * @param buffer ByteBuffer holding the encoded value.
+     * @return The decoded value.
+     */
+    public Object decode(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_LENGTH
+                || buffer.get(buffer.position()) != MAGIC_0
+                || buffer.get(buffer.position() + 1) != MAGIC_1) {
+            return valueSerializationPair.read(buffer);
+        }
+
+        int id = Byte.toUnsignedInt(buffer.get(buffer.position() + 2));
+        byte flags = buffer.get(buffer.position() + 3);
+        CacheCodec codec = codecsById[id];
+        if (codec == null) {
+            throw new SerializationException("No cache codec found with id " + id);
+        }
+
+        byte[] payload = new byte[buffer.remaining() - HEADER_LENGTH];
+        buffer.position(buffer.position() + HEADER_LENGTH).get(payload);
+        if ((flags & FLAG_LZ4) != 0) {
+            payload = decompress(payload);
+        }
+        return codec.decode(payload, 0, payload.length);
+    }
+
+    /**
+     * Compresses with LZ4, with the uncompressed length written first as the decompressor needs it.
+     */
+    private byte[] compress(byte[] bytes) {
+        byte[] compressed = new byte[Integer.BYTES + compressor.maxCompressedLength(bytes.length)];
+        int length = compressor.compress(bytes, 0, bytes.length, compressed, Integer.BYTES);
+        ByteBuffer.wrap(compressed).putInt(bytes.length);
+        byte[] result = new byte[Integer.BYTES + length];
+        System.arraycopy(compressed, 0, result, 0, result.length);
+        return result;
+    }
+
+    /**
+     * Decompresses with LZ4. The length is checked before anything is allocated, as it is read from the value.
+     */
+    private byte[] decompress(byte[] bytes) {
+        if (bytes.length < Integer.BYTES) {
+            throw new SerializationException("Compressed cache value is too short");
+        }
+        int length = ByteBuffer.wrap(bytes).getInt();
+        if (length < 0 || length > maxDecompressedSize) {
+            throw new SerializationException("Invalid decompressed length " + length + " of cache value, expected at "
+                    + "most " + maxDecompressedSize);
+        }
+        try {
+            return decompressor.decompress(bytes, Integer.BYTES, length);
+        } catch (LZ4Exception e) {
+            throw new SerializationException("Could not decompress cache value", e);
+        }
+    }
+}
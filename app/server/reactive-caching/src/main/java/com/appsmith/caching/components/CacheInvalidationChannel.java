@@ -0,0 +1,110 @@
+package com.appsmith.caching.components;
+
+import com.appsmith.caching.model.CacheInvalidation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * CacheInvalidationChannel broadcasts cache invalidations to all pods over Redis pub/sub.
+ * Pods only start listening once the first listener is registered, so there is no subscription when nothing
+ * is kept in process.
+ */
+@Component
+@Slf4j
+public class CacheInvalidationChannel {
+
+    public static final String CHANNEL = "appsmith:cache:invalidation";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    // Unique per pod, used to skip the messages we published ourselves.
+    private final String originId = UUID.randomUUID().toString();
+
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    @Autowired
+    public CacheInvalidationChannel(ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+        this.reactiveRedisOperations = reactiveRedisOperations;
+    }
+
+    /**
+     * This will publish an invalidation to all other pods. Errors are logged and swallowed, as a failed broadcast
+     * should never fail the eviction that triggered it.
+     * @param cacheName The name of the cache.
+     * @param key The key to invalidate, null to invalidate the whole cache.
+     * @return Mono<Void> that will complete after the message is published.
+     */
+    public Mono<Void> publish(String cacheName, String key) {
+        return Mono.fromCallable(
+                        () -> OBJECT_MAPPER.writeValueAsString(new CacheInvalidation(originId, cacheName, key)))
+                .flatMap(message -> reactiveRedisOperations.convertAndSend(CHANNEL, message))
+                .onErrorResume(error -> {
+                    log.error("Error while publishing cache invalidation for cache {} key {}", cacheName, key, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * This will register a listener for invalidations published by other pods.
+     * When the subscription to Redis is lost, listeners receive an invalidation with a null cacheName, as messages
+     * may have been missed in the meantime.
+     * @param listener The listener to be called for every invalidation.
+     */
+    public void addListener(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+        if (subscribed.compareAndSet(false, true)) {
+            subscribe();
+        }
+    }
+
+    private void subscribe() {
+        reactiveRedisOperations
+                .listenToChannel(CHANNEL)
+                .map(ReactiveSubscription.Message::getMessage)
+                .flatMap(message -> {
+                    try {
+                        return Mono.just(OBJECT_MAPPER.readValue(message, CacheInvalidation.class));
+                    } catch (JsonProcessingException e) {
+                        log.error("Ignoring malformed cache invalidation message {}", message, e);
+                        return Mono.empty();
+                    }
+                })
+                .filter(invalidation -> !originId.equals(invalidation.getOriginId()))
+                .doOnNext(this::notifyListeners)
+                .doOnError(error -> {
+                    log.error("Lost subscription to cache invalidation channel, resubscribing", error);
+                    notifyListeners(new CacheInvalidation(originId, null, null));
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+    }
+
+    private void notifyListeners(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> listener : listeners) {
+            try {
+                listener.accept(invalidation);
+            } catch (Exception e) {
+                log.error("Error while handling cache invalidation {}", invalidation, e);
+            }
+        }
+    }
+}
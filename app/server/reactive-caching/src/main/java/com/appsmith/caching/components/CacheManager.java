@@ -1,13 +1,30 @@
 package com.appsmith.caching.components;
 
+import com.appsmith.caching.model.CacheStats;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.Map;
+
 public interface CacheManager {
     /**
      * This will log the cache stats with INFO severity.
      */
     void logStats();
 
+    /**
+     * This will get the stats of the cache, creating them if there are none yet.
+     * @param cacheName The name of the cache.
+     * @return The stats of the cache.
+     */
+    CacheStats getStats(String cacheName);
+
+    /**
+     * This will get the stats of every cache used so far.
+     * @return The stats by cache name.
+     */
+    Map<String, CacheStats> getAllStats();
+
     /**
      * This will get item from the cache, Mono.empty() if not found.
      * @param cacheName The name of the cache.
@@ -23,7 +40,20 @@ public interface CacheManager {
      * @param value The value of the item.
      * @return Mono<Boolean> true if put was successful, false otherwise.
      */
-    Mono<Boolean> put(String cacheName, String key, Object value);
+    default Mono<Boolean> put(String cacheName, String key, Object value) {
+        return put(cacheName, key, value, null, 0);
+    }
+
+    /**
+     * This will put item into the cache with an expiry, unless it is too large.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @param value The value of the item.
+     * @param ttl Time-to-live of the item, null or zero to keep it until it is evicted.
+     * @param maxSize Maximum size of the serialized item in bytes, 0 for no limit.
+     * @return Mono<Boolean> true if put was successful, false otherwise, including when the item was too large.
+     */
+    Mono<Boolean> put(String cacheName, String key, Object value, Duration ttl, int maxSize);
 
     /**
      * This will remove item from the cache.
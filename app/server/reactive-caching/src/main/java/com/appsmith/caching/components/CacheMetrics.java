@@ -0,0 +1,118 @@
+package com.appsmith.caching.components;
+
+import com.appsmith.caching.model.CacheStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.Getter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * CacheMetrics publishes the stats of every cache as Micrometer meters, tagged with the cache name.
+ * Counters read the CacheStats kept by the CacheManager, so the meters and logStats always agree. Load latencies
+ * and payload sizes are only recorded here.
+ * When the application has no MeterRegistry, meters are kept in a SimpleMeterRegistry of their own.
+ */
+@Component
+public class CacheMetrics {
+
+    public static final String CACHE_GETS = "appsmith.cache.gets";
+    public static final String CACHE_PUTS = "appsmith.cache.puts";
+    public static final String CACHE_EVICTIONS = "appsmith.cache.evictions";
+    public static final String CACHE_LOAD = "appsmith.cache.load";
+    public static final String CACHE_PAYLOAD_SIZE = "appsmith.cache.payload.size";
+
+    public static final String CACHE_TAG = "cache";
+    public static final String TIER_TAG = "tier";
+    public static final String RESULT_TAG = "result";
+    public static final String SCOPE_TAG = "scope";
+
+    @Getter
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> loadTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> payloadSizes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CacheMetrics(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    /**
+     * This method is used to publish the counters of a cache. The counters look the stats up in statsMap on every
+     * read, so they keep working after the stats are reset.
+     * @param cacheName The name of the cache.
+     * @param statsMap The stats of all caches by cache name, as kept by the CacheManager.
+     */
+    public void bindStats(String cacheName, Map<String, CacheStats> statsMap) {
+        bindCounter(CACHE_GETS, cacheName, statsMap, CacheStats::getHits, TIER_TAG, "remote", RESULT_TAG, "hit");
+        bindCounter(CACHE_GETS, cacheName, statsMap, CacheStats::getMisses, TIER_TAG, "remote", RESULT_TAG, "miss");
+        bindCounter(CACHE_GETS, cacheName, statsMap, CacheStats::getLocalHits, TIER_TAG, "local", RESULT_TAG, "hit");
+        bindCounter(CACHE_GETS, cacheName, statsMap, CacheStats::getLocalMisses, TIER_TAG, "local", RESULT_TAG, "miss");
+        bindCounter(CACHE_PUTS, cacheName, statsMap, CacheStats::getPuts, RESULT_TAG, "stored");
+        bindCounter(CACHE_PUTS, cacheName, statsMap, CacheStats::getOversizedValues, RESULT_TAG, "oversized");
+        bindCounter(CACHE_EVICTIONS, cacheName, statsMap, CacheStats::getSingleEvictions, SCOPE_TAG, "key");
+        bindCounter(CACHE_EVICTIONS, cacheName, statsMap, CacheStats::getCompleteEvictions, SCOPE_TAG, "all");
+    }
+
+    private void bindCounter(
+            String name,
+            String cacheName,
+            Map<String, CacheStats> statsMap,
+            Function<CacheStats, AtomicInteger> counter,
+            String... tags) {
+        FunctionCounter.builder(name, statsMap, map -> {
+                    CacheStats stats = map.get(cacheName);
+                    return stats == null ? 0 : counter.apply(stats).get();
+                })
+                .tag(CACHE_TAG, cacheName)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    /**
+     * This method is used to time a load of a missed key, from subscription until the method being cached completes.
+     * @param cacheName The name of the cache.
+     * @param load The load to be timed.
+     * @return The timed load.
+     */
+    public <T> Mono<T> timeLoad(String cacheName, Mono<T> load) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return load.doOnTerminate(() -> sample.stop(getLoadTimer(cacheName)));
+        });
+    }
+
+    private Timer getLoadTimer(String cacheName) {
+        return loadTimers.computeIfAbsent(cacheName, name -> Timer.builder(CACHE_LOAD)
+                .description("Time taken to load missed keys")
+                .tag(CACHE_TAG, name)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    /**
+     * This method is used to record the size of a value written to the cache.
+     * @param cacheName The name of the cache.
+     * @param bytes The size of the value once encoded, in bytes.
+     */
+    public void recordPayloadSize(String cacheName, int bytes) {
+        payloadSizes
+                .computeIfAbsent(cacheName, name -> DistributionSummary.builder(CACHE_PAYLOAD_SIZE)
+                        .description("Size of values written to the cache")
+                        .baseUnit("bytes")
+                        .tag(CACHE_TAG, name)
+                        .register(meterRegistry))
+                .record(bytes);
+    }
+}
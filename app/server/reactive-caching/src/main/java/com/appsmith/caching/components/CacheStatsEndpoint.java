@@ -0,0 +1,41 @@
+package com.appsmith.caching.components;
+
+import com.appsmith.caching.model.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Read-only actuator endpoint listing the stats of every cache, at /actuator/cachestats.
+ * The endpoint id is not "caches" as that one is taken by Spring's own cache endpoint.
+ */
+@Component
+@Endpoint(id = "cachestats")
+public class CacheStatsEndpoint {
+
+    private final CacheManager cacheManager;
+
+    @Autowired
+    public CacheStatsEndpoint(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @ReadOperation
+    public Map<String, CacheStats> cacheStats() {
+        return new TreeMap<>(cacheManager.getAllStats());
+    }
+
+    /**
+     * Returns the stats of a single cache, 404 if the cache was not used yet.
+     * @param cacheName The name of the cache.
+     */
+    @ReadOperation
+    public CacheStats cacheStats(@Selector String cacheName) {
+        return cacheManager.getAllStats().get(cacheName);
+    }
+}
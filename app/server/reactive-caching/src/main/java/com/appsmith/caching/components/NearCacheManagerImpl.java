@@ -0,0 +1,251 @@
+package com.appsmith.caching.components;
+
+import com.appsmith.caching.codec.CacheCodecRegistry;
+import com.appsmith.caching.model.CacheInvalidation;
+import com.appsmith.caching.model.CacheStats;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * NearCacheManagerImpl is a two-tier CacheManager, with a bounded in-process cache (L1) in front of Redis (L2).
+ * Only the caches listed in appsmith.cache.near.cache-names are kept in process, every other cache goes straight
+ * to Redis. Values are kept in L1 in their encoded form, so that every caller gets its own copy just like on a
+ * Redis hit, and the size bound of L1 is in bytes.
+ * Evictions are broadcast over Redis pub/sub, so that other pods drop their L1 copies as well.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "appsmith.cache.near.enabled", havingValue = "true")
+@Slf4j
+public class NearCacheManagerImpl implements CacheManager {
+
+    private final RedisCacheManagerImpl redisCacheManager;
+    private final CacheInvalidationChannel cacheInvalidationChannel;
+    private final CacheCodecRegistry cacheCodecRegistry;
+
+    private final Set<String> nearCacheNames;
+    private final long maximumBytes;
+    private final Duration expireAfterWrite;
+
+    private final Map<String, Cache<String, LocalEntry>> localCaches = new ConcurrentHashMap<>();
+
+    // Bumped on every invalidation of a cache, so that a Redis read racing with an eviction is not written to L1.
+    private final Map<String, AtomicLong> invalidationCounters = new ConcurrentHashMap<>();
+
+    // Time-to-live of each cache as last seen in put, so that values read from Redis don't outlive it in L1 either.
+    private final Map<String, Duration> cacheTtls = new ConcurrentHashMap<>();
+
+    /**
+     * A serialized value in L1, with how long it may be kept there.
+     */
+    private record LocalEntry(byte[] bytes, Duration ttl) {}
+
+    /**
+     * Expires L1 entries after their own ttl, counted from when they were written.
+     */
+    private static class LocalEntryExpiry implements Expiry<String, LocalEntry> {
+        @Override
+        public long expireAfterCreate(String key, LocalEntry value, long currentTime) {
+            return value.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, LocalEntry value, long currentTime, long currentDuration) {
+            return value.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, LocalEntry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    @Autowired
+    public NearCacheManagerImpl(
+            RedisCacheManagerImpl redisCacheManager,
+            CacheInvalidationChannel cacheInvalidationChannel,
+            CacheCodecRegistry cacheCodecRegistry,
+            @Value("${appsmith.cache.near.cache-names:}") Set<String> nearCacheNames,
+            @Value("${appsmith.cache.near.maximum-bytes:67108864}") long maximumBytes,
+            @Value("${appsmith.cache.near.expire-after-write:60s}") Duration expireAfterWrite) {
+        this.redisCacheManager = redisCacheManager;
+        this.cacheInvalidationChannel = cacheInvalidationChannel;
+        this.cacheCodecRegistry = cacheCodecRegistry;
+        this.nearCacheNames = nearCacheNames;
+        this.maximumBytes = maximumBytes;
+        this.expireAfterWrite = expireAfterWrite;
+        cacheInvalidationChannel.addListener(this::onRemoteInvalidation);
+    }
+
+    /**
+     * Returns the L1 cache for cacheName, null if cacheName is not configured to be kept in process.
+     * @param cacheName The name of the cache.
+     */
+    private Cache<String, LocalEntry> getLocalCache(String cacheName) {
+        if (!nearCacheNames.contains(cacheName)) {
+            return null;
+        }
+        return localCaches.computeIfAbsent(cacheName, name -> Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .<String, LocalEntry>weigher((key, value) -> value.bytes().length)
+                .expireAfter(new LocalEntryExpiry())
+                .build());
+    }
+
+    private AtomicLong getInvalidationCounter(String cacheName) {
+        return invalidationCounters.computeIfAbsent(cacheName, name -> new AtomicLong());
+    }
+
+    @Override
+    public void logStats() {
+        redisCacheManager.logStats();
+    }
+
+    /**
+     * Stats are kept by RedisCacheManagerImpl, L1 lookups are counted in the same CacheStats as localHits and
+     * localMisses.
+     */
+    @Override
+    public CacheStats getStats(String cacheName) {
+        return redisCacheManager.getStats(cacheName);
+    }
+
+    @Override
+    public Map<String, CacheStats> getAllStats() {
+        return redisCacheManager.getAllStats();
+    }
+
+    /**
+     * Resets the stats.
+     */
+    public void resetStats() {
+        redisCacheManager.resetStats();
+    }
+
+    @Override
+    public Mono<Object> get(String cacheName, String key) {
+        Cache<String, LocalEntry> localCache = getLocalCache(cacheName);
+        if (localCache == null) {
+            return redisCacheManager.get(cacheName, key);
+        }
+
+        CacheStats stats = getStats(cacheName);
+        return Mono.defer(() -> {
+            LocalEntry localEntry = localCache.getIfPresent(key);
+            if (localEntry != null) {
+                // This is an L1 hit, no need to go to Redis
+                stats.getLocalHits().incrementAndGet();
+                return Mono.justOrEmpty(cacheCodecRegistry.decode(ByteBuffer.wrap(localEntry.bytes())));
+            }
+
+            stats.getLocalMisses().incrementAndGet();
+            long invalidationCount = getInvalidationCounter(cacheName).get();
+            return redisCacheManager
+                    .get(cacheName, key)
+                    .doOnNext(value ->
+                            putLocal(cacheName, localCache, key, value, cacheTtls.get(cacheName), invalidationCount));
+        });
+    }
+
+    @Override
+    public Mono<Boolean> put(String cacheName, String key, Object value, Duration ttl, int maxSize) {
+        Cache<String, LocalEntry> localCache = getLocalCache(cacheName);
+        if (localCache == null) {
+            return redisCacheManager.put(cacheName, key, value, ttl, maxSize);
+        }
+
+        if (ttl != null && !ttl.isZero()) {
+            cacheTtls.put(cacheName, ttl);
+        }
+        long invalidationCount = getInvalidationCounter(cacheName).get();
+        return redisCacheManager.put(cacheName, key, value, ttl, maxSize).doOnNext(success -> {
+            // Values that were too large for Redis are not kept in L1 either
+            if (Boolean.TRUE.equals(success)) {
+                putLocal(cacheName, localCache, key, value, ttl, invalidationCount);
+            }
+        });
+    }
+
+    /**
+     * Adds the value to L1, unless the cache was invalidated after the value was read.
+     * The value is kept for the shorter of the cache ttl and appsmith.cache.near.expire-after-write.
+     */
+    private void putLocal(
+            String cacheName,
+            Cache<String, LocalEntry> localCache,
+            String key,
+            Object value,
+            Duration ttl,
+            long invalidationCount) {
+        if (getInvalidationCounter(cacheName).get() != invalidationCount) {
+            return;
+        }
+        ByteBuffer buffer = cacheCodecRegistry.encode(cacheName, value);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        Duration localTtl = ttl == null || ttl.isZero() || ttl.compareTo(expireAfterWrite) > 0 ? expireAfterWrite : ttl;
+        localCache.put(key, new LocalEntry(bytes, localTtl));
+    }
+
+    @Override
+    public Mono<Void> evict(String cacheName, String key) {
+        // L1 is invalidated after Redis, so that a concurrent read cannot bring the evicted value back into L1
+        return redisCacheManager
+                .evict(cacheName, key)
+                .then(Mono.fromRunnable(() -> invalidateLocal(cacheName, key)))
+                .then(cacheInvalidationChannel.publish(cacheName, key));
+    }
+
+    @Override
+    public Mono<Void> evictAll(String cacheName) {
+        // RedisCacheManagerImpl already broadcasts the new generation of the cache, which other pods also use to
+        // drop their L1 copies
+        return redisCacheManager.evictAll(cacheName).then(Mono.fromRunnable(() -> invalidateLocal(cacheName, null)));
+    }
+
+    /**
+     * Drops entries from L1.
+     * @param cacheName The name of the cache.
+     * @param key The key to drop, null to drop every key of the cache.
+     */
+    private void invalidateLocal(String cacheName, String key) {
+        getInvalidationCounter(cacheName).incrementAndGet();
+        Cache<String, LocalEntry> localCache = localCaches.get(cacheName);
+        if (localCache == null) {
+            return;
+        }
+        if (key == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(key);
+        }
+    }
+
+    private void onRemoteInvalidation(CacheInvalidation invalidation) {
+        if (invalidation.getCacheName() == null) {
+            // We may have missed messages, drop everything
+            localCaches.keySet().forEach(cacheName -> invalidateLocal(cacheName, null));
+            return;
+        }
+        log.debug(
+                "Near cache invalidation received for cache {} key {}",
+                invalidation.getCacheName(),
+                invalidation.getKey());
+        invalidateLocal(invalidation.getCacheName(), invalidation.getKey());
+    }
+}
@@ -1,40 +1,99 @@
 package com.appsmith.caching.components;
 
+import com.appsmith.caching.codec.CacheCodecRegistry;
+import com.appsmith.caching.model.CacheInvalidation;
 import com.appsmith.caching.model.CacheStats;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * RedisCacheManagerImpl is a class that implements the CacheManager interface.
  * Used Redis as the cache backend.
+ *
+ * Every cache name has a generation counter stored in Redis, and keys are namespaced by it. evictAll only bumps the
+ * generation, which makes all existing keys unreachable in constant time without scanning the keyspace. The keys of
+ * the old generation are tracked in an index set and unlinked in the background, in small batches.
+ * The keys of a cache are hash tagged with its name, {cacheName}:generation:key, so that its generation counter, its
+ * indexes and its entries are in the same slot of a Redis Cluster. Entries written before generations existed, under
+ * the plain cacheName:key path, are never read again and leave Redis through their ttl.
  */
 @Component
 @ConditionalOnClass({ReactiveRedisTemplate.class})
 @Slf4j
 public class RedisCacheManagerImpl implements CacheManager {
 
+    private static final String GENERATION_SUFFIX = ":__generation";
+    private static final String INDEX_SUFFIX = ":__index:";
+
+    /**
+     * Writes an entry and adds it to the index of its generation, unless the cache moved to another generation, in a
+     * single round trip. Returns the current generation of the cache, the entry was written if it's the one given.
+     * KEYS: generation counter, entry, index of the generation. ARGV: generation, value, ttl in milliseconds or 0.
+     */
+    private static final ByteBuffer PUT_SCRIPT = ByteBuffer.wrap(
+            """
+            local generation = tonumber(redis.call('GET', KEYS[1]) or '0')
+            if generation ~= tonumber(ARGV[1]) then
+                return generation
+            end
+            if ARGV[3] == '0' then
+                redis.call('SET', KEYS[2], ARGV[2])
+            else
+                redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+                redis.call('PEXPIRE', KEYS[3], ARGV[3])
+            end
+            redis.call('SADD', KEYS[3], KEYS[2])
+            return generation
+            """
+                    .getBytes(StandardCharsets.UTF_8));
+    private static final int EVICTION_BATCH_SIZE = 500;
+    private static final int INDEX_PRUNE_SAMPLE_SIZE = 100;
+
     private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
     private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+    private final CacheInvalidationChannel cacheInvalidationChannel;
+    private final CacheCodecRegistry cacheCodecRegistry;
+    private final CacheMetrics cacheMetrics;
+    private final Duration generationRefreshInterval;
+    private final int indexPruneInterval;
 
     Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
 
+    /**
+     * Generations of the caches as last read from Redis. Refreshed every generationRefreshInterval, and immediately
+     * when another pod broadcasts an evictAll.
+     */
+    private final Map<String, CachedGeneration> generations = new ConcurrentHashMap<>();
+
+    private record CachedGeneration(long generation, long fetchedAtMillis) {}
+
+    // Puts into caches without a ttl, counted to prune their index every indexPruneInterval puts
+    private final Map<String, AtomicLong> persistentPuts = new ConcurrentHashMap<>();
+
     /**
      * Ensures that the key for cacheName is present in statsMap.
      * @param cacheName The name of the cache.
      */
     private void ensureStats(String cacheName) {
-        if (!statsMap.containsKey(cacheName)) {
-            statsMap.put(cacheName, CacheStats.newInstance());
-        }
+        statsMap.computeIfAbsent(cacheName, name -> {
+            cacheMetrics.bindStats(name, statsMap);
+            return CacheStats.newInstance();
+        });
     }
 
     @Override
@@ -42,15 +101,32 @@ public class RedisCacheManagerImpl implements CacheManager {
         statsMap.keySet().forEach(key -> {
             CacheStats stats = statsMap.get(key);
             log.debug(
-                    "Cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}",
+                    "Cache {} stats: hits = {}, misses = {}, puts = {}, singleEvictions = {}, completeEvictions = {}, localHits = {}, localMisses = {}, softExpirations = {}, refreshes = {}, oversizedValues = {}",
                     key,
                     stats.getHits(),
                     stats.getMisses(),
+                    stats.getPuts(),
                     stats.getSingleEvictions(),
-                    stats.getCompleteEvictions());
+                    stats.getCompleteEvictions(),
+                    stats.getLocalHits(),
+                    stats.getLocalMisses(),
+                    stats.getSoftExpirations(),
+                    stats.getRefreshes(),
+                    stats.getOversizedValues());
         });
     }
 
+    @Override
+    public CacheStats getStats(String cacheName) {
+        ensureStats(cacheName);
+        return statsMap.get(cacheName);
+    }
+
+    @Override
+    public Map<String, CacheStats> getAllStats() {
+        return Collections.unmodifiableMap(statsMap);
+    }
+
     /**
      * Resets the stats.
      */
@@ -61,56 +137,265 @@ public class RedisCacheManagerImpl implements CacheManager {
     @Autowired
     public RedisCacheManagerImpl(
             ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
-            ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            CacheInvalidationChannel cacheInvalidationChannel,
+            CacheCodecRegistry cacheCodecRegistry,
+            CacheMetrics cacheMetrics,
+            @Value("${appsmith.cache.generation-refresh-interval:5s}") Duration generationRefreshInterval,
+            @Value("${appsmith.cache.index-prune-interval:1000}") int indexPruneInterval) {
         this.reactiveRedisTemplate = reactiveRedisTemplate;
         this.reactiveRedisOperations = reactiveRedisOperations;
+        this.cacheInvalidationChannel = cacheInvalidationChannel;
+        this.cacheCodecRegistry = cacheCodecRegistry;
+        this.cacheMetrics = cacheMetrics;
+        this.generationRefreshInterval = generationRefreshInterval;
+        this.indexPruneInterval = indexPruneInterval;
+        cacheInvalidationChannel.addListener(this::onRemoteInvalidation);
+    }
+
+    /**
+     * Returns the current generation of the cache, from memory if it was read recently.
+     * @param cacheName The name of the cache.
+     */
+    private Mono<Long> getGeneration(String cacheName) {
+        CachedGeneration cachedGeneration = generations.get(cacheName);
+        if (cachedGeneration != null
+                && System.currentTimeMillis() - cachedGeneration.fetchedAtMillis()
+                        < generationRefreshInterval.toMillis()) {
+            return Mono.just(cachedGeneration.generation());
+        }
+
+        // INCRBY 0 reads the counter as a number, and creates it at 0 if it doesn't exist yet
+        return reactiveRedisOperations
+                .opsForValue()
+                .increment(getGenerationKey(cacheName), 0)
+                .doOnNext(generation -> setGeneration(cacheName, generation));
+    }
+
+    private void setGeneration(String cacheName, long generation) {
+        generations.merge(
+                cacheName,
+                new CachedGeneration(generation, System.currentTimeMillis()),
+                // Never go back to an older generation if a slower read completes after an evictAll
+                (oldValue, newValue) -> newValue.generation() >= oldValue.generation() ? newValue : oldValue);
+    }
+
+    private static String getHashTag(String cacheName) {
+        return "{" + cacheName + "}";
+    }
+
+    private static String getGenerationKey(String cacheName) {
+        return getHashTag(cacheName) + GENERATION_SUFFIX;
+    }
+
+    private static String getPath(String cacheName, long generation, String key) {
+        return getHashTag(cacheName) + ":" + generation + ":" + key;
+    }
+
+    private ByteBuffer serializeKey(String path) {
+        return reactiveRedisTemplate
+                .getSerializationContext()
+                .getKeySerializationPair()
+                .write(path);
+    }
+
+    private static String getIndexKey(String cacheName, long generation) {
+        return getHashTag(cacheName) + INDEX_SUFFIX + generation;
     }
 
     @Override
     public Mono<Object> get(String cacheName, String key) {
         ensureStats(cacheName);
-        String path = cacheName + ":" + key;
-        return reactiveRedisTemplate
-                .opsForValue()
-                .get(path)
-                .map(value -> {
-                    // This is a cache hit, update stats and return value
-                    statsMap.get(cacheName).getHits().incrementAndGet();
-                    return value;
-                })
-                .switchIfEmpty(Mono.defer(() -> {
-                    // This is a cache miss, update stats and return empty
-                    statsMap.get(cacheName).getMisses().incrementAndGet();
-                    log.debug("Cache miss for key {}", path);
-                    return Mono.empty();
-                }));
+        return getGeneration(cacheName).flatMap(generation -> {
+            String path = getPath(cacheName, generation, key);
+            // Read the raw value, as it may have been written by the codec of the cache rather than the template
+            return reactiveRedisTemplate
+                    .execute(connection -> connection.stringCommands().get(serializeKey(path)))
+                    .next()
+                    .map(cacheCodecRegistry::decode)
+                    .map(value -> {
+                        // This is a cache hit, update stats and return value
+                        statsMap.get(cacheName).getHits().incrementAndGet();
+                        return value;
+                    })
+                    .switchIfEmpty(Mono.defer(() -> {
+                        // This is a cache miss, update stats and return empty
+                        statsMap.get(cacheName).getMisses().incrementAndGet();
+                        log.debug("Cache miss for key {}", path);
+                        return Mono.empty();
+                    }));
+        });
     }
 
     @Override
-    public Mono<Boolean> put(String cacheName, String key, Object value) {
+    public Mono<Boolean> put(String cacheName, String key, Object value, Duration ttl, int maxSize) {
         ensureStats(cacheName);
-        String path = cacheName + ":" + key;
-        log.debug("Cache entry added for key {}", path);
-        return reactiveRedisTemplate.opsForValue().set(path, value);
+        // Serialize ourselves, so that the size can be checked without serializing the value twice
+        ByteBuffer serializedValue;
+        try {
+            serializedValue = cacheCodecRegistry.encode(cacheName, value);
+        } catch (Exception e) {
+            return Mono.error(e);
+        }
+        if (maxSize > 0 && serializedValue.remaining() > maxSize) {
+            statsMap.get(cacheName).getOversizedValues().incrementAndGet();
+            log.debug(
+                    "Not caching value for key {}:{} as its size {} is above {}",
+                    cacheName,
+                    key,
+                    serializedValue.remaining(),
+                    maxSize);
+            return Mono.just(false);
+        }
+        cacheMetrics.recordPayloadSize(cacheName, serializedValue.remaining());
+
+        boolean hasTtl = ttl != null && !ttl.isZero();
+        String ttlMillis = hasTtl ? String.valueOf(Math.max(ttl.toMillis(), 1)) : "0";
+        return getGeneration(cacheName).flatMap(generation -> {
+            String path = getPath(cacheName, generation, key);
+            String indexKey = getIndexKey(cacheName, generation);
+            log.debug("Cache entry added for key {}", path);
+            // The index of a generation expires once its last key has expired, as the ttl of a cache is always the same
+            Mono<Long> currentGenerationMono = reactiveRedisTemplate
+                    .execute(connection -> connection
+                            .scriptingCommands()
+                            .<Long>eval(
+                                    PUT_SCRIPT.duplicate(),
+                                    ReturnType.INTEGER,
+                                    3,
+                                    serializeKey(getGenerationKey(cacheName)),
+                                    serializeKey(path),
+                                    serializeKey(indexKey),
+                                    toByteBuffer(String.valueOf(generation)),
+                                    serializedValue.duplicate(),
+                                    toByteBuffer(ttlMillis)))
+                    .next();
+            boolean isPruneDue = !hasTtl && isIndexPruneDue(cacheName);
+            return currentGenerationMono
+                    .map(currentGeneration -> {
+                        if (currentGeneration.longValue() == generation) {
+                            return true;
+                        }
+                        // The generation the key was to be written in may be up to generationRefreshInterval old
+                        log.debug(
+                                "Cache {} moved to generation {}, {} was not written",
+                                cacheName,
+                                currentGeneration,
+                                path);
+                        setGeneration(cacheName, currentGeneration);
+                        return false;
+                    })
+                    .doOnNext(stored -> {
+                        if (stored) {
+                            statsMap.get(cacheName).getPuts().incrementAndGet();
+                        }
+                        if (isPruneDue) {
+                            pruneIndexInBackground(indexKey);
+                        }
+                    });
+        });
+    }
+
+    private static ByteBuffer toByteBuffer(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean isIndexPruneDue(String cacheName) {
+        long puts = persistentPuts
+                .computeIfAbsent(cacheName, name -> new AtomicLong())
+                .incrementAndGet();
+        return indexPruneInterval > 0 && puts % indexPruneInterval == 0;
+    }
+
+    /**
+     * Drops the members of the index whose key no longer exists, from a random sample of the index. Keys of caches
+     * without a ttl leave Redis through evict, which also removes them from the index, or through the eviction policy
+     * of Redis, which doesn't. Pruning keeps the index of such caches bounded by the keys actually in the cache.
+     */
+    private void pruneIndexInBackground(String indexKey) {
+        reactiveRedisOperations
+                .opsForSet()
+                .distinctRandomMembers(indexKey, INDEX_PRUNE_SAMPLE_SIZE)
+                .filterWhen(path -> reactiveRedisOperations.hasKey(path).map(exists -> !exists))
+                .collectList()
+                .flatMap(missingPaths -> missingPaths.isEmpty()
+                        ? Mono.empty()
+                        : reactiveRedisOperations.opsForSet().remove(indexKey, missingPaths.toArray()))
+                .onErrorResume(error -> {
+                    log.error("Error while pruning cache index {}", indexKey, error);
+                    return Mono.empty();
+                })
+                .subscribe();
     }
 
     @Override
     public Mono<Void> evict(String cacheName, String key) {
         ensureStats(cacheName);
         statsMap.get(cacheName).getSingleEvictions().incrementAndGet();
-        String path = cacheName + ":" + key;
-        log.debug("Cache entry evicted for key {}", path);
-        return reactiveRedisTemplate.delete(path).then();
+        return getGeneration(cacheName).flatMap(generation -> {
+            String path = getPath(cacheName, generation, key);
+            log.debug("Cache entry evicted for key {}", path);
+            return Mono.when(
+                    reactiveRedisTemplate.delete(path),
+                    reactiveRedisOperations.opsForSet().remove(getIndexKey(cacheName, generation), path));
+        });
     }
 
+    /**
+     * Bumps the generation of the cache, which is a single INCR regardless of the size of the cache. The keys of the
+     * previous generation are removed in the background.
+     */
     @Override
     public Mono<Void> evictAll(String cacheName) {
         ensureStats(cacheName);
         statsMap.get(cacheName).getCompleteEvictions().incrementAndGet();
-        String path = cacheName;
-        // Remove all matching keys with wildcard
-        final String script =
-                "for _,k in ipairs(redis.call('keys','" + path + ":*'))" + " do redis.call('del',k) " + "end";
-        return reactiveRedisOperations.execute(RedisScript.of(script)).then();
+        return reactiveRedisOperations
+                .opsForValue()
+                .increment(getGenerationKey(cacheName))
+                .flatMap(generation -> {
+                    log.debug("Cache {} moved to generation {}", cacheName, generation);
+                    setGeneration(cacheName, generation);
+                    removeGenerationInBackground(cacheName, generation - 1);
+                    return cacheInvalidationChannel.publish(cacheName, null);
+                });
+    }
+
+    private void removeGenerationInBackground(String cacheName, long generation) {
+        removeIndexedKeys(getIndexKey(cacheName, generation))
+                .doOnSuccess(ignored -> log.debug("Removed keys of cache {} generation {}", cacheName, generation))
+                .onErrorResume(error -> {
+                    log.error("Error while removing keys of cache {} generation {}", cacheName, generation, error);
+                    return Mono.empty();
+                })
+                .subscribe();
+    }
+
+    /**
+     * Pops keys from the index set and unlinks them, one batch at a time, until the index is empty.
+     * The index set is removed by Redis once its last member is popped. The keys of a batch share the hash tag of
+     * their cache, so a single UNLINK of the batch works on a Redis Cluster too.
+     */
+    private Mono<Void> removeIndexedKeys(String indexKey) {
+        return reactiveRedisOperations
+                .opsForSet()
+                .pop(indexKey, EVICTION_BATCH_SIZE)
+                .collectList()
+                .flatMap(paths -> {
+                    if (paths.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    return reactiveRedisTemplate
+                            .unlink(paths.toArray(new String[0]))
+                            .then(Mono.defer(() -> removeIndexedKeys(indexKey)));
+                });
+    }
+
+    private void onRemoteInvalidation(CacheInvalidation invalidation) {
+        if (invalidation.getCacheName() == null) {
+            // We may have missed messages, read all generations from Redis again
+            generations.clear();
+        } else if (invalidation.getKey() == null) {
+            generations.remove(invalidation.getCacheName());
+        }
     }
 }
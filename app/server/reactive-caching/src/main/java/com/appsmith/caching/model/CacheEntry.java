@@ -0,0 +1,26 @@
+package com.appsmith.caching.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Envelope for values of caches with a soft TTL, recording when the value was loaded so that stale values can be
+ * detected on read.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class CacheEntry implements Serializable {
+    /**
+     * The cached value.
+     */
+    private Object value;
+
+    /**
+     * Epoch milliseconds at which the value was loaded.
+     */
+    private long loadedAt;
+}
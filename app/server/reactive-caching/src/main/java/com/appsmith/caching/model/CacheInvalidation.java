@@ -0,0 +1,28 @@
+package com.appsmith.caching.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Message broadcast over Redis pub/sub to tell other pods to drop entries from their in-process near cache.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidation {
+    /**
+     * Identifier of the pod that published the message, used to ignore our own messages.
+     */
+    private String originId;
+
+    /**
+     * The name of the cache, null if every cache should be invalidated.
+     */
+    private String cacheName;
+
+    /**
+     * The key to invalidate, null if every key of the cache should be invalidated.
+     */
+    private String key;
+}
@@ -13,7 +13,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 @NoArgsConstructor(staticName = "newInstance")
 public class CacheStats {
     /**
-     * The number of times the cache was hit.
+     * The number of times the cache was hit in Redis (L2).
+     * When a near cache is in front of Redis, lookups served from it are counted in localHits instead.
      */
     private AtomicInteger hits = new AtomicInteger(0);
 
@@ -22,6 +23,11 @@ public class CacheStats {
      */
     private AtomicInteger misses = new AtomicInteger(0);
 
+    /**
+     * The number of values written to the cache.
+     */
+    private AtomicInteger puts = new AtomicInteger(0);
+
     /**
      * The number of times the cache was evicted (single key).
      */
@@ -31,4 +37,48 @@ public class CacheStats {
      * The number of times the cache was evicted (all keys).
      */
     private AtomicInteger completeEvictions = new AtomicInteger(0);
+
+    /**
+     * The number of times the in-process near cache (L1) was hit.
+     */
+    private AtomicInteger localHits = new AtomicInteger(0);
+
+    /**
+     * The number of times the in-process near cache (L1) was missed and the lookup fell through to Redis.
+     */
+    private AtomicInteger localMisses = new AtomicInteger(0);
+
+    /**
+     * The number of times an entry was found past its soft TTL and served stale.
+     */
+    private AtomicInteger softExpirations = new AtomicInteger(0);
+
+    /**
+     * The number of background refreshes started for stale entries.
+     */
+    private AtomicInteger refreshes = new AtomicInteger(0);
+
+    /**
+     * The number of values that were not cached because their serialized size was above the limit of the cache.
+     */
+    private AtomicInteger oversizedValues = new AtomicInteger(0);
+
+    /**
+     * Ratio of lookups served from the in-process near cache (L1), 0 if there were no lookups.
+     */
+    public double getLocalHitRate() {
+        return ratio(localHits.get(), localMisses.get());
+    }
+
+    /**
+     * Ratio of lookups that reached Redis (L2) and were found there, 0 if there were no lookups.
+     */
+    public double getRemoteHitRate() {
+        return ratio(hits.get(), misses.get());
+    }
+
+    private static double ratio(int hitCount, int missCount) {
+        int total = hitCount + missCount;
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
 }
@@ -13,12 +13,15 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 public class CacheTestService {
 
     PodamFactory factory = new PodamFactoryImpl();
 
+    AtomicInteger singleFlightCalls = new AtomicInteger(0);
+
     /**
      * This method is used to test the caching functionality for Mono<T>.
      * @param id The id
@@ -85,6 +88,42 @@ public class CacheTestService {
         return Mono.empty();
     }
 
+    /**
+     * This method is used to test expiry of cached entries.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "ttlcache", ttl = 2)
+    public Mono<TestModel> getObjectForWithTtl(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model);
+    }
+
+    /**
+     * This method is used to test stale-while-revalidate of cached entries.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "swrcache", ttl = 60, softTtl = 1)
+    public Mono<TestModel> getObjectForWithSoftTtl(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model).delayElement(Duration.ofMillis(500));
+    }
+
+    /**
+     * This method is used to test that values above the size limit are not cached.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "maxsizecache", maxSize = 1)
+    public Mono<TestModel> getObjectForWithMaxSize(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model);
+    }
+
     /**
      * This method is used to test SPEL expression in the caching annotation.
      * @param ArgumentModel The argument model
@@ -97,6 +136,26 @@ public class CacheTestService {
         return Mono.just(model).delayElement(Duration.ofSeconds(2));
     }
 
+    /**
+     * This method is used to test single-flight loading for Mono<T>.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "singleflightcache", singleFlight = true)
+    public Mono<TestModel> getObjectForSingleFlight(String id) {
+        singleFlightCalls.incrementAndGet();
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model).delayElement(Duration.ofSeconds(2));
+    }
+
+    /**
+     * Number of times getObjectForSingleFlight actually ran.
+     */
+    public int getSingleFlightCalls() {
+        return singleFlightCalls.get();
+    }
+
     /**
      * This method is used to test SPEL expression in the caching annotation.
      * Key generated will be same as getObjectForWithKey but with different expression
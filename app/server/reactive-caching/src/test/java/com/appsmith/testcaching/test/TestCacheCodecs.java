@@ -0,0 +1,173 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.codec.BinaryCacheCodec;
+import com.appsmith.caching.codec.CacheCodecRegistry;
+import com.appsmith.testcaching.model.NestedModel;
+import com.appsmith.testcaching.model.TestModel;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class TestCacheCodecs {
+
+    private static CacheCodecRegistry createRegistry(List<String> cacheCodecs, int compressionThreshold) {
+        ReactiveRedisTemplate<String, Object> reactiveRedisTemplate = new ReactiveRedisTemplate<>(
+                mock(ReactiveRedisConnectionFactory.class),
+                RedisSerializationContext.<String, Object>newSerializationContext(
+                                new GenericJackson2JsonRedisSerializer())
+                        .key(new StringRedisSerializer())
+                        .build());
+        return new CacheCodecRegistry(
+                reactiveRedisTemplate, List.of(new BinaryCacheCodec()), cacheCodecs, compressionThreshold, 1 << 20);
+    }
+
+    private static TestModel createModel() {
+        TestModel model = new TestModel();
+        model.setIntValue(1);
+        model.setStringValue("value");
+        model.setIntegerValue(2);
+        model.setBooleanValue(true);
+        model.setLongValue(3L);
+        model.setDoubleValue(4.5);
+        NestedModel nestedModel = new NestedModel();
+        nestedModel.setNestedIntValue(6);
+        model.setNestedModel(nestedModel);
+        model.setId("id");
+        return model;
+    }
+
+    /**
+     * This Test is used to test that values survive a round trip through the binary codec
+     */
+    @Test
+    public void testBinaryCodecRoundTrip() {
+        CacheCodecRegistry registry = createRegistry(List.of("binarycache:binary"), 0);
+
+        TestModel model = createModel();
+        assertEquals(model, registry.decode(registry.encode("binarycache", model)));
+
+        Set<String> set = Set.of("a", "b", "c");
+        assertEquals(set, registry.decode(registry.encode("binarycache", new HashSet<>(set))));
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("long", 1L);
+        map.put("instant", Instant.ofEpochSecond(1000));
+        map.put("flag", Boolean.TRUE);
+        assertEquals(map, registry.decode(registry.encode("binarycache", map)));
+
+        assertEquals("value", registry.decode(registry.encode("binarycache", "value")));
+    }
+
+    /**
+     * This Test is used to test that large values are compressed, and small ones are not
+     */
+    @Test
+    public void testCompression() {
+        CacheCodecRegistry registry = createRegistry(List.of("binarycache:binary"), 256);
+
+        Map<String, Boolean> largeValue = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            largeValue.put("feature_flag_number_" + i, i % 2 == 0);
+        }
+        ByteBuffer encoded = registry.encode("binarycache", largeValue);
+        byte[] uncompressed = new BinaryCacheCodec().encode(largeValue);
+        assertTrue(encoded.remaining() < uncompressed.length);
+        assertEquals(largeValue, registry.decode(encoded));
+
+        TestModel model = createModel();
+        ByteBuffer small = registry.encode("binarycache", model);
+        assertEquals(0, small.get(3));
+        assertEquals(model, registry.decode(small));
+    }
+
+    /**
+     * This Test is used to test that a compressed value whose header gives a negative or too large length is rejected
+     * before anything is allocated for it
+     */
+    @Test
+    public void testDecompressRejectsInvalidLength() {
+        CacheCodecRegistry registry = createRegistry(List.of("binarycache:binary"), 256);
+
+        Map<String, Boolean> largeValue = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            largeValue.put("feature_flag_number_" + i, i % 2 == 0);
+        }
+        ByteBuffer encoded = registry.encode("binarycache", largeValue);
+        assertEquals(1, encoded.get(3));
+
+        ByteBuffer tooLarge = ByteBuffer.allocate(encoded.remaining()).put(encoded.duplicate());
+        tooLarge.putInt(4, Integer.MAX_VALUE);
+        assertThrows(SerializationException.class, () -> registry.decode(tooLarge.flip()));
+
+        ByteBuffer negative = ByteBuffer.allocate(encoded.remaining()).put(encoded.duplicate());
+        negative.putInt(4, -1);
+        assertThrows(SerializationException.class, () -> registry.decode(negative.flip()));
+
+        assertEquals(largeValue, registry.decode(encoded));
+    }
+
+    /**
+     * This Test is used to test that caches without a codec use the template serializer, and that values of either
+     * kind can be read whatever the codec of the cache is
+     */
+    @Test
+    public void testDefaultSerializerAndCodecChange() {
+        CacheCodecRegistry before = createRegistry(List.of(), 0);
+        CacheCodecRegistry after = createRegistry(List.of("somecache:binary"), 0);
+
+        TestModel model = createModel();
+        ByteBuffer written = before.encode("somecache", model);
+        // The template serializer writes JSON
+        assertEquals('{', written.get(0));
+        assertEquals(model, after.decode(written));
+
+        assertEquals(model, before.decode(after.encode("somecache", model)));
+    }
+
+    /**
+     * This Test is used to test that JDK types other than the allowed collection and value types are not decoded
+     */
+    @Test
+    public void testBinaryCodecRejectsDisallowedTypes() {
+        BinaryCacheCodec codec = new BinaryCacheCodec();
+
+        byte[] encoded = codec.encode(URI.create("https://example.com"));
+        assertThrows(SerializationException.class, () -> codec.decode(encoded, 0, encoded.length));
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("uri", URI.create("https://example.com"));
+        byte[] encodedMap = codec.encode(map);
+        assertThrows(SerializationException.class, () -> codec.decode(encodedMap, 0, encodedMap.length));
+
+        List<Object> list = new ArrayList<>(List.of(1L, "value", Instant.ofEpochSecond(1000)));
+        byte[] encodedList = codec.encode(list);
+        assertEquals(list, codec.decode(encodedList, 0, encodedList.length));
+    }
+
+    /**
+     * This Test is used to test that an unknown codec name is rejected on startup
+     */
+    @Test
+    public void testInvalidCodecName() {
+        assertThrows(IllegalArgumentException.class, () -> createRegistry(List.of("somecache:unknown"), 0));
+    }
+}
@@ -0,0 +1,215 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.codec.CacheCodecRegistry;
+import com.appsmith.caching.components.CacheInvalidationChannel;
+import com.appsmith.caching.components.CacheMetrics;
+import com.appsmith.caching.components.RedisCacheManagerImpl;
+import com.appsmith.testcaching.TestConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Slf4j
+@ContextConfiguration(classes = TestConfig.class)
+public class TestCacheGenerations {
+
+    @Autowired
+    private RedisCacheManagerImpl redisCacheManager;
+
+    @Autowired
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
+    @Autowired
+    private ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    @Autowired
+    private CacheInvalidationChannel cacheInvalidationChannel;
+
+    @Autowired
+    private CacheCodecRegistry cacheCodecRegistry;
+
+    @Autowired
+    private CacheMetrics cacheMetrics;
+
+    private static String newCacheName() {
+        return "generationcache" + UUID.randomUUID();
+    }
+
+    private RedisCacheManagerImpl createCacheManager(Duration generationRefreshInterval, int indexPruneInterval) {
+        return new RedisCacheManagerImpl(
+                reactiveRedisTemplate,
+                reactiveRedisOperations,
+                cacheInvalidationChannel,
+                cacheCodecRegistry,
+                cacheMetrics,
+                generationRefreshInterval,
+                indexPruneInterval);
+    }
+
+    private static String getPath(String cacheName, long generation, String key) {
+        return "{" + cacheName + "}:" + generation + ":" + key;
+    }
+
+    private static String getIndexKey(String cacheName, long generation) {
+        return "{" + cacheName + "}:__index:" + generation;
+    }
+
+    private boolean exists(String key) {
+        return Boolean.TRUE.equals(reactiveRedisOperations.hasKey(key).block());
+    }
+
+    private boolean isIndexed(String cacheName, long generation, String path) {
+        return Boolean.TRUE.equals(reactiveRedisOperations
+                .opsForSet()
+                .isMember(getIndexKey(cacheName, generation), path)
+                .block());
+    }
+
+    private static void awaitTrue(Supplier<Boolean> condition) throws InterruptedException {
+        for (int i = 0; i < 50 && !condition.get(); i++) {
+            Thread.sleep(100);
+        }
+        assertTrue(condition.get());
+    }
+
+    /**
+     * This Test is used to test that evict all moves the cache to the next generation, and removes the keys of the
+     * previous generation through its index
+     */
+    @Test
+    public void testEvictAllDrainsIndexOfPreviousGeneration() throws InterruptedException {
+        String cacheName = newCacheName();
+        redisCacheManager.put(cacheName, "key1", "value1").block();
+        redisCacheManager.put(cacheName, "key2", "value2").block();
+        assertTrue(isIndexed(cacheName, 0, getPath(cacheName, 0, "key1")));
+        assertTrue(isIndexed(cacheName, 0, getPath(cacheName, 0, "key2")));
+
+        redisCacheManager.evictAll(cacheName).block();
+
+        assertEquals(
+                1L,
+                reactiveRedisOperations
+                        .opsForValue()
+                        .increment("{" + cacheName + "}:__generation", 0)
+                        .block());
+        assertNull(redisCacheManager.get(cacheName, "key1").block());
+        awaitTrue(() -> !exists(getPath(cacheName, 0, "key1")) && !exists(getPath(cacheName, 0, "key2")));
+        awaitTrue(() -> !exists(getIndexKey(cacheName, 0)));
+
+        redisCacheManager.put(cacheName, "key1", "value3").block();
+        assertEquals("value3", redisCacheManager.get(cacheName, "key1").block());
+        assertTrue(exists(getPath(cacheName, 1, "key1")));
+        assertTrue(isIndexed(cacheName, 1, getPath(cacheName, 1, "key1")));
+
+        redisCacheManager.evictAll(cacheName).block();
+
+        awaitTrue(() -> !exists(getPath(cacheName, 1, "key1")) && !exists(getIndexKey(cacheName, 1)));
+    }
+
+    /**
+     * This Test is used to test that the index of a cache with a ttl expires along with its keys
+     */
+    @Test
+    public void testIndexOfCacheWithTtlExpires() {
+        String cacheName = newCacheName();
+        redisCacheManager
+                .put(cacheName, "key1", "value1", Duration.ofMinutes(5), 0)
+                .block();
+
+        Duration indexTtl = reactiveRedisOperations
+                .getExpire(getIndexKey(cacheName, 0))
+                .block();
+        assertTrue(indexTtl != null && indexTtl.toSeconds() > 0 && indexTtl.toSeconds() <= 300);
+    }
+
+    /**
+     * This Test is used to test that evicting a key also removes it from the index of its generation
+     */
+    @Test
+    public void testEvictRemovesKeyFromIndex() {
+        String cacheName = newCacheName();
+        redisCacheManager.put(cacheName, "key1", "value1").block();
+        redisCacheManager.put(cacheName, "key2", "value2").block();
+
+        redisCacheManager.evict(cacheName, "key1").block();
+
+        assertFalse(exists(getPath(cacheName, 0, "key1")));
+        assertFalse(isIndexed(cacheName, 0, getPath(cacheName, 0, "key1")));
+        assertTrue(isIndexed(cacheName, 0, getPath(cacheName, 0, "key2")));
+    }
+
+    /**
+     * This Test is used to test that keys written before generations existed, which are not indexed, are neither read
+     * nor scanned for, and are left to expire through their ttl
+     */
+    @Test
+    public void testEvictAllLeavesUnindexedKeysToTheirTtl() throws InterruptedException {
+        String cacheName = newCacheName();
+        reactiveRedisTemplate
+                .opsForValue()
+                .set(cacheName + ":legacy", "value", Duration.ofMinutes(5))
+                .block();
+
+        assertNull(redisCacheManager.get(cacheName, "legacy").block());
+
+        redisCacheManager.evictAll(cacheName).block();
+
+        awaitTrue(() -> !exists(getIndexKey(cacheName, 0)));
+        assertTrue(exists(cacheName + ":legacy"));
+    }
+
+    /**
+     * This Test is used to test that a pod writing with a stale generation, after the index of that generation was
+     * drained, does not write the key
+     */
+    @Test
+    public void testWriteWithStaleGenerationIsNotStored() throws InterruptedException {
+        String cacheName = newCacheName();
+        // Keeps the generation it read, as it gets no broadcast from this pod
+        RedisCacheManagerImpl staleCacheManager = createCacheManager(Duration.ofHours(1), 1000);
+        assertNull(staleCacheManager.get(cacheName, "key1").block());
+
+        redisCacheManager.evictAll(cacheName).block();
+        awaitTrue(() -> !exists(getIndexKey(cacheName, 0)));
+
+        assertFalse(staleCacheManager.put(cacheName, "key1", "value1").block());
+        assertFalse(exists(getPath(cacheName, 0, "key1")));
+        assertFalse(exists(getIndexKey(cacheName, 0)));
+
+        // The generation was read again on the failed write
+        assertTrue(staleCacheManager.put(cacheName, "key1", "value1").block());
+        assertTrue(exists(getPath(cacheName, 1, "key1")));
+    }
+
+    /**
+     * This Test is used to test that the index of a cache without a ttl drops keys that are no longer in Redis
+     */
+    @Test
+    public void testIndexOfPersistentCacheIsPruned() throws InterruptedException {
+        String cacheName = newCacheName();
+        RedisCacheManagerImpl pruningCacheManager = createCacheManager(Duration.ofSeconds(5), 1);
+        reactiveRedisOperations
+                .opsForSet()
+                .add(getIndexKey(cacheName, 0), getPath(cacheName, 0, "gone"))
+                .block();
+
+        pruningCacheManager.put(cacheName, "key1", "value1").block();
+
+        awaitTrue(() -> !isIndexed(cacheName, 0, getPath(cacheName, 0, "gone")));
+        assertTrue(isIndexed(cacheName, 0, getPath(cacheName, 0, "key1")));
+    }
+}
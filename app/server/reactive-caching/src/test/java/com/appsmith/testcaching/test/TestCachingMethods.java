@@ -1,10 +1,13 @@
 package com.appsmith.testcaching.test;
 
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.components.CacheMetrics;
+import com.appsmith.caching.components.CacheStatsEndpoint;
 import com.appsmith.testcaching.TestConfig;
 import com.appsmith.testcaching.model.ArgumentModel;
 import com.appsmith.testcaching.model.TestModel;
 import com.appsmith.testcaching.service.CacheTestService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
@@ -12,12 +15,15 @@ import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ContextConfiguration;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -31,6 +37,12 @@ public class TestCachingMethods {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private CacheMetrics cacheMetrics;
+
+    @Autowired
+    private CacheStatsEndpoint cacheStatsEndpoint;
+
     /**
      * This Test is used to test the caching of a method that returns a Mono<T>
      */
@@ -102,6 +114,106 @@ public class TestCachingMethods {
         assertNotEquals(model, model2);
     }
 
+    /**
+     * This Test is used to test that concurrent misses for the same key share a single call of the method
+     */
+    @Test
+    public void testSingleFlight() {
+        int callsBefore = cacheTestService.getSingleFlightCalls();
+        List<TestModel> models = Flux.range(0, 10)
+                .flatMap(i -> cacheTestService.getObjectForSingleFlight("test1"))
+                .collectList()
+                .block();
+
+        assertEquals(10, models.size());
+        assertEquals(1, cacheTestService.getSingleFlightCalls() - callsBefore);
+        models.forEach(model -> assertEquals(models.get(0), model));
+    }
+
+    /**
+     * This Test is used to test that entries expire after the ttl of the cache
+     */
+    @Test
+    public void testTtl() throws InterruptedException {
+        TestModel model = cacheTestService.getObjectForWithTtl("test1").block();
+        assertEquals(model, cacheTestService.getObjectForWithTtl("test1").block());
+
+        Thread.sleep(3000);
+
+        assertNotEquals(model, cacheTestService.getObjectForWithTtl("test1").block());
+    }
+
+    /**
+     * This Test is used to test that stale entries are served while they are refreshed in the background
+     */
+    @Test
+    public void testStaleWhileRevalidate() throws InterruptedException {
+        TestModel model = cacheTestService.getObjectForWithSoftTtl("test1").block();
+
+        Thread.sleep(1500);
+
+        // Stale, returned as is while the refresh runs
+        assertEquals(model, cacheTestService.getObjectForWithSoftTtl("test1").block());
+
+        // Long enough for the refresh to complete, short enough for the refreshed entry to still be fresh
+        Thread.sleep(1000);
+
+        assertNotEquals(model, cacheTestService.getObjectForWithSoftTtl("test1").block());
+        assertEquals(1, cacheManager.getStats("swrcache").getRefreshes().get());
+    }
+
+    /**
+     * This Test is used to test that values above the size limit are not cached
+     */
+    @Test
+    public void testMaxSize() {
+        TestModel model = cacheTestService.getObjectForWithMaxSize("test1").block();
+        assertNotEquals(model, cacheTestService.getObjectForWithMaxSize("test1").block());
+        assertEquals(
+                2, cacheManager.getStats("maxsizecache").getOversizedValues().get());
+    }
+
+    /**
+     * This Test is used to test that cache stats are published as meters and through the actuator endpoint
+     */
+    @Test
+    public void testMetrics() {
+        MeterRegistry meterRegistry = cacheMetrics.getMeterRegistry();
+        double hitsBefore = getCount(meterRegistry, CacheMetrics.CACHE_GETS, "ttlcache", "hit");
+        double missesBefore = getCount(meterRegistry, CacheMetrics.CACHE_GETS, "ttlcache", "miss");
+
+        cacheTestService.getObjectForWithTtl("metrics1").block();
+        cacheTestService.getObjectForWithTtl("metrics1").block();
+
+        assertEquals(hitsBefore + 1, getCount(meterRegistry, CacheMetrics.CACHE_GETS, "ttlcache", "hit"));
+        assertEquals(missesBefore + 1, getCount(meterRegistry, CacheMetrics.CACHE_GETS, "ttlcache", "miss"));
+        assertTrue(meterRegistry
+                        .get(CacheMetrics.CACHE_LOAD)
+                        .tag(CacheMetrics.CACHE_TAG, "ttlcache")
+                        .timer()
+                        .count()
+                > 0);
+        assertTrue(meterRegistry
+                        .get(CacheMetrics.CACHE_PAYLOAD_SIZE)
+                        .tag(CacheMetrics.CACHE_TAG, "ttlcache")
+                        .summary()
+                        .totalAmount()
+                > 0);
+
+        assertSame(cacheManager.getStats("ttlcache"), cacheStatsEndpoint.cacheStats("ttlcache"));
+        assertTrue(cacheStatsEndpoint.cacheStats().containsKey("ttlcache"));
+    }
+
+    private static double getCount(MeterRegistry meterRegistry, String name, String cacheName, String result) {
+        return meterRegistry
+                .get(name)
+                .tag(CacheMetrics.CACHE_TAG, cacheName)
+                .tag(CacheMetrics.TIER_TAG, "remote")
+                .tag(CacheMetrics.RESULT_TAG, result)
+                .functionCounter()
+                .count();
+    }
+
     /**
      * Test to measure performance of caching
      */
@@ -0,0 +1,166 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.codec.CacheCodecRegistry;
+import com.appsmith.caching.components.CacheInvalidationChannel;
+import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.components.NearCacheManagerImpl;
+import com.appsmith.caching.components.RedisCacheManagerImpl;
+import com.appsmith.caching.model.CacheStats;
+import com.appsmith.testcaching.TestConfig;
+import com.appsmith.testcaching.model.TestModel;
+import com.appsmith.testcaching.service.CacheTestService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(
+        properties = {
+            "appsmith.cache.near.enabled=true",
+            "appsmith.cache.near.cache-names=objectcache",
+        })
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Slf4j
+@ContextConfiguration(classes = TestConfig.class)
+public class TestNearCacheMethods {
+
+    @Autowired
+    private CacheTestService cacheTestService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private RedisCacheManagerImpl redisCacheManager;
+
+    @Autowired
+    private CacheInvalidationChannel cacheInvalidationChannel;
+
+    @Autowired
+    private CacheCodecRegistry cacheCodecRegistry;
+
+    @Autowired
+    private ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    /**
+     * This Test is used to test that the near cache is picked up when enabled
+     */
+    @Test
+    public void testNearCacheManagerIsPrimary() {
+        assertInstanceOf(NearCacheManagerImpl.class, cacheManager);
+    }
+
+    /**
+     * This Test is used to test the caching and eviction of a Mono<T> through the near cache
+     */
+    @Test
+    public void testCacheAndEvictMono() {
+        CacheStats stats = cacheManager.getStats("objectcache");
+        TestModel model = cacheTestService.getObjectFor("near1").block();
+        int localHits = stats.getLocalHits().get();
+        int remoteHits = stats.getHits().get();
+        TestModel model2 = cacheTestService.getObjectFor("near1").block();
+        TestModel model3 = cacheTestService.getObjectFor("near1").block();
+        assertEquals(model, model2);
+        assertEquals(model2, model3);
+        // Both reads are served from L1, without going to Redis
+        assertEquals(localHits + 2, stats.getLocalHits().get());
+        assertEquals(remoteHits, stats.getHits().get());
+        // Every hit is deserialized from the local copy, callers never share an instance
+        assertNotSame(model2, model3);
+
+        cacheTestService.evictObjectFor("near1").block();
+
+        // If not evicted from both tiers with above call, this will return the same object
+        model2 = cacheTestService.getObjectFor("near1").block();
+        assertNotEquals(model, model2);
+    }
+
+    /**
+     * This Test is used to test evict all through the near cache
+     */
+    @Test
+    public void testEvictAll() {
+        TestModel model1 = cacheTestService.getObjectFor("near2").block();
+        TestModel model2 = cacheTestService.getObjectFor("near3").block();
+        cacheTestService.getObjectFor("near2").block();
+
+        cacheTestService.evictAllObjects().block();
+
+        assertNotEquals(model1, cacheTestService.getObjectFor("near2").block());
+        assertNotEquals(model2, cacheTestService.getObjectFor("near3").block());
+    }
+
+    /**
+     * This Test is used to test that an eviction through one pod drops the L1 copy kept by another pod
+     */
+    @Test
+    public void testEvictInvalidatesNearCacheOfOtherManager() throws InterruptedException {
+        // Another pod, with its own invalidation channel so that it receives our messages
+        CacheInvalidationChannel otherChannel = new CacheInvalidationChannel(reactiveRedisOperations);
+        CountDownLatch subscribed = new CountDownLatch(1);
+        otherChannel.addListener(invalidation -> subscribed.countDown());
+        NearCacheManagerImpl otherManager = new NearCacheManagerImpl(
+                redisCacheManager,
+                otherChannel,
+                cacheCodecRegistry,
+                Set.of("objectcache"),
+                1024 * 1024,
+                Duration.ofSeconds(60));
+
+        // Messages published before the subscription is up are lost, publish until the other pod gets one
+        for (int i = 0; i < 50 && subscribed.getCount() > 0; i++) {
+            cacheInvalidationChannel.publish("warmup", "warmup").block();
+            subscribed.await(100, TimeUnit.MILLISECONDS);
+        }
+        assertEquals(0, subscribed.getCount());
+
+        TestModel model = new TestModel();
+        model.setId("near4");
+        cacheManager.put("objectcache", "near4", model).block();
+
+        CacheStats stats = cacheManager.getStats("objectcache");
+        assertNotNull(otherManager.get("objectcache", "near4").block());
+        int localHits = stats.getLocalHits().get();
+        assertNotNull(otherManager.get("objectcache", "near4").block());
+        assertEquals(localHits + 1, stats.getLocalHits().get());
+
+        cacheManager.evict("objectcache", "near4").block();
+
+        // The other pod keeps serving its L1 copy until the invalidation reaches it
+        boolean isInvalidated = false;
+        for (int i = 0; i < 50 && !isInvalidated; i++) {
+            isInvalidated = otherManager.get("objectcache", "near4").block() == null;
+            if (!isInvalidated) {
+                Thread.sleep(100);
+            }
+        }
+        assertTrue(isInvalidated);
+        assertNull(otherManager.get("objectcache", "near4").block());
+    }
+
+    /**
+     * Log stats in the end
+     */
+    @AfterAll
+    public void tearDown() {
+        cacheManager.logStats();
+    }
+}